@@ -0,0 +1,51 @@
+package com.example.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CLOSED 상태의 호출 비용
+ * - normalApi / slowApi: Stub 이 즉시 성공하므로 THREAD 격리 + 성공 경로 비용
+ * - failingApi: forceClosed 로 서킷을 닫힌 상태로 고정하여 실패 → fallback 경로 비용
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-XX:+IgnoreUnrecognizedVMOptions", "--add-opens=java.base/java.lang=ALL-UNNAMED"})
+public class ClosedCircuitBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Closed extends HystrixBenchmarkState {
+        @Override
+        protected void configure() {
+            for (String commandKey : new String[]{"callNormalApi", "callFailingApi", "callSlowApi"}) {
+                setCommandProperty(commandKey, "circuitBreaker.forceClosed", true);
+            }
+        }
+    }
+
+    @Benchmark
+    public String normalApi(Closed state) {
+        return state.myService.callNormalApi();
+    }
+
+    @Benchmark
+    public String failingApi(Closed state) {
+        return state.myService.callFailingApi();
+    }
+
+    @Benchmark
+    public String slowApi(Closed state) {
+        return state.myService.callSlowApi();
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.benchmark;
+
+import com.example.config.CompiledCommandConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * javanica(HystrixCommandAspect)와 컴파일 시점에 생성된 코드(CompiledCommandAdvisor)의 호출 비용 비교 (CLOSED 상태)
+ * - compiled=false: HystrixCommandAspect 만 등록 (기존 벤치마크와 같음)
+ * - compiled=true: CompiledCommandConfig 를 함께 등록
+ * - firstCall: 컨텍스트 시작 직후 첫 호출 1회 (fork 마다 새 JVM)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-XX:+IgnoreUnrecognizedVMOptions", "--add-opens=java.base/java.lang=ALL-UNNAMED"})
+public class CompiledGuardBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Guard extends HystrixBenchmarkState {
+
+        @Param({"false", "true"})
+        public boolean compiled;
+
+        @Override
+        protected void configure() {
+            for (String commandKey : new String[]{"callNormalApi", "callFailingApi"}) {
+                setCommandProperty(commandKey, "circuitBreaker.forceClosed", true);
+            }
+        }
+
+        @Override
+        protected Class<?>[] configurations() {
+            return compiled
+                    ? new Class<?>[]{HystrixBenchmarkConfig.class, CompiledCommandConfig.class}
+                    : super.configurations();
+        }
+    }
+
+    @Benchmark
+    public String normalApi(Guard state) {
+        return state.myService.callNormalApi();
+    }
+
+    @Benchmark
+    public String failingApi(Guard state) {
+        return state.myService.callFailingApi();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(iterations = 0)
+    @Measurement(iterations = 1)
+    @Fork(value = 10, jvmArgsAppend = {"-XX:+IgnoreUnrecognizedVMOptions", "--add-opens=java.base/java.lang=ALL-UNNAMED"})
+    public String firstCall(Guard state) {
+        return state.myService.callNormalApi();
+    }
+}
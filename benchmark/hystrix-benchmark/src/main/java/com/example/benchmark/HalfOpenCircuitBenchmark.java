@@ -0,0 +1,58 @@
+package com.example.benchmark;
+
+import com.netflix.hystrix.HystrixCircuitBreaker;
+import com.netflix.hystrix.HystrixCommandKey;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HALF_OPEN 상태의 호출 비용
+ * sleepWindow 를 0으로 두고 failingApi 서킷을 연 상태에서 호출합니다.
+ * 매 밀리초마다 한 번의 테스트 호출(실패 → 다시 OPEN)이 허용되고 나머지는 short-circuit 되므로,
+ * "테스트 호출 + 거절" 이 섞인 HALF_OPEN 구간의 평균 비용이 측정됩니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-XX:+IgnoreUnrecognizedVMOptions", "--add-opens=java.base/java.lang=ALL-UNNAMED"})
+public class HalfOpenCircuitBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class HalfOpen extends HystrixBenchmarkState {
+        @Override
+        protected void configure() {
+            setCommandProperty("callFailingApi", "circuitBreaker.sleepWindowInMilliseconds", 0);
+            setCommandProperty("callFailingApi", "metrics.healthSnapshot.intervalInMilliseconds", 10);
+        }
+
+        @Override
+        protected void prepare() throws Exception {
+            // requestVolumeThreshold 를 넘길 때까지 실패시켜 서킷을 연다
+            HystrixCommandKey key = HystrixCommandKey.Factory.asKey("callFailingApi");
+            for (int i = 0; i < 10_000; i++) {
+                myService.callFailingApi();
+                HystrixCircuitBreaker circuitBreaker = HystrixCircuitBreaker.Factory.getInstance(key);
+                if (circuitBreaker != null && circuitBreaker.isOpen()) {
+                    return;
+                }
+                Thread.sleep(1);
+            }
+            throw new IllegalStateException("callFailingApi circuit did not open");
+        }
+    }
+
+    @Benchmark
+    public String failingApi(HalfOpen state) {
+        return state.myService.callFailingApi();
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.benchmark;
+
+import com.example.cache.LastKnownGoodCache;
+import com.example.hedge.RequestHedger;
+import com.example.retry.RequestRetrier;
+import com.example.service.ExternalService;
+import com.example.service.MyService;
+import com.netflix.hystrix.contrib.javanica.aop.aspectj.HystrixCommandAspect;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.EnableAspectJAutoProxy;
+
+/**
+ * 벤치마크용 Spring 설정
+ * 실제 애플리케이션과 동일하게 HystrixCommandAspect(javanica) + MyService 를 사용하고,
+ * ExternalService 만 지연 없는 Stub 으로 교체합니다.
+ */
+@Configuration
+@EnableAspectJAutoProxy
+public class HystrixBenchmarkConfig {
+
+    @Bean
+    public HystrixCommandAspect hystrixCommandAspect() {
+        return new HystrixCommandAspect();
+    }
+
+    @Bean
+    public ExternalService externalService() {
+        return new StubExternalService();
+    }
+
+    @Bean
+    public LastKnownGoodCache lastKnownGoodCache() {
+        return new LastKnownGoodCache(1000, 600);
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    public RequestHedger requestHedger() {
+        return new RequestHedger(50);
+    }
+
+    @Bean
+    public RequestRetrier requestRetrier() {
+        return new RequestRetrier();
+    }
+
+    @Bean
+    public MyService myService() {
+        return new MyService();
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.benchmark;
+
+import com.example.service.MyService;
+import com.netflix.config.ConfigurationManager;
+import com.netflix.hystrix.Hystrix;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+/**
+ * 서킷 상태별 벤치마크 State 의 공통 부분
+ * hystrix.properties 를 정적으로 로드한 뒤(HystrixConfig.loadStaticHystrixConfiguration 과 동일),
+ * 각 State 가 필요한 프로퍼티만 덮어씁니다. 폴링 방식은 덮어쓴 값을 되돌리므로 사용하지 않습니다.
+ * 벤치마크 스레드에는 HystrixRequestContext 가 없으므로 callNormalApi 는 요청 캐시 없이 실행됩니다. (MyService.normalCacheKey)
+ */
+public abstract class HystrixBenchmarkState {
+
+    protected AnnotationConfigApplicationContext context;
+    protected MyService myService;
+
+    @Setup
+    public void setUp() throws Exception {
+        ConfigurationManager.loadCascadedPropertiesFromResources("hystrix");
+        configure();
+
+        context = new AnnotationConfigApplicationContext(configurations());
+        myService = context.getBean(MyService.class);
+        prepare();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+        Hystrix.reset();
+    }
+
+    /**
+     * 컨텍스트 생성 전에 Hystrix 프로퍼티를 설정합니다.
+     */
+    protected abstract void configure();
+
+    /**
+     * 컨텍스트에 등록할 설정 클래스
+     */
+    protected Class<?>[] configurations() {
+        return new Class<?>[]{HystrixBenchmarkConfig.class};
+    }
+
+    /**
+     * 컨텍스트 생성 후 서킷을 원하는 상태로 만듭니다.
+     */
+    protected void prepare() throws Exception {
+    }
+
+    protected static void setCommandProperty(String commandKey, String name, Object value) {
+        ConfigurationManager.getConfigInstance()
+                .setProperty("hystrix.command." + commandKey + "." + name, String.valueOf(value));
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.benchmark;
+
+import com.example.hystrix.AdaptiveConcurrencyStrategy;
+import com.example.metrics.HystrixLatencyMetrics;
+import com.example.metrics.MetricsEventNotifier;
+import com.example.metrics.MetricsExecutionHook;
+import com.netflix.config.ConfigurationManager;
+import com.netflix.hystrix.strategy.HystrixPlugins;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 메트릭 수집(HdrHistogram 지연 시간, 이벤트, 서킷 상태 전이) 적용 전후의 호출 비용
+ * - instrumented=false: Hystrix 기본 플러그인
+ * - instrumented=true: HystrixConfig 와 동일하게 ConcurrencyStrategy, ExecutionHook, EventNotifier 등록
+ * JMH 는 파라미터 조합마다 별도 JVM 을 띄우므로 전역 플러그인 등록이 서로 섞이지 않습니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-XX:+IgnoreUnrecognizedVMOptions", "--add-opens=java.base/java.lang=ALL-UNNAMED"})
+public class InstrumentationOverheadBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Instrumentation extends HystrixBenchmarkState {
+
+        @Param({"false", "true"})
+        public boolean instrumented;
+
+        @Override
+        protected void configure() {
+            for (String commandKey : new String[]{"callNormalApi", "callFailingApi"}) {
+                setCommandProperty(commandKey, "circuitBreaker.forceClosed", true);
+            }
+            if (instrumented) {
+                // Adaptive Concurrency Limit 은 비교 대상이 아니므로 기본 스레드풀 사용
+                ConfigurationManager.getConfigInstance()
+                        .setProperty("hystrix.threadpool.default.adaptiveLimit.enabled", "false");
+                HystrixLatencyMetrics metrics = new HystrixLatencyMetrics();
+                HystrixPlugins.getInstance().registerConcurrencyStrategy(new AdaptiveConcurrencyStrategy());
+                HystrixPlugins.getInstance().registerCommandExecutionHook(new MetricsExecutionHook(metrics));
+                HystrixPlugins.getInstance().registerEventNotifier(new MetricsEventNotifier(metrics));
+            }
+        }
+    }
+
+    @Benchmark
+    public String normalApi(Instrumentation state) {
+        return state.myService.callNormalApi();
+    }
+
+    @Benchmark
+    public String failingApi(Instrumentation state) {
+        return state.myService.callFailingApi();
+    }
+}
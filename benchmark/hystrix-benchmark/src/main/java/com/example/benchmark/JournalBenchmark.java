@@ -0,0 +1,99 @@
+package com.example.benchmark;
+
+import com.example.journal.EventJournal;
+import com.example.journal.JournalFile;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 이벤트 저널 기록 처리량 (호출 스레드가 staging 링에 칸을 잡아 채우는 비용, 파일 쓰기는 writer 스레드)
+ * - alwaysRecorded: 거절처럼 항상 기록하는 이벤트
+ * - sampledSuccess: 성공 (successSampleRate=0.01, 대부분 샘플링에서 끝남)
+ * 처리량은 호출 스레드가 넘긴 이벤트 수이며, writer 가 따라가지 못해 버린 이벤트 수는 iteration 마다 출력합니다.
+ * -prof gc 로 호출 경로의 할당이 0 B/op 인지 확인합니다.
+ *
+ * 실행: java -cp target/benchmarks.jar com.example.benchmark.JournalBenchmark [JMH 옵션...]
+ * 1 ~ 16 스레드를 차례로 실행하고 결과를 target/jmh/journal-t{스레드 수}.json 에 남깁니다.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JournalBenchmark {
+
+    private static final int[] THREADS = {1, 2, 4, 8, 16};
+
+    @State(Scope.Benchmark)
+    public static class Journal {
+        Path path;
+        EventJournal journal;
+        long dropped;
+
+        @Setup
+        public void setUp() throws IOException {
+            path = Files.createTempFile("journal-benchmark", ".journal");
+            journal = new EventJournal(JournalFile.open(path, 1 << 20, 1024), 1 << 16, 0.01, 1.0, 0);
+        }
+
+        @TearDown(Level.Iteration)
+        public void report() {
+            Map<String, Object> stats = journal.stats();
+            long total = (Long) stats.get("dropped");
+            System.out.println("  written=" + stats.get("written") + ", dropped=" + (total - dropped));
+            dropped = total;
+        }
+
+        @TearDown
+        public void tearDown() throws IOException {
+            journal.close();
+            Files.deleteIfExists(path);
+        }
+    }
+
+    @Benchmark
+    public void alwaysRecorded(Journal state) {
+        state.journal.rejected("callNormalApi", EventJournal.CIRCUIT_OPEN);
+    }
+
+    @Benchmark
+    public void sampledSuccess(Journal state) {
+        state.journal.success("callNormalApi", 100);
+    }
+
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        File resultDir = new File("target/jmh");
+        resultDir.mkdirs();
+        for (int threads : THREADS) {
+            new Runner(new OptionsBuilder()
+                    .parent(commandLine)
+                    .include(JournalBenchmark.class.getName())
+                    .threads(threads)
+                    .resultFormat(ResultFormatType.JSON)
+                    .result(new File(resultDir, "journal-t" + threads + ".json").getPath())
+                    .build()).run();
+        }
+    }
+}
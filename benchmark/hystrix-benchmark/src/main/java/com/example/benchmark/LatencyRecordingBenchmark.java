@@ -0,0 +1,76 @@
+package com.example.benchmark;
+
+import com.example.metrics.HystrixLatencyMetrics;
+import com.example.metrics.LatencyHistogram;
+import com.example.metrics.MetricsEventNotifier;
+import com.example.metrics.MetricsExecutionHook;
+import com.netflix.hystrix.HystrixCommand;
+import com.netflix.hystrix.HystrixCommandGroupKey;
+import com.netflix.hystrix.HystrixEventType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 메트릭 기록 경로만의 비용 (Hystrix 실행 없이 Hook / EventNotifier 를 직접 호출)
+ * - clockRead: System.currentTimeMillis() 1회 (Hook 이 읽는 시계, 환경마다 차이가 큼)
+ * - recordNanos: HdrHistogram AtomicHistogram 기록 1회
+ * - successfulCall: 성공 호출 1회에 해당하는 기록 (실행 성공, SUCCESS 이벤트)
+ *   시계를 1번 읽으므로 successfulCall - clockRead 가 히스토그램 / 카운터 기록 비용입니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-XX:+IgnoreUnrecognizedVMOptions", "--add-opens=java.base/java.lang=ALL-UNNAMED"})
+public class LatencyRecordingBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Recording {
+        LatencyHistogram histogram;
+        MetricsExecutionHook hook;
+        MetricsEventNotifier notifier;
+        HystrixCommand<String> command;
+
+        @Setup
+        public void setUp() {
+            histogram = new LatencyHistogram();
+            HystrixLatencyMetrics metrics = new HystrixLatencyMetrics();
+            hook = new MetricsExecutionHook(metrics);
+            notifier = new MetricsEventNotifier(metrics);
+            // Hook 인자로 사용 (Hook 이 재사용하는 시작 시각이 기록되도록 한 번 실행)
+            command = new HystrixCommand<String>(HystrixCommandGroupKey.Factory.asKey("Benchmark")) {
+                @Override
+                protected String run() {
+                    return "";
+                }
+            };
+            command.execute();
+        }
+    }
+
+    @Benchmark
+    public long clockRead() {
+        return System.currentTimeMillis();
+    }
+
+    @Benchmark
+    public void recordNanos(Recording state) {
+        state.histogram.recordNanos(1_234_567);
+    }
+
+    @Benchmark
+    public void successfulCall(Recording state) {
+        state.hook.onExecutionSuccess(state.command);
+        state.notifier.markEvent(HystrixEventType.SUCCESS, state.command.getCommandKey());
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * OPEN 상태의 호출 비용
+ * forceOpen 으로 서킷을 열어 두고, 외부 호출 없이 바로 fallback 으로 가는 short-circuit 경로를 측정합니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-XX:+IgnoreUnrecognizedVMOptions", "--add-opens=java.base/java.lang=ALL-UNNAMED"})
+public class OpenCircuitBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Open extends HystrixBenchmarkState {
+        @Override
+        protected void configure() {
+            for (String commandKey : new String[]{"callNormalApi", "callFailingApi", "callSlowApi"}) {
+                setCommandProperty(commandKey, "circuitBreaker.forceOpen", true);
+            }
+        }
+    }
+
+    @Benchmark
+    public String normalApi(Open state) {
+        return state.myService.callNormalApi();
+    }
+
+    @Benchmark
+    public String failingApi(Open state) {
+        return state.myService.callFailingApi();
+    }
+
+    @Benchmark
+    public String slowApi(Open state) {
+        return state.myService.callSlowApi();
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.benchmark;
+
+import com.example.circuit.StripedTimeWindow;
+import com.netflix.hystrix.ExecutionResult;
+import com.netflix.hystrix.HystrixCommandGroupKey;
+import com.netflix.hystrix.HystrixCommandKey;
+import com.netflix.hystrix.HystrixCommandMetrics;
+import com.netflix.hystrix.HystrixCommandProperties;
+import com.netflix.hystrix.HystrixEventType;
+import com.netflix.hystrix.HystrixThreadPoolKey;
+import com.netflix.hystrix.metric.HystrixThreadEventStream;
+import com.netflix.hystrix.strategy.properties.HystrixPropertiesFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.File;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 하나의 Command 에 여러 스레드가 동시에 실행 결과를 기록하는 비용 (Hystrix 기본 기록 vs stripe 윈도우)
+ * - hystrixStream: 실행 1회가 끝날 때 Hystrix 가 하는 기록 (HystrixThreadEventStream.executionDone)
+ *   Command 별 완료 스트림(직렬화된 Subject)을 거쳐 HealthCounts 등 롤링 윈도우가 구독합니다.
+ * - stripedWindow: StripedWindowNotifier 가 추가로 하는 기록 (StripedTimeWindow.record)
+ *   stripedWindow 가 켜진 Command 의 호출당 비용은 두 값의 합입니다. (Hystrix 기록은 javanica 에서 끌 수 없음)
+ * - 두 경우 모두 기록 전에 work 만큼 CPU 를 사용합니다. (실제 호출 사이의 간격)
+ *   완료 스트림은 한 번에 한 스레드만 내보내고 나머지 스레드의 이벤트는 큐에 쌓으므로,
+ *   간격 없이(work=0) 2개 이상의 스레드가 기록하면 큐가 끝없이 커져 OutOfMemoryError 가 납니다.
+ *   work=256 (1 코어 기준 호출당 약 0.4us)에서도 8 스레드부터 같은 현상이 나므로, hystrixStream 은 4 스레드까지만 실행합니다.
+ *
+ * 실행: java -cp target/benchmarks.jar com.example.benchmark.StripedWindowBenchmark [JMH 옵션...]
+ * 1 ~ 64 스레드를 차례로 실행하고 결과를 target/jmh/striped-window-t{스레드 수}.json 에 남깁니다.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-XX:+IgnoreUnrecognizedVMOptions", "--add-opens=java.base/java.lang=ALL-UNNAMED"})
+public class StripedWindowBenchmark {
+
+    private static final int[] THREADS = {1, 2, 4, 8, 16, 32, 64};
+    /** 이보다 많은 스레드에서는 완료 스트림의 큐가 계속 커지므로 hystrixStream 을 제외 */
+    private static final int HYSTRIX_STREAM_MAX_THREADS = 4;
+
+    @State(Scope.Benchmark)
+    public static class Recording {
+        @Param({"256"})
+        long work;
+
+        HystrixCommandKey commandKey;
+        HystrixThreadPoolKey threadPoolKey;
+        ExecutionResult success;
+        StripedTimeWindow window;
+
+        @Setup
+        public void setUp() {
+            commandKey = HystrixCommandKey.Factory.asKey("benchmark");
+            threadPoolKey = HystrixThreadPoolKey.Factory.asKey("benchmark");
+            HystrixCommandProperties properties = HystrixPropertiesFactory.getCommandProperties(commandKey, null);
+            // HealthCounts 등 Command 메트릭 스트림 구독 시작 (실제 Command 를 처음 만들 때와 같음)
+            HystrixCommandMetrics.getInstance(commandKey, HystrixCommandGroupKey.Factory.asKey("benchmark"),
+                    threadPoolKey, properties);
+            success = ExecutionResult.from(HystrixEventType.SUCCESS).setExecutionLatency(1);
+            window = new StripedTimeWindow(10_000, 10, 0);
+        }
+    }
+
+    @Benchmark
+    public void hystrixStream(Recording state) {
+        Blackhole.consumeCPU(state.work);
+        HystrixThreadEventStream.getInstance().executionDone(state.success, state.commandKey, state.threadPoolKey);
+    }
+
+    @Benchmark
+    public void stripedWindow(Recording state) {
+        Blackhole.consumeCPU(state.work);
+        state.window.record(false, false);
+    }
+
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        File resultDir = new File("target/jmh");
+        resultDir.mkdirs();
+        for (int threads : THREADS) {
+            OptionsBuilder options = new OptionsBuilder();
+            options.parent(commandLine)
+                    .include(StripedWindowBenchmark.class.getName())
+                    .threads(threads)
+                    .resultFormat(ResultFormatType.JSON)
+                    .result(new File(resultDir, "striped-window-t" + threads + ".json").getPath());
+            if (threads > HYSTRIX_STREAM_MAX_THREADS) {
+                options.exclude("hystrixStream");
+            }
+            new Runner(options.build()).run();
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.benchmark;
+
+import com.example.service.ExternalService;
+
+/**
+ * 지연 없이 즉시 응답하는 ExternalService
+ * 외부 호출 비용을 0으로 만들어 Hystrix 자체의 호출 비용만 측정되도록 합니다.
+ */
+public class StubExternalService extends ExternalService {
+
+    private static final RuntimeException FAILURE = new RuntimeException("Stub Failure: 503 Service Unavailable", null, false, false) {
+    };
+
+    @Override
+    public String callNormalExternalApi() {
+        return "Stub Response: Success";
+    }
+
+    @Override
+    public String callSlowExternalApi() {
+        return "Stub Response: Slow (0ms)";
+    }
+
+    @Override
+    public String callFailingExternalApi() {
+        // 스택 트레이스 생성 비용이 측정값에 섞이지 않도록 미리 만들어 둔 예외를 재사용
+        throw FAILURE;
+    }
+}
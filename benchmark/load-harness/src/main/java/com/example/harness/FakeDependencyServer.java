@@ -0,0 +1,161 @@
+package com.example.harness;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ExternalService 대신 응답하는 가짜 의존 서버 (app.external.service.url=http://localhost:9090/api)
+ *
+ * GET /api/<엔드포인트> 요청에 시나리오의 지연 분포와 오류율대로 응답하고,
+ * 장애 일정(fault)에 따라 brownout 과 회복을 재현합니다.
+ * POST /api/<엔드포인트>/batch 는 본문의 요청 ID(한 줄에 하나)마다 한 줄씩, 1회 왕복으로 응답합니다.
+ * 응답은 지연 시간만큼 예약했다가 보내므로 대기 중인 요청이 스레드를 점유하지 않습니다.
+ *
+ * 단독 실행 (장애 일정은 서버 시작 시각 기준):
+ *   java -cp target/load-harness.jar com.example.harness.FakeDependencyServer <시나리오> [key=value ...]
+ */
+public class FakeDependencyServer implements AutoCloseable {
+
+    private static final String PREFIX = "/api/";
+    private static final String BATCH_SUFFIX = "/batch";
+    private static final byte[] NOT_FOUND = "Unknown endpoint".getBytes(StandardCharsets.UTF_8);
+
+    private final Scenario scenario;
+    private final HttpServer server;
+    private final ExecutorService acceptor;
+    private final ScheduledExecutorService responder;
+    private volatile long scheduleStartedAt;
+
+    public FakeDependencyServer(Scenario scenario) throws IOException {
+        this.scenario = scenario;
+        this.server = HttpServer.create(new InetSocketAddress(scenario.serverPort()), 4096);
+        this.responder = Executors.newScheduledThreadPool(2, runnable -> {
+            Thread thread = new Thread(runnable, "fake-dependency-responder");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.acceptor = Executors.newFixedThreadPool(2, runnable -> {
+            Thread thread = new Thread(runnable, "fake-dependency-acceptor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.setExecutor(acceptor);
+        server.createContext(PREFIX, this::handle);
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length == 0) {
+            System.err.println("usage: FakeDependencyServer <시나리오 파일 | 이름> [key=value ...]");
+            System.exit(1);
+        }
+        Scenario scenario = Scenario.load(args[0], List.of(args).subList(1, args.length));
+        FakeDependencyServer server = new FakeDependencyServer(scenario);
+        server.start();
+        System.out.println("fake dependency server: http://localhost:" + scenario.serverPort() + PREFIX
+                + " " + scenario.endpoints().keySet());
+    }
+
+    /**
+     * 서버를 시작합니다. 장애 일정은 startSchedule() 을 다시 호출하기 전까지 지금 시각이 기준입니다.
+     */
+    public void start() {
+        scheduleStartedAt = System.nanoTime();
+        server.start();
+    }
+
+    /**
+     * 장애 일정의 기준 시각을 지금으로 맞춥니다. (측정 시작 시점)
+     */
+    public void startSchedule() {
+        scheduleStartedAt = System.nanoTime();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        String endpoint = exchange.getRequestURI().getPath().substring(PREFIX.length());
+        boolean batch = endpoint.endsWith(BATCH_SUFFIX);
+        if (batch) {
+            endpoint = endpoint.substring(0, endpoint.length() - BATCH_SUFFIX.length());
+        }
+        Scenario.Behavior base = scenario.endpoints().get(endpoint);
+        if (base == null) {
+            respond(exchange, 404, NOT_FOUND);
+            return;
+        }
+        String requestBody = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Scenario.Behavior behavior = behaviorAt(endpoint, base, System.nanoTime() - scheduleStartedAt, random);
+        long delayNanos = behavior.latency().nextNanos(random);
+        boolean failed = random.nextDouble() < behavior.errorRate();
+        int status = failed ? behavior.errorStatus() : 200;
+        byte[] body = (failed
+                ? "External Service Failure: " + status
+                : batch ? batchResponse(requestBody) : "External API Response: Success (" + endpoint + ")")
+                .getBytes(StandardCharsets.UTF_8);
+        responder.schedule(() -> respond(exchange, status, body), delayNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private static String batchResponse(String requestIds) {
+        StringBuilder response = new StringBuilder();
+        for (String requestId : requestIds.split("\n")) {
+            if (!requestId.isBlank()) {
+                response.append("External API Response: Success [").append(requestId.trim()).append("]\n");
+            }
+        }
+        return response.toString();
+    }
+
+    /**
+     * 장애 구간이면 장애 동작, 회복 구간이면 경과 비율만큼 기본 동작과 섞은 동작을 반환합니다.
+     */
+    private Scenario.Behavior behaviorAt(String endpoint, Scenario.Behavior base, long elapsedNanos, ThreadLocalRandom random) {
+        for (Scenario.Fault fault : scenario.faults()) {
+            if (!fault.endpoint().equals(endpoint) || elapsedNanos < fault.startNanos()) {
+                continue;
+            }
+            if (elapsedNanos < fault.endNanos()) {
+                return fault.behavior();
+            }
+            long recoveryNanos = fault.recovery().toNanos();
+            if (elapsedNanos < fault.endNanos() + recoveryNanos) {
+                double recovered = (double) (elapsedNanos - fault.endNanos()) / recoveryNanos;
+                Scenario.Behavior faulty = fault.behavior();
+                return new Scenario.Behavior(
+                        random.nextDouble() < recovered ? base.latency() : faulty.latency(),
+                        faulty.errorRate() + (base.errorRate() - faulty.errorRate()) * recovered,
+                        base.errorStatus());
+            }
+        }
+        return base;
+    }
+
+    private static void respond(HttpExchange exchange, int status, byte[] body) {
+        try (exchange) {
+            exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=utf-8");
+            exchange.sendResponseHeaders(status, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        } catch (IOException e) {
+            // 클라이언트가 먼저 연결을 끊은 경우 (타임아웃 등)
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        responder.shutdownNow();
+        acceptor.shutdownNow();
+    }
+}
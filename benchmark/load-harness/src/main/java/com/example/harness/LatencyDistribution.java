@@ -0,0 +1,67 @@
+package com.example.harness;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 가짜 의존 서버의 응답 지연 분포
+ *  - constant(100ms)
+ *  - uniform(50ms, 150ms)
+ *  - lognormal(100ms, 400ms): 중앙값, p99
+ *  - bimodal(20ms, 700ms, 0.08): 빠른 응답, 느린 응답, 느린 응답 비율
+ */
+@FunctionalInterface
+public interface LatencyDistribution {
+
+    /** 표준 정규분포의 99 백분위수 */
+    double Z_99 = 2.3263478740408408;
+
+    /**
+     * @return 다음 요청의 지연 시간 (ns)
+     */
+    long nextNanos(ThreadLocalRandom random);
+
+    static LatencyDistribution parse(String spec) {
+        String text = spec.trim();
+        int open = text.indexOf('(');
+        if (open < 0 || !text.endsWith(")")) {
+            throw new IllegalArgumentException("지연 분포 형식이 올바르지 않습니다: " + spec);
+        }
+        String type = text.substring(0, open).trim();
+        String[] args = text.substring(open + 1, text.length() - 1).split(",");
+        switch (type) {
+            case "constant": {
+                long nanos = nanos(args, 0, spec);
+                return random -> nanos;
+            }
+            case "uniform": {
+                long min = nanos(args, 0, spec);
+                long max = nanos(args, 1, spec);
+                return random -> min == max ? min : random.nextLong(min, max);
+            }
+            case "lognormal": {
+                double mu = Math.log(nanos(args, 0, spec));
+                double sigma = (Math.log(nanos(args, 1, spec)) - mu) / Z_99;
+                return random -> (long) Math.exp(mu + sigma * random.nextGaussian());
+            }
+            case "bimodal": {
+                long fast = nanos(args, 0, spec);
+                long slow = nanos(args, 1, spec);
+                double slowRatio = Double.parseDouble(arg(args, 2, spec));
+                return random -> random.nextDouble() < slowRatio ? slow : fast;
+            }
+            default:
+                throw new IllegalArgumentException("지원하지 않는 지연 분포입니다: " + spec);
+        }
+    }
+
+    private static long nanos(String[] args, int index, String spec) {
+        return Scenario.parseDuration(arg(args, index, spec)).toNanos();
+    }
+
+    private static String arg(String[] args, int index, String spec) {
+        if (index >= args.length) {
+            throw new IllegalArgumentException("지연 분포 인자가 부족합니다: " + spec);
+        }
+        return args[index].trim();
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.harness;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 가짜 의존 서버를 띄우고 대상 애플리케이션(/api/normal, /api/failing, /api/slow)에 open-loop 부하를 준 뒤
+ * 처리량, 지연 시간 분위수, fallback 비율, 장애 구간별 서킷 열림(time-to-trip) / 회복(time-to-recover) 시간을 출력합니다.
+ *
+ * 대상 애플리케이션은 미리 실행해 두어야 합니다. (spring-hystrix: target=http://localhost:8080/spring-hystrix)
+ * 장애 일정은 워밍업이 끝난 측정 시작 시각 기준입니다.
+ *
+ * - time-to-trip: 장애 시작부터 fallback 비율이 trip-ratio 이상이 된 첫 window 까지
+ * - time-to-recover: 장애 종료(회복 시작)부터 fallback 비율이 recover-ratio 이하가 된 첫 window 까지
+ *
+ * 실행:
+ *   java -jar target/load-harness.jar <시나리오 파일 | 이름> [key=value ...]
+ */
+public class LoadHarness {
+
+    public static void main(String[] args) throws Exception {
+        if (args.length == 0) {
+            System.err.println("usage: LoadHarness <시나리오 파일 | 이름> [key=value ...]");
+            System.exit(1);
+        }
+        Scenario scenario = Scenario.load(args[0], List.of(args).subList(1, args.length));
+
+        FakeDependencyServer server = null;
+        if (scenario.serverEnabled()) {
+            server = new FakeDependencyServer(scenario);
+            server.start();
+            System.out.println("fake dependency server: http://localhost:" + scenario.serverPort() + "/api/"
+                    + " " + scenario.endpoints().keySet());
+        }
+        try {
+            OpenLoopLoadGenerator generator = new OpenLoopLoadGenerator(scenario);
+            System.out.println("target: " + scenario.target() + " " + scenario.rates() + " req/s, " + scenario.arrival());
+            if (!scenario.warmup().isZero()) {
+                System.out.println("warmup " + scenario.warmup().toSeconds() + "s ...");
+                generator.run(scenario.warmup());
+            }
+            if (server != null) {
+                server.startSchedule();
+            }
+            System.out.println("measure " + scenario.duration().toSeconds() + "s ...");
+            Map<String, PathStats> results = generator.run(scenario.duration());
+
+            System.out.println();
+            printSummary(scenario, results);
+            if (!scenario.faults().isEmpty()) {
+                System.out.println();
+                printFaults(scenario, results);
+            }
+        } finally {
+            if (server != null) {
+                server.close();
+            }
+        }
+    }
+
+    private static void printSummary(Scenario scenario, Map<String, PathStats> results) {
+        double seconds = scenario.duration().toNanos() / 1_000_000_000.0;
+        System.out.printf("%-28s %9s %9s %9s %9s %10s %9s %8s %8s%n",
+                "path", "completed", "req/s", "p50(ms)", "p99(ms)", "p99.9(ms)", "fallback", "errors", "dropped");
+        for (PathStats stats : results.values()) {
+            System.out.printf("%-28s %9d %9.1f %9.1f %9.1f %10.1f %8.1f%% %8d %8d%n",
+                    stats.path(), stats.completed(), stats.completed() / seconds,
+                    stats.percentileMillis(50), stats.percentileMillis(99), stats.percentileMillis(99.9),
+                    stats.fallbackRatio() * 100, stats.errors(), stats.dropped());
+        }
+    }
+
+    private static void printFaults(Scenario scenario, Map<String, PathStats> results) {
+        System.out.printf("%-14s %-28s %8s %8s %15s %17s%n",
+                "fault", "path", "start", "end", "time-to-trip", "time-to-recover");
+        for (Scenario.Fault fault : scenario.faults()) {
+            for (PathStats stats : results.values()) {
+                if (!Scenario.endpointOf(stats.path()).equals(fault.endpoint())) {
+                    continue;
+                }
+                long trippedAt = stats.firstWindowWhere(fault.startNanos(), scenario.tripRatio(), true);
+                long recoveredAt = trippedAt < 0
+                        ? -1
+                        : stats.firstWindowWhere(Math.max(trippedAt, fault.endNanos()), scenario.recoverRatio(), false);
+                System.out.printf("%-14s %-28s %7.1fs %7.1fs %15s %17s%n",
+                        fault.name(), stats.path(), seconds(fault.startNanos()), seconds(fault.endNanos()),
+                        elapsed(trippedAt, fault.startNanos()), elapsed(recoveredAt, fault.endNanos()));
+            }
+        }
+    }
+
+    private static double seconds(long nanos) {
+        return nanos / 1_000_000_000.0;
+    }
+
+    private static String elapsed(long at, long from) {
+        return at < 0 ? "-" : String.format("%dms", Math.max(0, at - from) / 1_000_000);
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.harness;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 경로별 초당 요청 수를 고정한 open-loop 부하 발생기
+ *
+ * 응답을 기다리지 않고 예정된 시각마다 요청을 보내므로, 서버가 느려져도 요청률이 줄지 않습니다.
+ * (closed-loop 부하는 응답이 느려지면 요청도 줄어 지연 시간이 실제보다 작게 측정됨)
+ * 지연 시간은 실제 전송 시각이 아닌 예정된 전송 시각부터 측정합니다.
+ */
+public class OpenLoopLoadGenerator {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final Scenario scenario;
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final Semaphore inFlight;
+
+    public OpenLoopLoadGenerator(Scenario scenario) {
+        this.scenario = scenario;
+        this.inFlight = new Semaphore(scenario.maxInFlight());
+    }
+
+    /**
+     * 시나리오의 모든 경로에 duration 동안 부하를 주고, 보낸 요청이 모두 끝날 때까지 기다립니다.
+     */
+    public Map<String, PathStats> run(Duration duration) throws InterruptedException {
+        long durationNanos = duration.toNanos();
+        long windowNanos = scenario.window().toNanos();
+        long startedAt = System.nanoTime();
+
+        Map<String, PathStats> results = new LinkedHashMap<>();
+        List<Thread> senders = new ArrayList<>();
+        scenario.rates().forEach((path, rate) -> {
+            PathStats stats = new PathStats(path, durationNanos, windowNanos);
+            results.put(path, stats);
+            HttpRequest request = HttpRequest.newBuilder(URI.create(scenario.target() + path))
+                    .timeout(REQUEST_TIMEOUT)
+                    .GET()
+                    .build();
+            Thread sender = new Thread(() -> send(request, rate, stats, startedAt, durationNanos), "load-" + path);
+            sender.start();
+            senders.add(sender);
+        });
+        for (Thread sender : senders) {
+            sender.join();
+        }
+
+        // 남은 응답 대기
+        int permits = scenario.maxInFlight();
+        if (inFlight.tryAcquire(permits, REQUEST_TIMEOUT.toSeconds() + 10, TimeUnit.SECONDS)) {
+            inFlight.release(permits);
+        }
+        return results;
+    }
+
+    private void send(HttpRequest request, double rate, PathStats stats, long startedAt, long durationNanos) {
+        double meanIntervalNanos = TimeUnit.SECONDS.toNanos(1) / rate;
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long next = 0;
+        while (next < durationNanos) {
+            long now = System.nanoTime() - startedAt;
+            if (next > now) {
+                LockSupport.parkNanos(next - now);
+                continue;
+            }
+            long scheduledAt = next;
+            if (inFlight.tryAcquire()) {
+                client.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+                        .whenComplete((response, error) -> {
+                            stats.record(scheduledAt, System.nanoTime() - startedAt - scheduledAt, outcomeOf(response, error));
+                            inFlight.release();
+                        });
+            } else {
+                stats.drop();
+            }
+            next += scenario.arrival() == Scenario.Arrival.CONSTANT
+                    ? (long) meanIntervalNanos
+                    : (long) (-Math.log(1 - random.nextDouble()) * meanIntervalNanos);
+        }
+    }
+
+    private static PathStats.Outcome outcomeOf(HttpResponse<String> response, Throwable error) {
+        if (error != null || response.statusCode() >= 300) {
+            return PathStats.Outcome.ERROR;
+        }
+        // 두 예제 모듈의 fallback 응답에는 모두 "Fallback" 이 포함됨
+        return response.body().contains("Fallback") ? PathStats.Outcome.FALLBACK : PathStats.Outcome.SUCCESS;
+    }
+}
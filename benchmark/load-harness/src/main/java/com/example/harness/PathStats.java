@@ -0,0 +1,120 @@
+package com.example.harness;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 경로별 측정 결과
+ *
+ * - 지연 시간은 예정된 전송 시각부터 응답 완료까지입니다. (open-loop 이므로 전송이 밀려도 대기 시간이 포함됨)
+ * - 응답은 전송 예정 시각 기준 window 단위로 나눠 fallback 비율 변화를 기록합니다. (서킷 열림 / 회복 시점 판정)
+ */
+public class PathStats {
+
+    public enum Outcome {
+        SUCCESS, FALLBACK, ERROR
+    }
+
+    private final String path;
+    private final long windowNanos;
+    private final Histogram latency = new ConcurrentHistogram(TimeUnit.MINUTES.toMicros(5), 3);
+    private final LongAdder successes = new LongAdder();
+    private final LongAdder fallbacks = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final AtomicIntegerArray windowTotals;
+    private final AtomicIntegerArray windowFallbacks;
+
+    public PathStats(String path, long durationNanos, long windowNanos) {
+        this.path = path;
+        this.windowNanos = windowNanos;
+        int windows = (int) (durationNanos / windowNanos) + 1;
+        this.windowTotals = new AtomicIntegerArray(windows);
+        this.windowFallbacks = new AtomicIntegerArray(windows);
+    }
+
+    /**
+     * @param scheduledAt 측정 시작 기준 전송 예정 시각 (ns)
+     * @param latencyNanos 전송 예정 시각부터 응답 완료까지 (ns)
+     */
+    void record(long scheduledAt, long latencyNanos, Outcome outcome) {
+        latency.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(latencyNanos), latency.getHighestTrackableValue()));
+        switch (outcome) {
+            case SUCCESS -> successes.increment();
+            case FALLBACK -> fallbacks.increment();
+            case ERROR -> errors.increment();
+        }
+        int window = (int) (scheduledAt / windowNanos);
+        if (window < windowTotals.length()) {
+            windowTotals.incrementAndGet(window);
+            if (outcome == Outcome.FALLBACK) {
+                windowFallbacks.incrementAndGet(window);
+            }
+        }
+    }
+
+    /**
+     * 동시 요청 수 제한(max-in-flight)으로 보내지 못한 요청
+     */
+    void drop() {
+        dropped.increment();
+    }
+
+    /**
+     * from 이후 처음으로 fallback 비율이 조건을 만족한 window 의 시작 시각
+     *
+     * @param fromNanos 측정 시작 기준 (ns)
+     * @param above     true 면 ratio 이상, false 면 ratio 이하
+     * @return 측정 시작 기준 시각 (ns), 없으면 -1
+     */
+    public long firstWindowWhere(long fromNanos, double ratio, boolean above) {
+        for (int window = (int) (fromNanos / windowNanos); window < windowTotals.length(); window++) {
+            int total = windowTotals.get(window);
+            if (total == 0) {
+                continue;
+            }
+            double fallbackRatio = (double) windowFallbacks.get(window) / total;
+            if (above ? fallbackRatio >= ratio : fallbackRatio <= ratio) {
+                return Math.max(fromNanos, window * windowNanos);
+            }
+        }
+        return -1;
+    }
+
+    public String path() {
+        return path;
+    }
+
+    public long completed() {
+        return successes.sum() + fallbacks.sum() + errors.sum();
+    }
+
+    public long fallbacks() {
+        return fallbacks.sum();
+    }
+
+    public long errors() {
+        return errors.sum();
+    }
+
+    public long dropped() {
+        return dropped.sum();
+    }
+
+    public double fallbackRatio() {
+        long completed = completed();
+        return completed == 0 ? 0 : (double) fallbacks.sum() / completed;
+    }
+
+    /**
+     * @param percentile 0 ~ 100
+     * @return 지연 시간 (ms)
+     */
+    public double percentileMillis(double percentile) {
+        return latency.getValueAtPercentile(percentile) / 1000.0;
+    }
+}
@@ -0,0 +1,311 @@
+package com.example.harness;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeSet;
+
+/**
+ * 부하 시나리오 (properties 파일)
+ *
+ * - 부하: target, duration, warmup, arrival, rate.<경로>, max-in-flight
+ * - 가짜 의존 서버: server.enabled, server.port, endpoint.<이름>.latency / error-rate / error-status
+ * - 장애 일정: fault.<이름>.endpoint / start / duration / recovery / latency / error-rate
+ * - 서킷 판정: window, trip-ratio, recover-ratio
+ * - 시작 측정(StartupProbe): startup.path, startup.ready-path, startup.users, startup.peak-ratio, startup.timeout, startup.log
+ *
+ * 파일 경로 또는 클래스패스의 scenarios/<이름>.properties 를 읽고, key=value 인자로 값을 덮어쓸 수 있습니다.
+ */
+public final class Scenario {
+
+    public enum Arrival {
+        /** 일정한 간격 */
+        CONSTANT,
+        /** 지수 분포 간격 (평균 간격은 같음) */
+        POISSON
+    }
+
+    /**
+     * 엔드포인트 동작
+     */
+    public record Behavior(LatencyDistribution latency, double errorRate, int errorStatus) {
+    }
+
+    /**
+     * 장애 구간: start ~ start + duration 동안 behavior 로 응답하고, 이후 recovery 동안 기본 동작으로 선형 회복
+     */
+    public record Fault(String name, String endpoint, Duration start, Duration duration, Duration recovery, Behavior behavior) {
+
+        public long startNanos() {
+            return start.toNanos();
+        }
+
+        public long endNanos() {
+            return start.plus(duration).toNanos();
+        }
+    }
+
+    private final String target;
+    private final Duration duration;
+    private final Duration warmup;
+    private final Arrival arrival;
+    private final Map<String, Double> rates;
+    private final int maxInFlight;
+    private final boolean serverEnabled;
+    private final int serverPort;
+    private final Map<String, Behavior> endpoints;
+    private final List<Fault> faults;
+    private final Duration window;
+    private final double tripRatio;
+    private final double recoverRatio;
+    private final String startupPath;
+    private final String startupReadyPath;
+    private final int startupUsers;
+    private final double startupPeakRatio;
+    private final Duration startupTimeout;
+    private final String startupLog;
+
+    private Scenario(Properties properties) {
+        target = stripTrailingSlash(properties.getProperty("target", "http://localhost:8080"));
+        duration = parseDuration(properties.getProperty("duration", "60s"));
+        warmup = parseDuration(properties.getProperty("warmup", "10s"));
+        arrival = Arrival.valueOf(properties.getProperty("arrival", "poisson").trim().toUpperCase());
+        maxInFlight = Integer.parseInt(properties.getProperty("max-in-flight", "20000").trim());
+        serverEnabled = Boolean.parseBoolean(properties.getProperty("server.enabled", "true").trim());
+        serverPort = Integer.parseInt(properties.getProperty("server.port", "9090").trim());
+        window = parseDuration(properties.getProperty("window", "200ms"));
+        tripRatio = Double.parseDouble(properties.getProperty("trip-ratio", "0.9").trim());
+        recoverRatio = Double.parseDouble(properties.getProperty("recover-ratio", "0.1").trim());
+        startupPath = properties.getProperty("startup.path", "/api/normal").trim();
+        startupReadyPath = properties.getProperty("startup.ready-path", "").trim();
+        startupUsers = Integer.parseInt(properties.getProperty("startup.users", "16").trim());
+        startupPeakRatio = Double.parseDouble(properties.getProperty("startup.peak-ratio", "0.9").trim());
+        startupTimeout = parseDuration(properties.getProperty("startup.timeout", "120s"));
+        startupLog = properties.getProperty("startup.log", "startup-app.log").trim();
+
+        Map<String, Double> rates = new LinkedHashMap<>();
+        for (String name : sortedNames(properties, "rate.")) {
+            rates.put(name, Double.parseDouble(properties.getProperty("rate." + name).trim()));
+        }
+        this.rates = Collections.unmodifiableMap(rates);
+
+        Map<String, Behavior> endpoints = new LinkedHashMap<>();
+        for (String name : groupNames(properties, "endpoint.")) {
+            String prefix = "endpoint." + name + ".";
+            endpoints.put(name, new Behavior(
+                    LatencyDistribution.parse(properties.getProperty(prefix + "latency", "constant(0ms)")),
+                    Double.parseDouble(properties.getProperty(prefix + "error-rate", "0").trim()),
+                    Integer.parseInt(properties.getProperty(prefix + "error-status", "503").trim())));
+        }
+        this.endpoints = Collections.unmodifiableMap(endpoints);
+
+        List<Fault> faults = new ArrayList<>();
+        for (String name : groupNames(properties, "fault.")) {
+            String prefix = "fault." + name + ".";
+            String endpoint = required(properties, prefix + "endpoint");
+            Behavior base = endpoints.get(endpoint);
+            if (base == null) {
+                throw new IllegalArgumentException(prefix + "endpoint 에 정의되지 않은 엔드포인트입니다: " + endpoint);
+            }
+            String latency = properties.getProperty(prefix + "latency");
+            String errorRate = properties.getProperty(prefix + "error-rate");
+            faults.add(new Fault(name, endpoint,
+                    parseDuration(required(properties, prefix + "start")),
+                    parseDuration(required(properties, prefix + "duration")),
+                    parseDuration(properties.getProperty(prefix + "recovery", "0s")),
+                    new Behavior(
+                            latency != null ? LatencyDistribution.parse(latency) : base.latency(),
+                            errorRate != null ? Double.parseDouble(errorRate.trim()) : base.errorRate(),
+                            base.errorStatus())));
+        }
+        faults.sort((a, b) -> a.start().compareTo(b.start()));
+        this.faults = Collections.unmodifiableList(faults);
+    }
+
+    /**
+     * @param location  파일 경로 또는 클래스패스의 시나리오 이름 (예: brownout)
+     * @param overrides key=value 형식의 덮어쓸 값
+     */
+    public static Scenario load(String location, List<String> overrides) throws IOException {
+        Properties properties = new Properties();
+        Path path = Path.of(location);
+        if (Files.isRegularFile(path)) {
+            try (Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+                properties.load(reader);
+            }
+        } else {
+            String resource = "scenarios/" + location + ".properties";
+            try (InputStream in = Scenario.class.getClassLoader().getResourceAsStream(resource)) {
+                if (in == null) {
+                    throw new IllegalArgumentException("시나리오를 찾을 수 없습니다: " + location);
+                }
+                properties.load(new InputStreamReader(in, StandardCharsets.UTF_8));
+            }
+        }
+        for (String override : overrides) {
+            int index = override.indexOf('=');
+            if (index <= 0) {
+                throw new IllegalArgumentException("key=value 형식이 아닙니다: " + override);
+            }
+            properties.setProperty(override.substring(0, index).trim(), override.substring(index + 1).trim());
+        }
+        return new Scenario(properties);
+    }
+
+    /**
+     * 100ms, 3s, 2m 형식
+     */
+    public static Duration parseDuration(String text) {
+        String value = text.trim();
+        if (value.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(value.substring(0, value.length() - 2).trim()));
+        }
+        if (value.endsWith("s")) {
+            return Duration.ofMillis(Math.round(Double.parseDouble(value.substring(0, value.length() - 1).trim()) * 1000));
+        }
+        if (value.endsWith("m")) {
+            return Duration.ofSeconds(Long.parseLong(value.substring(0, value.length() - 1).trim()) * 60);
+        }
+        throw new IllegalArgumentException("시간 형식이 올바르지 않습니다 (예: 100ms, 3s, 2m): " + text);
+    }
+
+    /**
+     * 경로의 마지막 구간이 엔드포인트 이름과 같으면 해당 엔드포인트에 의존하는 것으로 봅니다. (/api/normal → normal)
+     */
+    public static String endpointOf(String path) {
+        return path.substring(path.lastIndexOf('/') + 1);
+    }
+
+    private static TreeSet<String> sortedNames(Properties properties, String prefix) {
+        TreeSet<String> names = new TreeSet<>();
+        for (String key : properties.stringPropertyNames()) {
+            if (key.startsWith(prefix)) {
+                names.add(key.substring(prefix.length()));
+            }
+        }
+        return names;
+    }
+
+    private static TreeSet<String> groupNames(Properties properties, String prefix) {
+        TreeSet<String> names = new TreeSet<>();
+        for (String key : sortedNames(properties, prefix)) {
+            int dot = key.indexOf('.');
+            if (dot > 0) {
+                names.add(key.substring(0, dot));
+            }
+        }
+        return names;
+    }
+
+    private static String required(Properties properties, String key) {
+        String value = properties.getProperty(key);
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException("필수 설정이 없습니다: " + key);
+        }
+        return value;
+    }
+
+    private static String stripTrailingSlash(String url) {
+        String value = url.trim();
+        return value.endsWith("/") ? value.substring(0, value.length() - 1) : value;
+    }
+
+    public String target() {
+        return target;
+    }
+
+    public Duration duration() {
+        return duration;
+    }
+
+    public Duration warmup() {
+        return warmup;
+    }
+
+    public Arrival arrival() {
+        return arrival;
+    }
+
+    /**
+     * @return 경로별 초당 요청 수
+     */
+    public Map<String, Double> rates() {
+        return rates;
+    }
+
+    public int maxInFlight() {
+        return maxInFlight;
+    }
+
+    public boolean serverEnabled() {
+        return serverEnabled;
+    }
+
+    public int serverPort() {
+        return serverPort;
+    }
+
+    public Map<String, Behavior> endpoints() {
+        return endpoints;
+    }
+
+    public List<Fault> faults() {
+        return faults;
+    }
+
+    public Duration window() {
+        return window;
+    }
+
+    public double tripRatio() {
+        return tripRatio;
+    }
+
+    public double recoverRatio() {
+        return recoverRatio;
+    }
+
+    /**
+     * @return 첫 요청과 부하를 보낼 경로
+     */
+    public String startupPath() {
+        return startupPath;
+    }
+
+    /**
+     * @return readiness 경로 (비어 있으면 측정하지 않음)
+     */
+    public String startupReadyPath() {
+        return startupReadyPath;
+    }
+
+    /**
+     * @return closed-loop 부하의 동시 사용자 수
+     */
+    public int startupUsers() {
+        return startupUsers;
+    }
+
+    public double startupPeakRatio() {
+        return startupPeakRatio;
+    }
+
+    public Duration startupTimeout() {
+        return startupTimeout;
+    }
+
+    public String startupLog() {
+        return startupLog;
+    }
+}
@@ -0,0 +1,281 @@
+package com.example.harness;
+
+import java.io.File;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 대상 애플리케이션을 직접 실행해 시작 성능을 측정합니다. (워밍업, CDS, Spring AOT 비교)
+ *
+ * 1. 가짜 의존 서버를 띄우고 애플리케이션 프로세스를 시작합니다. (출력은 startup.log 파일)
+ * 2. 프로세스 시작 시각부터 startup.path 와 startup.ready-path 를 10ms 간격으로 요청합니다.
+ * 3. 첫 응답을 받으면 startup.users 명이 응답을 받자마자 다시 요청하는 closed-loop 부하를 duration 동안 줍니다.
+ *    (open-loop 와 달리 처리할 수 있는 만큼만 요청하므로 window 별 완료 수가 그 시점의 처리량)
+ *
+ * - time-to-first-response: 프로세스 시작부터 startup.path 의 첫 200 응답까지 (fallback 포함)
+ * - time-to-first-success: 프로세스 시작부터 fallback 이 아닌 첫 200 응답까지
+ * - time-to-ready: 프로세스 시작부터 startup.ready-path 가 200 을 응답할 때까지
+ * - time-to-peak: 프로세스 시작부터 fallback 이 아닌 완료 수가 최대 window 의 startup.peak-ratio 이상이 된 첫 window 의 끝까지
+ *
+ * 실행:
+ *   java -cp target/load-harness.jar com.example.harness.StartupProbe <시나리오 파일 | 이름> [key=value ...] -- <애플리케이션 실행 명령 ...>
+ */
+public class StartupProbe {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(5);
+    private static final long POLL_INTERVAL_MILLIS = 10;
+
+    private final Scenario scenario;
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(1))
+            .build();
+
+    private long startedAt;
+    private final AtomicLong readyAt = new AtomicLong(-1);
+
+    public StartupProbe(Scenario scenario) {
+        this.scenario = scenario;
+    }
+
+    public static void main(String[] args) throws Exception {
+        int separator = Arrays.asList(args).indexOf("--");
+        if (separator < 1 || separator == args.length - 1) {
+            System.err.println("usage: StartupProbe <시나리오 파일 | 이름> [key=value ...] -- <애플리케이션 실행 명령 ...>");
+            System.exit(1);
+        }
+        Scenario scenario = Scenario.load(args[0], List.of(args).subList(1, separator));
+        List<String> command = List.of(args).subList(separator + 1, args.length);
+
+        FakeDependencyServer server = null;
+        if (scenario.serverEnabled()) {
+            server = new FakeDependencyServer(scenario);
+            server.start();
+        }
+        try {
+            new StartupProbe(scenario).run(command);
+        } finally {
+            if (server != null) {
+                server.close();
+            }
+        }
+    }
+
+    public void run(List<String> command) throws Exception {
+        HttpRequest request = get(scenario.startupPath());
+        File log = new File(scenario.startupLog());
+        System.out.println("start: " + String.join(" ", command) + " (output: " + log.getAbsolutePath() + ")");
+
+        startedAt = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(log)
+                .start();
+        Thread readyPoller = null;
+        try {
+            if (!scenario.startupReadyPath().isEmpty()) {
+                readyPoller = new Thread(this::pollReady, "startup-ready");
+                readyPoller.setDaemon(true);
+                readyPoller.start();
+            }
+
+            long firstResponseAt = -1;
+            long firstSuccessAt = -1;
+            long deadline = startedAt + scenario.startupTimeout().toNanos();
+            while (firstResponseAt < 0) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException("애플리케이션이 종료되었습니다 (exit " + process.exitValue() + "), " + log);
+                }
+                if (System.nanoTime() > deadline) {
+                    throw new IllegalStateException("startup.timeout 안에 응답이 없습니다: " + scenario.startupTimeout());
+                }
+                PathStats.Outcome outcome = send(request);
+                if (outcome != PathStats.Outcome.ERROR) {
+                    firstResponseAt = elapsed();
+                    if (outcome == PathStats.Outcome.SUCCESS) {
+                        firstSuccessAt = firstResponseAt;
+                    }
+                } else {
+                    TimeUnit.MILLISECONDS.sleep(POLL_INTERVAL_MILLIS);
+                }
+            }
+
+            System.out.println("load " + scenario.startupUsers() + " users, " + scenario.duration().toSeconds() + "s ...");
+            Windows windows = load(request, firstResponseAt);
+            if (firstSuccessAt < 0) {
+                firstSuccessAt = windows.firstSuccessAt.get();
+            }
+            if (readyPoller != null) {
+                readyPoller.join(TimeUnit.SECONDS.toMillis(1));
+            }
+
+            System.out.println();
+            print(firstResponseAt, firstSuccessAt, windows);
+        } finally {
+            process.destroy();
+            if (!process.waitFor(10, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        }
+    }
+
+    private void pollReady() {
+        HttpRequest request = get(scenario.startupReadyPath());
+        long deadline = startedAt + scenario.startupTimeout().toNanos() + scenario.duration().toNanos();
+        while (System.nanoTime() < deadline) {
+            try {
+                if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    readyAt.set(elapsed());
+                    return;
+                }
+            } catch (Exception e) {
+                // 아직 포트가 열리지 않음
+            }
+            try {
+                TimeUnit.MILLISECONDS.sleep(POLL_INTERVAL_MILLIS);
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * closed-loop 부하: 사용자마다 응답을 받으면 바로 다음 요청을 보냅니다.
+     */
+    private Windows load(HttpRequest request, long from) throws InterruptedException {
+        long durationNanos = scenario.duration().toNanos();
+        long end = from + durationNanos;
+        Windows windows = new Windows(from, durationNanos, scenario.window().toNanos());
+        List<Thread> users = new ArrayList<>();
+        for (int i = 0; i < scenario.startupUsers(); i++) {
+            Thread user = new Thread(() -> {
+                while (elapsed() < end) {
+                    PathStats.Outcome outcome = send(request);
+                    windows.record(elapsed(), outcome);
+                }
+            }, "startup-user-" + i);
+            user.start();
+            users.add(user);
+        }
+        for (Thread user : users) {
+            user.join();
+        }
+        return windows;
+    }
+
+    private PathStats.Outcome send(HttpRequest request) {
+        try {
+            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() >= 300) {
+                return PathStats.Outcome.ERROR;
+            }
+            // 두 예제 모듈의 fallback 응답에는 모두 "Fallback" 이 포함됨
+            return response.body().contains("Fallback") ? PathStats.Outcome.FALLBACK : PathStats.Outcome.SUCCESS;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return PathStats.Outcome.ERROR;
+        } catch (Exception e) {
+            return PathStats.Outcome.ERROR;
+        }
+    }
+
+    private void print(long firstResponseAt, long firstSuccessAt, Windows windows) {
+        long peak = windows.peak();
+        long peakAt = windows.firstWindowEndAtLeast(Math.round(peak * scenario.startupPeakRatio()));
+        double windowSeconds = scenario.window().toNanos() / 1_000_000_000.0;
+
+        System.out.printf("%-24s %s%n", "time-to-first-response", millis(firstResponseAt));
+        System.out.printf("%-24s %s%n", "time-to-first-success", millis(firstSuccessAt));
+        System.out.printf("%-24s %s%n", "time-to-ready", scenario.startupReadyPath().isEmpty() ? "-" : millis(readyAt.get()));
+        System.out.printf("%-24s %.1f req/s%n", "peak throughput", peak / windowSeconds);
+        System.out.printf("%-24s %s (>= %.0f%% of peak)%n", "time-to-peak", millis(peakAt), scenario.startupPeakRatio() * 100);
+        System.out.println();
+        System.out.printf("%10s %9s %9s %8s%n", "window(s)", "success", "fallback", "errors");
+        for (int i = 0; i < windows.count; i++) {
+            System.out.printf("%10.1f %9d %9d %8d%n", windows.endOf(i) / 1_000_000_000.0,
+                    windows.successes.get(i), windows.fallbacks.get(i), windows.errors.get(i));
+        }
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(URI.create(scenario.target() + path))
+                .timeout(REQUEST_TIMEOUT)
+                .GET()
+                .build();
+    }
+
+    private long elapsed() {
+        return System.nanoTime() - startedAt;
+    }
+
+    private static String millis(long nanos) {
+        return nanos < 0 ? "-" : (nanos / 1_000_000) + "ms";
+    }
+
+    /**
+     * 첫 응답 시각부터 window 별 결과 수 (응답 완료 시각 기준)
+     */
+    private static final class Windows {
+        final long from;
+        final long windowNanos;
+        final int count;
+        final AtomicLongArray successes;
+        final AtomicLongArray fallbacks;
+        final AtomicLongArray errors;
+        final AtomicLong firstSuccessAt = new AtomicLong(-1);
+
+        Windows(long from, long durationNanos, long windowNanos) {
+            this.from = from;
+            this.windowNanos = windowNanos;
+            this.count = (int) Math.max(1, (durationNanos + windowNanos - 1) / windowNanos);
+            this.successes = new AtomicLongArray(count);
+            this.fallbacks = new AtomicLongArray(count);
+            this.errors = new AtomicLongArray(count);
+        }
+
+        void record(long completedAt, PathStats.Outcome outcome) {
+            int index = (int) ((completedAt - from) / windowNanos);
+            if (index >= count) {
+                return;
+            }
+            switch (outcome) {
+                case SUCCESS -> {
+                    successes.incrementAndGet(index);
+                    firstSuccessAt.compareAndSet(-1, completedAt);
+                }
+                case FALLBACK -> fallbacks.incrementAndGet(index);
+                default -> errors.incrementAndGet(index);
+            }
+        }
+
+        long peak() {
+            long peak = 0;
+            for (int i = 0; i < count; i++) {
+                peak = Math.max(peak, successes.get(i));
+            }
+            return peak;
+        }
+
+        long firstWindowEndAtLeast(long threshold) {
+            for (int i = 0; i < count; i++) {
+                if (threshold > 0 && successes.get(i) >= threshold) {
+                    return endOf(i);
+                }
+            }
+            return -1;
+        }
+
+        long endOf(int index) {
+            return from + (index + 1) * windowNanos;
+        }
+    }
+}
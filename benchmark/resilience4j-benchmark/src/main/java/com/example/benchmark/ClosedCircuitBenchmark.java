@@ -0,0 +1,51 @@
+package com.example.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CLOSED 상태의 호출 비용
+ * - normalApi / slowApi: Stub 이 즉시 성공하므로 성공 경로 비용
+ * - failingApi: 실패를 ignore-exceptions 로 지정해 서킷을 닫힌 상태로 유지하면서 실패 → fallback 경로 비용
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ClosedCircuitBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Closed extends Resilience4jBenchmarkState {
+        @Override
+        protected String[] properties() {
+            return new String[]{
+                    "--resilience4j.circuitbreaker.instances.failingApi.ignore-exceptions[0]=java.lang.RuntimeException"
+            };
+        }
+    }
+
+    @Benchmark
+    public String normalApi(Closed state) {
+        return state.myService.callNormalApi();
+    }
+
+    @Benchmark
+    public String failingApi(Closed state) {
+        return state.myService.callFailingApi();
+    }
+
+    @Benchmark
+    public String slowApi(Closed state) {
+        return state.myService.callSlowApi();
+    }
+}
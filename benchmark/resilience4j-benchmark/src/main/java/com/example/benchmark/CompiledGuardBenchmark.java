@@ -0,0 +1,63 @@
+package com.example.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Resilience4j Aspect 와 컴파일 시점에 생성된 코드(CompiledCircuitBreakerAdvisor)의 호출 비용 비교 (CLOSED 상태)
+ * - compiled=false: app.compiled-guards.enabled=false
+ * - compiled=true: 기본 설정
+ * - firstCall: 애플리케이션 시작 직후 첫 호출 1회 (fork 마다 새 JVM)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CompiledGuardBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Guard extends Resilience4jBenchmarkState {
+
+        @Param({"false", "true"})
+        public boolean compiled;
+
+        @Override
+        protected String[] properties() {
+            return new String[]{
+                    "--app.compiled-guards.enabled=" + compiled,
+                    "--resilience4j.circuitbreaker.instances.failingApi.ignore-exceptions[0]=java.lang.RuntimeException"
+            };
+        }
+    }
+
+    @Benchmark
+    public String normalApi(Guard state) {
+        return state.myService.callNormalApi();
+    }
+
+    @Benchmark
+    public String failingApi(Guard state) {
+        return state.myService.callFailingApi();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(iterations = 0)
+    @Measurement(iterations = 1)
+    @Fork(10)
+    public String firstCall(Guard state) {
+        return state.myService.callNormalApi();
+    }
+}
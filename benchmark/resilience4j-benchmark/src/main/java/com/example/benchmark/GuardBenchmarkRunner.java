@@ -0,0 +1,51 @@
+package com.example.benchmark;
+
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.File;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 1 / 8 / 64 스레드에서 ns/op(AverageTime), ops/s(Throughput), B/op(gc 프로파일러)를 측정하고
+ * 릴리스 간 비교를 위해 결과를 JSON 으로 남깁니다.
+ *
+ * 실행: java -cp target/benchmarks.jar com.example.benchmark.GuardBenchmarkRunner [JMH 옵션...]
+ * 결과: target/jmh/resilience4j-{avgt|thrpt}-t{스레드 수}.json
+ */
+public class GuardBenchmarkRunner {
+
+    private static final int[] THREADS = {1, 8, 64};
+
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        File resultDir = new File("target/jmh");
+        resultDir.mkdirs();
+
+        for (int threads : THREADS) {
+            run(commandLine, threads, Mode.AverageTime, TimeUnit.NANOSECONDS, resultDir);
+            run(commandLine, threads, Mode.Throughput, TimeUnit.SECONDS, resultDir);
+        }
+    }
+
+    private static void run(CommandLineOptions commandLine, int threads, Mode mode, TimeUnit timeUnit,
+                            File resultDir) throws Exception {
+        ChainedOptionsBuilder options = new OptionsBuilder()
+                .parent(commandLine)
+                .threads(threads)
+                .mode(mode)
+                .timeUnit(timeUnit)
+                .addProfiler(GCProfiler.class)
+                .resultFormat(ResultFormatType.JSON)
+                .result(new File(resultDir, "resilience4j-" + mode.shortLabel() + "-t" + threads + ".json").getPath());
+        if (commandLine.getIncludes().isEmpty()) {
+            options.include(GuardBenchmarkRunner.class.getPackage().getName() + ".*CircuitBenchmark");
+        }
+        new Runner(options.build()).run();
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HALF_OPEN 상태의 호출 비용
+ * wait-duration-in-open-state 를 1ms 로 두고 failingApi 서킷을 연 상태에서 호출합니다.
+ * 매 밀리초마다 한 번의 테스트 호출(실패 → 다시 OPEN)이 허용되고 나머지는 거절되므로,
+ * Hystrix 쪽 HalfOpenCircuitBenchmark(sleepWindow 0)와 같은 조건의 평균 비용이 측정됩니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HalfOpenCircuitBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class HalfOpen extends Resilience4jBenchmarkState {
+        @Override
+        protected String[] properties() {
+            return new String[]{
+                    "--resilience4j.circuitbreaker.instances.failingApi.wait-duration-in-open-state=1ms",
+                    "--resilience4j.circuitbreaker.instances.failingApi.permitted-number-of-calls-in-half-open-state=1",
+                    "--resilience4j.circuitbreaker.instances.failingApi.automatic-transition-from-open-to-half-open-enabled=false"
+            };
+        }
+
+        @Override
+        protected void prepare() {
+            circuitBreakerRegistry.circuitBreaker("failingApi").transitionToOpenState();
+        }
+    }
+
+    @Benchmark
+    public String failingApi(HalfOpen state) {
+        return state.myService.callFailingApi();
+    }
+}
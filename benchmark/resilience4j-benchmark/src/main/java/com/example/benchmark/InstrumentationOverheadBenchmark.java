@@ -0,0 +1,52 @@
+package com.example.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 지연 시간 메트릭(CallLatencyAspect) 적용 전후의 호출 비용 (CLOSED 상태)
+ * - instrumented=false: app.metrics.latency.enabled=false
+ * - instrumented=true: 기본 설정 (queue / execution / fallback 히스토그램, 결과 카운터)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InstrumentationOverheadBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Instrumentation extends Resilience4jBenchmarkState {
+
+        @Param({"false", "true"})
+        public boolean instrumented;
+
+        @Override
+        protected String[] properties() {
+            return new String[]{
+                    "--app.metrics.latency.enabled=" + instrumented,
+                    "--resilience4j.circuitbreaker.instances.failingApi.ignore-exceptions[0]=java.lang.RuntimeException"
+            };
+        }
+    }
+
+    @Benchmark
+    public String normalApi(Instrumentation state) {
+        return state.myService.callNormalApi();
+    }
+
+    @Benchmark
+    public String failingApi(Instrumentation state) {
+        return state.myService.callFailingApi();
+    }
+}
@@ -0,0 +1,151 @@
+package com.example.benchmark;
+
+import com.example.metrics.CallLatencyAdvisor;
+import com.example.metrics.CallLatencyMetrics;
+import com.example.metrics.LatencyHistogram;
+import com.example.service.MyService;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import org.aopalliance.intercept.MethodInvocation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 메트릭 기록 경로만의 비용 (Spring 컨텍스트 없이 CircuitBreaker + Bulkhead 를 직접 호출)
+ * - clockRead: System.nanoTime() 1회 (환경마다 차이가 큼)
+ * - recordNanos: HdrHistogram AtomicHistogram 기록 1회
+ * - protectedCall: CircuitBreaker(Bulkhead(호출)) 성공 호출
+ * - instrumentedCall: 같은 호출을 CallLatencyAdvisor 로 감싼 경우
+ *   두 값의 차이가 호출당 메트릭 비용입니다. (성공 호출은 시계를 읽지 않음: execution 히스토그램 + 결과 카운터)
+ * - emptyCall / advisedEmptyCall: 보호 없는 빈 호출과 이를 Advisor 로 감싼 경우 (Advisor 자체 비용)
+ *
+ * 애플리케이션에서는 actuator(circuitbreakerevents, bulkheadevents)가 이벤트를 구독하고 있으므로
+ * 여기서도 빈 구독을 등록해 이벤트 발행 비용을 양쪽에 똑같이 포함합니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LatencyRecordingBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Recording {
+        LatencyHistogram histogram;
+        Supplier<String> protectedCall;
+        CallLatencyAdvisor advisor;
+        MethodInvocation invocation;
+        MethodInvocation emptyInvocation;
+
+        @Setup
+        public void setUp() throws NoSuchMethodException {
+            histogram = new LatencyHistogram();
+
+            CircuitBreakerRegistry circuitBreakerRegistry = CircuitBreakerRegistry.ofDefaults();
+            BulkheadRegistry bulkheadRegistry = BulkheadRegistry.ofDefaults();
+            CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker("normalApi");
+            Bulkhead bulkhead = bulkheadRegistry.bulkhead("normalApi");
+            circuitBreaker.getEventPublisher().onEvent(event -> {
+            });
+            bulkhead.getEventPublisher().onEvent(event -> {
+            });
+            protectedCall = CircuitBreaker.decorateSupplier(circuitBreaker,
+                    Bulkhead.decorateSupplier(bulkhead, () -> "Stub Response: Success"));
+
+            DefaultListableBeanFactory beans = new DefaultListableBeanFactory();
+            beans.registerSingleton("circuitBreakerRegistry", circuitBreakerRegistry);
+            beans.registerSingleton("bulkheadRegistry", bulkheadRegistry);
+            advisor = new CallLatencyAdvisor(new CallLatencyMetrics(),
+                    beans.getBeanProvider(CircuitBreakerRegistry.class), beans.getBeanProvider(BulkheadRegistry.class));
+            advisor.afterSingletonsInstantiated();
+            invocation = new SupplierInvocation(MyService.class.getMethod("callNormalApi"), protectedCall);
+            emptyInvocation = new SupplierInvocation(MyService.class.getMethod("callNormalApi"), () -> "Stub Response: Success");
+        }
+    }
+
+    @Benchmark
+    public long clockRead() {
+        return System.nanoTime();
+    }
+
+    @Benchmark
+    public void recordNanos(Recording state) {
+        state.histogram.recordNanos(1_234_567);
+    }
+
+    @Benchmark
+    public String protectedCall(Recording state) {
+        return state.protectedCall.get();
+    }
+
+    @Benchmark
+    public Object instrumentedCall(Recording state) throws Throwable {
+        return state.advisor.invoke(state.invocation);
+    }
+
+    @Benchmark
+    public Object emptyCall(Recording state) throws Throwable {
+        return state.emptyInvocation.proceed();
+    }
+
+    @Benchmark
+    public Object advisedEmptyCall(Recording state) throws Throwable {
+        return state.advisor.invoke(state.emptyInvocation);
+    }
+
+    /**
+     * Spring AOP 의 MethodInvocation 대신 보호된 호출을 바로 실행
+     */
+    private static final class SupplierInvocation implements MethodInvocation {
+        private static final Object[] NO_ARGUMENTS = new Object[0];
+
+        private final Method method;
+        private final Supplier<String> call;
+
+        private SupplierInvocation(Method method, Supplier<String> call) {
+            this.method = method;
+            this.call = call;
+        }
+
+        @Override
+        public Method getMethod() {
+            return method;
+        }
+
+        @Override
+        public Object[] getArguments() {
+            return NO_ARGUMENTS;
+        }
+
+        @Override
+        public Object proceed() {
+            return call.get();
+        }
+
+        @Override
+        public Object getThis() {
+            return null;
+        }
+
+        @Override
+        public AccessibleObject getStaticPart() {
+            return method;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * OPEN 상태의 호출 비용
+ * 서킷을 FORCED_OPEN 으로 고정하고, 외부 호출 없이 CallNotPermittedException → fallback 으로 가는 경로를 측정합니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OpenCircuitBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Open extends Resilience4jBenchmarkState {
+        @Override
+        protected void prepare() {
+            for (String name : new String[]{"normalApi", "failingApi", "slowApi"}) {
+                circuitBreakerRegistry.circuitBreaker(name).transitionToForcedOpenState();
+            }
+        }
+    }
+
+    @Benchmark
+    public String normalApi(Open state) {
+        return state.myService.callNormalApi();
+    }
+
+    @Benchmark
+    public String failingApi(Open state) {
+        return state.myService.callFailingApi();
+    }
+
+    @Benchmark
+    public String slowApi(Open state) {
+        return state.myService.callSlowApi();
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.benchmark;
+
+import com.example.SpringBootModuleApplication;
+import com.example.service.MyService;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 서킷 상태별 벤치마크 State 의 공통 부분
+ * 실제 애플리케이션(SpringBootModuleApplication)을 웹 서버 없이 띄우고 ExternalService 만 Stub 으로 교체합니다.
+ * Config Server 는 사용하지 않으며, 각 State 가 필요한 Resilience4j 설정만 커맨드라인 인자로 전달합니다.
+ */
+public abstract class Resilience4jBenchmarkState {
+
+    private static final String[] COMMON_ARGS = {
+            "--spring.cloud.config.enabled=false",
+            // 이벤트 저널은 JournalBenchmark 에서 따로 측정
+            "--app.journal.enabled=false",
+            // 시작 워밍업은 JMH warmup 과 겹치고 setUp 만 늦춤
+            "--app.warm-up.enabled=false",
+            "--logging.level.root=WARN",
+            "--logging.level.com.example=WARN",
+            "--logging.level.io.github.resilience4j=WARN"
+    };
+
+    protected ConfigurableApplicationContext context;
+    protected MyService myService;
+    protected CircuitBreakerRegistry circuitBreakerRegistry;
+
+    @Setup
+    public void setUp() {
+        List<String> args = new ArrayList<>(Arrays.asList(COMMON_ARGS));
+        args.addAll(Arrays.asList(properties()));
+
+        context = new SpringApplicationBuilder(SpringBootModuleApplication.class, StubExternalServiceConfig.class)
+                .web(WebApplicationType.NONE)
+                .run(args.toArray(new String[0]));
+        myService = context.getBean(MyService.class);
+        circuitBreakerRegistry = context.getBean(CircuitBreakerRegistry.class);
+        prepare();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    /**
+     * 애플리케이션 시작 시 추가할 설정 (--key=value 형식)
+     */
+    protected String[] properties() {
+        return new String[0];
+    }
+
+    /**
+     * 컨텍스트 생성 후 서킷을 원하는 상태로 만듭니다.
+     */
+    protected void prepare() {
+    }
+}
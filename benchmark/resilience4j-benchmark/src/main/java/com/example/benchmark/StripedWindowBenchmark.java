@@ -0,0 +1,113 @@
+package com.example.benchmark;
+
+import com.example.circuit.StripedCircuitBreaker;
+import com.example.circuit.StripedWindowProperties;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.File;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 하나의 서킷에 여러 스레드가 동시에 결과를 기록하는 비용 (기본 슬라이딩 윈도우 vs stripe 윈도우)
+ * - window=count / time: 기본 서킷 (COUNT_BASED 100 / TIME_BASED 10초, 호출마다 윈도우를 잠그고 갱신)
+ * - window=striped: StripedCircuitBreaker (10초 / 10 버킷, 코어 수 x 2 stripe)
+ * - success: 권한 확인 + 성공 기록
+ * - mixed: 스레드마다 100번 중 1번 실패 (임계치 아래라 서킷은 닫힌 상태 유지, striped 는 실패 때 합산 판단 포함)
+ *
+ * 애플리케이션처럼 빈 이벤트 구독을 등록합니다. (기본 서킷은 CLOSED 에서도 성공 / 실패 이벤트를 발행, striped 는 발행하지 않음)
+ *
+ * 실행: java -cp target/benchmarks.jar com.example.benchmark.StripedWindowBenchmark [JMH 옵션...]
+ * 1 ~ 64 스레드를 차례로 실행하고 결과를 target/jmh/striped-window-t{스레드 수}.json 에 남깁니다.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StripedWindowBenchmark {
+
+    private static final int[] THREADS = {1, 2, 4, 8, 16, 32, 64};
+    private static final RuntimeException FAILURE = new RuntimeException("benchmark");
+
+    @State(Scope.Benchmark)
+    public static class Breaker {
+        @Param({"count", "time", "striped"})
+        String window;
+
+        CircuitBreaker circuitBreaker;
+
+        @Setup
+        public void setUp() {
+            CircuitBreakerConfig config = CircuitBreakerConfig.custom()
+                    .slidingWindowType(window.equals("time")
+                            ? CircuitBreakerConfig.SlidingWindowType.TIME_BASED
+                            : CircuitBreakerConfig.SlidingWindowType.COUNT_BASED)
+                    .slidingWindowSize(window.equals("time") ? 10 : 100)
+                    .build();
+            if (window.equals("striped")) {
+                StripedWindowProperties.Settings settings = new StripedWindowProperties.Settings();
+                settings.setEnabled(true);
+                circuitBreaker = new StripedCircuitBreaker("benchmark", config, Collections.emptyMap(), settings);
+            } else {
+                circuitBreaker = CircuitBreaker.of("benchmark", config);
+            }
+            circuitBreaker.getEventPublisher().onEvent(event -> {
+            });
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Counter {
+        int calls;
+    }
+
+    @Benchmark
+    public void success(Breaker state) {
+        CircuitBreaker circuitBreaker = state.circuitBreaker;
+        circuitBreaker.acquirePermission();
+        circuitBreaker.onSuccess(1_000, TimeUnit.NANOSECONDS);
+    }
+
+    @Benchmark
+    public void mixed(Breaker state, Counter counter) {
+        CircuitBreaker circuitBreaker = state.circuitBreaker;
+        circuitBreaker.acquirePermission();
+        if (++counter.calls % 100 == 0) {
+            circuitBreaker.onError(1_000, TimeUnit.NANOSECONDS, FAILURE);
+        } else {
+            circuitBreaker.onSuccess(1_000, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        File resultDir = new File("target/jmh");
+        resultDir.mkdirs();
+        for (int threads : THREADS) {
+            OptionsBuilder options = new OptionsBuilder();
+            options.parent(commandLine)
+                    .include(StripedWindowBenchmark.class.getName())
+                    .threads(threads)
+                    .resultFormat(ResultFormatType.JSON)
+                    .result(new File(resultDir, "striped-window-t" + threads + ".json").getPath());
+            new Runner(options.build()).run();
+        }
+    }
+}
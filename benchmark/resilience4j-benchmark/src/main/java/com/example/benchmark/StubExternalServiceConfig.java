@@ -0,0 +1,19 @@
+package com.example.benchmark;
+
+import com.example.service.ExternalService;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+
+/**
+ * 실제 애플리케이션 구성은 그대로 두고 ExternalService 만 Stub 으로 교체합니다.
+ * SpringBootModuleApplication 이 com.example 전체를 컴포넌트 스캔하므로 @Configuration 을 붙이지 않고,
+ * 필요한 곳(JMH State)에서만 SpringApplicationBuilder 의 source 로 명시적으로 등록합니다.
+ */
+public class StubExternalServiceConfig {
+
+    @Bean
+    @Primary
+    public ExternalService stubExternalService() {
+        return new StubExternalService();
+    }
+}
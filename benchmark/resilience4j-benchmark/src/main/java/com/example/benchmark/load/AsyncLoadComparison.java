@@ -0,0 +1,77 @@
+package com.example.benchmark.load;
+
+import com.example.SpringBootModuleApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 동기(/api/*) / 비동기(/api/async/*) 엔드포인트 부하 비교
+ *
+ * 실제 ExternalService / AsyncExternalService(정상 100ms, 느린 호출 3s)를 사용하고,
+ * 같은 동시 사용자 수로 normal + slow 경로를 함께 호출해 처리량과 지연 시간을 비교합니다.
+ * 스레드 모델 차이만 비교하기 위해 Bulkhead 제한은 충분히 크게 올리고,
+ * Config Server 의 TimeLimiter(slowApi 1s) 설정을 인자로 전달합니다.
+ *
+ * 실행:
+ *   java -cp target/benchmarks.jar com.example.benchmark.load.AsyncLoadComparison [측정 초] [normal 사용자 수] [slow 사용자 수]
+ */
+public class AsyncLoadComparison {
+
+    public static void main(String[] args) throws Exception {
+        Duration duration = Duration.ofSeconds(args.length > 0 ? Integer.parseInt(args[0]) : 20);
+        int normalUsers = args.length > 1 ? Integer.parseInt(args[1]) : 1000;
+        int slowUsers = args.length > 2 ? Integer.parseInt(args[2]) : 200;
+
+        List<String> report = new ArrayList<>();
+        report.add(run("blocking", "/api", normalUsers, slowUsers, duration));
+        report.add(run("async", "/api/async", normalUsers, slowUsers, duration));
+
+        System.out.println();
+        System.out.printf("%-10s %-18s %10s %10s %10s %10s %8s%n",
+                "mode", "path", "req/s", "p50(ms)", "p99(ms)", "fallback", "errors");
+        report.forEach(System.out::print);
+    }
+
+    private static String run(String mode, String prefix, int normalUsers, int slowUsers, Duration duration) throws Exception {
+        String[] args = {
+                "--server.port=0",
+                "--spring.cloud.config.enabled=false",
+                "--logging.level.root=WARN",
+                "--logging.level.com.example=WARN",
+                "--logging.level.io.github.resilience4j=WARN",
+                "--resilience4j.bulkhead.configs.default.max-concurrent-calls=100000",
+                "--resilience4j.timelimiter.instances.slowApi.timeout-duration=1s"
+        };
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(SpringBootModuleApplication.class)
+                .run(args)) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            LoadDriver driver = new LoadDriver(URI.create("http://localhost:" + port));
+
+            // JIT / 커넥션 워밍업
+            driver.run(Map.of(prefix + "/normal", 10), Duration.ofSeconds(3));
+
+            Map<String, Integer> users = new LinkedHashMap<>();
+            users.put(prefix + "/normal", normalUsers);
+            users.put(prefix + "/slow", slowUsers);
+            Map<String, LoadDriver.Result> results = driver.run(users, duration);
+
+            StringBuilder report = new StringBuilder();
+            for (LoadDriver.Result result : results.values()) {
+                report.append(String.format("%-10s %-18s %10.1f %10.1f %10.1f %9.1f%% %8d%n",
+                        mode, result.path(), result.throughput(),
+                        result.percentileMillis(50), result.percentileMillis(99),
+                        result.fallbackRatio() * 100, result.errors()));
+            }
+            return report.toString();
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.example.benchmark.load;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 동시 사용자 수를 고정한 closed-loop 부하 발생기
+ * 사용자마다 응답을 받으면 바로 다음 요청을 보내며, 경로별 지연 시간과 fallback 응답 수를 기록합니다.
+ */
+public class LoadDriver {
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    private final URI baseUri;
+
+    public LoadDriver(URI baseUri) {
+        this.baseUri = baseUri;
+    }
+
+    /**
+     * @param usersByPath 경로별 동시 사용자 수 (예: "/api/slow" → 300)
+     * @param duration    부하 유지 시간
+     */
+    public Map<String, Result> run(Map<String, Integer> usersByPath, Duration duration) throws InterruptedException {
+        long deadline = System.nanoTime() + duration.toNanos();
+        int totalUsers = usersByPath.values().stream().mapToInt(Integer::intValue).sum();
+        CountDownLatch finished = new CountDownLatch(totalUsers);
+
+        Map<String, Result> results = new LinkedHashMap<>();
+        usersByPath.forEach((path, users) -> {
+            Result result = new Result(path);
+            results.put(path, result);
+            HttpRequest request = HttpRequest.newBuilder(baseUri.resolve(path))
+                    .timeout(Duration.ofSeconds(30))
+                    .GET()
+                    .build();
+            for (int i = 0; i < users; i++) {
+                next(request, result, deadline, finished);
+            }
+        });
+
+        finished.await(duration.toSeconds() + 60, TimeUnit.SECONDS);
+        long elapsedNanos = duration.toNanos();
+        results.values().forEach(result -> result.complete(elapsedNanos));
+        return results;
+    }
+
+    private void next(HttpRequest request, Result result, long deadline, CountDownLatch finished) {
+        long start = System.nanoTime();
+        if (start >= deadline) {
+            finished.countDown();
+            return;
+        }
+        client.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+                .whenComplete((response, error) -> {
+                    result.record(System.nanoTime() - start, response, error);
+                    next(request, result, deadline, finished);
+                });
+    }
+
+    /**
+     * 경로별 측정 결과
+     */
+    public static class Result {
+        private final String path;
+        private long[] latencies = new long[1024];
+        private int count;
+        private int fallbacks;
+        private int errors;
+        private double throughput;
+
+        Result(String path) {
+            this.path = path;
+        }
+
+        synchronized void record(long latencyNanos, HttpResponse<String> response, Throwable error) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = latencyNanos;
+            if (error != null || response.statusCode() >= 500) {
+                errors++;
+            } else if (response.body().contains("Fallback")) {
+                fallbacks++;
+            }
+        }
+
+        synchronized void complete(long elapsedNanos) {
+            Arrays.sort(latencies, 0, count);
+            throughput = count / (elapsedNanos / 1_000_000_000.0);
+        }
+
+        public String path() {
+            return path;
+        }
+
+        public synchronized int count() {
+            return count;
+        }
+
+        public synchronized double throughput() {
+            return throughput;
+        }
+
+        public synchronized double fallbackRatio() {
+            return count == 0 ? 0 : (double) fallbacks / count;
+        }
+
+        public synchronized int errors() {
+            return errors;
+        }
+
+        /**
+         * @param percentile 0 ~ 100
+         * @return 지연 시간 (ms)
+         */
+        public synchronized double percentileMillis(double percentile) {
+            if (count == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(percentile / 100.0 * count) - 1;
+            return latencies[Math.max(0, Math.min(index, count - 1))] / 1_000_000.0;
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.benchmark.load;
+
+import com.example.SpringBootModuleApplication;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 가상 스레드 모드 ON / OFF 부하 비교
+ *
+ * 실제 ExternalService(정상 100ms, 느린 호출 3s)를 그대로 사용하고,
+ * /api/slow 에 Tomcat 스레드 수(200)보다 많은 동시 사용자를 걸어 둔 상태에서 /api/normal 의 지연 시간을 측정합니다.
+ * 동시에 처리 중인 보호된 호출 수는 Bulkhead 의 (최대 허용 수 - 남은 허용 수) 합계로 2ms 마다 샘플링합니다.
+ *
+ * 실행 (가상 스레드는 Java 21 이상에서만 활성화됩니다):
+ *   java -cp target/benchmarks.jar com.example.benchmark.load.VirtualThreadLoadComparison [측정 초] [slow 사용자 수] [normal 사용자 수]
+ */
+public class VirtualThreadLoadComparison {
+
+    public static void main(String[] args) throws Exception {
+        Duration duration = Duration.ofSeconds(args.length > 0 ? Integer.parseInt(args[0]) : 20);
+        int slowUsers = args.length > 1 ? Integer.parseInt(args[1]) : 300;
+        int normalUsers = args.length > 2 ? Integer.parseInt(args[2]) : 50;
+
+        if (Runtime.version().feature() < 21) {
+            System.out.println("WARNING: Java " + Runtime.version().feature()
+                    + " 에서는 spring.threads.virtual.enabled 가 무시되어 두 모드의 결과가 같습니다. Java 21 이상에서 실행하세요.");
+        }
+
+        Map<String, Integer> users = new LinkedHashMap<>();
+        users.put("/api/slow", slowUsers);
+        users.put("/api/normal", normalUsers);
+
+        List<String> report = new ArrayList<>();
+        for (boolean virtualThreads : new boolean[]{false, true}) {
+            report.add(run(virtualThreads, users, duration));
+        }
+
+        System.out.println();
+        System.out.printf("%-16s %-12s %10s %10s %10s %10s %12s%n",
+                "mode", "path", "req/s", "p50(ms)", "p99(ms)", "fallback", "maxInFlight");
+        report.forEach(System.out::print);
+    }
+
+    private static String run(boolean virtualThreads, Map<String, Integer> users, Duration duration) throws Exception {
+        List<String> args = new ArrayList<>(List.of(
+                "--server.port=0",
+                "--spring.cloud.config.enabled=false",
+                "--logging.level.root=WARN",
+                "--logging.level.com.example=WARN",
+                "--logging.level.io.github.resilience4j=WARN"));
+        if (virtualThreads) {
+            args.add("--spring.profiles.active=virtual-threads");
+        }
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(SpringBootModuleApplication.class)
+                .run(args.toArray(new String[0]))) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            BulkheadRegistry bulkheadRegistry = context.getBean(BulkheadRegistry.class);
+            LoadDriver driver = new LoadDriver(URI.create("http://localhost:" + port));
+
+            // JIT / 커넥션 워밍업
+            driver.run(Map.of("/api/normal", 10), Duration.ofSeconds(3));
+
+            AtomicInteger maxInFlight = new AtomicInteger();
+            ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor();
+            sampler.scheduleAtFixedRate(() -> maxInFlight.accumulateAndGet(inFlight(bulkheadRegistry), Math::max),
+                    0, 2, TimeUnit.MILLISECONDS);
+            Map<String, LoadDriver.Result> results;
+            try {
+                results = driver.run(users, duration);
+            } finally {
+                sampler.shutdownNow();
+            }
+
+            StringBuilder report = new StringBuilder();
+            String mode = virtualThreads ? "virtual-threads" : "platform";
+            for (LoadDriver.Result result : results.values()) {
+                report.append(String.format("%-16s %-12s %10.1f %10.1f %10.1f %9.1f%% %12d%n",
+                        mode, result.path(), result.throughput(),
+                        result.percentileMillis(50), result.percentileMillis(99),
+                        result.fallbackRatio() * 100, maxInFlight.get()));
+            }
+            return report.toString();
+        }
+    }
+
+    private static int inFlight(BulkheadRegistry bulkheadRegistry) {
+        int inFlight = 0;
+        for (Bulkhead bulkhead : bulkheadRegistry.getAllBulkheads()) {
+            Bulkhead.Metrics metrics = bulkhead.getMetrics();
+            inFlight += metrics.getMaxAllowedConcurrentCalls() - metrics.getAvailableConcurrentCalls();
+        }
+        return inFlight;
+    }
+}
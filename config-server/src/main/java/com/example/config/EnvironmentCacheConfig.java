@@ -0,0 +1,52 @@
+package com.example.config;
+
+import com.example.environment.EnvironmentCacheFilter;
+import com.example.environment.EnvironmentChanges;
+import com.example.environment.SearchLocationWatcher;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
+import org.springframework.core.io.ResourceLoader;
+
+import java.util.List;
+
+/**
+ * 렌더링된 환경 캐시(ETag / 304)와 설정 변경 알림 (native 프로필)
+ * search-locations 디렉토리의 파일이 바뀌면 캐시가 무효화되고, /notifications 로 기다리는 클라이언트에게 바로 알립니다.
+ */
+@Configuration
+@Profile("native")
+public class EnvironmentCacheConfig {
+
+    @Bean
+    public EnvironmentChanges environmentChanges() {
+        return new EnvironmentChanges();
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    public SearchLocationWatcher searchLocationWatcher(
+            @Value("${app.environment.watch-debounce-millis:50}") long debounceMillis,
+            Environment environment, ResourceLoader resourceLoader, EnvironmentChanges environmentChanges) {
+        // 쉼표 구분 문자열과 YAML 목록 모두 지원
+        List<String> locations = Binder.get(environment)
+                .bind("spring.cloud.config.server.native.search-locations", Bindable.listOf(String.class))
+                .orElse(List.of());
+        return new SearchLocationWatcher(locations, resourceLoader, environmentChanges, debounceMillis);
+    }
+
+    @Bean
+    public FilterRegistrationBean<EnvironmentCacheFilter> environmentCacheFilter(
+            @Value("${app.environment.cache-max-entries:256}") int maxEntries,
+            EnvironmentChanges environmentChanges, MeterRegistry meterRegistry) {
+        FilterRegistrationBean<EnvironmentCacheFilter> registration =
+                new FilterRegistrationBean<>(new EnvironmentCacheFilter(environmentChanges, maxEntries, meterRegistry));
+        registration.addUrlPatterns("/*");
+        return registration;
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.environment;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.util.Map;
+
+/**
+ * 설정 변경 알림 (long-poll)
+ *
+ * GET /notifications?version={마지막으로 받은 버전}&timeoutMillis=30000
+ * - 버전이 다르면 바로 200 {"version": 현재 버전} 으로 응답합니다. (처음에는 version 없이 호출해 현재 버전을 받음)
+ * - 같으면 설정 파일이 바뀔 때까지 기다렸다가 200 {"version", "files"}, timeoutMillis 안에 바뀌지 않으면 304 로 응답합니다.
+ * 응답을 받은 클라이언트는 환경을 다시 가져오고(/actuator/refresh) 곧바로 다음 요청을 보냅니다.
+ */
+@RestController
+@Profile("native")
+public class ChangeNotificationController {
+
+    private static final long MAX_TIMEOUT_MILLIS = 60_000;
+
+    private final EnvironmentChanges changes;
+
+    public ChangeNotificationController(EnvironmentChanges changes) {
+        this.changes = changes;
+    }
+
+    @GetMapping("/notifications")
+    public DeferredResult<ResponseEntity<Map<String, Object>>> notifications(
+            @RequestParam(defaultValue = "-1") long version,
+            @RequestParam(defaultValue = "30000") long timeoutMillis) {
+        return changes.await(version, Math.max(1, Math.min(timeoutMillis, MAX_TIMEOUT_MILLIS)));
+    }
+}
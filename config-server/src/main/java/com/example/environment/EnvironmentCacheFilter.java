@@ -0,0 +1,124 @@
+package com.example.environment;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Config Server 응답(렌더링된 환경) 캐시와 ETag / If-None-Match 처리
+ *
+ * - 같은 요청(경로 + 쿼리 + Accept)은 설정 파일이 바뀌기 전까지 환경을 다시 읽지 않고 렌더링해 둔 응답을 그대로 보냅니다.
+ * - 캐시 항목은 EnvironmentChanges 의 버전을 함께 저장하며, 버전이 바뀐 항목은 다음 요청 때 새로 렌더링합니다.
+ * - ETag 는 응답 본문의 해시이므로, 파일이 바뀌어도 해당 애플리케이션의 환경이 같으면 계속 304 로 응답합니다.
+ * - 캐시 항목 수가 maxEntries 에 이르면 새 요청은 캐시하지 않고 매번 렌더링합니다. (임의의 profile 이름으로 캐시가 커지는 것 방지)
+ *
+ * 메트릭: config.environment.requests{result=hit|miss|not_modified}, config.environment.cache.size
+ */
+public class EnvironmentCacheFilter extends OncePerRequestFilter {
+
+    /** 환경이 아닌 Config Server 경로 */
+    private static final List<String> EXCLUDED_PREFIXES =
+            List.of("/actuator", "/notifications", "/encrypt", "/decrypt", "/key", "/error");
+
+    private final EnvironmentChanges changes;
+    private final int maxEntries;
+    private final Map<String, Rendered> cache = new ConcurrentHashMap<>();
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter notModified;
+
+    public EnvironmentCacheFilter(EnvironmentChanges changes, int maxEntries, MeterRegistry meterRegistry) {
+        this.changes = changes;
+        this.maxEntries = maxEntries;
+        this.hits = counter(meterRegistry, "hit");
+        this.misses = counter(meterRegistry, "miss");
+        this.notModified = counter(meterRegistry, "not_modified");
+        Gauge.builder("config.environment.cache.size", cache, Map::size)
+                .description("Rendered environments in the cache")
+                .register(meterRegistry);
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("config.environment.requests")
+                .description("Environment requests by cache result")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!"GET".equals(request.getMethod())) {
+            return true;
+        }
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        for (String prefix : EXCLUDED_PREFIXES) {
+            if (path.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String key = key(request);
+        Rendered rendered = cache.get(key);
+        if (rendered != null && rendered.version() == changes.version()) {
+            hits.increment();
+        } else {
+            misses.increment();
+            // 렌더링 전에 읽은 버전으로 저장해야, 렌더링 중에 파일이 바뀐 경우 다음 요청에서 다시 렌더링됨
+            long version = changes.version();
+            ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+            chain.doFilter(request, wrapper);
+            if (wrapper.getStatus() != HttpServletResponse.SC_OK) {
+                wrapper.copyBodyToResponse();
+                return;
+            }
+            byte[] body = wrapper.getContentAsByteArray();
+            rendered = new Rendered(version, body, wrapper.getContentType(),
+                    "\"" + DigestUtils.md5DigestAsHex(body) + "\"");
+            if (cache.size() < maxEntries || cache.containsKey(key)) {
+                cache.put(key, rendered);
+            }
+        }
+        write(request, response, rendered);
+    }
+
+    private void write(HttpServletRequest request, HttpServletResponse response, Rendered rendered) throws IOException {
+        // 클라이언트가 캐시한 응답도 매번 ETag 로 확인하도록
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+        if (new ServletWebRequest(request, response).checkNotModified(rendered.etag())) {
+            notModified.increment();
+            return;
+        }
+        response.setContentType(rendered.contentType());
+        response.setContentLength(rendered.body().length);
+        response.getOutputStream().write(rendered.body());
+    }
+
+    private static String key(HttpServletRequest request) {
+        String query = request.getQueryString();
+        return request.getRequestURI()
+                + (query != null ? "?" + query : "")
+                + "|" + request.getHeader(HttpHeaders.ACCEPT);
+    }
+
+    private record Rendered(long version, byte[] body, String contentType, String etag) {
+    }
+}
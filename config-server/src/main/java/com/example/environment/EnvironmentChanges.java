@@ -0,0 +1,64 @@
+package com.example.environment;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 설정 파일 버전과 변경 알림 대기자 목록
+ *
+ * - 버전은 설정 파일이 바뀔 때마다 증가합니다. 시작 시각에서 출발하므로 서버를 재시작해도 이전 버전과 겹치지 않습니다.
+ * - 대기 중인 long-poll 요청은 버전이 바뀌는 즉시 새 버전으로 응답합니다.
+ */
+public class EnvironmentChanges {
+
+    private final AtomicLong version = new AtomicLong(System.currentTimeMillis());
+    private final Set<DeferredResult<ResponseEntity<Map<String, Object>>>> waiters = ConcurrentHashMap.newKeySet();
+
+    public long version() {
+        return version.get();
+    }
+
+    /**
+     * 설정 파일이 바뀌었음을 알립니다. (캐시된 환경은 버전이 달라져 더 이상 사용되지 않음)
+     */
+    public void changed(Collection<String> files) {
+        long current = version.incrementAndGet();
+        for (DeferredResult<ResponseEntity<Map<String, Object>>> waiter : waiters) {
+            waiter.setResult(changedResponse(current, files));
+        }
+    }
+
+    /**
+     * knownVersion 과 현재 버전이 다르면 바로, 같으면 버전이 바뀌거나 timeoutMillis 가 지날 때(304) 응답합니다.
+     */
+    public DeferredResult<ResponseEntity<Map<String, Object>>> await(long knownVersion, long timeoutMillis) {
+        DeferredResult<ResponseEntity<Map<String, Object>>> result =
+                new DeferredResult<>(timeoutMillis, () -> ResponseEntity.status(HttpStatus.NOT_MODIFIED).build());
+        waiters.add(result);
+        result.onCompletion(() -> waiters.remove(result));
+
+        // 등록한 뒤에 비교해야 그 사이의 변경을 놓치지 않음
+        long current = version.get();
+        if (current != knownVersion) {
+            result.setResult(changedResponse(current, null));
+        }
+        return result;
+    }
+
+    public int waiting() {
+        return waiters.size();
+    }
+
+    private static ResponseEntity<Map<String, Object>> changedResponse(long version, Collection<String> files) {
+        return ResponseEntity.ok(files == null
+                ? Map.of("version", version)
+                : Map.of("version", version, "files", files));
+    }
+}
@@ -0,0 +1,142 @@
+package com.example.environment;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+
+/**
+ * native 프로필의 search-locations 디렉토리를 감시해 파일이 바뀌면 EnvironmentChanges 에 알립니다.
+ *
+ * - 파일 시스템의 디렉토리만 감시할 수 있습니다. jar 안의 classpath 위치나 {application} 같은 placeholder 가 들어간 위치는 건너뜁니다.
+ * - 편집기는 한 번 저장할 때 여러 이벤트(임시 파일 생성, 이름 변경 등)를 만들므로 debounce 동안 모아서 한 번만 알립니다.
+ */
+public class SearchLocationWatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(SearchLocationWatcher.class);
+
+    private final List<String> locations;
+    private final ResourceLoader resourceLoader;
+    private final EnvironmentChanges changes;
+    private final long debounceMillis;
+    private WatchService watchService;
+    private Thread thread;
+
+    public SearchLocationWatcher(List<String> locations, ResourceLoader resourceLoader,
+                                 EnvironmentChanges changes, long debounceMillis) {
+        this.locations = locations;
+        this.resourceLoader = resourceLoader;
+        this.changes = changes;
+        this.debounceMillis = debounceMillis;
+    }
+
+    public void start() throws IOException {
+        List<Path> directories = new ArrayList<>();
+        for (String location : locations) {
+            Path directory = directory(location.trim());
+            if (directory != null) {
+                directories.add(directory);
+            }
+        }
+        if (directories.isEmpty()) {
+            log.warn("No watchable search-locations in {} - clients must call /actuator/refresh themselves", locations);
+            return;
+        }
+
+        watchService = FileSystems.getDefault().newWatchService();
+        for (Path directory : directories) {
+            directory.register(watchService, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE);
+        }
+        thread = new Thread(this::watch, "search-location-watcher");
+        thread.setDaemon(true);
+        thread.start();
+        log.info("Watching config files in {}", directories);
+    }
+
+    public void stop() throws IOException {
+        if (watchService != null) {
+            watchService.close();
+        }
+    }
+
+    private Path directory(String location) {
+        if (location.isEmpty()) {
+            return null;
+        }
+        if (location.contains("{")) {
+            log.warn("Not watching {} - placeholders are not supported", location);
+            return null;
+        }
+        Resource resource = resourceLoader.getResource(location);
+        try {
+            if (resource.isFile() && Files.isDirectory(resource.getFile().toPath())) {
+                return resource.getFile().toPath();
+            }
+        } catch (IOException e) {
+            log.debug("Cannot resolve {} to a directory", location, e);
+        }
+        log.warn("Not watching {} - not a directory on the file system", location);
+        return null;
+    }
+
+    private void watch() {
+        try {
+            while (true) {
+                Set<String> files = new TreeSet<>();
+                WatchKey key = watchService.take();
+                collect(key, files);
+                // debounce 동안 이어지는 이벤트를 모음
+                while ((key = watchService.poll(debounceMillis, TimeUnit.MILLISECONDS)) != null) {
+                    collect(key, files);
+                }
+                if (!files.isEmpty()) {
+                    log.info("Config files changed: {}", files);
+                    changes.changed(files);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException e) {
+            // stop()
+        }
+    }
+
+    private static void collect(WatchKey key, Set<String> files) {
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == OVERFLOW) {
+                // 이벤트가 유실됨 - 어떤 파일인지 모르지만 변경으로 처리
+                files.add("*");
+                continue;
+            }
+            Object context = event.context();
+            // 편집기의 임시 / 백업 파일은 제외
+            if (context instanceof Path path && isConfigFile(path.getFileName().toString())) {
+                files.add(path.getFileName().toString());
+            }
+        }
+        key.reset();
+    }
+
+    private static boolean isConfigFile(String name) {
+        return name.endsWith(".yml") || name.endsWith(".yaml") || name.endsWith(".properties") || name.endsWith(".json");
+    }
+}
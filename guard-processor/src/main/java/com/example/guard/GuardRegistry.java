@@ -0,0 +1,12 @@
+package com.example.guard;
+
+import java.util.List;
+
+/**
+ * 클래스 하나의 보호 대상 메소드 목록 (GuardProcessor 가 {클래스명}_Guards 로 생성)
+ * 생성된 구현체는 META-INF/services/com.example.guard.GuardRegistry 에 등록되어 ServiceLoader 로 찾습니다.
+ */
+public interface GuardRegistry {
+
+    List<GuardedMethod> guardedMethods();
+}
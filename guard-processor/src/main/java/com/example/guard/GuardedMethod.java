@@ -0,0 +1,134 @@
+package com.example.guard;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+
+/**
+ * 컴파일 시점에 생성된 보호 대상 메소드 하나의 정보와 호출 코드
+ *
+ * - invoker / fallback / cacheKey 는 생성된 코드가 대상 객체의 메소드를 직접 호출합니다. (리플렉션 없음)
+ * - 이름, 그룹 등 어노테이션 값은 컴파일 시점에 기본값까지 결정된 상수입니다.
+ * - 생성된 {@link GuardRegistry} 가 만들며, 런타임은 {@link GuardedMethods} 로 Method 에 해당하는 값을 찾습니다.
+ */
+public final class GuardedMethod {
+
+    /**
+     * 보호 대상 메소드 호출 (대상 객체는 AOP 프록시가 아닌 원본 객체)
+     */
+    public interface Invoker {
+        Object invoke(Object target, Object[] arguments) throws Throwable;
+    }
+
+    /**
+     * fallback 메소드 호출
+     * fallback 의 예외 파라미터 타입에 맞지 않는 실패는 그대로 다시 던집니다.
+     */
+    public interface Fallback {
+        Object apply(Object target, Object[] arguments, Throwable failure) throws Throwable;
+    }
+
+    public enum Kind {
+        /** javanica @HystrixCommand */
+        HYSTRIX_COMMAND,
+        /** Resilience4j @CircuitBreaker (+ 같은 메소드의 세마포어 @Bulkhead) */
+        CIRCUIT_BREAKER
+    }
+
+    private final Kind kind;
+    private final Class<?> declaringClass;
+    private final String methodName;
+    private final Class<?>[] parameterTypes;
+    private final String name;
+    private final String group;
+    private final String isolation;
+    private final Invoker invoker;
+    private final Fallback fallback;
+    private final Invoker cacheKey;
+
+    private GuardedMethod(Kind kind, Class<?> declaringClass, String methodName, Class<?>[] parameterTypes,
+                          String name, String group, String isolation,
+                          Invoker invoker, Fallback fallback, Invoker cacheKey) {
+        this.kind = kind;
+        this.declaringClass = declaringClass;
+        this.methodName = methodName;
+        this.parameterTypes = parameterTypes;
+        this.name = name;
+        this.group = group;
+        this.isolation = isolation;
+        this.invoker = invoker;
+        this.fallback = fallback;
+        this.cacheKey = cacheKey;
+    }
+
+    /**
+     * @param threadPoolKey 지정하지 않았으면 null (groupKey 의 스레드풀 사용)
+     * @param fallback      fallbackMethod 가 없으면 null
+     * @param cacheKey      @CacheResult 가 없거나 캐시 키가 없으면 null
+     */
+    public static GuardedMethod hystrixCommand(Class<?> declaringClass, String methodName, Class<?>[] parameterTypes,
+                                               String commandKey, String groupKey, String threadPoolKey,
+                                               Invoker invoker, Fallback fallback, Invoker cacheKey) {
+        return new GuardedMethod(Kind.HYSTRIX_COMMAND, declaringClass, methodName, parameterTypes,
+                commandKey, groupKey, threadPoolKey, invoker, fallback, cacheKey);
+    }
+
+    /**
+     * @param bulkhead 같은 메소드에 @Bulkhead 가 없으면 null
+     * @param fallback fallbackMethod 가 없으면 null
+     */
+    public static GuardedMethod circuitBreaker(Class<?> declaringClass, String methodName, Class<?>[] parameterTypes,
+                                               String name, String bulkhead, Invoker invoker, Fallback fallback) {
+        return new GuardedMethod(Kind.CIRCUIT_BREAKER, declaringClass, methodName, parameterTypes,
+                name, null, bulkhead, invoker, fallback, null);
+    }
+
+    public boolean matches(Method method) {
+        return method.getDeclaringClass() == declaringClass
+                && method.getName().equals(methodName)
+                && Arrays.equals(method.getParameterTypes(), parameterTypes);
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    public Class<?> getDeclaringClass() {
+        return declaringClass;
+    }
+
+    public String getMethodName() {
+        return methodName;
+    }
+
+    /** Hystrix commandKey / Resilience4j 서킷 브레이커 이름 */
+    public String getName() {
+        return name;
+    }
+
+    /** Hystrix groupKey (Resilience4j 는 null) */
+    public String getGroup() {
+        return group;
+    }
+
+    /** Hystrix threadPoolKey / Resilience4j Bulkhead 이름 (없으면 null) */
+    public String getIsolation() {
+        return isolation;
+    }
+
+    public Invoker getInvoker() {
+        return invoker;
+    }
+
+    public Fallback getFallback() {
+        return fallback;
+    }
+
+    public Invoker getCacheKey() {
+        return cacheKey;
+    }
+
+    @Override
+    public String toString() {
+        return declaringClass.getName() + "." + methodName + Arrays.toString(parameterTypes) + " (" + kind + " " + name + ")";
+    }
+}
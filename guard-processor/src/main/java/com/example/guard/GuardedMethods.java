@@ -0,0 +1,81 @@
+package com.example.guard;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 생성된 GuardRegistry 를 모두 읽어 Method 로 GuardedMethod 를 찾습니다.
+ *
+ * - 시작할 때 ServiceLoader 로 한 번 읽고, 찾은 결과는 Method 별로 캐시합니다. (호출 경로에서는 Map 조회 1번)
+ * - 생성된 코드가 없는 메소드(지원하지 않는 속성을 쓴 경우 등)는 null 을 반환하므로 호출한 쪽이 기존 AOP 로 처리합니다.
+ */
+public final class GuardedMethods {
+
+    private static final GuardedMethod NOT_GENERATED = GuardedMethod.circuitBreaker(
+            Void.class, "", new Class<?>[0], "", null, null, null);
+
+    private final Map<Class<?>, List<GuardedMethod>> byClass;
+    private final Map<Method, GuardedMethod> byMethod = new ConcurrentHashMap<>();
+
+    private GuardedMethods(Map<Class<?>, List<GuardedMethod>> byClass) {
+        this.byClass = byClass;
+    }
+
+    public static GuardedMethods load(ClassLoader classLoader) {
+        Map<Class<?>, List<GuardedMethod>> byClass = new HashMap<>();
+        for (GuardRegistry registry : ServiceLoader.load(GuardRegistry.class, classLoader)) {
+            for (GuardedMethod guardedMethod : registry.guardedMethods()) {
+                List<GuardedMethod> methods = byClass.get(guardedMethod.getDeclaringClass());
+                if (methods == null) {
+                    methods = new ArrayList<>();
+                    byClass.put(guardedMethod.getDeclaringClass(), methods);
+                }
+                methods.add(guardedMethod);
+            }
+        }
+        return new GuardedMethods(byClass);
+    }
+
+    /**
+     * 생성된 코드를 사용하지 않음 (모든 메소드를 기존 AOP 가 처리)
+     */
+    public static GuardedMethods empty() {
+        return new GuardedMethods(Collections.<Class<?>, List<GuardedMethod>>emptyMap());
+    }
+
+    /**
+     * @return 생성된 코드가 없으면 null
+     */
+    public GuardedMethod find(Method method, GuardedMethod.Kind kind) {
+        GuardedMethod found = byMethod.get(method);
+        if (found == null) {
+            found = NOT_GENERATED;
+            List<GuardedMethod> candidates = byClass.getOrDefault(method.getDeclaringClass(), Collections.emptyList());
+            for (GuardedMethod candidate : candidates) {
+                if (candidate.getKind() == kind && candidate.matches(method)) {
+                    found = candidate;
+                    break;
+                }
+            }
+            byMethod.put(method, found);
+        }
+        return found == NOT_GENERATED ? null : found;
+    }
+
+    /**
+     * 생성된 메소드 수 (시작 로그 / 조회용)
+     */
+    public int size() {
+        int size = 0;
+        for (List<GuardedMethod> methods : byClass.values()) {
+            size += methods.size();
+        }
+        return size;
+    }
+}
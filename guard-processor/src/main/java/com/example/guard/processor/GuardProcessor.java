@@ -0,0 +1,636 @@
+package com.example.guard.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * @HystrixCommand / @CircuitBreaker 메소드마다 리플렉션 없이 원본 메소드, fallback, 캐시 키 메소드를 호출하는 코드를 생성합니다.
+ *
+ * - 클래스마다 {클래스명}_Guards(GuardRegistry 구현)를 같은 패키지에 만들고 META-INF/services 에 등록합니다.
+ * - fallbackMethod / cacheKeyMethod 가 없거나 시그니처가 맞지 않으면 컴파일 오류입니다. (javanica / Resilience4j 는 첫 실패 때 발견)
+ * - 생성 코드로 처리할 수 없는 속성(commandProperties, 비동기 반환 타입, SpEL 이름 등)을 쓴 메소드는 NOTE 를 남기고 생성하지 않으므로
+ *   런타임에서 기존 AOP 가 그대로 처리합니다.
+ * - javanica / Resilience4j 를 의존하지 않도록 어노테이션은 이름으로만 읽습니다.
+ */
+public class GuardProcessor extends AbstractProcessor {
+
+    static final String HYSTRIX_COMMAND = "com.netflix.hystrix.contrib.javanica.annotation.HystrixCommand";
+    static final String DEFAULT_PROPERTIES = "com.netflix.hystrix.contrib.javanica.annotation.DefaultProperties";
+    static final String CACHE_RESULT = "com.netflix.hystrix.contrib.javanica.cache.annotation.CacheResult";
+    static final String CACHE_REMOVE = "com.netflix.hystrix.contrib.javanica.cache.annotation.CacheRemove";
+    static final String CIRCUIT_BREAKER = "io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker";
+    static final String BULKHEAD = "io.github.resilience4j.bulkhead.annotation.Bulkhead";
+
+    private static final String REGISTRY_SERVICE = "META-INF/services/com.example.guard.GuardRegistry";
+
+    /** 생성 코드가 직접 처리하지 않는 Resilience4j 어노테이션 (같은 메소드나 클래스에 있으면 AOP 로 처리) */
+    private static final List<String> UNSUPPORTED_RESILIENCE4J = Arrays.asList(
+            "io.github.resilience4j.timelimiter.annotation.TimeLimiter",
+            "io.github.resilience4j.retry.annotation.Retry",
+            "io.github.resilience4j.ratelimiter.annotation.RateLimiter");
+
+    /** @HystrixCommand 중 생성 코드가 지원하는 속성 */
+    private static final Set<String> HYSTRIX_ATTRIBUTES = new HashSet<>(Arrays.asList(
+            "commandKey", "groupKey", "threadPoolKey", "fallbackMethod"));
+
+    /** 다른 스레드에서 완료되는 반환 타입 (동기 호출만 생성) */
+    private static final List<String> ASYNC_TYPES = Arrays.asList(
+            "java.util.concurrent.Future", "java.util.concurrent.CompletionStage",
+            "org.reactivestreams.Publisher", "rx.Observable", "rx.Single", "rx.Completable");
+
+    private final Set<String> registries = new LinkedHashSet<>();
+    private Elements elements;
+    private Types types;
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        return new HashSet<>(Arrays.asList(HYSTRIX_COMMAND, CIRCUIT_BREAKER));
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        elements = processingEnv.getElementUtils();
+        types = processingEnv.getTypeUtils();
+
+        Map<TypeElement, List<String>> guardsByType = new LinkedHashMap<>();
+        for (TypeElement annotation : annotations) {
+            boolean hystrix = annotation.getQualifiedName().contentEquals(HYSTRIX_COMMAND);
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (element.getKind() != ElementKind.METHOD) {
+                    continue;
+                }
+                ExecutableElement method = (ExecutableElement) element;
+                TypeElement type = (TypeElement) method.getEnclosingElement();
+                String guard = hystrix ? hystrixCommand(type, method) : circuitBreaker(type, method);
+                if (guard != null) {
+                    List<String> guards = guardsByType.get(type);
+                    if (guards == null) {
+                        guards = new ArrayList<>();
+                        guardsByType.put(type, guards);
+                    }
+                    guards.add(guard);
+                }
+            }
+        }
+        for (Map.Entry<TypeElement, List<String>> entry : guardsByType.entrySet()) {
+            writeRegistry(entry.getKey(), entry.getValue());
+        }
+        if (roundEnv.processingOver() && !registries.isEmpty()) {
+            writeServiceFile();
+        }
+        return false;
+    }
+
+    // ----------------------------------------------------------------------------------------------------------------
+    // javanica @HystrixCommand
+
+    private String hystrixCommand(TypeElement type, ExecutableElement method) {
+        AnnotationMirror command = annotation(method, HYSTRIX_COMMAND);
+        if (!generatable(type, method, command)) {
+            return null;
+        }
+        for (ExecutableElement attribute : command.getElementValues().keySet()) {
+            String name = attribute.getSimpleName().toString();
+            if (!HYSTRIX_ATTRIBUTES.contains(name)) {
+                return skip(method, command, "attribute '" + name + "' is handled by javanica");
+            }
+        }
+        if (annotation(type, DEFAULT_PROPERTIES) != null) {
+            return skip(method, command, "@DefaultProperties on " + type.getSimpleName() + " is handled by javanica");
+        }
+        if (annotation(method, CACHE_REMOVE) != null) {
+            return skip(method, command, "@CacheRemove is handled by javanica");
+        }
+
+        String commandKey = stringValue(command, "commandKey");
+        String groupKey = stringValue(command, "groupKey");
+        String threadPoolKey = stringValue(command, "threadPoolKey");
+        String fallbackMethod = stringValue(command, "fallbackMethod");
+
+        String fallback = "null";
+        if (!fallbackMethod.isEmpty()) {
+            ExecutableElement resolved = hystrixFallback(type, method, command, fallbackMethod);
+            if (resolved == null) {
+                return null;
+            }
+            if (annotation(resolved, HYSTRIX_COMMAND) != null) {
+                return skip(method, command, "fallbackMethod " + fallbackMethod + " is itself a @HystrixCommand");
+            }
+            if (resolved.getModifiers().contains(Modifier.PRIVATE)) {
+                return warnSkip(method, command, "fallbackMethod " + fallbackMethod
+                        + " is private and cannot be called from generated code");
+            }
+            boolean withFailure = resolved.getParameters().size() > method.getParameters().size();
+            fallback = "(target, arguments, failure) -> "
+                    + returning(method, call(type, resolved, method, withFailure ? "failure" : null));
+        }
+
+        String cacheKey = "null";
+        AnnotationMirror cacheResult = annotation(method, CACHE_RESULT);
+        if (cacheResult != null) {
+            String cacheKeyMethod = stringValue(cacheResult, "cacheKeyMethod");
+            if (cacheKeyMethod.isEmpty()) {
+                return skip(method, cacheResult, "@CacheResult without cacheKeyMethod is handled by javanica");
+            }
+            ExecutableElement resolved = cacheKeyMethod(type, method, cacheResult, cacheKeyMethod);
+            if (resolved == null) {
+                return null;
+            }
+            if (resolved.getModifiers().contains(Modifier.PRIVATE)) {
+                return warnSkip(method, cacheResult, "cacheKeyMethod " + cacheKeyMethod
+                        + " is private and cannot be called from generated code");
+            }
+            cacheKey = "(target, arguments) -> " + call(type, resolved, method, null);
+        }
+
+        return "GuardedMethod.hystrixCommand(" + classLiteral(type.asType()) + ", \"" + method.getSimpleName() + "\", "
+                + parameterTypes(method) + ",\n"
+                + "                        " + literal(commandKey.isEmpty() ? method.getSimpleName().toString() : commandKey)
+                + ", " + literal(groupKey.isEmpty() ? type.getSimpleName().toString() : groupKey)
+                + ", " + (threadPoolKey.isEmpty() ? "null" : literal(threadPoolKey)) + ",\n"
+                + "                        " + invoker(type, method) + ",\n"
+                + "                        " + fallback + ",\n"
+                + "                        " + cacheKey + ")";
+    }
+
+    /**
+     * javanica 와 같이 (원본 파라미터) 또는 (원본 파라미터, Throwable) 을 받는 메소드를 찾습니다. (Throwable 을 받는 쪽 우선)
+     */
+    private ExecutableElement hystrixFallback(TypeElement type, ExecutableElement method, AnnotationMirror command,
+                                              String name) {
+        List<ExecutableElement> candidates = methodsNamed(type, name);
+        if (candidates.isEmpty()) {
+            error(method, command, "fallbackMethod " + name + " not found in " + type.getQualifiedName());
+            return null;
+        }
+        TypeMirror throwable = elements.getTypeElement("java.lang.Throwable").asType();
+        ExecutableElement plain = null;
+        for (ExecutableElement candidate : candidates) {
+            List<? extends VariableElement> parameters = candidate.getParameters();
+            if (parameters.size() == method.getParameters().size() + 1
+                    && sameParameters(method, candidate)
+                    && types.isSameType(parameters.get(parameters.size() - 1).asType(), throwable)) {
+                return checkReturnType(method, command, candidate) ? candidate : null;
+            }
+            if (parameters.size() == method.getParameters().size() && sameParameters(method, candidate)) {
+                plain = candidate;
+            }
+        }
+        if (plain == null) {
+            error(method, command, "fallbackMethod " + name + " must take (" + parameterList(method) + ") or ("
+                    + parameterList(method) + (method.getParameters().isEmpty() ? "" : ", ") + "Throwable)");
+            return null;
+        }
+        return checkReturnType(method, command, plain) ? plain : null;
+    }
+
+    private ExecutableElement cacheKeyMethod(TypeElement type, ExecutableElement method, AnnotationMirror cacheResult,
+                                             String name) {
+        TypeMirror string = elements.getTypeElement("java.lang.String").asType();
+        for (ExecutableElement candidate : methodsNamed(type, name)) {
+            if (candidate.getParameters().size() == method.getParameters().size() && sameParameters(method, candidate)) {
+                if (!types.isSameType(candidate.getReturnType(), string)) {
+                    error(method, cacheResult, "cacheKeyMethod " + name + " must return String");
+                    return null;
+                }
+                return candidate;
+            }
+        }
+        error(method, cacheResult, "cacheKeyMethod " + name + "(" + parameterList(method) + ") not found in "
+                + type.getQualifiedName());
+        return null;
+    }
+
+    // ----------------------------------------------------------------------------------------------------------------
+    // Resilience4j @CircuitBreaker (+ @Bulkhead)
+
+    private String circuitBreaker(TypeElement type, ExecutableElement method) {
+        AnnotationMirror circuitBreaker = annotation(method, CIRCUIT_BREAKER);
+        if (!generatable(type, method, circuitBreaker)) {
+            return null;
+        }
+        for (String unsupported : UNSUPPORTED_RESILIENCE4J) {
+            if (annotation(method, unsupported) != null || annotation(type, unsupported) != null) {
+                return skip(method, circuitBreaker, "@" + unsupported.substring(unsupported.lastIndexOf('.') + 1)
+                        + " is handled by the Resilience4j aspects");
+            }
+        }
+        String name = stringValue(circuitBreaker, "name");
+        if (isExpression(name)) {
+            return skip(method, circuitBreaker, "name '" + name + "' is resolved at runtime by Resilience4j");
+        }
+
+        String bulkhead = "null";
+        AnnotationMirror bulkheadAnnotation = annotation(method, BULKHEAD);
+        if (bulkheadAnnotation == null && annotation(type, BULKHEAD) != null) {
+            return skip(method, circuitBreaker, "class level @Bulkhead is handled by the Resilience4j aspects");
+        }
+        if (bulkheadAnnotation != null) {
+            String bulkheadName = stringValue(bulkheadAnnotation, "name");
+            if (isExpression(bulkheadName)) {
+                return skip(method, bulkheadAnnotation, "name '" + bulkheadName + "' is resolved at runtime by Resilience4j");
+            }
+            if (!stringValue(bulkheadAnnotation, "fallbackMethod").isEmpty()) {
+                return skip(method, bulkheadAnnotation, "@Bulkhead fallbackMethod is handled by the Resilience4j aspects");
+            }
+            if (!"SEMAPHORE".equals(enumValue(bulkheadAnnotation, "type"))) {
+                return skip(method, bulkheadAnnotation, "thread pool bulkhead is handled by the Resilience4j aspects");
+            }
+            bulkhead = literal(bulkheadName);
+        }
+
+        String fallback = "null";
+        String fallbackMethod = stringValue(circuitBreaker, "fallbackMethod");
+        if (!fallbackMethod.isEmpty()) {
+            fallback = resilience4jFallback(type, method, circuitBreaker, fallbackMethod);
+            if (fallback == null) {
+                return null;
+            }
+        }
+
+        return "GuardedMethod.circuitBreaker(" + classLiteral(type.asType()) + ", \"" + method.getSimpleName() + "\", "
+                + parameterTypes(method) + ",\n"
+                + "                        " + literal(name) + ", " + bulkhead + ",\n"
+                + "                        " + invoker(type, method) + ",\n"
+                + "                        " + fallback + ")";
+    }
+
+    /**
+     * Resilience4j 와 같이 (원본 파라미터, 예외 타입) 을 받는 메소드를 찾아, 실패가 인스턴스인 가장 구체적인 예외 타입의 메소드를 호출합니다.
+     * 맞는 메소드가 없는 실패는 그대로 다시 던집니다.
+     */
+    private String resilience4jFallback(TypeElement type, ExecutableElement method, AnnotationMirror circuitBreaker,
+                                        String name) {
+        List<ExecutableElement> candidates = methodsNamed(type, name);
+        if (candidates.isEmpty()) {
+            error(method, circuitBreaker, "fallbackMethod " + name + " not found in " + type.getQualifiedName());
+            return null;
+        }
+        TypeMirror throwable = elements.getTypeElement("java.lang.Throwable").asType();
+        List<ExecutableElement> matching = new ArrayList<>();
+        for (ExecutableElement candidate : candidates) {
+            List<? extends VariableElement> parameters = candidate.getParameters();
+            if (parameters.size() == method.getParameters().size() + 1
+                    && sameParameters(method, candidate)
+                    && types.isAssignable(parameters.get(parameters.size() - 1).asType(), throwable)) {
+                matching.add(candidate);
+            }
+        }
+        if (matching.isEmpty()) {
+            error(method, circuitBreaker, "fallbackMethod " + name + " must take ("
+                    + parameterList(method) + (method.getParameters().isEmpty() ? "" : ", ") + "<? extends Throwable>)");
+            return null;
+        }
+        for (ExecutableElement candidate : matching) {
+            if (!checkReturnType(method, circuitBreaker, candidate)) {
+                return null;
+            }
+            if (candidate.getModifiers().contains(Modifier.PRIVATE)) {
+                return warnSkip(method, circuitBreaker, "fallbackMethod " + name
+                        + " is private and cannot be called from generated code");
+            }
+        }
+        // 하위 예외 타입을 받는 메소드부터 확인
+        Collections.sort(matching, (left, right) -> Integer.compare(depth(lastParameterType(right)),
+                depth(lastParameterType(left))));
+
+        StringBuilder code = new StringBuilder("(target, arguments, failure) -> {\n");
+        for (ExecutableElement candidate : matching) {
+            TypeMirror failureType = lastParameterType(candidate);
+            String erased = types.erasure(failureType).toString();
+            if (types.isSameType(failureType, throwable)) {
+                code.append("                            ")
+                        .append(statement(method, call(type, candidate, method, "failure"))).append('\n')
+                        .append("                        }");
+                return code.toString();
+            }
+            code.append("                            if (failure instanceof ").append(erased).append(") {\n")
+                    .append("                                ")
+                    .append(statement(method, call(type, candidate, method, "(" + erased + ") failure"))).append('\n')
+                    .append("                            }\n");
+        }
+        return code.append("                            throw failure;\n")
+                .append("                        }").toString();
+    }
+
+    // ----------------------------------------------------------------------------------------------------------------
+    // 공통 검사
+
+    /**
+     * 생성된 코드가 같은 패키지에서 직접 호출할 수 있고, AOP 프록시가 가로채는 동기 메소드인지 확인합니다.
+     */
+    private boolean generatable(TypeElement type, ExecutableElement method, AnnotationMirror annotation) {
+        if (method.getModifiers().contains(Modifier.PRIVATE) || method.getModifiers().contains(Modifier.STATIC)) {
+            warnSkip(method, annotation, "private or static methods are not intercepted by Spring AOP");
+            return false;
+        }
+        if (!method.getTypeParameters().isEmpty()) {
+            skip(method, annotation, "generic methods are handled by AOP");
+            return false;
+        }
+        for (Element enclosing = type; enclosing instanceof TypeElement; enclosing = enclosing.getEnclosingElement()) {
+            TypeElement enclosingType = (TypeElement) enclosing;
+            if (enclosingType.getModifiers().contains(Modifier.PRIVATE)
+                    || (enclosingType.getNestingKind() == NestingKind.MEMBER
+                    && !enclosingType.getModifiers().contains(Modifier.STATIC)
+                    && enclosingType.getKind() == ElementKind.CLASS)
+                    || enclosingType.getNestingKind() == NestingKind.LOCAL
+                    || enclosingType.getNestingKind() == NestingKind.ANONYMOUS) {
+                skip(method, annotation, type.getSimpleName() + " is not accessible from generated code");
+                return false;
+            }
+        }
+        TypeMirror returnType = types.erasure(method.getReturnType());
+        for (String async : ASYNC_TYPES) {
+            TypeElement asyncType = elements.getTypeElement(async);
+            if (asyncType != null && types.isAssignable(returnType, types.erasure(asyncType.asType()))) {
+                skip(method, annotation, "asynchronous return type " + method.getReturnType() + " is handled by AOP");
+                return false;
+            }
+        }
+        String returnTypeName = returnType.toString();
+        if (returnTypeName.startsWith("reactor.") || returnTypeName.startsWith("io.reactivex.")) {
+            skip(method, annotation, "reactive return type " + method.getReturnType() + " is handled by AOP");
+            return false;
+        }
+        return true;
+    }
+
+    private boolean checkReturnType(ExecutableElement method, AnnotationMirror annotation, ExecutableElement fallback) {
+        TypeMirror expected = method.getReturnType();
+        TypeMirror actual = fallback.getReturnType();
+        boolean compatible = expected.getKind() == TypeKind.VOID
+                ? actual.getKind() == TypeKind.VOID
+                : actual.getKind() != TypeKind.VOID && types.isAssignable(actual, expected);
+        if (!compatible) {
+            error(method, annotation, "fallbackMethod " + fallback.getSimpleName() + " returns " + actual
+                    + ", which is not assignable to " + expected);
+        }
+        return compatible;
+    }
+
+    private List<ExecutableElement> methodsNamed(TypeElement type, String name) {
+        List<ExecutableElement> methods = new ArrayList<>();
+        for (Element member : elements.getAllMembers(type)) {
+            if (member.getKind() == ElementKind.METHOD && member.getSimpleName().contentEquals(name)) {
+                methods.add((ExecutableElement) member);
+            }
+        }
+        return methods;
+    }
+
+    private boolean sameParameters(ExecutableElement method, ExecutableElement candidate) {
+        for (int i = 0; i < method.getParameters().size(); i++) {
+            if (!types.isSameType(types.erasure(method.getParameters().get(i).asType()),
+                    types.erasure(candidate.getParameters().get(i).asType()))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private TypeMirror lastParameterType(ExecutableElement method) {
+        List<? extends VariableElement> parameters = method.getParameters();
+        return parameters.get(parameters.size() - 1).asType();
+    }
+
+    private int depth(TypeMirror type) {
+        int depth = 0;
+        for (List<? extends TypeMirror> supertypes = types.directSupertypes(type); !supertypes.isEmpty();
+             supertypes = types.directSupertypes(supertypes.get(0))) {
+            depth++;
+        }
+        return depth;
+    }
+
+    private static boolean isExpression(String name) {
+        return name.startsWith("#") || name.contains("${");
+    }
+
+    // ----------------------------------------------------------------------------------------------------------------
+    // 코드 생성
+
+    private String invoker(TypeElement type, ExecutableElement method) {
+        return "(target, arguments) -> " + returning(method, call(type, method, method, null));
+    }
+
+    /**
+     * void 메소드는 블록으로 감싸 null 을 반환
+     */
+    private static String returning(ExecutableElement method, String call) {
+        return method.getReturnType().getKind() == TypeKind.VOID ? "{ " + call + "; return null; }" : call;
+    }
+
+    private static String statement(ExecutableElement method, String call) {
+        return method.getReturnType().getKind() == TypeKind.VOID ? call + "; return null;" : "return " + call + ";";
+    }
+
+    /**
+     * 대상 객체(또는 static 메소드의 클래스)에서 callee 를 호출하는 식
+     * 인자는 guarded 메소드의 arguments 배열에서 꺼내고, failure 가 있으면 마지막 인자로 넘깁니다.
+     */
+    private String call(TypeElement type, ExecutableElement callee, ExecutableElement guarded, String failure) {
+        StringBuilder call = new StringBuilder();
+        if (callee.getModifiers().contains(Modifier.STATIC)) {
+            call.append(types.erasure(type.asType()));
+        } else {
+            call.append("((").append(types.erasure(type.asType())).append(") target)");
+        }
+        call.append('.').append(callee.getSimpleName()).append('(');
+        List<? extends VariableElement> parameters = guarded.getParameters();
+        for (int i = 0; i < parameters.size(); i++) {
+            if (i > 0) {
+                call.append(", ");
+            }
+            call.append('(').append(types.erasure(parameters.get(i).asType())).append(") arguments[").append(i).append(']');
+        }
+        if (failure != null) {
+            call.append(parameters.isEmpty() ? "" : ", ").append(failure);
+        }
+        return call.append(')').toString();
+    }
+
+    private String parameterTypes(ExecutableElement method) {
+        StringBuilder code = new StringBuilder("new Class<?>[]{");
+        List<? extends VariableElement> parameters = method.getParameters();
+        for (int i = 0; i < parameters.size(); i++) {
+            code.append(i > 0 ? ", " : "").append(classLiteral(parameters.get(i).asType()));
+        }
+        return code.append('}').toString();
+    }
+
+    private String parameterList(ExecutableElement method) {
+        StringBuilder list = new StringBuilder();
+        for (VariableElement parameter : method.getParameters()) {
+            list.append(list.length() > 0 ? ", " : "").append(parameter.asType());
+        }
+        return list.toString();
+    }
+
+    private String classLiteral(TypeMirror type) {
+        return types.erasure(type) + ".class";
+    }
+
+    private static String literal(String value) {
+        StringBuilder literal = new StringBuilder("\"");
+        for (char c : value.toCharArray()) {
+            if (c == '"' || c == '\\') {
+                literal.append('\\').append(c);
+            } else if (c < 0x20 || c > 0x7e) {
+                literal.append(String.format("\\u%04x", (int) c));
+            } else {
+                literal.append(c);
+            }
+        }
+        return literal.append('"').toString();
+    }
+
+    /**
+     * 생성 파일은 컴파일러 인코딩으로 쓰이므로 ASCII 만 사용합니다.
+     */
+    private void writeRegistry(TypeElement type, List<String> guards) {
+        PackageElement packageElement = elements.getPackageOf(type);
+        String packageName = packageElement.isUnnamed() ? "" : packageElement.getQualifiedName().toString();
+        String binaryName = elements.getBinaryName(type).toString();
+        String simpleName = (packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1))
+                .replace('$', '_') + "_Guards";
+        String qualifiedName = packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+
+        StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("import com.example.guard.GuardRegistry;\n")
+                .append("import com.example.guard.GuardedMethod;\n\n")
+                .append("import java.util.Arrays;\n")
+                .append("import java.util.List;\n\n")
+                .append("/**\n")
+                .append(" * ").append(type.getQualifiedName()).append(" guarded methods (generated by GuardProcessor, do not edit)\n")
+                .append(" */\n")
+                .append("public final class ").append(simpleName).append(" implements GuardRegistry {\n\n")
+                .append("    @Override\n")
+                .append("    @SuppressWarnings({\"unchecked\", \"rawtypes\"})\n")
+                .append("    public List<GuardedMethod> guardedMethods() {\n")
+                .append("        return Arrays.asList(\n");
+        for (int i = 0; i < guards.size(); i++) {
+            source.append("                ").append(guards.get(i)).append(i < guards.size() - 1 ? ",\n" : "\n");
+        }
+        source.append("        );\n")
+                .append("    }\n")
+                .append("}\n");
+
+        try (Writer writer = processingEnv.getFiler().createSourceFile(qualifiedName, type).openWriter()) {
+            writer.write(source.toString());
+            registries.add(qualifiedName);
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Failed to write " + qualifiedName + ": " + e.getMessage(), type);
+        }
+    }
+
+    private void writeServiceFile() {
+        try {
+            FileObject file = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", REGISTRY_SERVICE);
+            try (Writer writer = file.openWriter()) {
+                for (String registry : registries) {
+                    writer.write(registry);
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Failed to write " + REGISTRY_SERVICE + ": " + e.getMessage());
+        }
+    }
+
+    // ----------------------------------------------------------------------------------------------------------------
+    // 어노테이션 / 진단
+
+    private static AnnotationMirror annotation(Element element, String annotationType) {
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            Element annotationElement = mirror.getAnnotationType().asElement();
+            if (((TypeElement) annotationElement).getQualifiedName().contentEquals(annotationType)) {
+                return mirror;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 지정하지 않은 속성은 어노테이션 선언의 기본값
+     */
+    private String stringValue(AnnotationMirror mirror, String name) {
+        AnnotationValue value = valueOf(mirror, name);
+        return value != null ? String.valueOf(value.getValue()) : "";
+    }
+
+    private String enumValue(AnnotationMirror mirror, String name) {
+        AnnotationValue value = valueOf(mirror, name);
+        return value != null && value.getValue() instanceof VariableElement
+                ? ((VariableElement) value.getValue()).getSimpleName().toString()
+                : null;
+    }
+
+    private AnnotationValue valueOf(AnnotationMirror mirror, String name) {
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry
+                : elements.getElementValuesWithDefaults(mirror).entrySet()) {
+            if (entry.getKey().getSimpleName().contentEquals(name)) {
+                return entry.getValue();
+            }
+        }
+        return null;
+    }
+
+    private void error(Element element, AnnotationMirror annotation, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element, annotation);
+    }
+
+    /**
+     * 생성하지 않음 (런타임에서 기존 AOP 가 처리)
+     */
+    private String skip(Element element, AnnotationMirror annotation, String reason) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE,
+                "Not generated, falls back to AOP - " + reason, element, annotation);
+        return null;
+    }
+
+    private String warnSkip(Element element, AnnotationMirror annotation, String reason) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                "Not generated, falls back to AOP - " + reason, element, annotation);
+        return null;
+    }
+}
@@ -0,0 +1,259 @@
+package com.example.admission;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 모든 엔드포인트가 공유하는 우선순위 기반 입장 제어
+ *
+ * - 동시 실행 수: 우선순위마다 maxConcurrent x share 까지만 실행할 수 있습니다.
+ *   (기본값 CRITICAL 1.0, DEFAULT 0.8, SHEDDABLE 0.5 이면 마지막 20% 는 CRITICAL, 50% 는 DEFAULT 이상만 사용)
+ * - 대기열: 자리가 없으면 targetQueueDelay 까지 기다리고, 자리가 나면 높은 우선순위부터(같은 우선순위는 먼저 온 순서) 실행합니다.
+ * - 거절: 부하 = max(최근 대기 시간(EWMA) / targetQueueDelay, 같거나 높은 우선순위의 대기 수 / maxQueue) 가
+ *   우선순위의 share 이상이면 기다리지 않고 바로 거절합니다. 부하가 오르면 SHEDDABLE, DEFAULT, CRITICAL 순서로 거절됩니다.
+ *
+ * 지연 시간 신호로 실행 시간 대신 대기 시간을 사용합니다. 엔드포인트마다 평소 실행 시간이 크게 달라서(slow API 는 수 초)
+ * 실행 시간으로는 과부하와 원래 느린 호출을 구분할 수 없기 때문입니다. 자리가 있어 바로 실행한 호출은 대기 시간 0 으로 기록되어
+ * 부하가 풀리면 EWMA 도 내려갑니다.
+ *
+ * 기다리는 요청이 없고 자리가 있으면 잠금 없이 CAS 로 자리를 얻고 반환합니다. 잠금은 대기열에 들어가거나
+ * 대기 중인 요청에 자리를 넘길 때만 사용합니다. (과부하가 아니면 호출 경로에서 잠그지 않음)
+ */
+public class AdmissionController {
+
+    /** 대기 시간 / 거절률 EWMA 가중치 */
+    private static final double ALPHA = 0.05;
+    /** 이 값보다 작아진 EWMA 는 0 으로 보고 더 갱신하지 않음 (부하가 없을 때 공유 변수에 쓰지 않도록) */
+    private static final double MIN_QUEUE_DELAY_NANOS = 1_000;
+    private static final double MIN_SHED_RATE = 0.001;
+    private static final Priority[] PRIORITIES = Priority.values();
+
+    private final int maxConcurrent;
+    private final int maxQueue;
+    private final long targetQueueDelayNanos;
+    private final double[] shares = new double[PRIORITIES.length];
+    private final int[] limits = new int[PRIORITIES.length];
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    // 대기열에 있는 요청 수 (0 이 아니면 새 요청도 잠금 경로로 감)
+    private final AtomicInteger waiting = new AtomicInteger();
+    // 대기열 (lock 으로 보호)
+    private final ReentrantLock lock = new ReentrantLock();
+    private final List<ArrayDeque<Waiter>> queues = new ArrayList<>(PRIORITIES.length);
+    // double 값의 비트 (Double.doubleToRawLongBits)
+    private final AtomicLong queueDelayNanos = new AtomicLong();
+    private final AtomicLong[] recentShedRate = new AtomicLong[PRIORITIES.length];
+
+    private final LongAdder[] admitted = new LongAdder[PRIORITIES.length];
+    private final LongAdder[] rejected = new LongAdder[PRIORITIES.length];
+
+    /**
+     * @param shares 우선순위별 최대 동시 실행 비율이자 거절을 시작하는 부하 (0 ~ 1, 없는 우선순위는 1)
+     */
+    public AdmissionController(int maxConcurrent, int maxQueue, long targetQueueDelayMillis, Map<Priority, Double> shares) {
+        this.maxConcurrent = Math.max(1, maxConcurrent);
+        this.maxQueue = Math.max(1, maxQueue);
+        this.targetQueueDelayNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, targetQueueDelayMillis));
+        for (Priority priority : PRIORITIES) {
+            int i = priority.ordinal();
+            Double share = shares.get(priority);
+            this.shares[i] = share != null ? Math.min(1, Math.max(0, share)) : 1;
+            this.limits[i] = Math.max(1, (int) Math.round(this.maxConcurrent * this.shares[i]));
+            this.queues.add(new ArrayDeque<>());
+            this.recentShedRate[i] = new AtomicLong();
+            this.admitted[i] = new LongAdder();
+            this.rejected[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * 실행 자리를 얻습니다. 얻었으면 호출이 끝난 뒤 반드시 release() 를 호출해야 합니다.
+     *
+     * @throws AdmissionRejectedException 부하가 우선순위의 share 이상이거나 targetQueueDelay 안에 자리가 나지 않음
+     */
+    public void acquire(Priority priority) {
+        int p = priority.ordinal();
+        if (waiting.get() == 0 && tryAcquire(p)) {
+            admitted(p, 0);
+            return;
+        }
+        lock.lock();
+        try {
+            // 대기 수를 먼저 올린 뒤 다시 시도 (release() 는 자리를 반환한 뒤 대기 수를 보므로 둘 중 하나는 상대를 봄)
+            waiting.incrementAndGet();
+            if (tryAcquire(p)) {
+                waiting.decrementAndGet();
+                admitted(p, 0);
+                return;
+            }
+            double load = load(p);
+            if (load >= shares[p]) {
+                waiting.decrementAndGet();
+                reject(p);
+                throw new AdmissionRejectedException(priority, String.format("load %.2f >= %.2f", load, shares[p]));
+            }
+            Waiter waiter = new Waiter(lock.newCondition());
+            queues.get(p).addLast(waiter);
+            long startedAt = System.nanoTime();
+            long remaining = targetQueueDelayNanos;
+            boolean interrupted = false;
+            while (!waiter.granted && remaining > 0 && !interrupted) {
+                try {
+                    remaining = waiter.condition.awaitNanos(remaining);
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+            long waited = System.nanoTime() - startedAt;
+            if (waiter.granted) {
+                admitted(p, waited);
+                return;
+            }
+            queues.get(p).remove(waiter);
+            waiting.decrementAndGet();
+            ewma(queueDelayNanos, waited, MIN_QUEUE_DELAY_NANOS);
+            reject(p);
+            throw new AdmissionRejectedException(priority, "no capacity within " + TimeUnit.NANOSECONDS.toMillis(targetQueueDelayNanos) + "ms");
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 실행 자리를 반환하고, 기다리는 요청이 있으면 높은 우선순위부터 자리를 넘깁니다.
+     */
+    public void release() {
+        inFlight.decrementAndGet();
+        if (waiting.get() == 0) {
+            return;
+        }
+        lock.lock();
+        try {
+            for (int p = 0; p < queues.size(); p++) {
+                Waiter next = queues.get(p).peekFirst();
+                if (next != null && tryAcquire(p)) {
+                    queues.get(p).pollFirst();
+                    waiting.decrementAndGet();
+                    next.granted = true;
+                    next.condition.signal();
+                    return;
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** 실행 수가 우선순위의 한도보다 작으면 1 올림 */
+    private boolean tryAcquire(int p) {
+        int limit = limits[p];
+        for (;;) {
+            int current = inFlight.get();
+            if (current >= limit) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /** 같거나 높은 우선순위의 대기 수와 최근 대기 시간 중 큰 쪽의 부하 (lock 안에서 호출) */
+    private double load(int p) {
+        int waiters = 0;
+        for (int i = 0; i <= p; i++) {
+            waiters += queues.get(i).size();
+        }
+        return Math.max((double) waiters / maxQueue, get(queueDelayNanos) / targetQueueDelayNanos);
+    }
+
+    private void admitted(int p, long waitedNanos) {
+        admitted[p].increment();
+        ewma(queueDelayNanos, waitedNanos, MIN_QUEUE_DELAY_NANOS);
+        ewma(recentShedRate[p], 0, MIN_SHED_RATE);
+    }
+
+    private void reject(int p) {
+        rejected[p].increment();
+        ewma(recentShedRate[p], 1, MIN_SHED_RATE);
+    }
+
+    private static double get(AtomicLong bits) {
+        return Double.longBitsToDouble(bits.get());
+    }
+
+    /** EWMA 갱신 (값이 0 이고 표본도 0 이면 쓰지 않음, floor 보다 작아지면 0) */
+    private static void ewma(AtomicLong bits, double sample, double floor) {
+        for (;;) {
+            long current = bits.get();
+            double value = Double.longBitsToDouble(current);
+            if (value == 0 && sample == 0) {
+                return;
+            }
+            double next = value + ALPHA * (sample - value);
+            if (next < floor) {
+                next = 0;
+            }
+            if (bits.compareAndSet(current, Double.doubleToRawLongBits(next))) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 현재 실행 / 대기 수, 최근 대기 시간, 우선순위별 허용 / 거절 건수와 거절률
+     */
+    public Map<String, Object> snapshot() {
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        Map<Priority, Map<String, Object>> priorities = new EnumMap<>(Priority.class);
+        lock.lock();
+        try {
+            snapshot.put("maxConcurrent", maxConcurrent);
+            snapshot.put("inFlight", inFlight.get());
+            snapshot.put("queueDelayMillis", Math.round(get(queueDelayNanos) / 1e5) / 10.0);
+            snapshot.put("targetQueueDelayMillis", TimeUnit.NANOSECONDS.toMillis(targetQueueDelayNanos));
+            for (Priority priority : PRIORITIES) {
+                int p = priority.ordinal();
+                long admittedCount = admitted[p].sum();
+                long rejectedCount = rejected[p].sum();
+                long total = admittedCount + rejectedCount;
+                Map<String, Object> stats = new LinkedHashMap<>();
+                stats.put("share", shares[p]);
+                stats.put("maxConcurrent", limits[p]);
+                stats.put("waiting", queues.get(p).size());
+                stats.put("load", Math.round(load(p) * 100) / 100.0);
+                stats.put("admitted", admittedCount);
+                stats.put("rejected", rejectedCount);
+                stats.put("shedRate", total == 0 ? 0.0 : Math.round(rejectedCount * 1000.0 / total) / 10.0);
+                stats.put("recentShedRate", Math.round(get(recentShedRate[p]) * 1000) / 10.0);
+                priorities.put(priority, stats);
+            }
+        } finally {
+            lock.unlock();
+        }
+        snapshot.put("priorities", priorities);
+        return snapshot;
+    }
+
+    private static final class Waiter {
+        final Condition condition;
+        boolean granted;
+
+        Waiter(Condition condition) {
+            this.condition = condition;
+        }
+    }
+}
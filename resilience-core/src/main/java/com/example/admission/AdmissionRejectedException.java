@@ -0,0 +1,19 @@
+package com.example.admission;
+
+/**
+ * 과부하로 요청을 받지 않음 (503 으로 응답)
+ * 거절은 과부하 중에 자주 발생하므로 스택 트레이스를 만들지 않습니다.
+ */
+public class AdmissionRejectedException extends RuntimeException {
+
+    private final Priority priority;
+
+    public AdmissionRejectedException(Priority priority, String reason) {
+        super(reason, null, false, false);
+        this.priority = priority;
+    }
+
+    public Priority getPriority() {
+        return priority;
+    }
+}
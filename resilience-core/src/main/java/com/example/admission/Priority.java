@@ -0,0 +1,36 @@
+package com.example.admission;
+
+import java.util.Locale;
+
+/**
+ * 요청 우선순위 (과부하 시 낮은 우선순위부터 거절)
+ */
+public enum Priority {
+    /** 마지막까지 처리해야 하는 요청 */
+    CRITICAL,
+    /** 어노테이션이나 헤더가 없는 요청 */
+    DEFAULT,
+    /** 과부하 시 가장 먼저 거절해도 되는 요청 */
+    SHEDDABLE;
+
+    /**
+     * 헤더 값(대소문자 무시)을 우선순위로 변환합니다. 알 수 없는 값이면 null
+     */
+    public static Priority parse(String value) {
+        if (value == null || value.trim().isEmpty()) {
+            return null;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 두 우선순위 중 낮은 쪽 (요청 헤더는 어노테이션의 우선순위를 낮출 수만 있음)
+     */
+    public static Priority lower(Priority a, Priority b) {
+        return a.compareTo(b) >= 0 ? a : b;
+    }
+}
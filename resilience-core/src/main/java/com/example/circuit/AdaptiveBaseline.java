@@ -0,0 +1,332 @@
+package com.example.circuit;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 서킷 하나의 평소 오류율 / 지연 시간 기준선(EWMA)과, 현재 윈도우가 기준선에서 벗어났는지 판단
+ *
+ * - 오류율 기준선: 호출 결과(실패 1, 성공 0)의 EWMA
+ *   기준선 오류율 p 에서 윈도우 호출 n 개 중 그만큼 실패할 확률이 sensitivity(표준편차 배수)에 해당하는 유의 수준보다 작으면
+ *   벗어난 것으로 봅니다. (이항분포, n 이 크면 p + sensitivity x sqrt(p(1-p)/n) 정규 근사) 임계치는 [minFailureRate, maxFailureRate] 로 제한
+ * - 지연 시간 기준선: 성공한 호출 지연 시간의 EWMA 평균 / 분산
+ *   느린 호출 기준 = 평균 + sensitivity x 표준편차 를 [minSlowMillis, maxSlowMillis] 로 제한하고,
+ *   최근 latencyWindow 개 호출 중 기준보다 느린 비율이 slowCallRate 를 넘으면 벗어난 것으로 판단
+ * - 벗어난 윈도우의 호출은 기준선에 반영하지 않습니다. (장애 중에 기준선이 따라 올라가지 않도록)
+ * - warmupCalls 개의 호출을 학습하기 전까지는 판단하지 않습니다. (고정 임계치만 동작)
+ * - record 는 잠그지 않고 호출마다 일정한 일만 합니다. (카운터 증가, 지연 시간 윈도우의 한 칸 교체)
+ *   기준선 갱신, 느린 호출 기준과 윈도우의 느린 호출 수 재계산은 각 모듈이 주기적으로 호출하는 recompute 에서 합니다.
+ *
+ * 최대 임계치는 기존 고정 설정값이므로, 적응형 판단은 고정 설정보다 늦게 열리는 일이 없습니다.
+ */
+public class AdaptiveBaseline {
+
+    /** 이 호출 수까지는 이항분포로 정확히 계산하고, 넘으면 정규 근사 사용 */
+    private static final int EXACT_BINOMIAL_MAX_CALLS = 200;
+
+    /** 실행 시간을 알 수 없는 호출 (지연 시간 윈도우에 넣지 않음) */
+    public static final long UNKNOWN_LATENCY = -1;
+
+    /**
+     * 판단에 사용하는 값 (호출마다 각 모듈의 서킷 설정에서 읽음)
+     */
+    public static final class Limits {
+        /** 오류율 임계치 하한 / 상한 (%) */
+        final double minFailureRate;
+        final double maxFailureRate;
+        /** 느린 호출 기준 하한 / 상한 (ms) */
+        final long minSlowMillis;
+        final long maxSlowMillis;
+        /** 느린 호출 비율 임계치 (%) */
+        final double slowCallRate;
+        /** 기준선에서 몇 표준편차(표준 오차)만큼 벗어나면 열지 */
+        final double sensitivity;
+        /** EWMA 가 반영하는 대략의 호출 수 (alpha = 1 / baselineCalls) */
+        final int baselineCalls;
+        final int warmupCalls;
+        /** 오류율 / 느린 호출 비율을 판단하는 최소 호출 수 */
+        final int minimumCalls;
+
+        public Limits(double minFailureRate, double maxFailureRate, long minSlowMillis, long maxSlowMillis,
+                      double slowCallRate, double sensitivity, int baselineCalls, int warmupCalls, int minimumCalls) {
+            this.minFailureRate = minFailureRate;
+            this.maxFailureRate = Math.max(minFailureRate, maxFailureRate);
+            this.minSlowMillis = minSlowMillis;
+            this.maxSlowMillis = Math.max(minSlowMillis, maxSlowMillis);
+            this.slowCallRate = slowCallRate;
+            this.sensitivity = sensitivity;
+            this.baselineCalls = Math.max(1, baselineCalls);
+            this.warmupCalls = warmupCalls;
+            this.minimumCalls = Math.max(1, minimumCalls);
+        }
+    }
+
+    // 판단에 사용하는 기준선 (recompute 때마다 새로 만듦)
+    private volatile Baseline baseline = Baseline.INITIAL;
+
+    // 마지막 recompute 이후 학습할 호출 (벗어나지 않은 호출만)
+    private final LongAdder pendingCalls = new LongAdder();
+    private final LongAdder pendingFailures = new LongAdder();
+    private final LongAdder pendingLatencyCount = new LongAdder();
+    private final DoubleAdder pendingLatencySum = new DoubleAdder();
+    private final DoubleAdder pendingLatencySquares = new DoubleAdder();
+    private final LongAdder recorded = new LongAdder();
+
+    // 최근 latencyWindow 개 호출의 실행 시간과 그중 기준선의 느린 호출 기준보다 느린 수
+    private final AtomicLongArray latencies;
+    private final AtomicLong nextLatency = new AtomicLong();
+    private final AtomicInteger latencyCount = new AtomicInteger();
+    private final AtomicInteger slowCount = new AtomicInteger();
+
+    // 누적된 기준선 (recompute 안에서만 갱신)
+    private long learnedCalls;
+    private long learnedLatencies;
+    private double failureMean;
+    private double latencyMean;
+    private double latencyVariance;
+
+    // 마지막 판단 결과 (조회용, 동기화하지 않음)
+    private double failureThreshold = Double.NaN;
+    private double windowFailureRate = Double.NaN;
+    private double windowSlowCallRate = Double.NaN;
+    private long trips;
+    private String lastTrip;
+
+    public AdaptiveBaseline(int latencyWindow) {
+        this.latencies = new AtomicLongArray(Math.max(1, latencyWindow));
+        for (int i = 0; i < latencies.length(); i++) {
+            latencies.set(i, UNKNOWN_LATENCY);
+        }
+    }
+
+    /**
+     * 호출 결과를 기록하고 현재 윈도우가 기준선에서 벗어났는지 판단합니다.
+     * 잠그지 않으며, 기준선은 recompute 를 호출할 때까지 바뀌지 않습니다.
+     *
+     * @param windowFailureRate 서킷 윈도우의 오류율 (%)
+     * @param windowCalls       서킷 윈도우의 호출 수
+     * @return 벗어났으면 그 이유, 아니면 null
+     */
+    public String record(boolean failure, long latencyMillis, double windowFailureRate, long windowCalls,
+                         Limits limits) {
+        recorded.increment();
+        Baseline current = baseline;
+        if (latencyMillis != UNKNOWN_LATENCY) {
+            addLatency(latencyMillis, current.slowThresholdMillis);
+        }
+
+        String deviation = null;
+        if (current.learnedCalls > limits.warmupCalls) {
+            this.windowFailureRate = windowFailureRate;
+            if (windowCalls >= limits.minimumCalls) {
+                double threshold = current.failureThreshold(windowCalls, limits);
+                failureThreshold = threshold;
+                if (windowFailureRate > threshold) {
+                    deviation = String.format("failure rate %.1f%% > adaptive threshold %.1f%% (baseline %.1f%%)",
+                            windowFailureRate, threshold, current.failureMean * 100);
+                }
+            }
+            int calls = latencyCount.get();
+            double slowCallRate = calls == 0 ? 0 : slowCount.get() * 100.0 / calls;
+            windowSlowCallRate = slowCallRate;
+            if (deviation == null && calls >= limits.minimumCalls && slowCallRate > limits.slowCallRate) {
+                deviation = String.format("%.1f%% of calls slower than adaptive threshold %.0f ms (baseline %.0f ms)",
+                        slowCallRate, current.slowThresholdMillis, current.latencyMean);
+            }
+        }
+        if (deviation == null) {
+            pendingCalls.increment();
+            if (failure) {
+                pendingFailures.increment();
+            } else if (latencyMillis != UNKNOWN_LATENCY) {
+                pendingLatencyCount.increment();
+                pendingLatencySum.add(latencyMillis);
+                pendingLatencySquares.add((double) latencyMillis * latencyMillis);
+            }
+        }
+        return deviation;
+    }
+
+    private void addLatency(long latencyMillis, double slowThresholdMillis) {
+        int slot = (int) (nextLatency.getAndIncrement() % latencies.length());
+        long previous = latencies.getAndSet(slot, latencyMillis);
+        if (previous == UNKNOWN_LATENCY) {
+            latencyCount.incrementAndGet();
+        }
+        int delta = (latencyMillis > slowThresholdMillis ? 1 : 0)
+                - (previous != UNKNOWN_LATENCY && previous > slowThresholdMillis ? 1 : 0);
+        if (delta != 0) {
+            slowCount.addAndGet(delta);
+        }
+    }
+
+    /**
+     * 마지막 recompute 이후 학습할 호출을 기준선에 반영하고, 느린 호출 기준과 최근 호출의 느린 수를 다시 계산합니다.
+     * 각 모듈이 주기적으로(1초) 호출합니다.
+     */
+    public synchronized void recompute(Limits limits) {
+        long calls = pendingCalls.sumThenReset();
+        long failures = pendingFailures.sumThenReset();
+        long latencyCalls = pendingLatencyCount.sumThenReset();
+        double latencySum = pendingLatencySum.sumThenReset();
+        double latencySquares = pendingLatencySquares.sumThenReset();
+
+        // 처음에는 누적 평균으로 빠르게 수렴한 뒤 EWMA 로 전환 (호출 n 개를 한 번에 반영)
+        if (calls > 0) {
+            learnedCalls += calls;
+            double weight = weight(calls, learnedCalls, limits.baselineCalls);
+            failureMean += weight * ((double) failures / calls - failureMean);
+        }
+        if (latencyCalls > 0) {
+            learnedLatencies += latencyCalls;
+            double weight = weight(latencyCalls, learnedLatencies, limits.baselineCalls);
+            double mean = latencySum / latencyCalls;
+            double variance = Math.max(0, latencySquares / latencyCalls - mean * mean);
+            double delta = mean - latencyMean;
+            latencyMean += weight * delta;
+            latencyVariance = (1 - weight) * (latencyVariance + weight * delta * delta) + weight * variance;
+        }
+
+        double slowThreshold = slowThresholdMillis(limits);
+        baseline = new Baseline(learnedCalls, failureMean, latencyMean, latencyVariance, slowThreshold);
+        int count = 0;
+        int slow = 0;
+        for (int i = 0; i < latencies.length(); i++) {
+            long latency = latencies.get(i);
+            if (latency != UNKNOWN_LATENCY) {
+                count++;
+                if (latency > slowThreshold) {
+                    slow++;
+                }
+            }
+        }
+        latencyCount.set(count);
+        slowCount.set(slow);
+    }
+
+    /** 호출 n 개를 한 번에 반영할 때의 가중치 (호출마다 max(1 / 누적 수, 1 / baselineCalls) 로 갱신한 것과 같게) */
+    private static double weight(long calls, long learned, int baselineCalls) {
+        return Math.max((double) calls / learned, 1 - Math.pow(1 - 1.0 / baselineCalls, calls));
+    }
+
+    /**
+     * 서킷을 열었을 때 호출합니다. 다시 닫힌 뒤 이전 윈도우의 느린 호출로 곧바로 다시 열리지 않도록 지연 시간 윈도우를 비웁니다.
+     */
+    public synchronized void tripped(String reason) {
+        trips++;
+        lastTrip = reason;
+        for (int i = 0; i < latencies.length(); i++) {
+            latencies.set(i, UNKNOWN_LATENCY);
+        }
+        nextLatency.set(0);
+        latencyCount.set(0);
+        slowCount.set(0);
+    }
+
+    /**
+     * 표준정규분포에서 z 이상일 확률 (Abramowitz-Stegun 7.1.26 근사)
+     */
+    static double upperTail(double z) {
+        double x = Math.abs(z) / Math.sqrt(2);
+        double t = 1 / (1 + 0.3275911 * x);
+        double erfc = t * (0.254829592 + t * (-0.284496736 + t * (1.421413741 + t * (-1.453152027 + t * 1.061405429))))
+                * Math.exp(-x * x);
+        return z >= 0 ? erfc / 2 : 1 - erfc / 2;
+    }
+
+    private double slowThresholdMillis(Limits limits) {
+        double threshold = latencyMean + limits.sensitivity * Math.sqrt(latencyVariance);
+        return Math.min(limits.maxSlowMillis, Math.max(limits.minSlowMillis, threshold));
+    }
+
+    public synchronized Map<String, Object> snapshot(Limits limits) {
+        Baseline current = baseline;
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        snapshot.put("samples", recorded.sum());
+        snapshot.put("warmedUp", current.learnedCalls > limits.warmupCalls);
+        snapshot.put("baselineFailureRate", round(current.failureMean * 100));
+        snapshot.put("failureRateThreshold", round(failureThreshold));
+        snapshot.put("failureRateBounds", new double[]{limits.minFailureRate, limits.maxFailureRate});
+        snapshot.put("windowFailureRate", round(windowFailureRate));
+        snapshot.put("baselineLatencyMillis", round(current.latencyMean));
+        snapshot.put("latencyStdDevMillis", round(Math.sqrt(current.latencyVariance)));
+        snapshot.put("slowCallThresholdMillis", round(current.slowThresholdMillis));
+        snapshot.put("slowCallThresholdBounds", new long[]{limits.minSlowMillis, limits.maxSlowMillis});
+        snapshot.put("windowSlowCallRate", round(windowSlowCallRate));
+        snapshot.put("trips", trips);
+        snapshot.put("lastTrip", lastTrip);
+        return snapshot;
+    }
+
+    private static double round(double value) {
+        return Double.isNaN(value) ? -1 : Math.round(value * 10) / 10.0;
+    }
+
+    /**
+     * recompute 시점의 기준선 (오류율 임계치는 윈도우 호출 수별로 처음 필요할 때 계산해 다음 recompute 까지 재사용)
+     */
+    private static final class Baseline {
+
+        static final Baseline INITIAL = new Baseline(0, 0, 0, 0, Double.NaN);
+
+        final long learnedCalls;
+        final double failureMean;
+        final double latencyMean;
+        final double latencyVariance;
+        final double slowThresholdMillis;
+        private final double[] failureThresholds = new double[EXACT_BINOMIAL_MAX_CALLS + 1];
+
+        Baseline(long learnedCalls, double failureMean, double latencyMean, double latencyVariance,
+                 double slowThresholdMillis) {
+            this.learnedCalls = learnedCalls;
+            this.failureMean = failureMean;
+            this.latencyMean = latencyMean;
+            this.latencyVariance = latencyVariance;
+            this.slowThresholdMillis = slowThresholdMillis;
+            Arrays.fill(failureThresholds, Double.NaN);
+        }
+
+        double failureThreshold(long windowCalls, Limits limits) {
+            if (windowCalls > 0 && windowCalls <= EXACT_BINOMIAL_MAX_CALLS) {
+                double threshold = failureThresholds[(int) windowCalls];
+                if (Double.isNaN(threshold)) {
+                    threshold = computeFailureThreshold(windowCalls, limits);
+                    failureThresholds[(int) windowCalls] = threshold;
+                }
+                return threshold;
+            }
+            return computeFailureThreshold(windowCalls, limits);
+        }
+
+        private double computeFailureThreshold(long windowCalls, Limits limits) {
+            double threshold;
+            if (windowCalls <= 0 || failureMean >= 1) {
+                threshold = limits.maxFailureRate;
+            } else if (windowCalls <= EXACT_BINOMIAL_MAX_CALLS) {
+                // 실패 수가 k 이상일 확률 P(X >= k) 가 sensitivity 에 해당하는 유의 수준보다 작아지는 가장 작은 k
+                // 윈도우의 오류율이 (k - 1) / n 을 넘으면 (= 실패 k 개 이상) 벗어난 것으로 판단
+                int n = (int) windowCalls;
+                double alpha = upperTail(limits.sensitivity);
+                double pmf = Math.pow(1 - failureMean, n);
+                double tail = 1;
+                int k = 0;
+                while (k < n && tail - pmf >= alpha) {
+                    tail -= pmf;
+                    pmf = pmf * (n - k) / (k + 1) * failureMean / (1 - failureMean);
+                    k++;
+                }
+                threshold = (tail - pmf >= alpha ? n : k) * 100.0 / n;
+            } else {
+                double standardError = Math.sqrt(failureMean * (1 - failureMean) / windowCalls);
+                threshold = (failureMean + limits.sensitivity * standardError) * 100;
+            }
+            return Math.min(limits.maxFailureRate, Math.max(limits.minFailureRate, threshold));
+        }
+    }
+}
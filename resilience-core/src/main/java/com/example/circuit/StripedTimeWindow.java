@@ -0,0 +1,201 @@
+package com.example.circuit;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 잠금 없이 기록하는 시간 기반 슬라이딩 윈도우 (스레드별 stripe x 시간 버킷)
+ *
+ * 기본 윈도우는 호출마다 하나의 윈도우를 잠그고 갱신하므로, 코어가 많고 호출이 잦은 서킷에서는 모든 호출이 한 줄로 섭니다.
+ * 이 윈도우는 스레드마다 다른 stripe(캐시 라인이 겹치지 않도록 띄운 AtomicLongArray 구간)의 현재 버킷 카운터만 증가시키고,
+ * 판단할 때(evaluate) 모든 stripe 의 유효한 버킷을 합산합니다.
+ *
+ * - 기록: 버킷 키 비교 + AtomicLongArray 증가 1 ~ 4회 (객체 할당, 잠금 없음)
+ * - 버킷 키 = (세대 << 44) | (현재 시각 / 버킷 길이). 키가 다르면 CAS 로 버킷을 비우고 다시 사용합니다.
+ *   버킷이 바뀌는 순간 같은 stripe 에 동시에 기록된 호출 일부가 빠질 수 있습니다. (근사)
+ * - reset(): 세대를 올려 이전 기록을 모두 무효로 만듭니다. (배열을 지우지 않음)
+ * - 합산 결과는 판단 시점의 근사치이며, 합산 비용을 줄여야 하면 tryStartEvaluation() 으로 판단 간격을 둡니다.
+ */
+public class StripedTimeWindow {
+
+    private static final int KEY = 0;
+    private static final int CALLS = 1;
+    private static final int FAILURES = 2;
+    private static final int SLOW = 3;
+    private static final int SLOW_FAILURES = 4;
+    private static final int FIELDS = 5;
+    /** stripe 사이 간격 (long 16개 = 128 바이트, 인접 캐시 라인 프리페치까지 피함) */
+    private static final int PADDING = 16;
+    private static final int EPOCH_BITS = 44;
+    private static final long EPOCH_MASK = (1L << EPOCH_BITS) - 1;
+    private static final long GENERATION_MASK = (1L << (63 - EPOCH_BITS)) - 1;
+
+    private final int stripeMask;
+    private final int buckets;
+    private final long bucketMillis;
+    private final int stripeLength;
+    private final AtomicLongArray cells;
+    private final AtomicLong nextEvaluation = new AtomicLong();
+    private volatile long generation;
+
+    /**
+     * @param windowMillis 윈도우 길이
+     * @param buckets      윈도우를 나누는 버킷 수 (버킷 길이만큼씩 오래된 호출이 빠짐)
+     * @param stripes      stripe 수 (2의 거듭제곱으로 올림, 0 이하면 코어 수 x 2)
+     */
+    public StripedTimeWindow(long windowMillis, int buckets, int stripes) {
+        int requested = stripes > 0 ? stripes : Runtime.getRuntime().availableProcessors() * 2;
+        int stripeCount = requested <= 1 ? 1 : Integer.highestOneBit(requested - 1) << 1;
+        this.stripeMask = stripeCount - 1;
+        this.buckets = Math.max(1, buckets);
+        this.bucketMillis = Math.max(1, windowMillis / this.buckets);
+        this.stripeLength = this.buckets * FIELDS + PADDING;
+        this.cells = new AtomicLongArray(stripeCount * stripeLength + PADDING);
+    }
+
+    /**
+     * 호출 결과 1건 기록
+     */
+    public void record(boolean failure, boolean slow) {
+        int base = currentBucket();
+        cells.getAndIncrement(base + CALLS);
+        if (failure) {
+            cells.getAndIncrement(base + FAILURES);
+        }
+        if (slow) {
+            cells.getAndIncrement(base + SLOW);
+            if (failure) {
+                cells.getAndIncrement(base + SLOW_FAILURES);
+            }
+        }
+    }
+
+    /**
+     * 현재 버킷에 호출 결과를 한꺼번에 더합니다. (서킷 교체 시 이전 윈도우 옮기기)
+     */
+    public void add(long calls, long failures, long slow, long slowFailures) {
+        int base = currentBucket();
+        cells.getAndAdd(base + CALLS, calls);
+        cells.getAndAdd(base + FAILURES, failures);
+        cells.getAndAdd(base + SLOW, slow);
+        cells.getAndAdd(base + SLOW_FAILURES, slowFailures);
+    }
+
+    /**
+     * 모든 stripe 에서 윈도우 안에 있는 현재 세대의 버킷을 합산합니다.
+     */
+    public Snapshot snapshot() {
+        long now = System.currentTimeMillis();
+        long newest = bucketKey(now);
+        long oldest = newest - buckets + 1;
+        long calls = 0;
+        long failures = 0;
+        long slow = 0;
+        long slowFailures = 0;
+        for (int stripe = 0; stripe <= stripeMask; stripe++) {
+            int stripeBase = PADDING + stripe * stripeLength;
+            for (int bucket = 0; bucket < buckets; bucket++) {
+                int base = stripeBase + bucket * FIELDS;
+                long key = cells.get(base + KEY);
+                if (key >= oldest && key <= newest) {
+                    calls += cells.get(base + CALLS);
+                    failures += cells.get(base + FAILURES);
+                    slow += cells.get(base + SLOW);
+                    slowFailures += cells.get(base + SLOW_FAILURES);
+                }
+            }
+        }
+        return new Snapshot(calls, failures, slow, slowFailures);
+    }
+
+    /**
+     * 이전 기록을 모두 무효로 만듭니다. (서킷이 다시 닫힐 때)
+     */
+    public void reset() {
+        generation = (generation + 1) & GENERATION_MASK;
+    }
+
+    /**
+     * 마지막 판단에서 intervalMillis 가 지났으면 한 스레드만 true (나머지는 판단을 건너뜀), 0 이하면 항상 true
+     */
+    public boolean tryStartEvaluation(long intervalMillis) {
+        if (intervalMillis <= 0) {
+            return true;
+        }
+        long now = System.currentTimeMillis();
+        long next = nextEvaluation.get();
+        return now >= next && nextEvaluation.compareAndSet(next, now + intervalMillis);
+    }
+
+    public int getStripes() {
+        return stripeMask + 1;
+    }
+
+    /**
+     * 현재 스레드 stripe 의 현재 버킷 위치 (키가 다르면 CAS 에 성공한 스레드가 버킷을 비움)
+     */
+    private int currentBucket() {
+        long key = bucketKey(System.currentTimeMillis());
+        int base = PADDING + stripe() * stripeLength + (int) ((key & EPOCH_MASK) % buckets) * FIELDS;
+        long current = cells.get(base + KEY);
+        if (current != key && cells.compareAndSet(base + KEY, current, key)) {
+            cells.set(base + CALLS, 0);
+            cells.set(base + FAILURES, 0);
+            cells.set(base + SLOW, 0);
+            cells.set(base + SLOW_FAILURES, 0);
+        }
+        return base;
+    }
+
+    private long bucketKey(long nowMillis) {
+        return (generation << EPOCH_BITS) | ((nowMillis / bucketMillis) & EPOCH_MASK);
+    }
+
+    /**
+     * 스레드 ID 를 섞어 stripe 를 고릅니다. (스레드 풀의 스레드는 대부분 서로 다른 stripe 에 배정)
+     */
+    private int stripe() {
+        long id = Thread.currentThread().getId();
+        return (int) ((id * 0x9E3779B97F4A7C15L) >>> 40) & stripeMask;
+    }
+
+    public static final class Snapshot {
+        private final long calls;
+        private final long failures;
+        private final long slow;
+        private final long slowFailures;
+
+        Snapshot(long calls, long failures, long slow, long slowFailures) {
+            this.calls = calls;
+            this.failures = failures;
+            this.slow = slow;
+            this.slowFailures = slowFailures;
+        }
+
+        public long getCalls() {
+            return calls;
+        }
+
+        public long getFailures() {
+            return failures;
+        }
+
+        public long getSlow() {
+            return slow;
+        }
+
+        public long getSlowFailures() {
+            return slowFailures;
+        }
+
+        /** 실패율 (%) */
+        public float failureRate() {
+            return calls == 0 ? 0 : failures * 100f / calls;
+        }
+
+        /** 느린 호출 비율 (%) */
+        public float slowCallRate() {
+            return calls == 0 ? 0 : slow * 100f / calls;
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.hedge;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 추가 시도(hedge) 비율을 제한하는 토큰 버킷
+ *
+ * 일반 호출마다 budgetPercent/100 만큼 토큰이 쌓이고, hedge 1회에 토큰 1개를 사용합니다.
+ * 따라서 장기적으로 hedge 는 전체 호출의 budgetPercent% 를 넘지 않습니다. (버스트는 maxTokens 개까지)
+ */
+public class HedgeBudget {
+
+    private static final long SCALE = 1000;
+
+    private final long maxMilliTokens;
+    private final AtomicLong milliTokens = new AtomicLong();
+
+    public HedgeBudget(int maxTokens) {
+        this.maxMilliTokens = maxTokens * SCALE;
+    }
+
+    public void deposit(int budgetPercent) {
+        long amount = budgetPercent * SCALE / 100;
+        long current;
+        do {
+            current = milliTokens.get();
+            if (current >= maxMilliTokens) {
+                return;
+            }
+        } while (!milliTokens.compareAndSet(current, Math.min(maxMilliTokens, current + amount)));
+    }
+
+    public boolean tryAcquire() {
+        long current;
+        do {
+            current = milliTokens.get();
+            if (current < SCALE) {
+                return false;
+            }
+        } while (!milliTokens.compareAndSet(current, current - SCALE));
+        return true;
+    }
+
+    public double availableTokens() {
+        return (double) milliTokens.get() / SCALE;
+    }
+}
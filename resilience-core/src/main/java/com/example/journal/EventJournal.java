@@ -0,0 +1,298 @@
+package com.example.journal;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 서킷 상태 전이 / 거절 / 타임아웃 / 샘플링한 호출 결과를 재시작 후에도 남는 링 파일(JournalFile)에 기록하는 저널
+ *
+ * 호출 스레드는 파일에 직접 쓰지 않고 미리 할당한 기본형 배열 링(staging)에 칸을 하나 잡아 값을 채웁니다.
+ * - 칸은 CAS 로 잡고, 채운 뒤 순번을 lazySet 으로 공개합니다. (잠금 / 객체 생성 없음)
+ * - 링이 가득 차면 기다리지 않고 이벤트를 버리고 dropped 에 셉니다. (호출 경로를 막지 않음)
+ * - writer 스레드 하나가 공개된 순서대로 꺼내 파일에 쓰고, 쓸 것이 없으면 1ms 쉽니다.
+ * 상태 전이 / 거절 / 타임아웃은 모두 기록하고, 성공 / 실패는 샘플링 비율만큼만 기록합니다.
+ *
+ * 조회는 가장 최근 레코드부터 거꾸로 읽습니다. 시각은 호출 스레드가 칸을 잡은 뒤에 읽으므로 순번과 시각의 순서가
+ * 약간 다를 수 있어, from 보다 1초 이상 오래된 레코드를 만나면 조회를 끝냅니다.
+ */
+public class EventJournal implements Closeable {
+
+    public static final String CIRCUIT_OPEN = "CIRCUIT_OPEN";
+    public static final String THREAD_POOL = "THREAD_POOL";
+    public static final String SEMAPHORE = "SEMAPHORE";
+    public static final String BULKHEAD = "BULKHEAD";
+
+    /** 실행 시간을 알 수 없음 */
+    public static final int UNKNOWN_DURATION = -1;
+
+    private static final int BATCH = 1024;
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long OUT_OF_ORDER_MILLIS = 1000;
+
+    private final JournalFile file;
+    private final double successSampleRate;
+    private final double failureSampleRate;
+    private final long forceIntervalMillis;
+
+    // staging 링 (칸 = 순번 & mask)
+    private final int mask;
+    private final long[] times;
+    private final int[] names;
+    private final int[] details;
+    private final int[] durations;
+    private final JournalEventType[] types;
+    private final AtomicLongArray published;
+    private final AtomicLong claimed = new AtomicLong();
+    private final AtomicLong drained = new AtomicLong();
+    private final LongAdder dropped = new LongAdder();
+
+    private final Thread writer;
+    private volatile boolean running = true;
+    // 파일에 쓴 다음 순번 (조회 시작점)
+    private volatile long written;
+
+    /**
+     * @param stagingCapacity   staging 링 크기 (2의 거듭제곱으로 올림, writer 가 잠시 멈춰도 버티는 이벤트 수)
+     * @param successSampleRate 성공을 기록하는 비율 (0 ~ 1)
+     * @param failureSampleRate 실패를 기록하는 비율 (0 ~ 1)
+     * @param forceIntervalMillis 변경된 페이지를 디스크에 쓰는 주기 (0 이면 종료할 때만)
+     */
+    public EventJournal(JournalFile file, int stagingCapacity, double successSampleRate, double failureSampleRate,
+                        long forceIntervalMillis) {
+        if (stagingCapacity <= 0 || stagingCapacity > 1 << 30) {
+            throw new IllegalArgumentException("stagingCapacity must be between 1 and 2^30: " + stagingCapacity);
+        }
+        int size = Integer.highestOneBit(stagingCapacity);
+        if (size < stagingCapacity) {
+            size <<= 1;
+        }
+        this.file = file;
+        this.successSampleRate = successSampleRate;
+        this.failureSampleRate = failureSampleRate;
+        this.forceIntervalMillis = forceIntervalMillis;
+        this.mask = size - 1;
+        this.times = new long[size];
+        this.names = new int[size];
+        this.details = new int[size];
+        this.durations = new int[size];
+        this.types = new JournalEventType[size];
+        this.published = new AtomicLongArray(size);
+        this.written = file.getNextSequence();
+
+        this.writer = new Thread(this::drain, "event-journal-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    public void transition(String breaker, String toState) {
+        append(JournalEventType.TRANSITION, breaker, toState, UNKNOWN_DURATION);
+    }
+
+    public void rejected(String breaker, String reason) {
+        append(JournalEventType.REJECTED, breaker, reason, UNKNOWN_DURATION);
+    }
+
+    public void timeout(String breaker, long durationMicros) {
+        append(JournalEventType.TIMEOUT, breaker, null, durationMicros);
+    }
+
+    /**
+     * @param cause 예외 클래스 이름 (없으면 null)
+     */
+    public void failure(String breaker, String cause, long durationMicros) {
+        if (sampled(failureSampleRate)) {
+            append(JournalEventType.FAILURE, breaker, cause, durationMicros);
+        }
+    }
+
+    public void success(String breaker, long durationMicros) {
+        if (sampled(successSampleRate)) {
+            append(JournalEventType.SUCCESS, breaker, null, durationMicros);
+        }
+    }
+
+    private static boolean sampled(double rate) {
+        return rate >= 1.0 || (rate > 0.0 && ThreadLocalRandom.current().nextDouble() < rate);
+    }
+
+    /**
+     * staging 링에 한 칸을 잡아 기록합니다. 가득 찼으면 버림
+     */
+    private void append(JournalEventType type, String breaker, String detail, long durationMicros) {
+        int name = file.id(breaker);
+        int detailId = file.id(detail);
+        long sequence;
+        do {
+            sequence = claimed.get();
+            if (sequence - drained.get() > mask) {
+                dropped.increment();
+                return;
+            }
+        } while (!claimed.compareAndSet(sequence, sequence + 1));
+
+        int slot = (int) sequence & mask;
+        times[slot] = System.currentTimeMillis();
+        names[slot] = name;
+        details[slot] = detailId;
+        durations[slot] = durationMicros < 0 ? UNKNOWN_DURATION : (int) Math.min(durationMicros, Integer.MAX_VALUE);
+        types[slot] = type;
+        published.lazySet(slot, sequence + 1);
+    }
+
+    /**
+     * writer 스레드: 공개된 칸을 순서대로 파일에 씀
+     */
+    private void drain() {
+        long next = drained.get();
+        long sequence = written;
+        long forcedAt = System.currentTimeMillis();
+        boolean dirty = false;
+        while (true) {
+            int count = 0;
+            while (count < BATCH) {
+                int slot = (int) next & mask;
+                if (published.get(slot) != next + 1) {
+                    break;
+                }
+                file.write(sequence++, times[slot], names[slot], details[slot], durations[slot], types[slot]);
+                next++;
+                count++;
+            }
+            if (count > 0) {
+                written = sequence;
+                drained.lazySet(next);
+                dirty = true;
+            } else if (!running) {
+                break;
+            } else {
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+            }
+            if (dirty && forceIntervalMillis > 0) {
+                long now = System.currentTimeMillis();
+                if (now - forcedAt >= forceIntervalMillis) {
+                    file.force();
+                    forcedAt = now;
+                    dirty = false;
+                }
+            }
+        }
+    }
+
+    /**
+     * 조건에 맞는 이벤트 (최근 순)
+     *
+     * @param breaker 서킷 이름 (null 이면 전체)
+     * @param from    이 시각(epoch ms) 이후
+     * @param to      이 시각(epoch ms) 이전
+     * @param type    이벤트 종류 (null 이면 전체)
+     * @param limit   최대 개수
+     */
+    public List<Map<String, Object>> query(String breaker, long from, long to, JournalEventType type, int limit) {
+        List<Map<String, Object>> events = new ArrayList<>();
+        int name = breaker != null ? file.find(breaker) : 0;
+        if (name < 0 || limit <= 0) {
+            return events;
+        }
+        long head = written;
+        long oldest = Math.max(0, head - file.getCapacity());
+        JournalFile.Record record = new JournalFile.Record();
+        for (long sequence = head - 1; sequence >= oldest && events.size() < limit; sequence--) {
+            if (!file.read(sequence, record)) {
+                continue;
+            }
+            if (record.epochMillis < from - OUT_OF_ORDER_MILLIS) {
+                break;
+            }
+            if (record.epochMillis < from || record.epochMillis > to
+                    || (name != 0 && record.name != name) || (type != null && record.type != type)) {
+                continue;
+            }
+            events.add(describe(record));
+        }
+        return events;
+    }
+
+    private Map<String, Object> describe(JournalFile.Record record) {
+        Map<String, Object> event = new LinkedHashMap<>();
+        event.put("sequence", record.sequence);
+        event.put("time", Instant.ofEpochMilli(record.epochMillis).toString());
+        event.put("breaker", file.name(record.name));
+        event.put("type", record.type.name());
+        String detail = file.name(record.detail);
+        if (detail != null) {
+            event.put("detail", detail);
+        }
+        if (record.durationMicros != UNKNOWN_DURATION) {
+            event.put("durationMicros", record.durationMicros);
+        }
+        return event;
+    }
+
+    /**
+     * 파일 위치와 크기, 기록 / 보관 / 버린 이벤트 수, 재시작 때 이어받은 이벤트 수, 샘플링 비율
+     */
+    public Map<String, Object> stats() {
+        long head = written;
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("path", file.getPath().toAbsolutePath().toString());
+        stats.put("capacity", file.getCapacity());
+        stats.put("retained", Math.min(head, file.getCapacity()));
+        stats.put("written", head);
+        stats.put("writtenSinceStart", head - file.getNextSequence());
+        stats.put("recovered", file.getRecovered());
+        stats.put("pending", claimed.get() - drained.get());
+        stats.put("dropped", dropped.sum());
+        stats.put("names", file.getNameCount());
+        stats.put("maxNames", file.getMaxNames() - 1);
+        stats.put("successSampleRate", successSampleRate);
+        stats.put("failureSampleRate", failureSampleRate);
+        stats.put("createdAt", Instant.ofEpochMilli(file.getCreatedAt()).toString());
+        return stats;
+    }
+
+    /**
+     * 남은 이벤트를 모두 쓰고 파일을 닫습니다.
+     */
+    @Override
+    public void close() throws IOException {
+        running = false;
+        try {
+            writer.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        file.close();
+    }
+
+    /**
+     * 조회 시각: 비어 있으면 defaultValue, 숫자면 epoch ms, ISO-8601 시각(2024-01-01T00:00:00Z),
+     * ISO-8601 기간(PT10M = 10분 전)
+     */
+    public static long parseTime(String value, long defaultValue) {
+        if (value == null || value.trim().isEmpty()) {
+            return defaultValue;
+        }
+        String trimmed = value.trim();
+        try {
+            if (Character.isDigit(trimmed.charAt(0))) {
+                return trimmed.indexOf('T') > 0 ? Instant.parse(trimmed).toEpochMilli() : Long.parseLong(trimmed);
+            }
+            return System.currentTimeMillis() - Duration.parse(trimmed).toMillis();
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid time: " + value
+                    + " (expected epoch millis, ISO-8601 instant or duration)", e);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.journal;
+
+/**
+ * 이벤트 저널에 기록하는 이벤트 종류 (파일에는 ordinal 을 1 byte 로 저장하므로 순서를 바꾸지 않습니다)
+ *
+ * - TRANSITION: 서킷 상태 전이 (detail = 바뀐 상태)
+ * - REJECTED: 호출 거절 (detail = CIRCUIT_OPEN / THREAD_POOL / SEMAPHORE / BULKHEAD)
+ * - TIMEOUT: 실행 시간 초과
+ * - FAILURE: 실행 실패 (detail = 예외 클래스 이름, 샘플링)
+ * - SUCCESS: 실행 성공 (샘플링)
+ */
+public enum JournalEventType {
+    TRANSITION, REJECTED, TIMEOUT, FAILURE, SUCCESS;
+
+    private static final JournalEventType[] TYPES = values();
+
+    static JournalEventType of(int ordinal) {
+        return ordinal >= 0 && ordinal < TYPES.length ? TYPES[ordinal] : null;
+    }
+}
@@ -0,0 +1,320 @@
+package com.example.journal;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 메모리 매핑된 고정 크기 링 파일 (EventJournal 의 저장소)
+ *
+ * [헤더 64 byte][이름 테이블 maxNames x 64 byte][레코드 capacity x 32 byte]
+ * - 헤더: magic, version, capacity, maxNames, 등록된 이름 수, 파일을 만든 시각
+ * - 이름 테이블: 서킷 이름과 detail(상태, 거절 사유, 예외 클래스 이름)을 번호로 바꿔 레코드에는 int 만 저장합니다. (0 = 없음)
+ *   길이(1 byte) + UTF-8 (63 byte 를 넘으면 잘림), 테이블이 가득 차면 새 이름은 0 으로 기록합니다.
+ * - 레코드: 순번 + 1(0 = 비어 있음), 시각(epoch ms), 서킷 번호, detail 번호, 실행 시간(us, -1 = 알 수 없음), 종류
+ *   순번 % capacity 위치에 쓰므로 가장 오래된 레코드부터 덮어씁니다.
+ *
+ * 레코드는 한 스레드(EventJournal 의 writer)만 씁니다. 쓰는 동안 순번 칸을 0 으로 두었다가 마지막에 순번을 쓰므로,
+ * 읽는 쪽은 필드를 읽기 전과 후의 순번이 같을 때만 사용합니다. (덮어쓰는 중인 레코드는 건너뜀)
+ * 다시 열 때 헤더의 capacity / maxNames 가 같으면 이름 테이블과 레코드를 그대로 사용하고, 다르면 파일을 새로 만듭니다.
+ * 매핑된 페이지는 프로세스가 비정상 종료되어도 OS 가 파일에 씁니다. (전원 장애까지 대비하려면 force 주기를 짧게)
+ */
+public class JournalFile implements Closeable {
+
+    static final int RECORD_BYTES = 32;
+    static final int NAME_BYTES = 64;
+    private static final int HEADER_BYTES = 64;
+    private static final int MAGIC = 0x43424a31; // "CBJ1"
+    private static final int VERSION = 1;
+    private static final int MAX_NAME_LENGTH = NAME_BYTES - 1;
+
+    // 헤더
+    private static final int MAGIC_AT = 0;
+    private static final int VERSION_AT = 4;
+    private static final int CAPACITY_AT = 8;
+    private static final int MAX_NAMES_AT = 12;
+    private static final int NAME_COUNT_AT = 16;
+    private static final int CREATED_AT = 24;
+
+    // 레코드
+    private static final int SEQUENCE_AT = 0;
+    private static final int TIME_AT = 8;
+    private static final int NAME_AT = 16;
+    private static final int DETAIL_AT = 20;
+    private static final int DURATION_AT = 24;
+    private static final int TYPE_AT = 28;
+
+    private final Path path;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final int capacity;
+    private final int maxNames;
+    private final int recordsAt;
+    private final AtomicReferenceArray<String> names;
+    private final ConcurrentMap<String, Integer> ids = new ConcurrentHashMap<>();
+    private final long nextSequence;
+    private final long recovered;
+    private int nameCount;
+
+    private JournalFile(Path path, FileChannel channel, int capacity, int maxNames) throws IOException {
+        this.path = path;
+        this.channel = channel;
+        this.capacity = capacity;
+        this.maxNames = maxNames;
+        this.recordsAt = HEADER_BYTES + maxNames * NAME_BYTES;
+        this.names = new AtomicReferenceArray<>(maxNames);
+
+        long size = (long) recordsAt + (long) capacity * RECORD_BYTES;
+        boolean reusable = channel.size() == size && matches(channel, capacity, maxNames);
+        if (!reusable) {
+            channel.truncate(0);
+        }
+        this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+
+        if (reusable) {
+            this.nameCount = Math.min(buffer.getInt(NAME_COUNT_AT), maxNames);
+            for (int id = 1; id < nameCount; id++) {
+                String name = readName(id);
+                names.set(id, name);
+                ids.putIfAbsent(name, id);
+            }
+            long max = 0;
+            long count = 0;
+            for (int slot = 0; slot < capacity; slot++) {
+                long marker = buffer.getLong(recordsAt + slot * RECORD_BYTES + SEQUENCE_AT);
+                if (marker != 0) {
+                    count++;
+                    max = Math.max(max, marker);
+                }
+            }
+            this.nextSequence = max;
+            this.recovered = count;
+        } else {
+            buffer.putInt(MAGIC_AT, MAGIC);
+            buffer.putInt(VERSION_AT, VERSION);
+            buffer.putInt(CAPACITY_AT, capacity);
+            buffer.putInt(MAX_NAMES_AT, maxNames);
+            buffer.putLong(CREATED_AT, System.currentTimeMillis());
+            // 0 번은 "없음"
+            this.nameCount = 1;
+            buffer.putInt(NAME_COUNT_AT, nameCount);
+            this.nextSequence = 0;
+            this.recovered = 0;
+        }
+    }
+
+    /**
+     * 파일을 열거나 새로 만듭니다. (상위 디렉토리가 없으면 생성)
+     *
+     * @param capacity 보관할 레코드 수 (파일 크기 = 64 + maxNames x 64 + capacity x 32 byte, 최대 2GB)
+     * @param maxNames 서킷 이름과 detail 을 합친 최대 이름 수
+     */
+    public static JournalFile open(Path path, int capacity, int maxNames) throws IOException {
+        if (capacity <= 0 || maxNames <= 1) {
+            throw new IllegalArgumentException("capacity must be > 0 and maxNames > 1");
+        }
+        if ((long) HEADER_BYTES + (long) maxNames * NAME_BYTES + (long) capacity * RECORD_BYTES > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Journal file must be smaller than 2GB: capacity=" + capacity
+                    + ", maxNames=" + maxNames);
+        }
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            return new JournalFile(path, channel, capacity, maxNames);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    private static boolean matches(FileChannel channel, int capacity, int maxNames) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        channel.read(header, 0);
+        return header.getInt(MAGIC_AT) == MAGIC
+                && header.getInt(VERSION_AT) == VERSION
+                && header.getInt(CAPACITY_AT) == capacity
+                && header.getInt(MAX_NAMES_AT) == maxNames;
+    }
+
+    /**
+     * 이름의 번호 (처음 보는 이름은 테이블에 추가, 테이블이 가득 찼거나 null 이면 0)
+     */
+    public int id(String name) {
+        if (name == null) {
+            return 0;
+        }
+        Integer id = ids.get(name);
+        return id != null ? id : register(name);
+    }
+
+    /**
+     * 이미 등록된 이름의 번호 (없으면 -1, 조회용)
+     */
+    public int find(String name) {
+        Integer id = ids.get(name);
+        return id != null && id > 0 ? id : -1;
+    }
+
+    public String name(int id) {
+        return id > 0 && id < maxNames ? names.get(id) : null;
+    }
+
+    private synchronized int register(String name) {
+        Integer id = ids.get(name);
+        if (id != null) {
+            return id;
+        }
+        if (nameCount >= maxNames) {
+            // 테이블이 가득 찬 뒤에도 같은 이름이 다시 잠금을 잡지 않도록 0 으로 기억 (무한히 늘어나지 않게 제한)
+            if (ids.size() < maxNames * 2) {
+                ids.put(name, 0);
+            }
+            return 0;
+        }
+        int registered = nameCount;
+        byte[] bytes = truncate(name.getBytes(StandardCharsets.UTF_8));
+        int at = HEADER_BYTES + registered * NAME_BYTES;
+        buffer.put(at, (byte) bytes.length);
+        for (int i = 0; i < bytes.length; i++) {
+            buffer.put(at + 1 + i, bytes[i]);
+        }
+        names.set(registered, name);
+        nameCount = registered + 1;
+        buffer.putInt(NAME_COUNT_AT, nameCount);
+        ids.put(name, registered);
+        return registered;
+    }
+
+    /**
+     * UTF-8 문자 중간에서 자르지 않도록 63 byte 이하로 자름
+     */
+    private static byte[] truncate(byte[] bytes) {
+        if (bytes.length <= MAX_NAME_LENGTH) {
+            return bytes;
+        }
+        int length = MAX_NAME_LENGTH;
+        while (length > 0 && (bytes[length] & 0xC0) == 0x80) {
+            length--;
+        }
+        byte[] truncated = new byte[length];
+        System.arraycopy(bytes, 0, truncated, 0, length);
+        return truncated;
+    }
+
+    private String readName(int id) {
+        int at = HEADER_BYTES + id * NAME_BYTES;
+        int length = Math.min(buffer.get(at) & 0xFF, MAX_NAME_LENGTH);
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = buffer.get(at + 1 + i);
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 레코드 쓰기 (writer 스레드 전용)
+     */
+    void write(long sequence, long epochMillis, int name, int detail, int durationMicros, JournalEventType type) {
+        int at = recordAt(sequence);
+        buffer.putLong(at + SEQUENCE_AT, 0L);
+        buffer.putLong(at + TIME_AT, epochMillis);
+        buffer.putInt(at + NAME_AT, name);
+        buffer.putInt(at + DETAIL_AT, detail);
+        buffer.putInt(at + DURATION_AT, durationMicros);
+        buffer.put(at + TYPE_AT, (byte) type.ordinal());
+        buffer.putLong(at + SEQUENCE_AT, sequence + 1);
+    }
+
+    /**
+     * sequence 번 레코드를 읽습니다.
+     *
+     * @return 덮어써졌거나 쓰는 중이면 false
+     */
+    boolean read(long sequence, Record record) {
+        int at = recordAt(sequence);
+        if (buffer.getLong(at + SEQUENCE_AT) != sequence + 1) {
+            return false;
+        }
+        record.sequence = sequence;
+        record.epochMillis = buffer.getLong(at + TIME_AT);
+        record.name = buffer.getInt(at + NAME_AT);
+        record.detail = buffer.getInt(at + DETAIL_AT);
+        record.durationMicros = buffer.getInt(at + DURATION_AT);
+        record.type = JournalEventType.of(buffer.get(at + TYPE_AT));
+        return buffer.getLong(at + SEQUENCE_AT) == sequence + 1 && record.type != null;
+    }
+
+    private int recordAt(long sequence) {
+        return recordsAt + (int) (sequence % capacity) * RECORD_BYTES;
+    }
+
+    /**
+     * 변경된 페이지를 디스크에 씁니다.
+     */
+    public void force() {
+        buffer.force();
+    }
+
+    @Override
+    public void close() throws IOException {
+        force();
+        channel.close();
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public int getMaxNames() {
+        return maxNames;
+    }
+
+    public synchronized int getNameCount() {
+        return nameCount - 1;
+    }
+
+    /** 파일을 열 때 이어서 쓸 순번 (이전에 기록된 마지막 순번 + 1) */
+    public long getNextSequence() {
+        return nextSequence;
+    }
+
+    /** 파일을 열 때 남아 있던 레코드 수 */
+    public long getRecovered() {
+        return recovered;
+    }
+
+    public long getCreatedAt() {
+        return buffer.getLong(CREATED_AT);
+    }
+
+    /**
+     * 읽은 레코드 (조회할 때 하나를 재사용)
+     */
+    static final class Record {
+        long sequence;
+        long epochMillis;
+        int name;
+        int detail;
+        int durationMicros;
+        JournalEventType type;
+    }
+}
@@ -0,0 +1,318 @@
+package com.example.keyed;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 키별 서킷 브레이커를 객체 없이 기본형 배열에 저장하는 테이블
+ *
+ * 키마다 CircuitBreaker 객체와 슬라이딩 윈도우 객체를 만들지 않고, 세그먼트별 배열의 한 칸(slot)에 상태를 저장합니다.
+ * - 윈도우: 최근 windowSize(<= 64) 개 호출의 실패 / 느린 호출 여부를 long 비트로 저장 (실패율 = bitCount / 호출 수)
+ * - 키 조회: 선형 탐사 해시 테이블(int[])에 slot 번호 저장
+ * - 제거: 키 수가 maxKeys 에 닿으면 CLOCK(최근 사용 비트, LRU 근사)으로 오래 사용하지 않은 키의 slot 을 재사용합니다.
+ *   OPEN / HALF_OPEN 키는 가능한 한 남겨 둡니다.
+ * - 배열은 사용한 키 수에 맞춰 두 배씩 늘어나며 maxKeys 를 넘지 않으므로, 키가 계속 바뀌어도 메모리는 일정합니다.
+ *
+ * 16개 세그먼트가 각각 잠금을 가지므로 서로 다른 키의 호출은 대부분 경합하지 않습니다.
+ * 전체 키 수가 maxKeys 에 닿으면 새 키가 들어온 세그먼트에서 하나를 제거합니다. (동시에 추가되면 세그먼트 수만큼 넘을 수 있음)
+ * 제거된 키의 호출 결과는 무시되고, 같은 키가 다시 호출되면 CLOSED 로 새로 시작합니다.
+ */
+public class CompactBreakerTable {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private static final State[] STATES = State.values();
+    private static final int SEGMENTS = 16;
+    private static final int INITIAL_SLOTS = 16;
+
+    private final KeyedBreakerConfig config;
+    private final Segment[] segments = new Segment[SEGMENTS];
+    private final AtomicInteger totalKeys = new AtomicInteger();
+
+    public CompactBreakerTable(KeyedBreakerConfig config) {
+        this.config = config;
+        for (int i = 0; i < SEGMENTS; i++) {
+            segments[i] = new Segment();
+        }
+    }
+
+    /**
+     * 호출 허용 여부 (OPEN 이면 false, 대기 시간이 지났으면 HALF_OPEN 으로 바꾸고 시험 호출 수만큼 허용)
+     */
+    public boolean tryAcquire(String key) {
+        int hash = spread(key.hashCode());
+        return segmentFor(hash).tryAcquire(key, hash, System.currentTimeMillis());
+    }
+
+    /**
+     * 호출 결과 기록 (tryAcquire 가 true 였던 호출만)
+     */
+    public void onResult(String key, boolean failure, long durationMillis) {
+        int hash = spread(key.hashCode());
+        segmentFor(hash).onResult(key, hash, failure, durationMillis >= config.slowCallDurationMillis);
+    }
+
+    /**
+     * 키의 현재 상태 (테이블에 없으면 null)
+     */
+    public State state(String key) {
+        int hash = spread(key.hashCode());
+        return segmentFor(hash).state(key, hash);
+    }
+
+    /**
+     * 키 수, 상태별 키 수, 제거된 키 수, 배열과 키 문자열을 합친 힙 사용량(추정)과 키당 바이트
+     */
+    public Map<String, Object> stats() {
+        long size = 0;
+        long open = 0;
+        long halfOpen = 0;
+        long evictions = 0;
+        long bytes = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                size += segment.size;
+                evictions += segment.evictions;
+                bytes += segment.estimatedBytes();
+                for (int slot = 0; slot < segment.size; slot++) {
+                    if (segment.state[slot] == State.OPEN.ordinal()) {
+                        open++;
+                    } else if (segment.state[slot] == State.HALF_OPEN.ordinal()) {
+                        halfOpen++;
+                    }
+                }
+            }
+        }
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("keys", size);
+        stats.put("maxKeys", config.maxKeys);
+        stats.put("open", open);
+        stats.put("halfOpen", halfOpen);
+        stats.put("evictions", evictions);
+        stats.put("estimatedBytes", bytes);
+        stats.put("bytesPerBreaker", size == 0 ? 0 : bytes / size);
+        return stats;
+    }
+
+    private Segment segmentFor(int hash) {
+        return segments[(hash >>> 28) & (SEGMENTS - 1)];
+    }
+
+    private static int spread(int hash) {
+        int h = hash * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    private final class Segment {
+        private int size;
+        private int hand;
+        private long evictions;
+
+        // slot 별 상태 (0 ~ size-1 은 항상 사용 중)
+        private String[] keys;
+        private int[] hashes;
+        private long[] failures;
+        private long[] slows;
+        private long[] stateSince;
+        private byte[] cursor;
+        private byte[] filled;
+        private byte[] state;
+        private byte[] probes;
+        private byte[] referenced;
+
+        /** 선형 탐사 해시 테이블 (slot + 1, 0 은 빈 칸), 길이는 slot 배열의 2배 이상인 2의 거듭제곱 */
+        private int[] table;
+
+        private Segment() {
+            allocate(Math.min(config.maxKeys, INITIAL_SLOTS));
+        }
+
+        synchronized boolean tryAcquire(String key, int hash, long now) {
+            int slot = find(key, hash);
+            if (slot < 0) {
+                slot = insert(key, hash, now);
+            }
+            referenced[slot] = 1;
+            if (state[slot] == State.OPEN.ordinal()) {
+                if (now - stateSince[slot] < config.waitDurationInOpenMillis) {
+                    return false;
+                }
+                transition(slot, State.HALF_OPEN, now);
+            }
+            if (state[slot] == State.HALF_OPEN.ordinal()) {
+                if (probes[slot] >= config.permittedCallsInHalfOpen) {
+                    return false;
+                }
+                probes[slot]++;
+            }
+            return true;
+        }
+
+        synchronized void onResult(String key, int hash, boolean failure, boolean slow) {
+            int slot = find(key, hash);
+            if (slot < 0 || state[slot] == State.OPEN.ordinal()) {
+                return;
+            }
+            long bit = 1L << cursor[slot];
+            failures[slot] = failure ? failures[slot] | bit : failures[slot] & ~bit;
+            slows[slot] = slow ? slows[slot] | bit : slows[slot] & ~bit;
+            cursor[slot] = (byte) ((cursor[slot] + 1) % config.windowSize);
+            if (filled[slot] < config.windowSize) {
+                filled[slot]++;
+            }
+
+            int calls = filled[slot];
+            boolean exceeded = Long.bitCount(failures[slot]) * 100f >= config.failureRateThreshold * calls
+                    || Long.bitCount(slows[slot]) * 100f >= config.slowCallRateThreshold * calls;
+            long now = System.currentTimeMillis();
+            if (state[slot] == State.HALF_OPEN.ordinal()) {
+                if (exceeded) {
+                    transition(slot, State.OPEN, now);
+                } else if (calls >= config.permittedCallsInHalfOpen) {
+                    transition(slot, State.CLOSED, now);
+                }
+            } else if (calls >= config.minimumCalls && exceeded) {
+                transition(slot, State.OPEN, now);
+            }
+        }
+
+        synchronized State state(String key, int hash) {
+            int slot = find(key, hash);
+            return slot < 0 ? null : STATES[state[slot]];
+        }
+
+        private void transition(int slot, State to, long now) {
+            state[slot] = (byte) to.ordinal();
+            stateSince[slot] = now;
+            failures[slot] = 0;
+            slows[slot] = 0;
+            cursor[slot] = 0;
+            filled[slot] = 0;
+            probes[slot] = 0;
+        }
+
+        private int find(String key, int hash) {
+            int mask = table.length - 1;
+            for (int i = hash & mask; ; i = (i + 1) & mask) {
+                int entry = table[i];
+                if (entry == 0) {
+                    return -1;
+                }
+                int slot = entry - 1;
+                if (hashes[slot] == hash && keys[slot].equals(key)) {
+                    return slot;
+                }
+            }
+        }
+
+        private int insert(String key, int hash, long now) {
+            int slot;
+            if (size > 0 && totalKeys.get() >= config.maxKeys) {
+                slot = victim();
+                unlink(slot);
+                evictions++;
+            } else {
+                totalKeys.incrementAndGet();
+                if (size == keys.length) {
+                    allocate(Math.max(size + 1, Math.min(config.maxKeys, keys.length * 2)));
+                }
+                slot = size++;
+            }
+            keys[slot] = key;
+            hashes[slot] = hash;
+            transition(slot, State.CLOSED, now);
+            link(slot);
+            return slot;
+        }
+
+        /**
+         * CLOCK: 최근 사용 비트가 있으면 지우고 넘어가며, 사용 비트가 없는 CLOSED 키를 고릅니다.
+         * 두 바퀴를 돌아도 없으면(대부분 OPEN) 그 자리의 키를 제거합니다.
+         */
+        private int victim() {
+            for (int scanned = 0; ; scanned++) {
+                int slot = hand;
+                hand = (hand + 1) % size;
+                boolean lastResort = scanned >= 2 * size;
+                if (!lastResort && referenced[slot] != 0) {
+                    referenced[slot] = 0;
+                } else if (lastResort || state[slot] == State.CLOSED.ordinal()) {
+                    return slot;
+                }
+            }
+        }
+
+        private void link(int slot) {
+            int mask = table.length - 1;
+            int i = hashes[slot] & mask;
+            while (table[i] != 0) {
+                i = (i + 1) & mask;
+            }
+            table[i] = slot + 1;
+        }
+
+        /**
+         * 해시 테이블에서 slot 을 지우고, 뒤따르는 항목을 앞으로 당겨 탐사 경로를 유지합니다. (backward shift)
+         */
+        private void unlink(int slot) {
+            int mask = table.length - 1;
+            int i = hashes[slot] & mask;
+            while (table[i] != slot + 1) {
+                i = (i + 1) & mask;
+            }
+            table[i] = 0;
+            for (int j = (i + 1) & mask; table[j] != 0; j = (j + 1) & mask) {
+                int home = hashes[table[j] - 1] & mask;
+                // home 이 (i, j] 구간 밖이면 i 로 옮겨도 찾을 수 있음
+                boolean between = i <= j ? (i < home && home <= j) : (i < home || home <= j);
+                if (!between) {
+                    table[i] = table[j];
+                    table[j] = 0;
+                    i = j;
+                }
+            }
+        }
+
+        private void allocate(int slots) {
+            keys = keys == null ? new String[slots] : Arrays.copyOf(keys, slots);
+            hashes = hashes == null ? new int[slots] : Arrays.copyOf(hashes, slots);
+            failures = failures == null ? new long[slots] : Arrays.copyOf(failures, slots);
+            slows = slows == null ? new long[slots] : Arrays.copyOf(slows, slots);
+            stateSince = stateSince == null ? new long[slots] : Arrays.copyOf(stateSince, slots);
+            cursor = cursor == null ? new byte[slots] : Arrays.copyOf(cursor, slots);
+            filled = filled == null ? new byte[slots] : Arrays.copyOf(filled, slots);
+            state = state == null ? new byte[slots] : Arrays.copyOf(state, slots);
+            probes = probes == null ? new byte[slots] : Arrays.copyOf(probes, slots);
+            referenced = referenced == null ? new byte[slots] : Arrays.copyOf(referenced, slots);
+            int tableSize = Integer.highestOneBit(Math.max(2, slots * 2 - 1)) << 1;
+            if (table == null || table.length < tableSize) {
+                table = new int[tableSize];
+                for (int slot = 0; slot < size; slot++) {
+                    link(slot);
+                }
+            }
+        }
+
+        /**
+         * 배열(헤더 16바이트, 참조 4바이트 기준)과 키 문자열(Latin-1 기준)의 크기
+         */
+        private long estimatedBytes() {
+            long slots = keys.length;
+            long bytes = 10 * 16L                 // 배열 헤더
+                    + slots * 4                   // keys (참조)
+                    + slots * 4                   // hashes
+                    + slots * 8 * 3               // failures, slows, stateSince
+                    + slots * 5                   // cursor, filled, state, probes, referenced
+                    + 16L + table.length * 4L;    // table
+            for (int slot = 0; slot < size; slot++) {
+                // String(24) + byte[](16 + 길이, 8바이트 정렬)
+                bytes += 24 + ((16 + keys[slot].length() + 7) & ~7);
+            }
+            return bytes;
+        }
+    }
+}
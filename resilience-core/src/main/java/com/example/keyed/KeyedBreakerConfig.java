@@ -0,0 +1,42 @@
+package com.example.keyed;
+
+/**
+ * 키별 서킷 브레이커 설정 (같은 이름의 모든 키가 공유)
+ */
+public final class KeyedBreakerConfig {
+
+    /** 슬라이딩 윈도우는 호출 결과를 long 비트로 저장하므로 최대 64 */
+    public static final int MAX_WINDOW_SIZE = 64;
+
+    final int maxKeys;
+    final int windowSize;
+    final int minimumCalls;
+    final float failureRateThreshold;
+    final long slowCallDurationMillis;
+    final float slowCallRateThreshold;
+    final long waitDurationInOpenMillis;
+    final int permittedCallsInHalfOpen;
+
+    /**
+     * @param maxKeys                  유지할 최대 키 수 (넘으면 오래 사용하지 않은 키부터 제거)
+     * @param windowSize               키별 슬라이딩 윈도우 크기 (최근 호출 수, 최대 64)
+     * @param minimumCalls             실패율을 계산하기 시작하는 최소 호출 수
+     * @param failureRateThreshold     실패율 임계치 (%)
+     * @param slowCallDurationMillis   느린 호출 기준
+     * @param slowCallRateThreshold    느린 호출 비율 임계치 (%)
+     * @param waitDurationInOpenMillis OPEN 에서 HALF_OPEN 으로 바뀌기까지 대기 시간
+     * @param permittedCallsInHalfOpen HALF_OPEN 에서 허용하는 시험 호출 수
+     */
+    public KeyedBreakerConfig(int maxKeys, int windowSize, int minimumCalls, float failureRateThreshold,
+                              long slowCallDurationMillis, float slowCallRateThreshold,
+                              long waitDurationInOpenMillis, int permittedCallsInHalfOpen) {
+        this.maxKeys = Math.max(1, maxKeys);
+        this.windowSize = Math.max(1, Math.min(MAX_WINDOW_SIZE, windowSize));
+        this.minimumCalls = Math.max(1, Math.min(this.windowSize, minimumCalls));
+        this.failureRateThreshold = failureRateThreshold;
+        this.slowCallDurationMillis = slowCallDurationMillis;
+        this.slowCallRateThreshold = slowCallRateThreshold;
+        this.waitDurationInOpenMillis = waitDurationInOpenMillis;
+        this.permittedCallsInHalfOpen = Math.max(1, Math.min(this.windowSize, permittedCallsInHalfOpen));
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.metrics;
+
+import org.HdrHistogram.AtomicHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HdrHistogram 기반 지연 시간 기록 (시작 이후 누적)
+ *
+ * - 기록(recordNanos)은 AtomicHistogram 에 바로 기록하므로 락과 객체 할당 없이(wait-free) 동작합니다.
+ *   구간을 나누는 Recorder 와 합계용 카운터를 두지 않아 기록 1회에 원자적 연산은 2번(버킷, 전체 수)입니다.
+ * - 조회 시 히스토그램을 복사해 분위수를 계산합니다. 기록 중에 복사하므로 버킷과 전체 수가 몇 건 어긋날 수 있습니다.
+ *   조회는 드물기 때문에 synchronized 로 처리합니다.
+ * - 합계는 히스토그램에서 계산합니다. (버킷 대푯값 기준이므로 오차 1% 이내)
+ * - 마이크로초 단위, 유효 숫자 2자리(오차 1% 이내), 최대 1분까지 기록합니다. (조회용 복사본 포함 약 42KB)
+ */
+public class LatencyHistogram {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+    private static final int SIGNIFICANT_DIGITS = 2;
+
+    private final AtomicHistogram histogram = new AtomicHistogram(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+    private final Histogram snapshot = new Histogram(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+
+    public void recordNanos(long nanos) {
+        long micros = nanos / 1000;
+        histogram.recordValue(micros < 0 ? 0 : Math.min(micros, HIGHEST_TRACKABLE_MICROS));
+    }
+
+    /**
+     * 지금까지 기록된 값의 요약
+     *
+     * @param quantiles 0~1 사이의 분위수
+     */
+    public synchronized Summary summarize(double... quantiles) {
+        histogram.copyInto(snapshot);
+
+        double[] values = new double[quantiles.length];
+        for (int i = 0; i < quantiles.length; i++) {
+            values[i] = snapshot.getValueAtPercentile(quantiles[i] * 100) / 1_000_000.0;
+        }
+        long count = snapshot.getTotalCount();
+        double sumSeconds = count == 0 ? 0 : snapshot.getMean() * count / 1_000_000.0;
+        return new Summary(count, sumSeconds, quantiles, values);
+    }
+
+    public static final class Summary {
+        private final long count;
+        private final double sumSeconds;
+        private final double[] quantiles;
+        private final double[] quantileSeconds;
+
+        private Summary(long count, double sumSeconds, double[] quantiles, double[] quantileSeconds) {
+            this.count = count;
+            this.sumSeconds = sumSeconds;
+            this.quantiles = quantiles;
+            this.quantileSeconds = quantileSeconds;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public double getSumSeconds() {
+            return sumSeconds;
+        }
+
+        public double[] getQuantiles() {
+            return quantiles;
+        }
+
+        public double[] getQuantileSeconds() {
+            return quantileSeconds;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.metrics;
+
+/**
+ * Prometheus 텍스트 포맷(0.0.4) 작성
+ * 같은 이름의 샘플은 한 곳에 모여 있어야 하므로 metric 단위로 header 를 쓴 뒤 샘플을 이어서 씁니다.
+ */
+public class PrometheusTextWriter {
+
+    public static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    private final StringBuilder out = new StringBuilder(4096);
+
+    public PrometheusTextWriter header(String name, String type, String help) {
+        out.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        out.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+        return this;
+    }
+
+    public PrometheusTextWriter sample(String name, String labels, double value) {
+        out.append(name);
+        if (!labels.isEmpty()) {
+            out.append('{').append(labels).append('}');
+        }
+        out.append(' ');
+        if (value == Math.rint(value) && !Double.isInfinite(value) && Math.abs(value) < 1e15) {
+            out.append((long) value);
+        } else {
+            out.append(value);
+        }
+        out.append('\n');
+        return this;
+    }
+
+    /**
+     * summary 타입 샘플 (분위수, _sum, _count)
+     */
+    public PrometheusTextWriter summary(String name, String labels, LatencyHistogram.Summary summary) {
+        double[] quantiles = summary.getQuantiles();
+        double[] values = summary.getQuantileSeconds();
+        String separator = labels.isEmpty() ? "" : ",";
+        for (int i = 0; i < quantiles.length; i++) {
+            sample(name, labels + separator + "quantile=\"" + quantiles[i] + "\"", values[i]);
+        }
+        sample(name + "_sum", labels, summary.getSumSeconds());
+        sample(name + "_count", labels, summary.getCount());
+        return this;
+    }
+
+    public static String label(String name, String value) {
+        StringBuilder escaped = new StringBuilder(value.length() + name.length() + 3);
+        escaped.append(name).append("=\"");
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '\\' || c == '"') {
+                escaped.append('\\').append(c);
+            } else if (c == '\n') {
+                escaped.append("\\n");
+            } else {
+                escaped.append(c);
+            }
+        }
+        return escaped.append('"').toString();
+    }
+
+    @Override
+    public String toString() {
+        return out.toString();
+    }
+}
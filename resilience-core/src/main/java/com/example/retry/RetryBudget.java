@@ -0,0 +1,48 @@
+package com.example.retry;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 재시도 비율을 제한하는 토큰 버킷
+ *
+ * 성공한 호출마다 budgetPercent/100 만큼 토큰이 쌓이고, 재시도 1회에 토큰 1개를 사용합니다.
+ * 따라서 장기적으로 재시도는 성공한 호출의 budgetPercent% 를 넘지 않고, 버킷이 maxTokens 개에서 멈추므로
+ * 오래전의 성공은 예산이 되지 않습니다. 노드마다 같은 비율로 제한되므로 노드 수와 관계없이 전체 부하 증폭도 같은 비율 이내입니다.
+ */
+public class RetryBudget {
+
+    private static final long SCALE = 1000;
+
+    private final long maxMilliTokens;
+    private final AtomicLong milliTokens = new AtomicLong();
+
+    public RetryBudget(int maxTokens) {
+        this.maxMilliTokens = maxTokens * SCALE;
+    }
+
+    public void deposit(int budgetPercent) {
+        long amount = budgetPercent * SCALE / 100;
+        long current;
+        do {
+            current = milliTokens.get();
+            if (current >= maxMilliTokens) {
+                return;
+            }
+        } while (!milliTokens.compareAndSet(current, Math.min(maxMilliTokens, current + amount)));
+    }
+
+    public boolean tryAcquire() {
+        long current;
+        do {
+            current = milliTokens.get();
+            if (current < SCALE) {
+                return false;
+            }
+        } while (!milliTokens.compareAndSet(current, current - SCALE));
+        return true;
+    }
+
+    public double availableTokens() {
+        return (double) milliTokens.get() / SCALE;
+    }
+}
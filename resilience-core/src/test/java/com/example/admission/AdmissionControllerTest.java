@@ -0,0 +1,142 @@
+package com.example.admission;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class AdmissionControllerTest {
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    @After
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void headerPriorityCanOnlyLower() {
+        assertEquals(Priority.SHEDDABLE, Priority.lower(Priority.CRITICAL, Priority.SHEDDABLE));
+        assertEquals(Priority.DEFAULT, Priority.lower(Priority.DEFAULT, Priority.CRITICAL));
+        assertEquals(Priority.SHEDDABLE, Priority.lower(Priority.SHEDDABLE, Priority.CRITICAL));
+    }
+
+    @Test
+    public void admitsUpToPriorityShareWithoutQueueing() {
+        AdmissionController controller = new AdmissionController(10, 10, 1000, shares(1.0, 0.8, 0.5));
+        for (int i = 0; i < 5; i++) {
+            controller.acquire(Priority.SHEDDABLE);
+        }
+        for (int i = 0; i < 3; i++) {
+            controller.acquire(Priority.DEFAULT);
+        }
+        for (int i = 0; i < 2; i++) {
+            controller.acquire(Priority.CRITICAL);
+        }
+
+        assertEquals(10, controller.snapshot().get("inFlight"));
+        assertEquals(5L, stats(controller, Priority.SHEDDABLE).get("admitted"));
+    }
+
+    @Test
+    public void grantsReleasedSlotsByPriorityThenArrivalOrder() throws Exception {
+        AdmissionController controller = new AdmissionController(1, 100, 10_000, shares(1.0, 1.0, 1.0));
+        controller.acquire(Priority.DEFAULT);
+
+        List<String> order = Collections.synchronizedList(new ArrayList<>());
+        List<Future<?>> waiters = new ArrayList<>();
+        waiters.add(waitInQueue(controller, Priority.SHEDDABLE, "sheddable", order));
+        waiters.add(waitInQueue(controller, Priority.DEFAULT, "default-1", order));
+        waiters.add(waitInQueue(controller, Priority.DEFAULT, "default-2", order));
+        waiters.add(waitInQueue(controller, Priority.CRITICAL, "critical", order));
+
+        controller.release();
+        for (Future<?> waiter : waiters) {
+            waiter.get(5, TimeUnit.SECONDS);
+        }
+
+        assertEquals(java.util.Arrays.asList("critical", "default-1", "default-2", "sheddable"), order);
+        assertEquals(0, controller.snapshot().get("inFlight"));
+    }
+
+    @Test
+    public void shedsLowerPriorityFirstWhenQueueFills() throws Exception {
+        AdmissionController controller = new AdmissionController(1, 2, 10_000, shares(1.0, 0.8, 0.5));
+        controller.acquire(Priority.CRITICAL);
+        waitInQueue(controller, Priority.DEFAULT, "default", Collections.synchronizedList(new ArrayList<>()));
+
+        // 대기 1 / maxQueue 2 = 부하 0.5 >= SHEDDABLE share 0.5
+        try {
+            controller.acquire(Priority.SHEDDABLE);
+            fail("SHEDDABLE should be shed");
+        } catch (AdmissionRejectedException e) {
+            assertEquals(Priority.SHEDDABLE, e.getPriority());
+            assertTrue(e.getMessage(), e.getMessage().startsWith("load 0.50 >= 0.50"));
+        }
+        assertEquals(1L, stats(controller, Priority.SHEDDABLE).get("rejected"));
+        // 높은 우선순위는 같거나 높은 우선순위의 대기만 부하로 봄
+        assertEquals(0.0, stats(controller, Priority.CRITICAL).get("load"));
+        controller.release();
+    }
+
+    @Test
+    public void rejectsWhenNoSlotWithinTargetQueueDelay() {
+        AdmissionController controller = new AdmissionController(1, 10, 50, shares(1.0, 1.0, 1.0));
+        controller.acquire(Priority.DEFAULT);
+
+        long startedAt = System.nanoTime();
+        try {
+            controller.acquire(Priority.DEFAULT);
+            fail("DEFAULT should time out in the queue");
+        } catch (AdmissionRejectedException e) {
+            assertEquals("no capacity within 50ms", e.getMessage());
+        }
+        assertTrue(System.nanoTime() - startedAt >= TimeUnit.MILLISECONDS.toNanos(50));
+        assertEquals(0, stats(controller, Priority.DEFAULT).get("waiting"));
+        assertEquals(1L, stats(controller, Priority.DEFAULT).get("rejected"));
+    }
+
+    /**
+     * 다른 스레드에서 acquire 하고, 대기열에 들어갈 때까지 기다립니다. 자리를 얻으면 이름을 기록하고 바로 반환
+     */
+    private Future<?> waitInQueue(AdmissionController controller, Priority priority, String name, List<String> order)
+            throws InterruptedException {
+        int waiting = (Integer) stats(controller, priority).get("waiting");
+        Future<?> future = executor.submit(() -> {
+            controller.acquire(priority);
+            order.add(name);
+            controller.release();
+        });
+        long deadline = System.currentTimeMillis() + 5_000;
+        while ((Integer) stats(controller, priority).get("waiting") == waiting) {
+            assertTrue(name + " did not queue", System.currentTimeMillis() < deadline);
+            TimeUnit.MILLISECONDS.sleep(1);
+        }
+        return future;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> stats(AdmissionController controller, Priority priority) {
+        return ((Map<Priority, Map<String, Object>>) controller.snapshot().get("priorities")).get(priority);
+    }
+
+    private static Map<Priority, Double> shares(double critical, double defaultShare, double sheddable) {
+        Map<Priority, Double> shares = new EnumMap<>(Priority.class);
+        shares.put(Priority.CRITICAL, critical);
+        shares.put(Priority.DEFAULT, defaultShare);
+        shares.put(Priority.SHEDDABLE, sheddable);
+        return shares;
+    }
+}
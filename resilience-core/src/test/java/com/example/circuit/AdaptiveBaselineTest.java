@@ -0,0 +1,144 @@
+package com.example.circuit;
+
+import org.junit.Test;
+
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class AdaptiveBaselineTest {
+
+    /** 오류율 임계치 5 ~ 50%, 느린 호출 기준 100 ~ 1000ms, 느린 호출 비율 50%, 3 표준편차, 워밍업 20건, 최소 5건 */
+    private static final AdaptiveBaseline.Limits LIMITS =
+            new AdaptiveBaseline.Limits(5, 50, 100, 1000, 50, 3, 100, 20, 5);
+
+    @Test
+    public void doesNotJudgeDuringWarmup() {
+        AdaptiveBaseline baseline = new AdaptiveBaseline(10);
+        for (int i = 0; i < 20; i++) {
+            assertNull(baseline.record(true, 10, 100, 100, LIMITS));
+        }
+        baseline.recompute(LIMITS);
+        assertNull(baseline.record(true, 10, 100, 100, LIMITS));
+        assertEquals(false, baseline.snapshot(LIMITS).get("warmedUp"));
+    }
+
+    @Test
+    public void tripsWhenFailureRateExceedsLearnedBaseline() {
+        AdaptiveBaseline baseline = learned();
+
+        // 평소 오류율 0% 이면 임계치는 하한(5%)
+        assertNull(baseline.record(false, 10, 4, 100, LIMITS));
+        String deviation = baseline.record(true, 10, 10, 100, LIMITS);
+
+        assertNotNull(deviation);
+        assertTrue(deviation, deviation.startsWith("failure rate 10.0% > adaptive threshold 5.0%"));
+    }
+
+    @Test
+    public void neverTripsAboveFixedMaximum() {
+        AdaptiveBaseline baseline = new AdaptiveBaseline(10);
+        for (int i = 0; i < 200; i++) {
+            // 평소 오류율 80%
+            baseline.record(i % 5 != 0, 10, 0, 0, LIMITS);
+        }
+        baseline.recompute(LIMITS);
+
+        assertNotNull(baseline.record(true, 10, 51, 100, LIMITS));
+        assertEquals(50.0, baseline.snapshot(LIMITS).get("failureRateThreshold"));
+    }
+
+    @Test
+    public void deviatingCallsAreNotLearned() {
+        AdaptiveBaseline baseline = learned();
+        for (int i = 0; i < 50; i++) {
+            assertNotNull(baseline.record(true, 10, 60, 100, LIMITS));
+        }
+        baseline.recompute(LIMITS);
+        assertEquals(0.0, baseline.snapshot(LIMITS).get("baselineFailureRate"));
+    }
+
+    @Test
+    public void tripsWhenMostRecentCallsAreSlowerThanBaseline() {
+        AdaptiveBaseline baseline = learned();
+
+        // 최근 10건 중 5건(50%) 까지는 허용, 6건째에 느린 호출 비율 60% > 50%
+        for (int i = 0; i < 5; i++) {
+            assertNull(baseline.record(false, 500, 0, 100, LIMITS));
+        }
+        String deviation = baseline.record(false, 500, 0, 100, LIMITS);
+
+        assertNotNull(deviation);
+        assertTrue(deviation, deviation.startsWith("60.0% of calls slower than adaptive threshold"));
+    }
+
+    @Test
+    public void trippedClearsLatencyWindow() {
+        AdaptiveBaseline baseline = learned();
+        for (int i = 0; i < 6; i++) {
+            baseline.record(false, 500, 0, 100, LIMITS);
+        }
+        baseline.tripped("slow");
+
+        assertNull(baseline.record(false, 10, 0, 100, LIMITS));
+        Map<String, Object> snapshot = baseline.snapshot(LIMITS);
+        assertEquals(1L, snapshot.get("trips"));
+        assertEquals("slow", snapshot.get("lastTrip"));
+    }
+
+    @Test
+    public void unknownLatencyIsNotCountedAsSlow() {
+        AdaptiveBaseline baseline = learned();
+        for (int i = 0; i < 10; i++) {
+            assertNull(baseline.record(false, AdaptiveBaseline.UNKNOWN_LATENCY, 0, 100, LIMITS));
+        }
+    }
+
+    @Test
+    public void baselineChangesOnlyOnRecompute() {
+        AdaptiveBaseline baseline = learned();
+        for (int i = 0; i < 100; i++) {
+            baseline.record(false, 50, 0, 100, LIMITS);
+        }
+        assertEquals(10.0, baseline.snapshot(LIMITS).get("baselineLatencyMillis"));
+
+        baseline.recompute(LIMITS);
+        // 호출마다 alpha = 1 / 100 으로 갱신한 평균과 같음: 10 + 40 x (1 - 0.99^100)
+        assertEquals(35.4, baseline.snapshot(LIMITS).get("baselineLatencyMillis"));
+    }
+
+    @Test
+    public void recomputeRecountsSlowCallsAgainstNewThreshold() {
+        AdaptiveBaseline baseline = learned();
+        // 기준 100ms (하한) 에서 150ms 는 느린 호출
+        for (int i = 0; i < 5; i++) {
+            assertNull(baseline.record(false, 150, 0, 100, LIMITS));
+        }
+
+        // 느린 호출 기준 하한이 200ms 로 바뀌면 최근 호출을 다시 셈
+        AdaptiveBaseline.Limits raised = new AdaptiveBaseline.Limits(5, 50, 200, 1000, 50, 3, 100, 20, 5);
+        baseline.recompute(raised);
+        assertNull(baseline.record(false, 150, 0, 100, raised));
+        assertEquals(0.0, baseline.snapshot(raised).get("windowSlowCallRate"));
+    }
+
+    @Test
+    public void upperTailMatchesStandardNormal() {
+        assertEquals(0.5, AdaptiveBaseline.upperTail(0), 1e-6);
+        assertEquals(0.00135, AdaptiveBaseline.upperTail(3), 1e-5);
+        assertEquals(0.99865, AdaptiveBaseline.upperTail(-3), 1e-5);
+    }
+
+    /** 오류 없이 10ms 로 응답하던 서킷 */
+    private static AdaptiveBaseline learned() {
+        AdaptiveBaseline baseline = new AdaptiveBaseline(10);
+        for (int i = 0; i < 100; i++) {
+            assertNull(baseline.record(false, 10, 0, 100, LIMITS));
+        }
+        baseline.recompute(LIMITS);
+        return baseline;
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.circuit;
+
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class StripedTimeWindowTest {
+
+    @Test
+    public void sumsCallsAcrossStripes() throws Exception {
+        StripedTimeWindow window = new StripedTimeWindow(60_000, 10, 8);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch done = new CountDownLatch(8);
+        for (int thread = 0; thread < 8; thread++) {
+            executor.execute(() -> {
+                for (int i = 0; i < 1000; i++) {
+                    window.record(i % 10 == 0, i % 4 == 0);
+                }
+                done.countDown();
+            });
+        }
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        executor.shutdown();
+
+        StripedTimeWindow.Snapshot snapshot = window.snapshot();
+        assertEquals(8000, snapshot.getCalls());
+        assertEquals(800, snapshot.getFailures());
+        assertEquals(2000, snapshot.getSlow());
+        // i % 20 == 0
+        assertEquals(400, snapshot.getSlowFailures());
+        assertEquals(10f, snapshot.failureRate(), 0.001f);
+        assertEquals(25f, snapshot.slowCallRate(), 0.001f);
+    }
+
+    @Test
+    public void dropsBucketsOlderThanWindow() throws Exception {
+        // 버킷 50ms x 2
+        StripedTimeWindow window = new StripedTimeWindow(100, 2, 1);
+        window.record(true, false);
+        window.record(false, true);
+        assertEquals(2, window.snapshot().getCalls());
+
+        TimeUnit.MILLISECONDS.sleep(250);
+        assertEquals(0, window.snapshot().getCalls());
+
+        // 같은 칸을 다시 사용할 때 이전 카운터를 비움
+        window.record(false, false);
+        StripedTimeWindow.Snapshot snapshot = window.snapshot();
+        assertEquals(1, snapshot.getCalls());
+        assertEquals(0, snapshot.getFailures());
+        assertEquals(0, snapshot.getSlow());
+    }
+
+    @Test
+    public void resetInvalidatesPreviousRecords() {
+        StripedTimeWindow window = new StripedTimeWindow(60_000, 10, 4);
+        window.add(10, 5, 3, 1);
+        assertEquals(10, window.snapshot().getCalls());
+
+        window.reset();
+        assertEquals(0, window.snapshot().getCalls());
+
+        window.record(true, true);
+        StripedTimeWindow.Snapshot snapshot = window.snapshot();
+        assertEquals(1, snapshot.getCalls());
+        assertEquals(1, snapshot.getSlowFailures());
+    }
+
+    @Test
+    public void roundsStripesUpToPowerOfTwo() {
+        assertEquals(1, new StripedTimeWindow(1000, 10, 1).getStripes());
+        assertEquals(8, new StripedTimeWindow(1000, 10, 5).getStripes());
+        assertEquals(8, new StripedTimeWindow(1000, 10, 8).getStripes());
+    }
+
+    @Test
+    public void onlyOneEvaluationPerInterval() {
+        StripedTimeWindow window = new StripedTimeWindow(1000, 10, 1);
+        assertTrue(window.tryStartEvaluation(60_000));
+        assertFalse(window.tryStartEvaluation(60_000));
+        assertTrue(window.tryStartEvaluation(0));
+    }
+}
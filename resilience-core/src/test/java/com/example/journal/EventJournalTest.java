@@ -0,0 +1,155 @@
+package com.example.journal;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class EventJournalTest {
+
+    private static final int CAPACITY = 8;
+    private static final int MAX_NAMES = 16;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void keepsOnlyTheLatestRecordsWhenWrittenPastCapacity() throws Exception {
+        Path path = folder.getRoot().toPath().resolve("journal.dat");
+        try (EventJournal journal = open(path)) {
+            for (int i = 0; i < 20; i++) {
+                journal.success("normalApi", i);
+            }
+        }
+
+        try (EventJournal journal = open(path)) {
+            List<Map<String, Object>> events = journal.query(null, 0, Long.MAX_VALUE, null, 100);
+            assertEquals(sequences(19, 12), sequenceOf(events));
+            assertEquals(19, events.get(0).get("durationMicros"));
+            assertEquals(12, events.get(CAPACITY - 1).get("durationMicros"));
+        }
+    }
+
+    @Test
+    public void recoversRecordsAndContinuesSequenceAfterReopen() throws Exception {
+        Path path = folder.getRoot().toPath().resolve("journal.dat");
+        try (EventJournal journal = open(path)) {
+            journal.transition("slowApi", "OPEN");
+            journal.rejected("slowApi", EventJournal.CIRCUIT_OPEN);
+            journal.timeout("slowApi", 3_000_000);
+        }
+
+        JournalFile file = JournalFile.open(path, CAPACITY, MAX_NAMES);
+        assertEquals(3, file.getRecovered());
+        assertEquals(3, file.getNextSequence());
+        try (EventJournal journal = new EventJournal(file, 64, 1.0, 1.0, 0)) {
+            journal.transition("slowApi", "HALF_OPEN");
+        }
+
+        try (EventJournal journal = open(path)) {
+            List<Map<String, Object>> events = journal.query("slowApi", 0, Long.MAX_VALUE, null, 100);
+            assertEquals(sequences(3, 0), sequenceOf(events));
+            assertEquals("HALF_OPEN", events.get(0).get("detail"));
+            assertEquals("TIMEOUT", events.get(1).get("type"));
+            assertEquals(3_000_000, events.get(1).get("durationMicros"));
+            assertEquals(EventJournal.CIRCUIT_OPEN, events.get(2).get("detail"));
+            assertEquals("OPEN", events.get(3).get("detail"));
+            assertEquals(4L, journal.stats().get("recovered"));
+        }
+    }
+
+    @Test
+    public void recoveredIsCappedAtCapacity() throws Exception {
+        Path path = folder.getRoot().toPath().resolve("journal.dat");
+        try (EventJournal journal = open(path)) {
+            for (int i = 0; i < CAPACITY * 3 + 1; i++) {
+                journal.failure("failingApi", "java.lang.RuntimeException", i);
+            }
+        }
+
+        JournalFile file = JournalFile.open(path, CAPACITY, MAX_NAMES);
+        try {
+            assertEquals(CAPACITY, file.getRecovered());
+            assertEquals(CAPACITY * 3 + 1, file.getNextSequence());
+        } finally {
+            file.close();
+        }
+    }
+
+    @Test
+    public void startsOverWhenReopenedWithDifferentCapacity() throws Exception {
+        Path path = folder.getRoot().toPath().resolve("journal.dat");
+        try (EventJournal journal = open(path)) {
+            journal.transition("normalApi", "OPEN");
+        }
+
+        JournalFile file = JournalFile.open(path, CAPACITY * 2, MAX_NAMES);
+        try {
+            assertEquals(0, file.getRecovered());
+            assertEquals(0, file.getNextSequence());
+            assertEquals(-1, file.find("normalApi"));
+        } finally {
+            file.close();
+        }
+    }
+
+    @Test
+    public void filtersByBreakerTypeAndLimitNewestFirst() throws Exception {
+        Path path = folder.getRoot().toPath().resolve("journal.dat");
+        try (EventJournal journal = open(path)) {
+            journal.transition("normalApi", "OPEN");
+            journal.transition("slowApi", "OPEN");
+            journal.rejected("normalApi", EventJournal.SEMAPHORE);
+            journal.transition("normalApi", "HALF_OPEN");
+            journal.transition("normalApi", "CLOSED");
+            waitUntilWritten(journal, 5);
+
+            List<Map<String, Object>> transitions =
+                    journal.query("normalApi", 0, Long.MAX_VALUE, JournalEventType.TRANSITION, 2);
+            assertEquals(sequences(4, 3), sequenceOf(transitions));
+            assertEquals("CLOSED", transitions.get(0).get("detail"));
+            assertEquals("HALF_OPEN", transitions.get(1).get("detail"));
+
+            assertEquals(sequences(2, 2),
+                    sequenceOf(journal.query(null, 0, Long.MAX_VALUE, JournalEventType.REJECTED, 10)));
+            assertTrue(journal.query("unknownApi", 0, Long.MAX_VALUE, null, 10).isEmpty());
+            assertTrue(journal.query(null, 0, System.currentTimeMillis() - 60_000, null, 10).isEmpty());
+        }
+    }
+
+    private static EventJournal open(Path path) throws Exception {
+        return new EventJournal(JournalFile.open(path, CAPACITY, MAX_NAMES), 64, 1.0, 1.0, 0);
+    }
+
+    private static void waitUntilWritten(EventJournal journal, long count) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while ((Long) journal.stats().get("written") < count) {
+            assertTrue("journal writer did not catch up", System.currentTimeMillis() < deadline);
+            Thread.sleep(1);
+        }
+    }
+
+    /** from 부터 to 까지 1씩 줄어드는 순번 */
+    private static List<Long> sequences(long from, long to) {
+        List<Long> sequences = new ArrayList<>();
+        for (long sequence = from; sequence >= to; sequence--) {
+            sequences.add(sequence);
+        }
+        return sequences;
+    }
+
+    private static List<Long> sequenceOf(List<Map<String, Object>> events) {
+        List<Long> sequences = new ArrayList<>();
+        for (Map<String, Object> event : events) {
+            sequences.add((Long) event.get("sequence"));
+        }
+        return sequences;
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.keyed;
+
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * 키별 서킷 테이블의 메모리 사용량
+ *
+ * 키마다 실패 / 성공 호출을 윈도우 크기만큼 기록한 뒤, 테이블을 만들기 전과 GC 후 힙 사용량 차이를 키 수로 나눕니다.
+ * (키 문자열 tenant-123456 포함, 약 56 B)
+ */
+public class CompactBreakerTableFootprintTest {
+
+    private static final int WINDOW = 20;
+    private static final int KEYS = 100_000;
+    private static final long MAX_BYTES_PER_KEY = 160;
+
+    /** 측정이 끝날 때까지 테이블이 수거되지 않도록 참조 유지 */
+    private static volatile Object sink;
+
+    @Test
+    public void retainsUnder160BytesPerKey() throws Exception {
+        long before = usedHeap();
+        CompactBreakerTable table = table(KEYS);
+        record(table, 0, KEYS);
+        long retained = usedHeap() - before;
+        sink = table;
+
+        long bytesPerKey = retained / KEYS;
+        Map<String, Object> stats = table.stats();
+        System.out.printf("compact: %d keys, %d KB, %d B/key (estimated %s B/key)%n",
+                KEYS, retained / 1024, bytesPerKey, stats.get("bytesPerBreaker"));
+        assertEquals((long) KEYS, stats.get("keys"));
+        assertTrue("retained " + bytesPerKey + " B/key", bytesPerKey <= MAX_BYTES_PER_KEY);
+        // /actuator/keyedbreakers 의 추정치가 실제 사용량과 크게 다르지 않은지
+        long estimated = (Long) stats.get("estimatedBytes");
+        assertTrue("estimated " + estimated + " B, retained " + retained + " B",
+                Math.abs(estimated - retained) <= retained / 4);
+        sink = null;
+    }
+
+    @Test
+    public void boundedTableDoesNotGrowWithNewKeys() throws Exception {
+        int maxKeys = 10_000;
+        long before = usedHeap();
+        CompactBreakerTable table = table(maxKeys);
+        record(table, 0, maxKeys);
+        long retainedAtMaxKeys = usedHeap() - before;
+        sink = table;
+
+        record(table, maxKeys, KEYS * 10);
+        long retained = usedHeap() - before;
+        Map<String, Object> stats = table.stats();
+        System.out.printf("compact(bounded): %d keys, %d KB -> %d KB, %s evictions%n",
+                KEYS * 10, retainedAtMaxKeys / 1024, retained / 1024, stats.get("evictions"));
+        assertEquals((long) maxKeys, stats.get("keys"));
+        assertEquals((long) (KEYS * 10 - maxKeys), stats.get("evictions"));
+        // 키가 100배로 늘어도 그대로 (제거하지 않으면 100배, GC 측정 오차를 감안해 2배 미만만 확인)
+        assertTrue("retained " + retained + " B, at max-keys " + retainedAtMaxKeys + " B",
+                retained < retainedAtMaxKeys * 2);
+        sink = null;
+    }
+
+    private static CompactBreakerTable table(int maxKeys) {
+        return new CompactBreakerTable(new KeyedBreakerConfig(maxKeys, WINDOW, WINDOW, 50, 2000, 100, 10_000, 3));
+    }
+
+    private static void record(CompactBreakerTable table, int from, int to) {
+        for (int i = from; i < to; i++) {
+            String key = "tenant-" + i;
+            for (int call = 0; call < WINDOW; call++) {
+                if (table.tryAcquire(key)) {
+                    table.onResult(key, call % 4 == 0, 1);
+                }
+            }
+        }
+    }
+
+    /**
+     * 힙 사용량이 두 번 연속 같아질 때까지 GC 를 반복한 뒤의 사용량 (참조 처리 후 다음 GC 에서 수거되는 객체 포함)
+     */
+    private static long usedHeap() throws InterruptedException {
+        long used = -1;
+        for (int i = 0; i < 20; i++) {
+            System.gc();
+            Thread.sleep(100);
+            long current = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+            if (current == used && i >= 2) {
+                break;
+            }
+            used = current;
+        }
+        return used;
+    }
+}
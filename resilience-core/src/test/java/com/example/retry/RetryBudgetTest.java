@@ -0,0 +1,45 @@
+package com.example.retry;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class RetryBudgetTest {
+
+    @Test
+    public void startsEmpty() {
+        RetryBudget budget = new RetryBudget(10);
+        assertFalse(budget.tryAcquire());
+        assertEquals(0.0, budget.availableTokens(), 0.0);
+    }
+
+    @Test
+    public void allowsOneRetryPerBudgetPercentOfSuccesses() {
+        RetryBudget budget = new RetryBudget(10);
+        for (int i = 0; i < 9; i++) {
+            budget.deposit(10);
+        }
+        assertEquals(0.9, budget.availableTokens(), 1e-9);
+        assertFalse(budget.tryAcquire());
+
+        budget.deposit(10);
+        assertTrue(budget.tryAcquire());
+        assertFalse(budget.tryAcquire());
+        assertEquals(0.0, budget.availableTokens(), 1e-9);
+    }
+
+    @Test
+    public void stopsAtMaxTokens() {
+        RetryBudget budget = new RetryBudget(3);
+        for (int i = 0; i < 100; i++) {
+            budget.deposit(50);
+        }
+        assertEquals(3.0, budget.availableTokens(), 0.0);
+        assertTrue(budget.tryAcquire());
+        assertTrue(budget.tryAcquire());
+        assertTrue(budget.tryAcquire());
+        assertFalse(budget.tryAcquire());
+    }
+}
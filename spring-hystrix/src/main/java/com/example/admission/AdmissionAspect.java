@@ -0,0 +1,84 @@
+package com.example.admission;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.servlet.http.HttpServletRequest;
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * @HystrixCommand / @HystrixCollapser / @KeyedCircuitBreaker 메소드 호출 전에 AdmissionController 에서 실행 자리를 얻습니다.
+ *
+ * - 우선순위: 메소드의 @RequestPriority > 클래스의 @RequestPriority > DEFAULT
+ *   요청 헤더(app.admission.header)로는 이보다 낮출 수만 있습니다. (클라이언트가 스스로 CRITICAL 로 올려 거절을 피하지 못하도록)
+ * - HTTP 요청 스레드의 호출만 제어합니다. (Collapser 배치, hedge 추가 시도 등 내부 호출은 이미 입장한 요청의 일부)
+ * - HystrixCommandAspect 보다 바깥에서 실행되므로 거절된 호출은 Hystrix 스레드풀과 서킷 메트릭에 닿지 않습니다.
+ */
+@Aspect
+public class AdmissionAspect implements Ordered {
+
+    private static final ThreadLocal<Boolean> ADMITTED = new ThreadLocal<Boolean>();
+
+    private final AdmissionController admissionController;
+    private final String header;
+    private final ConcurrentMap<Method, Priority> priorities = new ConcurrentHashMap<Method, Priority>();
+
+    public AdmissionAspect(AdmissionController admissionController, String header) {
+        this.admissionController = admissionController;
+        this.header = header;
+    }
+
+    @Around("@annotation(com.netflix.hystrix.contrib.javanica.annotation.HystrixCommand)"
+            + " || @annotation(com.netflix.hystrix.contrib.javanica.annotation.HystrixCollapser)"
+            + " || @annotation(com.example.keyed.KeyedCircuitBreaker)")
+    public Object admit(ProceedingJoinPoint joinPoint) throws Throwable {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (ADMITTED.get() != null || !(attributes instanceof ServletRequestAttributes)) {
+            return joinPoint.proceed();
+        }
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        admissionController.acquire(priorityOf(((ServletRequestAttributes) attributes).getRequest(), method));
+        ADMITTED.set(Boolean.TRUE);
+        try {
+            return joinPoint.proceed();
+        } finally {
+            ADMITTED.remove();
+            admissionController.release();
+        }
+    }
+
+    private Priority priorityOf(HttpServletRequest request, Method method) {
+        Priority priority = priorities.get(method);
+        if (priority == null) {
+            priority = annotatedPriority(method);
+            priorities.putIfAbsent(method, priority);
+        }
+        Priority requested = Priority.parse(request.getHeader(header));
+        return requested != null ? Priority.lower(priority, requested) : priority;
+    }
+
+    private static Priority annotatedPriority(Method method) {
+        RequestPriority annotation = AnnotatedElementUtils.findMergedAnnotation(method, RequestPriority.class);
+        if (annotation == null) {
+            annotation = AnnotatedElementUtils.findMergedAnnotation(method.getDeclaringClass(), RequestPriority.class);
+        }
+        return annotation != null ? annotation.value() : Priority.DEFAULT;
+    }
+
+    /**
+     * HystrixCommandAspect(순서 지정 없음) 보다 먼저 실행
+     */
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+}
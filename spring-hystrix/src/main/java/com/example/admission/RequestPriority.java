@@ -0,0 +1,18 @@
+package com.example.admission;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Hystrix Command 메소드(또는 클래스)의 기본 우선순위
+ * 요청에 우선순위 헤더가 있으면 헤더 값이 우선합니다. 어노테이션이 없으면 DEFAULT
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+public @interface RequestPriority {
+    Priority value();
+}
@@ -0,0 +1,98 @@
+package com.example.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 마지막으로 성공한 응답(Last-Known-Good)을 보관하는 캐시
+ *
+ * - 보호된 호출이 성공할 때마다 저장하고, 서킷 OPEN/타임아웃 시 Fallback 에서 조회합니다.
+ * - Caffeine(W-TinyLFU)을 사용하므로 한 번만 쓰이는 키가 몰려도 자주 쓰이는 항목이 밀려나지 않습니다.
+ * - 조회(getIfPresent)는 락 없이 동작하므로 서킷이 열려 모든 요청이 Fallback 으로 몰려도 경합이 없습니다.
+ */
+public class LastKnownGoodCache {
+
+    private final Cache<String, Entry> cache;
+
+    // Fallback 에서 제공한 응답의 경과 시간(staleness)
+    private final LongAdder servedCount = new LongAdder();
+    private final LongAdder servedAgeSumMillis = new LongAdder();
+    private final LongAccumulator servedAgeMaxMillis = new LongAccumulator(Math::max, 0);
+
+    public LastKnownGoodCache(long maximumSize, long ttlSeconds) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttlSeconds, TimeUnit.SECONDS)
+                .recordStats()
+                .build();
+    }
+
+    public void put(String key, String value) {
+        cache.put(key, new Entry(value, System.currentTimeMillis()));
+    }
+
+    /**
+     * 저장된 응답을 조회합니다. 없으면 null 을 반환합니다.
+     */
+    public CachedValue get(String key) {
+        Entry entry = cache.getIfPresent(key);
+        if (entry == null) {
+            return null;
+        }
+        long ageMillis = Math.max(0, System.currentTimeMillis() - entry.storedAt);
+        servedCount.increment();
+        servedAgeSumMillis.add(ageMillis);
+        servedAgeMaxMillis.accumulate(ageMillis);
+        return new CachedValue(entry.value, ageMillis);
+    }
+
+    public Map<String, Object> stats() {
+        CacheStats stats = cache.stats();
+        long served = servedCount.sum();
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("size", cache.estimatedSize());
+        result.put("hitCount", stats.hitCount());
+        result.put("missCount", stats.missCount());
+        result.put("hitRate", stats.hitRate());
+        result.put("evictionCount", stats.evictionCount());
+        result.put("stalenessAvgMs", served == 0 ? 0 : servedAgeSumMillis.sum() / served);
+        result.put("stalenessMaxMs", servedAgeMaxMillis.get());
+        return result;
+    }
+
+    private static final class Entry {
+        private final String value;
+        private final long storedAt;
+
+        private Entry(String value, long storedAt) {
+            this.value = value;
+            this.storedAt = storedAt;
+        }
+    }
+
+    public static final class CachedValue {
+        private final String value;
+        private final long ageMillis;
+
+        private CachedValue(String value, long ageMillis) {
+            this.value = value;
+            this.ageMillis = ageMillis;
+        }
+
+        public String getValue() {
+            return value;
+        }
+
+        public long getAgeMillis() {
+            return ageMillis;
+        }
+    }
+}
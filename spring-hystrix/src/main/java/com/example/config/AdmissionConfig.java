@@ -0,0 +1,45 @@
+package com.example.config;
+
+import com.example.admission.AdmissionAspect;
+import com.example.admission.AdmissionController;
+import com.example.admission.Priority;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
+import org.springframework.core.env.Environment;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 우선순위 기반 입장 제어 (모든 Hystrix Command 가 공유, /api/admission/stats)
+ * 설정: 'application.properties'의 app.admission.* (시작할 때 한 번 적용)
+ */
+@Configuration
+@PropertySource("classpath:application.properties")
+public class AdmissionConfig {
+
+    /** 우선순위별 최대 동시 실행 비율이자 거절을 시작하는 부하 (CRITICAL, DEFAULT, SHEDDABLE) */
+    private static final double[] DEFAULT_SHARES = {1.0, 0.8, 0.5};
+
+    @Bean
+    public AdmissionController admissionController(Environment environment) {
+        Map<Priority, Double> shares = new EnumMap<Priority, Double>(Priority.class);
+        for (Priority priority : Priority.values()) {
+            shares.put(priority, environment.getProperty("app.admission.share." + priority.name().toLowerCase(Locale.ROOT),
+                    Double.class, DEFAULT_SHARES[priority.ordinal()]));
+        }
+        return new AdmissionController(
+                environment.getProperty("app.admission.maxConcurrent", Integer.class, 50),
+                environment.getProperty("app.admission.maxQueue", Integer.class, 25),
+                environment.getProperty("app.admission.targetQueueDelayMillis", Long.class, 50L),
+                shares);
+    }
+
+    @Bean
+    public AdmissionAspect admissionAspect(AdmissionController admissionController, Environment environment) {
+        return new AdmissionAspect(admissionController,
+                environment.getProperty("app.admission.header", "X-Request-Priority"));
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.config;
+
+import com.example.cache.LastKnownGoodCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
+
+/**
+ * Fallback 용 Last-Known-Good 캐시 설정
+ * 'application.properties'의 app.cache.lastKnownGood.* 값을 사용합니다.
+ */
+@Configuration
+@PropertySource("classpath:application.properties")
+public class CacheConfig {
+
+    @Bean
+    public LastKnownGoodCache lastKnownGoodCache(
+            @Value("${app.cache.lastKnownGood.maximumSize:1000}") long maximumSize,
+            @Value("${app.cache.lastKnownGood.ttlSeconds:600}") long ttlSeconds) {
+        return new LastKnownGoodCache(maximumSize, ttlSeconds);
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.config;
+
+import com.example.guard.GuardedMethods;
+import com.example.hystrix.CompiledCommandAdvisor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/**
+ * 컴파일 시점에 생성된 코드로 @HystrixCommand 실행 (guard-processor)
+ * 설정: 'application.properties'의 app.compiledCommands.enabled (false 이면 모든 메소드를 javanica 가 처리)
+ * Advisor 는 BeanPostProcessor 단계에서 만들어지므로 static Bean 으로 등록합니다.
+ */
+@Configuration
+public class CompiledCommandConfig {
+
+    @Bean
+    public static CompiledCommandAdvisor compiledCommandAdvisor(Environment environment) {
+        GuardedMethods guardedMethods = environment.getProperty("app.compiledCommands.enabled", Boolean.class, true)
+                ? GuardedMethods.load(CompiledCommandConfig.class.getClassLoader())
+                : GuardedMethods.empty();
+        return new CompiledCommandAdvisor(guardedMethods);
+    }
+}
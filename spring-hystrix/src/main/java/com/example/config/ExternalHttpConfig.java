@@ -0,0 +1,42 @@
+package com.example.config;
+
+import com.example.http.ExternalHttpClients;
+import com.example.http.ExternalHttpMetrics;
+import com.example.service.ExternalService;
+import com.example.service.HttpExternalService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.annotation.PropertySource;
+import org.springframework.core.env.Environment;
+
+/**
+ * 시뮬레이션 대신 실제 HTTP 호출을 하는 ExternalService 등록 (http 프로필)
+ * 실행: -Dspring.profiles.active=http
+ * 설정: 'application.properties'의 app.external.service.url, app.external.http.{default|groupKey}.*
+ */
+@Configuration
+@Profile("http")
+@PropertySource("classpath:application.properties")
+public class ExternalHttpConfig {
+
+    /**
+     * 그룹별 요청 수, 실패 원인(풀 고갈 / 연결·읽기 타임아웃), 커넥션 풀 상태 (GET /metrics)
+     */
+    @Bean
+    public ExternalHttpMetrics externalHttpMetrics() {
+        return new ExternalHttpMetrics();
+    }
+
+    @Bean(destroyMethod = "close")
+    public ExternalHttpClients externalHttpClients(Environment environment) {
+        return new ExternalHttpClients(environment, externalHttpMetrics());
+    }
+
+    @Bean
+    public ExternalService httpExternalService(@Value("${app.external.service.url}") String url,
+                                               ExternalHttpClients externalHttpClients) {
+        return new HttpExternalService(url, externalHttpClients);
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.config;
+
+import com.example.gossip.BreakerGossip;
+import com.example.gossip.GossipTransport;
+import com.example.hystrix.HystrixBreakerControl;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.annotation.PropertySource;
+import org.springframework.core.env.Environment;
+
+import java.net.InetAddress;
+import java.net.SocketException;
+import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 노드 간 서킷 상태 공유 (gossip 프로필)
+ * 실행: -Dspring.profiles.active=gossip (http 프로필과 함께 사용할 때는 http,gossip)
+ * 설정: 'application.properties'의 app.gossip.*
+ */
+@Configuration
+@Profile("gossip")
+@PropertySource("classpath:application.properties")
+public class GossipConfig {
+
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    public BreakerGossip breakerGossip(Environment environment) throws SocketException {
+        int port = environment.getProperty("app.gossip.port", Integer.class, 7800);
+        List<String> peers = new ArrayList<>();
+        for (String peer : environment.getProperty("app.gossip.peers", "").split(",")) {
+            if (!peer.trim().isEmpty()) {
+                peers.add(peer.trim());
+            }
+        }
+        String nodeId = environment.getProperty("app.gossip.nodeId", "");
+        if (nodeId.isEmpty()) {
+            nodeId = hostName() + ":" + port;
+        }
+        return new BreakerGossip(nodeId, new HystrixBreakerControl(), new GossipTransport(port, peers),
+                environment.getProperty("app.gossip.intervalMillis", Long.class, 500L),
+                environment.getProperty("app.gossip.peerTimeoutMillis", Long.class, 2000L),
+                environment.getProperty("app.gossip.probers", Integer.class, 1));
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "localhost";
+        }
+    }
+}
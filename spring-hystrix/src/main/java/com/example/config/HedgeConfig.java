@@ -0,0 +1,19 @@
+package com.example.config;
+
+import com.example.hedge.RequestHedger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Hedged Request 실행기 등록
+ * 설정: hystrix.command.{default|commandKey}.hedge.*, 실행 풀 크기는 app.hedge.maxThreads
+ */
+@Configuration
+public class HedgeConfig {
+
+    @Bean(destroyMethod = "shutdown")
+    public RequestHedger requestHedger(@Value("${app.hedge.maxThreads:50}") int maxThreads) {
+        return new RequestHedger(maxThreads);
+    }
+}
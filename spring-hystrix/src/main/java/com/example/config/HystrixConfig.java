@@ -1,25 +1,50 @@
 package com.example.config;
 
+import com.example.hystrix.AdaptiveConcurrencyStrategy;
+import com.example.hystrix.AdaptiveThresholdNotifier;
+import com.example.hystrix.CircuitStateMonitor;
+import com.example.hystrix.CompositeEventNotifier;
+import com.example.hystrix.HystrixConfigStore;
+import com.example.hystrix.StripedWindowNotifier;
+import com.example.hystrix.WatchedPropertiesConfigurationSource;
+import com.example.journal.JournalEventNotifier;
+import com.example.metrics.HystrixLatencyMetrics;
+import com.example.metrics.MetricsEventNotifier;
+import com.example.metrics.MetricsExecutionHook;
 import com.netflix.config.ConfigurationManager;
 import com.netflix.config.DynamicConfiguration;
+import com.netflix.config.DynamicWatchedConfiguration;
 import com.netflix.config.FixedDelayPollingScheduler;
 import com.netflix.config.PolledConfigurationSource;
 import com.netflix.config.sources.URLConfigurationSource;
 import com.netflix.hystrix.contrib.javanica.aop.aspectj.HystrixCommandAspect;
+import com.netflix.hystrix.strategy.HystrixPlugins;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.EnableAspectJAutoProxy;
 
 import javax.annotation.PostConstruct;
+import java.io.IOException;
 
 @Configuration
 @EnableAspectJAutoProxy
 public class HystrixConfig {
+
+    /**
+     * 이벤트 저널 (JournalConfig), EventNotifier 를 등록하기 전에 주입됩니다.
+     */
+    @Autowired
+    private JournalEventNotifier journalEventNotifier;
+
     @PostConstruct
     public void init() {
-        //2 가지 방식 중 원하는 방식 택 1
+        //3 가지 방식 중 원하는 방식 택 1
 //        loadStaticHystrixConfiguration();
-        startDynamicHystrixPolling();
+//        startDynamicHystrixPolling();
+        startWatchedHystrixConfiguration();
+        registerConcurrencyStrategy();
+        registerMetricsPlugins();
     }
 
     /**
@@ -53,6 +78,102 @@ public class HystrixConfig {
         }
     }
 
+    /**
+     * 파일 변경 감지(WatchService) + Push 방식으로 Hystrix 설정을 동적으로 로드합니다.
+     * 폴링 없이 'hystrix.properties' 가 바뀐 즉시 변경된 키만 Archaius 에 반영합니다.
+     */
+    private void startWatchedHystrixConfiguration() {
+        try {
+            WatchedPropertiesConfigurationSource source = watchedConfigurationSource();
+            ConfigurationManager.install(new DynamicWatchedConfiguration(source));
+            // 일괄 변경(/config/snapshot)도 이 소스로 반영하므로 설정 소스와 함께 연결
+            hystrixConfigStore().trackConfigurationChanges();
+            source.start();
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to configure watched Hystrix configuration", e);
+        }
+    }
+
+    /**
+     * 'hystrix.properties' 변경 감지 및 Push(/config/push) 설정 소스
+     */
+    @Bean(destroyMethod = "stop")
+    public WatchedPropertiesConfigurationSource watchedConfigurationSource() throws IOException {
+        return WatchedPropertiesConfigurationSource.fromClasspath("hystrix.properties");
+    }
+
+    /**
+     * 전체 Command / ThreadPool 설정 스냅샷 조회 및 일괄 변경 (/config/snapshot)
+     */
+    @Bean
+    public HystrixConfigStore hystrixConfigStore() throws IOException {
+        return new HystrixConfigStore(watchedConfigurationSource());
+    }
+
+    /**
+     * 서킷 상태 조회(부수 효과 없음) 및 상태 변경 SSE 스트림 (/api/status, /api/status/stream)
+     * 구독자가 있을 때만 100ms 간격으로 메모리 상태를 비교하며, SSE 연결은 30분 후 종료(클라이언트가 자동 재연결)
+     */
+    @Bean(destroyMethod = "shutdown")
+    public CircuitStateMonitor circuitStateMonitor() {
+        return new CircuitStateMonitor(100, 30 * 60 * 1000);
+    }
+
+    /**
+     * 스레드풀 생성을 AdaptiveConcurrencyStrategy 로 대체합니다.
+     * Hystrix Command 가 처음 실행되기 전에 등록해야 합니다.
+     */
+    private void registerConcurrencyStrategy() {
+        HystrixPlugins.getInstance().registerConcurrencyStrategy(adaptiveConcurrencyStrategy());
+    }
+
+    /**
+     * Command 별 지연 시간(execution / fallback), 이벤트, 서킷 상태 전이를 기록하고 적응형 임계치를 판단합니다.
+     * 상태 전이 / 거절 / 타임아웃 / 샘플링한 호출 결과는 이벤트 저널 파일에도 남깁니다.
+     * ConcurrencyStrategy 와 마찬가지로 Hystrix Command 가 처음 실행되기 전에 등록해야 합니다.
+     */
+    private void registerMetricsPlugins() {
+        HystrixPlugins.getInstance().registerCommandExecutionHook(new MetricsExecutionHook(hystrixLatencyMetrics()));
+        HystrixPlugins.getInstance().registerEventNotifier(new CompositeEventNotifier(
+                new MetricsEventNotifier(hystrixLatencyMetrics()), adaptiveThresholdNotifier(), stripedWindowNotifier(),
+                journalEventNotifier));
+    }
+
+    /**
+     * 오류율 / 지연 시간 기준선을 학습해 기준선에서 크게 벗어나면 서킷을 여는 적응형 임계치 (/config/adaptive-thresholds)
+     * 설정: hystrix.command.{default|commandKey}.adaptiveThreshold.*
+     */
+    @Bean(destroyMethod = "close")
+    public AdaptiveThresholdNotifier adaptiveThresholdNotifier() {
+        return new AdaptiveThresholdNotifier();
+    }
+
+    /**
+     * 실행 결과를 잠금 없는 stripe 윈도우에 기록해 HealthCounts 스냅샷을 기다리지 않고 서킷을 여는 판단 (/config/striped-windows)
+     * 설정: hystrix.command.{default|commandKey}.stripedWindow.*
+     */
+    @Bean
+    public StripedWindowNotifier stripedWindowNotifier() {
+        return new StripedWindowNotifier();
+    }
+
+    /**
+     * HdrHistogram 기반 Command 메트릭 (GET /metrics, Prometheus 텍스트 포맷)
+     */
+    @Bean
+    public HystrixLatencyMetrics hystrixLatencyMetrics() {
+        return new HystrixLatencyMetrics();
+    }
+
+    /**
+     * 그룹별 Adaptive Concurrency Limit 을 적용하는 ConcurrencyStrategy
+     * 설정: hystrix.threadpool.{default|poolKey}.adaptiveLimit.*
+     */
+    @Bean
+    public AdaptiveConcurrencyStrategy adaptiveConcurrencyStrategy() {
+        return new AdaptiveConcurrencyStrategy();
+    }
+
     /**
      * HystrixCommandAspect Bean을 등록하여 @HystrixCommand 어노테이션 처리
      * 이 Bean이 없으면 @HystrixCommand가 동작하지 않음
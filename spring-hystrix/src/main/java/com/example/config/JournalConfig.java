@@ -0,0 +1,45 @@
+package com.example.config;
+
+import com.example.journal.EventJournal;
+import com.example.journal.JournalEventNotifier;
+import com.example.journal.JournalFile;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
+import org.springframework.core.env.Environment;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+
+/**
+ * 서킷 상태 전이 / 거절 / 타임아웃 / 호출 결과 이벤트 저널 (/api/journal, /api/journal/stats)
+ * 설정: 'application.properties'의 app.journal.* (파일 크기가 바뀌면 기존 파일을 새로 만듦)
+ * EventNotifier 는 HystrixConfig 가 다른 EventNotifier 와 함께 등록합니다.
+ */
+@Configuration
+@PropertySource("classpath:application.properties")
+public class JournalConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(JournalConfig.class);
+
+    @Bean(destroyMethod = "close")
+    public EventJournal eventJournal(Environment environment) throws IOException {
+        JournalFile file = JournalFile.open(
+                Paths.get(environment.getProperty("app.journal.path", "journal/spring-hystrix.journal")),
+                environment.getProperty("app.journal.capacity", Integer.class, 1 << 20),
+                environment.getProperty("app.journal.maxNames", Integer.class, 1024));
+        log.info("Event journal {} opened - {} events recovered", file.getPath().toAbsolutePath(), file.getRecovered());
+        return new EventJournal(file,
+                environment.getProperty("app.journal.stagingCapacity", Integer.class, 1 << 16),
+                environment.getProperty("app.journal.successSampleRate", Double.class, 0.01),
+                environment.getProperty("app.journal.failureSampleRate", Double.class, 1.0),
+                environment.getProperty("app.journal.forceIntervalMillis", Long.class, 0L));
+    }
+
+    @Bean
+    public JournalEventNotifier journalEventNotifier(EventJournal eventJournal) {
+        return new JournalEventNotifier(eventJournal);
+    }
+}
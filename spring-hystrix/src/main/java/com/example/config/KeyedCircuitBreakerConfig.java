@@ -0,0 +1,39 @@
+package com.example.config;
+
+import com.example.keyed.KeyedBreakerConfig;
+import com.example.keyed.KeyedBreakerRegistry;
+import com.example.keyed.KeyedCircuitBreakerAspect;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
+import org.springframework.core.env.Environment;
+
+/**
+ * 키별 서킷 브레이커(@KeyedCircuitBreaker, /api/keyed/stats)
+ * 설정: 'application.properties'의 app.keyedBreaker.{name}.* (이름별 테이블을 처음 만들 때 한 번 적용)
+ */
+@Configuration
+@PropertySource("classpath:application.properties")
+public class KeyedCircuitBreakerConfig {
+
+    @Bean
+    public KeyedBreakerRegistry keyedBreakerRegistry(final Environment environment) {
+        return new KeyedBreakerRegistry(name -> {
+            String prefix = "app.keyedBreaker." + name + ".";
+            return new KeyedBreakerConfig(
+                    environment.getProperty(prefix + "maxKeys", Integer.class, 10000),
+                    environment.getProperty(prefix + "slidingWindowSize", Integer.class, 20),
+                    environment.getProperty(prefix + "minimumNumberOfCalls", Integer.class, 10),
+                    environment.getProperty(prefix + "failureRateThreshold", Float.class, 50f),
+                    environment.getProperty(prefix + "slowCallDurationMillis", Long.class, 2000L),
+                    environment.getProperty(prefix + "slowCallRateThreshold", Float.class, 100f),
+                    environment.getProperty(prefix + "waitDurationInOpenMillis", Long.class, 10000L),
+                    environment.getProperty(prefix + "permittedCallsInHalfOpen", Integer.class, 3));
+        });
+    }
+
+    @Bean
+    public KeyedCircuitBreakerAspect keyedCircuitBreakerAspect(KeyedBreakerRegistry keyedBreakerRegistry) {
+        return new KeyedCircuitBreakerAspect(keyedBreakerRegistry);
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.config;
+
+import com.example.retry.RequestRetrier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 재시도 예산이 있는 재시도 실행기 등록
+ * 설정: hystrix.command.{default|commandKey}.retry.*
+ */
+@Configuration
+public class RetryConfig {
+
+    @Bean
+    public RequestRetrier requestRetrier() {
+        return new RequestRetrier();
+    }
+}
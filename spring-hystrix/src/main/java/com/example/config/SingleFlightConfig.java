@@ -0,0 +1,24 @@
+package com.example.config;
+
+import com.example.singleflight.SingleFlight;
+import com.example.singleflight.SingleFlightAspect;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 같은 인자로 동시에 실행 중인 @HystrixCommand 호출 합치기 (/api/single-flight/stats)
+ * 설정: hystrix.command.{default|commandKey}.singleFlight.enabled
+ */
+@Configuration
+public class SingleFlightConfig {
+
+    @Bean
+    public SingleFlight singleFlight() {
+        return new SingleFlight();
+    }
+
+    @Bean
+    public SingleFlightAspect singleFlightAspect(SingleFlight singleFlight) {
+        return new SingleFlightAspect(singleFlight);
+    }
+}
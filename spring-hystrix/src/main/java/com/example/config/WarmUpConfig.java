@@ -0,0 +1,28 @@
+package com.example.config;
+
+import com.example.warmup.CommandWarmUp;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
+import org.springframework.core.env.Environment;
+
+/**
+ * 시작 시 @HystrixCommand 초기화 및 stub 워밍업 (/api/ready)
+ * 설정: 'application.properties'의 app.warmUp.* (enabled=false 이면 첫 요청이 초기화 비용을 치름)
+ */
+@Configuration
+@PropertySource("classpath:application.properties")
+public class WarmUpConfig {
+
+    @Bean
+    public CommandWarmUp commandWarmUp(Environment environment) {
+        return new CommandWarmUp(
+                environment.getProperty("app.warmUp.enabled", Boolean.class, true),
+                environment.getProperty("app.warmUp.batchSize", Integer.class, 200),
+                environment.getProperty("app.warmUp.tolerance", Double.class, 0.1),
+                environment.getProperty("app.warmUp.stableBatches", Integer.class, 3),
+                environment.getProperty("app.warmUp.maxBatches", Integer.class, 50),
+                environment.getProperty("app.warmUp.maxDurationMillis", Long.class, 30000L),
+                environment.getProperty("app.warmUp.failureEvery", Integer.class, 10));
+    }
+}
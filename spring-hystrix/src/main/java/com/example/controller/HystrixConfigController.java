@@ -1,19 +1,127 @@
 package com.example.controller;
 
-import com.netflix.config.ConfigurationManager;
-import com.netflix.hystrix.HystrixCommandKey;
-import com.netflix.hystrix.HystrixCommandProperties;
-import com.netflix.hystrix.strategy.properties.HystrixPropertiesFactory;
+import com.example.hystrix.AdaptiveConcurrencyStrategy;
+import com.example.hystrix.AdaptiveThresholdNotifier;
+import com.example.hystrix.HystrixConfigStore;
+import com.example.hystrix.HystrixConfigStore.BulkUpdateResult;
+import com.example.hystrix.StripedWindowNotifier;
+import com.example.hystrix.WatchedPropertiesConfigurationSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 @RestController
 @RequestMapping("/config")
 public class HystrixConfigController {
 
+    @Autowired
+    private AdaptiveConcurrencyStrategy adaptiveConcurrencyStrategy;
+
+    @Autowired
+    private WatchedPropertiesConfigurationSource watchedConfigurationSource;
+
+    @Autowired
+    private HystrixConfigStore hystrixConfigStore;
+
+    @Autowired
+    private AdaptiveThresholdNotifier adaptiveThresholdNotifier;
+
+    @Autowired
+    private StripedWindowNotifier stripedWindowNotifier;
+
+    /**
+     * 외부(Config Server, 배포 도구 등)에서 Hystrix 설정을 Push
+     * 전체 키 이름(hystrix.command.callFailingApi...)으로 전달하며, 값이 null 이면 Push 값을 제거하고 파일 값으로 돌아갑니다.
+     * 실제로 바뀐 키(added/changed/deleted)만 반영하고 그 내역을 반환
+     */
+    @RequestMapping(value = "/push", method = RequestMethod.POST)
+    @ResponseBody
+    public ResponseEntity<Map<String, Map<String, Object>>> pushConfig(@RequestBody Map<String, Object> properties) {
+        return ResponseEntity.ok(watchedConfigurationSource.push(properties));
+    }
+
+    /**
+     * 그룹(스레드풀)별 Adaptive Concurrency Limit 현재 상태 조회
+     * limit, 실행 중 요청 수, RTT(short/long), 거절 건수를 확인
+     */
+    @RequestMapping(value = "/adaptive-limits", method = RequestMethod.GET)
+    @ResponseBody
+    public ResponseEntity<Map<String, Map<String, Object>>> getAdaptiveLimits() {
+        return ResponseEntity.ok(adaptiveConcurrencyStrategy.getLimitSnapshots());
+    }
+
+    /**
+     * Command 별 적응형 임계치 조회 (adaptiveThreshold.enabled=true 인 Command)
+     * 학습한 오류율 / 지연 시간 기준선, 현재 임계치와 상한 / 하한, 윈도우 값, 적응형 판단으로 연 횟수를 확인
+     */
+    @RequestMapping(value = "/adaptive-thresholds", method = RequestMethod.GET)
+    @ResponseBody
+    public ResponseEntity<Map<String, Map<String, Object>>> getAdaptiveThresholds() {
+        return ResponseEntity.ok(adaptiveThresholdNotifier.getBaselineSnapshots());
+    }
+
+    /**
+     * Command 별 stripe 윈도우 조회 (stripedWindow.enabled=true 인 Command)
+     * stripe 수, 윈도우의 호출 / 오류 수와 오류율, stripe 윈도우 판단으로 연 횟수를 확인
+     */
+    @RequestMapping(value = "/striped-windows", method = RequestMethod.GET)
+    @ResponseBody
+    public ResponseEntity<Map<String, Map<String, Object>>> getStripedWindows() {
+        return ResponseEntity.ok(stripedWindowNotifier.getWindowSnapshots());
+    }
+
+    /**
+     * 실행된 모든 Command / ThreadPool 설정을 한 번에 조회
+     * 응답의 ETag(버전)는 설정이 바뀌기 전까지 같으며, If-None-Match 가 일치하면 304 를 반환
+     */
+    @RequestMapping(value = "/snapshot", method = RequestMethod.GET)
+    @ResponseBody
+    public ResponseEntity<Map<String, Object>> getSnapshot(
+            @RequestHeader(value = "If-None-Match", required = false) String ifNoneMatch) {
+        HystrixConfigStore.Snapshot snapshot = hystrixConfigStore.snapshot();
+        if (snapshot.getETag().equals(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(snapshot.getETag()).build();
+        }
+        return ResponseEntity.ok().eTag(snapshot.getETag()).body(snapshot.getBody());
+    }
+
+    /**
+     * 여러 Command / ThreadPool 설정을 한 번에 변경
+     * 전체를 검증한 뒤 적용하며, 하나라도 잘못되면 아무것도 적용하지 않음 (400)
+     * If-Match 헤더에 스냅샷의 ETag 를 전달하면 그 사이 설정이 바뀐 경우 412 를 반환
+     *
+     * @param changeSet {"commands": {commandKey: {section: {name: value}}}, "threadPools": {poolKey: {name: value}}}
+     */
+    @RequestMapping(value = "/snapshot", method = RequestMethod.PUT)
+    @ResponseBody
+    public ResponseEntity<Map<String, Object>> updateSnapshot(
+            @RequestHeader(value = "If-Match", required = false) String ifMatch,
+            @RequestBody Map<String, Object> changeSet) {
+        BulkUpdateResult result = hystrixConfigStore.apply(changeSet, ifMatch);
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("success", result.getStatus() == BulkUpdateResult.Status.APPLIED);
+        body.put("updatedProperties", result.getUpdatedProperties());
+        body.put("errors", result.getErrors());
+
+        switch (result.getStatus()) {
+            case APPLIED:
+                return ResponseEntity.ok().eTag(result.getETag()).body(body);
+            case INVALID:
+                return ResponseEntity.badRequest().body(body);
+            case VERSION_MISMATCH:
+                return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).eTag(result.getETag()).body(body);
+            default:
+                return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(body);
+        }
+    }
+
     /**
      * Hystrix Command 설정 정보 조회
      * config.properties에 정의된 설정 값들을 확인
@@ -21,57 +129,13 @@ public class HystrixConfigController {
     @RequestMapping(value = "/{commandKey}", method = RequestMethod.GET)
     @ResponseBody
     public ResponseEntity<Map<String, Object>> getCommandConfig(@PathVariable String commandKey) {
-        HystrixCommandKey key = HystrixCommandKey.Factory.asKey(commandKey);
-        HystrixCommandProperties.Setter setter = HystrixCommandProperties.Setter(); // 필요 시
-        HystrixCommandProperties properties = HystrixPropertiesFactory.getCommandProperties(key, setter);
-
-        Map<String, Object> config = new HashMap<>();
-
-        // Circuit Breaker 설정
-        Map<String, Object> circuitBreakerConfig = new HashMap<>();
-        circuitBreakerConfig.put("enabled", properties.circuitBreakerEnabled().get());
-        circuitBreakerConfig.put("requestVolumeThreshold", properties.circuitBreakerRequestVolumeThreshold().get());
-        circuitBreakerConfig.put("sleepWindowInMilliseconds", properties.circuitBreakerSleepWindowInMilliseconds().get());
-        circuitBreakerConfig.put("errorThresholdPercentage", properties.circuitBreakerErrorThresholdPercentage().get());
-        circuitBreakerConfig.put("forceOpen", properties.circuitBreakerForceOpen().get());
-        circuitBreakerConfig.put("forceClosed", properties.circuitBreakerForceClosed().get());
-        config.put("circuitBreaker", circuitBreakerConfig);
-
-        // Execution 설정
-        Map<String, Object> executionConfig = new HashMap<>();
-        executionConfig.put("isolationStrategy", properties.executionIsolationStrategy().get().name());
-        executionConfig.put("timeoutEnabled", properties.executionTimeoutEnabled().get());
-        executionConfig.put("timeoutInMilliseconds", properties.executionTimeoutInMilliseconds().get());
-        executionConfig.put("interruptOnTimeout", properties.executionIsolationThreadInterruptOnTimeout().get());
-        executionConfig.put("interruptOnCancel", properties.executionIsolationThreadInterruptOnFutureCancel().get());
-        config.put("execution", executionConfig);
-
-        // Fallback 설정
-        Map<String, Object> fallbackConfig = new HashMap<>();
-        fallbackConfig.put("enabled", properties.fallbackEnabled().get());
-        fallbackConfig.put("maxConcurrentRequests", properties.fallbackIsolationSemaphoreMaxConcurrentRequests().get());
-        config.put("fallback", fallbackConfig);
-
-        // Metrics 설정
-        Map<String, Object> metricsConfig = new HashMap<>();
-        metricsConfig.put("rollingStatsTimeInMilliseconds", properties.metricsRollingStatisticalWindowInMilliseconds().get());
-        metricsConfig.put("rollingStatsNumBuckets", properties.metricsRollingStatisticalWindowBuckets().get());
-        metricsConfig.put("rollingPercentileEnabled", properties.metricsRollingPercentileEnabled().get());
-        metricsConfig.put("healthSnapshotIntervalInMilliseconds", properties.metricsHealthSnapshotIntervalInMilliseconds().get());
-        config.put("metrics", metricsConfig);
-
-        // Request Context 설정
-        Map<String, Object> requestConfig = new HashMap<>();
-        requestConfig.put("cacheEnabled", properties.requestCacheEnabled().get());
-        requestConfig.put("logEnabled", properties.requestLogEnabled().get());
-        config.put("request", requestConfig);
-
-        return ResponseEntity.ok(config);
+        return ResponseEntity.ok(hystrixConfigStore.commandConfig(commandKey));
     }
 
     /**
      * Hystrix Command 설정 동적 변경
      * Runtime에 Circuit Breaker, Timeout 등의 설정을 변경
+     * /snapshot 일괄 변경과 같은 방식으로 검증 후 한 번에 적용하며, 알 수 없는 속성은 이전처럼 무시
      *
      * @param commandKey Hystrix Command 이름
      * @param configMap 변경할 설정 값들
@@ -84,102 +148,19 @@ public class HystrixConfigController {
             @RequestBody Map<String, Object> configMap) {
 
         Map<String, Object> result = new HashMap<>();
-        Map<String, String> updatedProperties = new HashMap<>();
-
-        try {
-            // Circuit Breaker 설정
-            if (configMap.containsKey("circuitBreaker")) {
-                Map<String, Object> cbConfig = (Map<String, Object>) configMap.get("circuitBreaker");
-
-                if (cbConfig.containsKey("requestVolumeThreshold")) {
-                    String key = "hystrix.command." + commandKey + ".circuitBreaker.requestVolumeThreshold";
-                    String value = String.valueOf(cbConfig.get("requestVolumeThreshold"));
-                    ConfigurationManager.getConfigInstance().setProperty(key, value);
-                    updatedProperties.put(key, value);
-                }
-
-                if (cbConfig.containsKey("errorThresholdPercentage")) {
-                    String key = "hystrix.command." + commandKey + ".circuitBreaker.errorThresholdPercentage";
-                    String value = String.valueOf(cbConfig.get("errorThresholdPercentage"));
-                    ConfigurationManager.getConfigInstance().setProperty(key, value);
-                    updatedProperties.put(key, value);
-                }
-
-                if (cbConfig.containsKey("sleepWindowInMilliseconds")) {
-                    String key = "hystrix.command." + commandKey + ".circuitBreaker.sleepWindowInMilliseconds";
-                    String value = String.valueOf(cbConfig.get("sleepWindowInMilliseconds"));
-                    ConfigurationManager.getConfigInstance().setProperty(key, value);
-                    updatedProperties.put(key, value);
-                }
-
-                if (cbConfig.containsKey("enabled")) {
-                    String key = "hystrix.command." + commandKey + ".circuitBreaker.enabled";
-                    String value = String.valueOf(cbConfig.get("enabled"));
-                    ConfigurationManager.getConfigInstance().setProperty(key, value);
-                    updatedProperties.put(key, value);
-                }
-            }
-
-            // Execution 설정
-            if (configMap.containsKey("execution")) {
-                Map<String, Object> execConfig = (Map<String, Object>) configMap.get("execution");
-
-                if (execConfig.containsKey("timeoutInMilliseconds")) {
-                    String key = "hystrix.command." + commandKey + ".execution.isolation.thread.timeoutInMilliseconds";
-                    String value = String.valueOf(execConfig.get("timeoutInMilliseconds"));
-                    ConfigurationManager.getConfigInstance().setProperty(key, value);
-                    updatedProperties.put(key, value);
-                }
-
-                if (execConfig.containsKey("timeoutEnabled")) {
-                    String key = "hystrix.command." + commandKey + ".execution.timeout.enabled";
-                    String value = String.valueOf(execConfig.get("timeoutEnabled"));
-                    ConfigurationManager.getConfigInstance().setProperty(key, value);
-                    updatedProperties.put(key, value);
-                }
-            }
-
-            // Fallback 설정
-            if (configMap.containsKey("fallback")) {
-                Map<String, Object> fbConfig = (Map<String, Object>) configMap.get("fallback");
-
-                if (fbConfig.containsKey("enabled")) {
-                    String key = "hystrix.command." + commandKey + ".fallback.enabled";
-                    String value = String.valueOf(fbConfig.get("enabled"));
-                    ConfigurationManager.getConfigInstance().setProperty(key, value);
-                    updatedProperties.put(key, value);
-                }
-            }
-
-            // Metrics 설정
-            if (configMap.containsKey("metrics")) {
-                Map<String, Object> metricsConfig = (Map<String, Object>) configMap.get("metrics");
-
-                if (metricsConfig.containsKey("rollingStatsTimeInMilliseconds")) {
-                    String key = "hystrix.command." + commandKey + ".metrics.rollingStats.timeInMilliseconds";
-                    String value = String.valueOf(metricsConfig.get("rollingStatsTimeInMilliseconds"));
-                    ConfigurationManager.getConfigInstance().setProperty(key, value);
-                    updatedProperties.put(key, value);
-                }
-
-                if (metricsConfig.containsKey("healthSnapshotIntervalInMilliseconds")) {
-                    String key = "hystrix.command." + commandKey + ".metrics.healthSnapshot.intervalInMilliseconds";
-                    String value = String.valueOf(metricsConfig.get("healthSnapshotIntervalInMilliseconds"));
-                    ConfigurationManager.getConfigInstance().setProperty(key, value);
-                    updatedProperties.put(key, value);
-                }
-            }
+        BulkUpdateResult update = hystrixConfigStore.apply(
+                Collections.<String, Object>singletonMap("commands", Collections.singletonMap(commandKey, configMap)), null, true);
 
+        if (update.getStatus() == BulkUpdateResult.Status.APPLIED) {
             result.put("success", true);
             result.put("commandKey", commandKey);
-            result.put("updatedProperties", updatedProperties);
+            result.put("updatedProperties", update.getUpdatedProperties());
             result.put("message", "Configuration updated successfully. Note: New settings apply to new command instances.");
-
-        } catch (Exception e) {
+        } else {
             result.put("success", false);
-            result.put("error", e.getMessage());
+            result.put("error", String.join(", ", update.getErrors()));
         }
 
         return ResponseEntity.ok(result);
     }
-}
\ No newline at end of file
+}
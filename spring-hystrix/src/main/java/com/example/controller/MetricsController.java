@@ -0,0 +1,47 @@
+package com.example.controller;
+
+import com.example.http.ExternalHttpMetrics;
+import com.example.metrics.HystrixLatencyMetrics;
+import com.example.metrics.PrometheusTextWriter;
+import com.example.retry.RequestRetrier;
+import com.example.singleflight.SingleFlight;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.ResponseBody;
+
+/**
+ * Prometheus 수집용 메트릭
+ * Command 별 지연 시간(execution / fallback) 분위수, 이벤트 수, 서킷 상태 전이 수, 재시도 / 예산 소진 수와 부하 증폭,
+ * single-flight 로 합쳐진 호출 수와 비율
+ * http 프로필에서는 그룹별 외부 HTTP 호출 실패 원인과 커넥션 풀 상태를 함께 내보냅니다.
+ */
+@Controller
+public class MetricsController {
+
+    @Autowired
+    private HystrixLatencyMetrics hystrixLatencyMetrics;
+
+    @Autowired
+    private RequestRetrier requestRetrier;
+
+    @Autowired
+    private SingleFlight singleFlight;
+
+    @Autowired(required = false)
+    private ExternalHttpMetrics externalHttpMetrics;
+
+    @RequestMapping(value = "/metrics", method = RequestMethod.GET)
+    @ResponseBody
+    public ResponseEntity<String> scrape() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(PrometheusTextWriter.CONTENT_TYPE))
+                .body(externalHttpMetrics != null
+                        ? hystrixLatencyMetrics.scrape() + requestRetrier.scrape() + singleFlight.scrape()
+                                + externalHttpMetrics.scrape()
+                        : hystrixLatencyMetrics.scrape() + requestRetrier.scrape() + singleFlight.scrape());
+    }
+}
@@ -1,17 +1,39 @@
 package com.example.controller;
 
+import com.example.admission.AdmissionController;
+import com.example.admission.AdmissionRejectedException;
+import com.example.cache.LastKnownGoodCache;
+import com.example.gossip.BreakerGossip;
+import com.example.hedge.RequestHedger;
+import com.example.keyed.KeyedBreakerRegistry;
+import com.example.retry.RequestRetrier;
+import com.example.hystrix.CircuitStateMonitor;
+import com.example.journal.EventJournal;
+import com.example.journal.JournalEventType;
 import com.example.service.MyService;
-import com.netflix.hystrix.HystrixCircuitBreaker;
-import com.netflix.hystrix.HystrixCommandKey;
+import com.example.singleflight.SingleFlight;
+import com.example.warmup.CommandWarmUp;
+import com.netflix.hystrix.HystrixRequestLog;
+import com.netflix.hystrix.exception.HystrixRuntimeException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 
 @Controller
 @RequestMapping("/api")
@@ -20,18 +42,73 @@ public class MyServiceTestController {
     @Autowired
     private MyService myService;
 
+    @Autowired
+    private LastKnownGoodCache lastKnownGoodCache;
+
+    @Autowired
+    private RequestHedger requestHedger;
+
+    @Autowired
+    private RequestRetrier requestRetrier;
+
+    @Autowired
+    private CircuitStateMonitor circuitStateMonitor;
+
+    @Autowired(required = false)
+    private BreakerGossip breakerGossip;
+
+    @Autowired
+    private AdmissionController admissionController;
+
+    @Autowired
+    private KeyedBreakerRegistry keyedBreakerRegistry;
+
+    @Autowired
+    private SingleFlight singleFlight;
+
+    @Autowired
+    private EventJournal eventJournal;
+
+    @Autowired
+    private CommandWarmUp commandWarmUp;
+
     /**
      * 1. 정상 API 호출 (항상 성공)
      */
     @RequestMapping(value = "/normal", method = RequestMethod.GET)
     @ResponseBody
     public ResponseEntity<String> callNormalApi() {
-        try {
-            String result = myService.callNormalApi();
-            return ResponseEntity.ok(result);
-        } catch (Exception e) {
-            return ResponseEntity.status(500).body("Error: " + e.getMessage());
+        String result = myService.callNormalApi();
+        return ResponseEntity.ok(result);
+    }
+
+    /**
+     * 1-1. 정상 API 호출 (Request Collapsing)
+     * 동시에 들어온 요청을 묶어 한 번의 외부 호출로 처리
+     */
+    @RequestMapping(value = "/normal/collapsed", method = RequestMethod.GET)
+    @ResponseBody
+    public ResponseEntity<String> callNormalApiCollapsed(@RequestParam(required = false) String requestId) {
+        String id = requestId != null ? requestId : UUID.randomUUID().toString();
+        String result = myService.callNormalApiCollapsed(id);
+        return ResponseEntity.ok(result);
+    }
+
+    /**
+     * 1-2. 같은 요청 안에서 정상 API 를 times 번 호출 (요청 캐시)
+     * 첫 호출만 실행되고 나머지는 HystrixRequestContext 의 요청 캐시에서 응답하며, 요청 로그로 확인할 수 있습니다.
+     */
+    @RequestMapping(value = "/normal/repeated", method = RequestMethod.GET)
+    @ResponseBody
+    public ResponseEntity<Map<String, Object>> callNormalApiRepeated(@RequestParam(defaultValue = "3") int times) {
+        List<String> results = new ArrayList<String>();
+        for (int i = 0; i < Math.max(1, Math.min(times, 20)); i++) {
+            results.add(myService.callNormalApi());
         }
+        Map<String, Object> body = new LinkedHashMap<String, Object>();
+        body.put("results", results);
+        body.put("requestLog", HystrixRequestLog.getCurrentRequest().getExecutedCommandsAsString());
+        return ResponseEntity.ok(body);
     }
 
     /**
@@ -40,12 +117,8 @@ public class MyServiceTestController {
     @RequestMapping(value = "/failing", method = RequestMethod.GET)
     @ResponseBody
     public ResponseEntity<String> callFailingApi() {
-        try {
-            String result = myService.callFailingApi();
-            return ResponseEntity.ok(result);
-        } catch (Exception e) {
-            return ResponseEntity.status(500).body("Error: " + e.getMessage());
-        }
+        String result = myService.callFailingApi();
+        return ResponseEntity.ok(result);
     }
 
     /**
@@ -54,43 +127,167 @@ public class MyServiceTestController {
     @RequestMapping(value = "/slow", method = RequestMethod.GET)
     @ResponseBody
     public ResponseEntity<String> callSlowApi() {
-        try {
-            String result = myService.callSlowApi();
-            return ResponseEntity.ok(result);
-        } catch (Exception e) {
-            return ResponseEntity.status(500).body("Error: " + e.getMessage());
-        }
+        String result = myService.callSlowApi();
+        return ResponseEntity.ok(result);
+    }
+
+    /**
+     * 4. 테넌트별 API 호출 (테넌트마다 별도 서킷, failing 으로 시작하는 테넌트는 항상 실패)
+     */
+    @RequestMapping(value = "/tenants/{tenantId}", method = RequestMethod.GET)
+    @ResponseBody
+    public ResponseEntity<String> callTenantApi(@PathVariable("tenantId") String tenantId) {
+        String result = myService.callTenantApi(tenantId);
+        return ResponseEntity.ok(result);
     }
 
     /**
      * Circuit Breaker 상태 확인 (간단한 모니터링)
+     * 한 번 이상 실행된 모든 Command 의 서킷 상태를 조회하며, 서킷 상태를 바꾸지 않음
      */
     @RequestMapping(value = "/status", method = RequestMethod.GET)
     @ResponseBody
-    public ResponseEntity<Map<String, Object>> getCircuitBreakerStatus() {
-        Map<String, Object> status = new HashMap<>();
-        
-        // 각 Command의 Circuit Breaker 상태 확인
-        status.put("normalApi", getCircuitBreakerInfo("callNormalApi"));
-        status.put("failingApi", getCircuitBreakerInfo("callFailingApi"));
-        status.put("slowApi", getCircuitBreakerInfo("callSlowApi"));
-        
-        return ResponseEntity.ok(status);
-    }
-
-    private Map<String, Object> getCircuitBreakerInfo(String commandKey) {
-        Map<String, Object> info = new HashMap<>();
-        HystrixCommandKey key = HystrixCommandKey.Factory.asKey(commandKey);
-        HystrixCircuitBreaker circuitBreaker = HystrixCircuitBreaker.Factory.getInstance(key);
-        
-        if (circuitBreaker != null) {
-            info.put("isOpen", circuitBreaker.isOpen());
-            info.put("allowRequest", circuitBreaker.allowRequest());
-        } else {
-            info.put("isOpen", "N/A");
-            info.put("allowRequest", "N/A");
+    public ResponseEntity<Map<String, Map<String, Object>>> getCircuitBreakerStatus() {
+        return ResponseEntity.ok(circuitStateMonitor.states());
+    }
+
+    /**
+     * Circuit Breaker 상태 스트림 (Server-Sent Events)
+     * 연결 시 전체 상태(snapshot), 이후에는 상태가 바뀐 서킷만(state) 전송
+     */
+    @RequestMapping(value = "/status/stream", method = RequestMethod.GET, produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamCircuitBreakerStatus() {
+        return circuitStateMonitor.subscribe();
+    }
+
+    /**
+     * Fallback 용 Last-Known-Good 캐시 통계 (hit/miss, 제공된 응답의 경과 시간)
+     */
+    @RequestMapping(value = "/cache/stats", method = RequestMethod.GET)
+    @ResponseBody
+    public ResponseEntity<Map<String, Object>> getCacheStats() {
+        return ResponseEntity.ok(lastKnownGoodCache.stats());
+    }
+
+    /**
+     * Hedged Request 현황 (hedge 대기 시간, 추가 시도 수, 예산 소진 횟수)
+     */
+    @RequestMapping(value = "/hedge/stats", method = RequestMethod.GET)
+    @ResponseBody
+    public ResponseEntity<Map<String, Map<String, Object>>> getHedgeStats() {
+        return ResponseEntity.ok(requestHedger.stats());
+    }
+
+    /**
+     * 우선순위 기반 입장 제어 현황 (실행 / 대기 수, 최근 대기 시간, 우선순위별 허용 / 거절 건수와 거절률)
+     */
+    @RequestMapping(value = "/admission/stats", method = RequestMethod.GET)
+    @ResponseBody
+    public ResponseEntity<Map<String, Object>> getAdmissionStats() {
+        return ResponseEntity.ok(admissionController.snapshot());
+    }
+
+    /**
+     * 재시도 현황 (재시도 / 예산 소진 / 서킷이 닫혀 있지 않아 중단한 횟수, 부하 증폭 = 시도 수 / 호출 수)
+     */
+    @RequestMapping(value = "/retry/stats", method = RequestMethod.GET)
+    @ResponseBody
+    public ResponseEntity<Map<String, Map<String, Object>>> getRetryStats() {
+        return ResponseEntity.ok(requestRetrier.stats());
+    }
+
+    /**
+     * 키별 서킷 브레이커 현황 (이름별 키 수, OPEN / HALF_OPEN 키 수, 제거된 키 수, 힙 사용량(추정)과 키당 바이트)
+     */
+    @RequestMapping(value = "/keyed/stats", method = RequestMethod.GET)
+    @ResponseBody
+    public ResponseEntity<Map<String, Map<String, Object>>> getKeyedStats() {
+        return ResponseEntity.ok(keyedBreakerRegistry.stats());
+    }
+
+    /**
+     * single-flight 현황 (Command 별 실제 실행 / 실행 중인 호출의 결과를 함께 받은 수, dedupRatio = 함께 받은 수 / 전체)
+     */
+    @RequestMapping(value = "/single-flight/stats", method = RequestMethod.GET)
+    @ResponseBody
+    public ResponseEntity<Map<String, Map<String, Object>>> getSingleFlightStats() {
+        return ResponseEntity.ok(singleFlight.stats());
+    }
+
+    /**
+     * 이벤트 저널 조회 (최근 순, 재시작 전 이벤트 포함)
+     * breaker: Command 이름, from / to: epoch ms, ISO-8601 시각 또는 기간(PT10M = 10분 전),
+     * type: TRANSITION / REJECTED / TIMEOUT / FAILURE / SUCCESS
+     */
+    @RequestMapping(value = "/journal", method = RequestMethod.GET)
+    @ResponseBody
+    public ResponseEntity<?> getJournal(@RequestParam(required = false) String breaker,
+                                        @RequestParam(required = false) String from,
+                                        @RequestParam(required = false) String to,
+                                        @RequestParam(required = false) String type,
+                                        @RequestParam(defaultValue = "100") int limit) {
+        try {
+            return ResponseEntity.ok(eventJournal.query(breaker,
+                    EventJournal.parseTime(from, 0L),
+                    EventJournal.parseTime(to, Long.MAX_VALUE),
+                    type != null ? JournalEventType.valueOf(type.trim().toUpperCase()) : null,
+                    Math.min(limit, 10000)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body("Error: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 이벤트 저널 현황 (파일 위치와 크기, 기록 / 보관 / 버린 이벤트 수, 재시작 때 이어받은 이벤트 수)
+     */
+    @RequestMapping(value = "/journal/stats", method = RequestMethod.GET)
+    @ResponseBody
+    public ResponseEntity<Map<String, Object>> getJournalStats() {
+        return ResponseEntity.ok(eventJournal.stats());
+    }
+
+    /**
+     * Readiness: 시작 워밍업이 끝나기 전에는 503, 끝나면 200 과 워밍업 결과
+     * (워밍업이 실패해도 요청을 받을 수 있으므로 200)
+     */
+    @RequestMapping(value = "/ready", method = RequestMethod.GET)
+    @ResponseBody
+    public ResponseEntity<Map<String, Object>> getReadiness() {
+        if (!commandWarmUp.isReady()) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .body(commandWarmUp.stats());
+        }
+        return ResponseEntity.ok(commandWarmUp.stats());
+    }
+
+    /**
+     * 노드 간 서킷 상태 공유 현황 (gossip 프로필, 살아 있는 peer 와 peer 별 서킷 상태, 서킷별 시험 요청 담당 여부)
+     */
+    @RequestMapping(value = "/gossip", method = RequestMethod.GET)
+    @ResponseBody
+    public ResponseEntity<Map<String, Object>> getGossipView() {
+        if (breakerGossip == null) {
+            return ResponseEntity.notFound().build();
         }
-        
-        return info;
+        return ResponseEntity.ok(breakerGossip.view());
+    }
+
+    /**
+     * 과부하로 거절된 요청은 Hystrix Command / Fallback 없이 바로 503 으로 응답
+     */
+    @ExceptionHandler(AdmissionRejectedException.class)
+    public ResponseEntity<String> shed(AdmissionRejectedException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body("Shed: Server is overloaded (" + e.getPriority() + ")");
+    }
+
+    /**
+     * Command 와 Fallback 이 모두 실패한 경우
+     */
+    @ExceptionHandler(HystrixRuntimeException.class)
+    public ResponseEntity<String> error(HystrixRuntimeException e) {
+        return ResponseEntity.status(500).body("Error: " + e.getMessage());
     }
 }
@@ -0,0 +1,78 @@
+package com.example.gossip;
+
+import java.util.List;
+
+/**
+ * 서킷 브레이커 라이브러리별 조회 / 조작 (BreakerGossip 이 사용)
+ */
+public interface BreakerControl {
+
+    /**
+     * 이 노드의 모든 서킷 (상태는 CLOSED / OPEN / HALF_OPEN, 그 밖의 상태는 gossip 판단에서 제외)
+     */
+    List<Breaker> breakers();
+
+    /**
+     * 닫힌 서킷을 엽니다. 이후에는 평소처럼 대기 시간이 지나면 시험 요청을 보냅니다.
+     *
+     * @return 이 호출로 서킷이 열렸으면 true
+     */
+    boolean open(String name);
+
+    /**
+     * 열린 서킷의 대기 시간을 다시 시작해 이 노드의 시험 요청을 미룹니다.
+     */
+    void holdOpen(String name);
+
+    /**
+     * 열린 서킷을 닫습니다. (다른 노드의 시험 요청이 성공했을 때)
+     */
+    void close(String name);
+
+    final class Breaker {
+        private final String name;
+        private final String state;
+        private final long calls;
+        private final long failures;
+        private final float failureRateThreshold;
+        private final long minimumCalls;
+
+        public Breaker(String name, String state, long calls, long failures,
+                       float failureRateThreshold, long minimumCalls) {
+            this.name = name;
+            this.state = state;
+            this.calls = calls;
+            this.failures = failures;
+            this.failureRateThreshold = failureRateThreshold;
+            this.minimumCalls = minimumCalls;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getState() {
+            return state;
+        }
+
+        /** 현재 윈도우의 호출 수 */
+        public long getCalls() {
+            return calls;
+        }
+
+        /** 현재 윈도우의 실패 수 */
+        public long getFailures() {
+            return failures;
+        }
+
+        /** 서킷을 여는 실패율 (%) */
+        public float getFailureRateThreshold() {
+            return failureRateThreshold;
+        }
+
+        /** 실패율을 계산하기 위한 최소 호출 수 */
+        public long getMinimumCalls() {
+            return minimumCalls;
+        }
+    }
+}
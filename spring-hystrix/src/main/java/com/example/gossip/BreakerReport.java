@@ -0,0 +1,55 @@
+package com.example.gossip;
+
+/**
+ * 다른 노드에 알리는 서킷 하나의 상태와 현재 윈도우의 호출 / 실패 수
+ */
+public final class BreakerReport {
+
+    public static final String CLOSED = "CLOSED";
+    public static final String OPEN = "OPEN";
+    public static final String HALF_OPEN = "HALF_OPEN";
+
+    private final String name;
+    private final String state;
+    private final boolean local;
+    private final long calls;
+    private final long failures;
+
+    public BreakerReport(String name, String state, boolean local, long calls, long failures) {
+        this.name = name;
+        this.state = state;
+        this.local = local;
+        this.calls = calls;
+        this.failures = failures;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getState() {
+        return state;
+    }
+
+    /** 이 노드의 호출 결과로 열렸는지 (false: 다른 노드의 알림으로 열림) */
+    public boolean isLocal() {
+        return local;
+    }
+
+    public long getCalls() {
+        return calls;
+    }
+
+    public long getFailures() {
+        return failures;
+    }
+
+    public boolean isOpen() {
+        return isOpen(state);
+    }
+
+    /** OPEN 또는 HALF_OPEN (시험 요청 중) */
+    public static boolean isOpen(String state) {
+        return OPEN.equals(state) || HALF_OPEN.equals(state);
+    }
+}
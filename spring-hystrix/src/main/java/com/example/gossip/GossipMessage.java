@@ -0,0 +1,127 @@
+package com.example.gossip;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 노드 사이에 주고받는 UDP 메시지 (UTF-8 텍스트)
+ *
+ * <pre>
+ * CBG1 {nodeId} {incarnation} {seq}
+ * {name}\t{state}\t{L|G}\t{calls}\t{failures}
+ * ...
+ * </pre>
+ * incarnation 은 노드 시작 시각, seq 는 노드가 보낸 메시지 순번으로, 늦게 도착한 이전 메시지를 버리는 데 사용합니다.
+ * 서킷이 많아 한 datagram 에 담을 수 없으면 여러 메시지로 나눠 보냅니다. (메시지마다 독립적으로 처리)
+ */
+public final class GossipMessage {
+
+    /** 단편화 없이 전송되는 크기 (일반적인 이더넷 MTU 1500 - IP / UDP 헤더) */
+    static final int MAX_BYTES = 1400;
+
+    private static final String MAGIC = "CBG1";
+
+    private final String nodeId;
+    private final long incarnation;
+    private final long seq;
+    private final List<BreakerReport> reports;
+
+    public GossipMessage(String nodeId, long incarnation, long seq, List<BreakerReport> reports) {
+        this.nodeId = nodeId;
+        this.incarnation = incarnation;
+        this.seq = seq;
+        this.reports = reports;
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public long getIncarnation() {
+        return incarnation;
+    }
+
+    public long getSeq() {
+        return seq;
+    }
+
+    public List<BreakerReport> getReports() {
+        return reports;
+    }
+
+    /**
+     * 서킷 목록을 MAX_BYTES 이하의 datagram 들로 나눠 인코딩합니다.
+     * 이름에 공백 문자가 있는 서킷은 보내지 않습니다.
+     *
+     * @param firstSeq 첫 메시지의 순번 (메시지마다 1씩 증가)
+     */
+    static List<byte[]> encode(String nodeId, long incarnation, long firstSeq, List<BreakerReport> reports) {
+        List<byte[]> datagrams = new ArrayList<>();
+        long seq = firstSeq;
+        StringBuilder body = new StringBuilder();
+        int bodyBytes = 0;
+        for (BreakerReport report : reports) {
+            if (!isToken(report.getName())) {
+                continue;
+            }
+            String line = report.getName() + '\t' + report.getState() + '\t' + (report.isLocal() ? 'L' : 'G')
+                    + '\t' + report.getCalls() + '\t' + report.getFailures() + '\n';
+            int lineBytes = line.getBytes(StandardCharsets.UTF_8).length;
+            String header = header(nodeId, incarnation, seq);
+            if (bodyBytes > 0 && header.length() + bodyBytes + lineBytes > MAX_BYTES) {
+                datagrams.add((header + body).getBytes(StandardCharsets.UTF_8));
+                seq++;
+                body.setLength(0);
+                bodyBytes = 0;
+            }
+            body.append(line);
+            bodyBytes += lineBytes;
+        }
+        datagrams.add((header(nodeId, incarnation, seq) + body).getBytes(StandardCharsets.UTF_8));
+        return datagrams;
+    }
+
+    private static String header(String nodeId, long incarnation, long seq) {
+        return MAGIC + ' ' + nodeId + ' ' + incarnation + ' ' + seq + '\n';
+    }
+
+    /**
+     * @return 형식이 맞지 않으면 null
+     */
+    static GossipMessage decode(byte[] data, int length) {
+        String[] lines = new String(data, 0, length, StandardCharsets.UTF_8).split("\n");
+        String[] header = lines[0].split(" ");
+        if (header.length != 4 || !MAGIC.equals(header[0])) {
+            return null;
+        }
+        try {
+            List<BreakerReport> reports = new ArrayList<>(lines.length - 1);
+            for (int i = 1; i < lines.length; i++) {
+                String[] fields = lines[i].split("\t");
+                if (fields.length != 5) {
+                    return null;
+                }
+                reports.add(new BreakerReport(fields[0], fields[1], "L".equals(fields[2]),
+                        Long.parseLong(fields[3]), Long.parseLong(fields[4])));
+            }
+            return new GossipMessage(header[1], Long.parseLong(header[2]), Long.parseLong(header[3]),
+                    Collections.unmodifiableList(reports));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    static boolean isToken(String value) {
+        if (value == null || value.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            if (Character.isWhitespace(value.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
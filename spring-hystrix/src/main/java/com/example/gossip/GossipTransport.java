@@ -0,0 +1,131 @@
+package com.example.gossip;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.DatagramPacket;
+import java.net.DatagramSocket;
+import java.net.InetSocketAddress;
+import java.net.NetworkInterface;
+import java.net.SocketAddress;
+import java.net.SocketException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * UDP 전송 (설정된 peer 목록에 unicast)
+ *
+ * - 전송 실패나 유실은 무시합니다. 상태는 주기적으로 다시 보내므로 다음 메시지가 보완합니다.
+ * - 설정된 peer 주소에서 온 datagram 만 받습니다. 인증은 하지 않으므로 신뢰할 수 있는 네트워크에서만 사용하세요.
+ * - 같은 호스트에서 포트만 달리해 여러 노드를 실행할 수 있습니다. (예: 127.0.0.1:7801, 127.0.0.1:7802)
+ */
+public class GossipTransport implements Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(GossipTransport.class);
+
+    private final DatagramSocket socket;
+    private final List<InetSocketAddress> peers;
+    private final Set<SocketAddress> peerAddresses;
+    private Thread receiver;
+
+    /**
+     * @param peers host:port 목록 (자기 자신이 포함되어 있어도 됨)
+     */
+    public GossipTransport(int port, List<String> peers) throws SocketException {
+        this.socket = new DatagramSocket(port);
+        List<InetSocketAddress> addresses = new ArrayList<>();
+        for (String peer : peers) {
+            InetSocketAddress address = parse(peer);
+            if (address.isUnresolved()) {
+                log.warn("Gossip peer {} cannot be resolved - ignored", peer);
+            } else if (!isSelf(address, port)) {
+                addresses.add(address);
+            }
+        }
+        this.peers = Collections.unmodifiableList(addresses);
+        this.peerAddresses = new HashSet<SocketAddress>(addresses);
+    }
+
+    public List<InetSocketAddress> getPeers() {
+        return peers;
+    }
+
+    /**
+     * 수신 스레드를 시작합니다. handler 는 수신 스레드에서 호출됩니다.
+     */
+    public synchronized void start(Consumer<GossipMessage> handler) {
+        receiver = new Thread(() -> receive(handler), "breaker-gossip-receiver");
+        receiver.setDaemon(true);
+        receiver.start();
+    }
+
+    private void receive(Consumer<GossipMessage> handler) {
+        byte[] buffer = new byte[GossipMessage.MAX_BYTES * 2];
+        DatagramPacket packet = new DatagramPacket(buffer, buffer.length);
+        while (!socket.isClosed()) {
+            try {
+                packet.setLength(buffer.length);
+                socket.receive(packet);
+                if (!peerAddresses.contains(packet.getSocketAddress())) {
+                    log.debug("Ignored gossip from unknown address {}", packet.getSocketAddress());
+                    continue;
+                }
+                GossipMessage message = GossipMessage.decode(packet.getData(), packet.getLength());
+                if (message != null) {
+                    handler.accept(message);
+                }
+            } catch (IOException e) {
+                if (!socket.isClosed()) {
+                    log.warn("Failed to receive gossip", e);
+                }
+            } catch (RuntimeException e) {
+                log.warn("Failed to handle gossip from {}", packet.getSocketAddress(), e);
+            }
+        }
+    }
+
+    public void send(byte[] datagram) {
+        for (InetSocketAddress peer : peers) {
+            try {
+                socket.send(new DatagramPacket(datagram, datagram.length, peer));
+            } catch (IOException e) {
+                // 내려간 peer 는 peer-timeout 후 목록에서 빠짐
+                log.debug("Failed to send gossip to {}: {}", peer, e.toString());
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        socket.close();
+    }
+
+    static InetSocketAddress parse(String peer) {
+        String value = peer.trim();
+        int colon = value.lastIndexOf(':');
+        if (colon <= 0 || colon == value.length() - 1) {
+            throw new IllegalArgumentException("Gossip peer must be host:port - " + peer);
+        }
+        return new InetSocketAddress(value.substring(0, colon), Integer.parseInt(value.substring(colon + 1)));
+    }
+
+    private static boolean isSelf(InetSocketAddress address, int port) {
+        if (address.getPort() != port) {
+            return false;
+        }
+        if (address.getAddress().isLoopbackAddress() || address.getAddress().isAnyLocalAddress()) {
+            return true;
+        }
+        try {
+            return NetworkInterface.getByInetAddress(address.getAddress()) != null;
+        } catch (SocketException e) {
+            return false;
+        }
+    }
+}
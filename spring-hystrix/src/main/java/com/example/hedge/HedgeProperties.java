@@ -0,0 +1,67 @@
+package com.example.hedge;
+
+import com.netflix.config.DynamicBooleanProperty;
+import com.netflix.config.DynamicIntProperty;
+import com.netflix.config.DynamicPropertyFactory;
+import com.netflix.config.DynamicStringProperty;
+
+/**
+ * Command 별 Hedged Request 설정
+ *
+ * hystrix.command.{commandKey}.hedge.* 값이 있으면 사용하고,
+ * 없으면 hystrix.command.default.hedge.* 값을 사용합니다. (Archaius 동적 프로퍼티)
+ */
+public class HedgeProperties {
+
+    private static final String PREFIX = "hystrix.command.";
+    private static final int UNSET_INT = Integer.MIN_VALUE;
+
+    private final DynamicBooleanProperty defaultEnabled;
+    private final DynamicStringProperty enabled;
+    private final DynamicIntProperty defaultPercentile;
+    private final DynamicIntProperty percentile;
+    private final DynamicIntProperty defaultMinDelay;
+    private final DynamicIntProperty minDelay;
+    private final DynamicIntProperty defaultBudgetPercent;
+    private final DynamicIntProperty budgetPercent;
+
+    public HedgeProperties(String commandKey) {
+        DynamicPropertyFactory factory = DynamicPropertyFactory.getInstance();
+        String specific = PREFIX + commandKey + ".hedge.";
+        String defaults = PREFIX + "default.hedge.";
+
+        this.defaultEnabled = factory.getBooleanProperty(defaults + "enabled", false);
+        this.enabled = factory.getStringProperty(specific + "enabled", null);
+        this.defaultPercentile = factory.getIntProperty(defaults + "percentile", 95);
+        this.percentile = factory.getIntProperty(specific + "percentile", UNSET_INT);
+        this.defaultMinDelay = factory.getIntProperty(defaults + "minDelayInMilliseconds", 50);
+        this.minDelay = factory.getIntProperty(specific + "minDelayInMilliseconds", UNSET_INT);
+        this.defaultBudgetPercent = factory.getIntProperty(defaults + "budgetPercent", 10);
+        this.budgetPercent = factory.getIntProperty(specific + "budgetPercent", UNSET_INT);
+    }
+
+    public boolean enabled() {
+        String specificValue = enabled.get();
+        return specificValue != null ? Boolean.parseBoolean(specificValue.trim()) : defaultEnabled.get();
+    }
+
+    /** hedge 시점을 정하는 실행 시간 백분위 (예: 95 = p95) */
+    public int percentile() {
+        return valueOf(percentile, defaultPercentile);
+    }
+
+    /** 측정값이 없거나 너무 작을 때 사용하는 최소 대기 시간 */
+    public int minDelayInMilliseconds() {
+        return valueOf(minDelay, defaultMinDelay);
+    }
+
+    /** 전체 호출 대비 허용하는 추가 호출 비율 (%) */
+    public int budgetPercent() {
+        return valueOf(budgetPercent, defaultBudgetPercent);
+    }
+
+    private static int valueOf(DynamicIntProperty specific, DynamicIntProperty fallback) {
+        int value = specific.get();
+        return value != UNSET_INT ? value : fallback.get();
+    }
+}
@@ -0,0 +1,184 @@
+package com.example.hedge;
+
+import com.netflix.hystrix.HystrixCommandKey;
+import com.netflix.hystrix.HystrixCommandMetrics;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Hedged Request 실행기
+ *
+ * 첫 시도가 해당 Command 실행 시간의 백분위(기본 p95)보다 오래 걸리면 두 번째 시도를 보내고,
+ * 먼저 성공한 응답을 사용한 뒤 나머지 시도는 취소(interrupt)합니다.
+ *
+ * - @HystrixCommand 메소드 안에서 호출하므로 서킷 브레이커에는 hedge 를 포함해 1회 호출로 집계됩니다.
+ * - 추가 시도는 HedgeBudget 으로 전체 호출의 budgetPercent% 이내로 제한합니다.
+ * - 첫 시도가 대기 시간 전에 실패하면 hedge 하지 않고 그대로 실패를 반환합니다. (서킷 브레이커 판단에 사용)
+ * - 시도는 크기가 제한된 풀(maxThreads, 대기 큐 없음)에서 실행합니다. 풀이 가득 차면 첫 시도는 hedge 없이
+ *   Command 스레드에서 실행하고, 추가 시도는 보내지 않되 예산 토큰은 사용한 것으로 둡니다. (회복 직후 hedge 가 몰리지 않도록)
+ */
+public class RequestHedger {
+
+    private static final int MAX_BURST_HEDGES = 10;
+
+    private final ThreadPoolExecutor executor;
+    private final Map<String, CommandHedge> commands = new ConcurrentHashMap<>();
+
+    /**
+     * @param maxThreads 첫 시도와 추가 시도를 실행하는 스레드 수 상한 (모든 Command 공용)
+     */
+    public RequestHedger(int maxThreads) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(0, maxThreads, 60, TimeUnit.SECONDS, new SynchronousQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "hedge-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public <T> T execute(String commandKey, Supplier<T> call) {
+        CommandHedge hedge = commands.computeIfAbsent(commandKey, CommandHedge::new);
+        if (!hedge.properties.enabled()) {
+            return call.get();
+        }
+        hedge.calls.increment();
+        hedge.budget.deposit(hedge.properties.budgetPercent());
+
+        CompletionService<T> completionService = new ExecutorCompletionService<>(executor);
+        List<Future<T>> attempts = new ArrayList<>(2);
+        try {
+            try {
+                attempts.add(completionService.submit(call::get));
+            } catch (RejectedExecutionException e) {
+                hedge.rejected.increment();
+                return call.get();
+            }
+            Future<T> completed = completionService.poll(hedge.delayMillis(), TimeUnit.MILLISECONDS);
+            if (completed == null) {
+                if (hedge.budget.tryAcquire()) {
+                    try {
+                        attempts.add(completionService.submit(call::get));
+                        hedge.hedged.increment();
+                    } catch (RejectedExecutionException e) {
+                        hedge.rejected.increment();
+                    }
+                } else {
+                    hedge.budgetExhausted.increment();
+                }
+                completed = completionService.take();
+            }
+            try {
+                T result = completed.get();
+                if (completed != attempts.get(0)) {
+                    hedge.hedgeWins.increment();
+                }
+                return result;
+            } catch (ExecutionException e) {
+                if (attempts.size() < 2) {
+                    throw unwrap(e);
+                }
+                // 한쪽이 실패하면 남은 시도의 결과를 사용
+                Future<T> remaining = completionService.take();
+                T result = getOrThrow(remaining);
+                if (remaining != attempts.get(0)) {
+                    hedge.hedgeWins.increment();
+                }
+                return result;
+            }
+        } catch (InterruptedException e) {
+            // Hystrix 타임아웃 등으로 Command 스레드가 interrupt 된 경우
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Hedged call interrupted", e);
+        } finally {
+            for (Future<T> attempt : attempts) {
+                attempt.cancel(true);
+            }
+        }
+    }
+
+    /**
+     * Command 별 hedge 현황
+     */
+    public Map<String, Map<String, Object>> stats() {
+        Map<String, Map<String, Object>> stats = new TreeMap<>();
+        commands.forEach((commandKey, hedge) -> stats.put(commandKey, hedge.snapshot()));
+        return stats;
+    }
+
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private static <T> T getOrThrow(Future<T> future) throws InterruptedException {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        }
+    }
+
+    private static RuntimeException unwrap(ExecutionException e) {
+        Throwable cause = e.getCause();
+        if (cause instanceof RuntimeException) {
+            return (RuntimeException) cause;
+        }
+        if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+        return new RuntimeException(cause);
+    }
+
+    private static final class CommandHedge {
+        private final String commandKey;
+        private final HedgeProperties properties;
+        private final HedgeBudget budget = new HedgeBudget(MAX_BURST_HEDGES);
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder hedged = new LongAdder();
+        private final LongAdder hedgeWins = new LongAdder();
+        private final LongAdder budgetExhausted = new LongAdder();
+        private final LongAdder rejected = new LongAdder();
+
+        private CommandHedge(String commandKey) {
+            this.commandKey = commandKey;
+            this.properties = new HedgeProperties(commandKey);
+        }
+
+        /**
+         * Hystrix 가 집계하는 실행 시간 백분위 (rolling percentile) 와 최소 대기 시간 중 큰 값
+         */
+        private long delayMillis() {
+            HystrixCommandMetrics metrics = HystrixCommandMetrics.getInstance(HystrixCommandKey.Factory.asKey(commandKey));
+            int percentileMillis = metrics != null ? metrics.getExecutionTimePercentile(properties.percentile()) : 0;
+            return Math.max(properties.minDelayInMilliseconds(), percentileMillis);
+        }
+
+        private Map<String, Object> snapshot() {
+            Map<String, Object> info = new LinkedHashMap<>();
+            info.put("enabled", properties.enabled());
+            info.put("hedgeDelayMs", delayMillis());
+            info.put("calls", calls.sum());
+            info.put("hedged", hedged.sum());
+            info.put("hedgeWins", hedgeWins.sum());
+            info.put("budgetExhausted", budgetExhausted.sum());
+            info.put("rejected", rejected.sum());
+            info.put("budgetTokens", budget.availableTokens());
+            return info;
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.example.http;
+
+import org.apache.http.HttpEntity;
+import org.apache.http.client.HttpResponseException;
+import org.apache.http.client.ResponseHandler;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.conn.ConnectTimeoutException;
+import org.apache.http.conn.ConnectionPoolTimeoutException;
+import org.apache.http.entity.ContentType;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.util.EntityUtils;
+import org.springframework.core.env.PropertyResolver;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.net.SocketTimeoutException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Command 그룹별 HTTP 클라이언트 (Apache HttpClient 4.5, 그룹마다 별도 커넥션 풀)
+ *
+ * - Hystrix 스레드풀과 같은 단위(groupKey)로 풀을 나눠, 느린 의존 서비스가 다른 그룹의 커넥션을 점유하지 못하게 합니다.
+ * - 풀 대기(poolAcquireTimeoutMillis), 연결, 읽기 타임아웃은 예외로 던져 Command 실패로 집계되고, 원인별로 ExternalHttpMetrics 에 기록합니다.
+ * - 자동 재시도는 끕니다. (재시도는 실패를 서킷 브레이커에서 감추고 장애 중인 서비스의 부하를 늘림)
+ * - 응답 본문은 버퍼에 모두 담지 않고 스트림으로 읽습니다.
+ */
+public class ExternalHttpClients implements Closeable {
+
+    /**
+     * 응답 본문을 스트림으로 읽어 결과로 변환
+     */
+    public interface BodyReader<T> {
+        T read(BufferedReader body, int maxChars) throws IOException;
+    }
+
+    private final PropertyResolver properties;
+    private final ExternalHttpMetrics metrics;
+    private final ConcurrentMap<String, GroupClient> clients = new ConcurrentHashMap<>();
+
+    public ExternalHttpClients(PropertyResolver properties, ExternalHttpMetrics metrics) {
+        this.properties = properties;
+        this.metrics = metrics;
+    }
+
+    /**
+     * @param groupKey Hystrix Command 그룹 (커넥션 풀 단위)
+     * @throws UncheckedIOException 풀 대기 / 연결 / 읽기 타임아웃, 연결 오류
+     * @throws RuntimeException     2xx 가 아닌 응답
+     */
+    public <T> T execute(String groupKey, HttpUriRequest request, BodyReader<T> reader) {
+        GroupClient client = clients.computeIfAbsent(groupKey, this::create);
+        metrics.recordRequest(groupKey);
+        try {
+            return client.httpClient.execute(request, handler(reader, client.settings.getMaxResponseChars()));
+        } catch (ConnectionPoolTimeoutException e) {
+            // ConnectTimeoutException 의 하위 클래스이므로 먼저 확인
+            throw failure(groupKey, ExternalHttpMetrics.Failure.POOL_EXHAUSTED, "connection pool exhausted", e);
+        } catch (ConnectTimeoutException e) {
+            throw failure(groupKey, ExternalHttpMetrics.Failure.CONNECT_TIMEOUT, "connect timeout", e);
+        } catch (SocketTimeoutException e) {
+            throw failure(groupKey, ExternalHttpMetrics.Failure.READ_TIMEOUT, "read timeout", e);
+        } catch (HttpResponseException e) {
+            metrics.recordFailure(groupKey, ExternalHttpMetrics.Failure.HTTP_ERROR);
+            throw new RuntimeException("External Service Failure: " + e.getStatusCode() + " " + e.getReasonPhrase());
+        } catch (IOException e) {
+            throw failure(groupKey, ExternalHttpMetrics.Failure.IO_ERROR, e.toString(), e);
+        }
+    }
+
+    private UncheckedIOException failure(String groupKey, ExternalHttpMetrics.Failure failure, String message, IOException cause) {
+        metrics.recordFailure(groupKey, failure);
+        return new UncheckedIOException("External Service Failure: " + message + " [" + groupKey + "]", cause);
+    }
+
+    private static <T> ResponseHandler<T> handler(BodyReader<T> reader, int maxChars) {
+        return response -> {
+            int status = response.getStatusLine().getStatusCode();
+            HttpEntity entity = response.getEntity();
+            if (status < 200 || status >= 300) {
+                // 커넥션을 재사용할 수 있도록 본문을 비움
+                EntityUtils.consume(entity);
+                throw new HttpResponseException(status, response.getStatusLine().getReasonPhrase());
+            }
+            if (entity == null) {
+                return reader.read(new BufferedReader(new StringReader("")), maxChars);
+            }
+            try (BufferedReader body = new BufferedReader(new InputStreamReader(entity.getContent(), charsetOf(entity)))) {
+                return reader.read(body, maxChars);
+            }
+        };
+    }
+
+    private static Charset charsetOf(HttpEntity entity) {
+        ContentType contentType = ContentType.get(entity);
+        Charset charset = contentType != null ? contentType.getCharset() : null;
+        return charset != null ? charset : StandardCharsets.UTF_8;
+    }
+
+    private GroupClient create(String groupKey) {
+        HttpPoolSettings settings = new HttpPoolSettings(properties, groupKey);
+
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+        connectionManager.setMaxTotal(settings.getMaxConnections());
+        connectionManager.setDefaultMaxPerRoute(settings.getMaxConnections());
+        // 오래 쉬었던 커넥션은 재사용 전에 끊겼는지 확인
+        connectionManager.setValidateAfterInactivity(1000);
+
+        RequestConfig requestConfig = RequestConfig.custom()
+                .setConnectionRequestTimeout(settings.getPoolAcquireTimeoutMillis())
+                .setConnectTimeout(settings.getConnectTimeoutMillis())
+                .setSocketTimeout(settings.getReadTimeoutMillis())
+                .build();
+
+        long keepAliveMillis = settings.getKeepAliveMillis();
+        CloseableHttpClient httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(requestConfig)
+                .setKeepAliveStrategy((response, context) -> {
+                    long serverKeepAlive = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+                    return serverKeepAlive > 0 ? Math.min(serverKeepAlive, keepAliveMillis) : keepAliveMillis;
+                })
+                .evictExpiredConnections()
+                .evictIdleConnections(keepAliveMillis, TimeUnit.MILLISECONDS)
+                .disableAutomaticRetries()
+                .build();
+
+        metrics.register(groupKey, connectionManager);
+        return new GroupClient(settings, httpClient);
+    }
+
+    @Override
+    public void close() throws IOException {
+        for (GroupClient client : clients.values()) {
+            client.httpClient.close();
+        }
+    }
+
+    private static final class GroupClient {
+        final HttpPoolSettings settings;
+        final CloseableHttpClient httpClient;
+
+        GroupClient(HttpPoolSettings settings, CloseableHttpClient httpClient) {
+            this.settings = settings;
+            this.httpClient = httpClient;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.http;
+
+import com.example.metrics.PrometheusTextWriter;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.pool.ConnPoolControl;
+import org.apache.http.pool.PoolStats;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Command 그룹별 외부 HTTP 호출 수, 실패 원인, 커넥션 풀 상태
+ *
+ * 풀 고갈(pool_exhausted)과 연결 / 읽기 타임아웃을 나눠 집계하므로,
+ * 느린 의존 서비스(read_timeout)와 커넥션 부족(pool_exhausted, pending)을 구분할 수 있습니다.
+ * GET /metrics 에서 Command 메트릭과 함께 Prometheus 텍스트 포맷으로 내보냅니다.
+ */
+public class ExternalHttpMetrics {
+
+    public enum Failure {
+        /** 풀에서 커넥션을 얻지 못함 (poolAcquireTimeoutMillis 초과) */
+        POOL_EXHAUSTED,
+        CONNECT_TIMEOUT,
+        READ_TIMEOUT,
+        /** 연결 거부, 연결 끊김 등 */
+        IO_ERROR,
+        /** 2xx 가 아닌 응답 */
+        HTTP_ERROR
+    }
+
+    private final ConcurrentMap<String, GroupMetrics> groups = new ConcurrentHashMap<>();
+
+    public void register(String groupKey, ConnPoolControl<HttpRoute> pool) {
+        forGroup(groupKey).pool = pool;
+    }
+
+    public void recordRequest(String groupKey) {
+        forGroup(groupKey).requests.increment();
+    }
+
+    public void recordFailure(String groupKey, Failure failure) {
+        forGroup(groupKey).failures[failure.ordinal()].increment();
+    }
+
+    private GroupMetrics forGroup(String groupKey) {
+        GroupMetrics metrics = groups.get(groupKey);
+        if (metrics == null) {
+            metrics = groups.computeIfAbsent(groupKey, key -> new GroupMetrics());
+        }
+        return metrics;
+    }
+
+    public String scrape() {
+        Map<String, GroupMetrics> sorted = new TreeMap<>(groups);
+        PrometheusTextWriter writer = new PrometheusTextWriter();
+
+        writer.header("external_http_requests_total", "counter", "External HTTP requests by command group");
+        for (Map.Entry<String, GroupMetrics> entry : sorted.entrySet()) {
+            writer.sample("external_http_requests_total", PrometheusTextWriter.label("group", entry.getKey()),
+                    entry.getValue().requests.sum());
+        }
+
+        writer.header("external_http_failures_total", "counter",
+                "External HTTP failures by reason (pool_exhausted: no pooled connection, connect_timeout, read_timeout, io_error, http_error)");
+        for (Map.Entry<String, GroupMetrics> entry : sorted.entrySet()) {
+            String group = PrometheusTextWriter.label("group", entry.getKey());
+            LongAdder[] failures = entry.getValue().failures;
+            for (Failure failure : Failure.values()) {
+                writer.sample("external_http_failures_total",
+                        group + ",reason=\"" + failure.name().toLowerCase() + "\"", failures[failure.ordinal()].sum());
+            }
+        }
+
+        writer.header("external_http_pool_connections", "gauge",
+                "Connection pool state (leased, available, pending: requests waiting for a connection, max)");
+        for (Map.Entry<String, GroupMetrics> entry : sorted.entrySet()) {
+            ConnPoolControl<HttpRoute> pool = entry.getValue().pool;
+            if (pool == null) {
+                continue;
+            }
+            String group = PrometheusTextWriter.label("group", entry.getKey());
+            PoolStats stats = pool.getTotalStats();
+            writer.sample("external_http_pool_connections", group + ",state=\"leased\"", stats.getLeased());
+            writer.sample("external_http_pool_connections", group + ",state=\"available\"", stats.getAvailable());
+            writer.sample("external_http_pool_connections", group + ",state=\"pending\"", stats.getPending());
+            writer.sample("external_http_pool_connections", group + ",state=\"max\"", stats.getMax());
+        }
+        return writer.toString();
+    }
+
+    private static final class GroupMetrics {
+        final LongAdder requests = new LongAdder();
+        final LongAdder[] failures = new LongAdder[Failure.values().length];
+        volatile ConnPoolControl<HttpRoute> pool;
+
+        GroupMetrics() {
+            for (int i = 0; i < failures.length; i++) {
+                failures[i] = new LongAdder();
+            }
+        }
+    }
+}
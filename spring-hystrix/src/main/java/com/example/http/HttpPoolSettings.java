@@ -0,0 +1,64 @@
+package com.example.http;
+
+import org.springframework.core.env.PropertyResolver;
+
+/**
+ * Command 그룹별 HTTP 커넥션 풀 설정
+ *
+ * app.external.http.{groupKey}.* 값이 있으면 사용하고,
+ * 없으면 app.external.http.default.* 값을 사용합니다. (풀을 만들 때 한 번 적용)
+ */
+public class HttpPoolSettings {
+
+    private static final String PREFIX = "app.external.http.";
+
+    private final int maxConnections;
+    private final int poolAcquireTimeoutMillis;
+    private final int connectTimeoutMillis;
+    private final int readTimeoutMillis;
+    private final long keepAliveMillis;
+    private final int maxResponseChars;
+
+    public HttpPoolSettings(PropertyResolver properties, String groupKey) {
+        this.maxConnections = intValue(properties, groupKey, "maxConnections", 10);
+        this.poolAcquireTimeoutMillis = intValue(properties, groupKey, "poolAcquireTimeoutMillis", 100);
+        this.connectTimeoutMillis = intValue(properties, groupKey, "connectTimeoutMillis", 500);
+        this.readTimeoutMillis = intValue(properties, groupKey, "readTimeoutMillis", 2000);
+        this.keepAliveMillis = intValue(properties, groupKey, "keepAliveMillis", 30000);
+        this.maxResponseChars = intValue(properties, groupKey, "maxResponseChars", 64 * 1024);
+    }
+
+    private static int intValue(PropertyResolver properties, String groupKey, String name, int defaultValue) {
+        Integer value = properties.getProperty(PREFIX + groupKey + "." + name, Integer.class);
+        return value != null ? value : properties.getProperty(PREFIX + "default." + name, Integer.class, defaultValue);
+    }
+
+    /** 풀의 최대 커넥션 수 (그룹의 Hystrix 스레드 수와 같게 두면 풀 대기가 생기지 않음) */
+    public int getMaxConnections() {
+        return maxConnections;
+    }
+
+    /** 풀에서 커넥션을 얻기까지 기다리는 최대 시간 */
+    public int getPoolAcquireTimeoutMillis() {
+        return poolAcquireTimeoutMillis;
+    }
+
+    public int getConnectTimeoutMillis() {
+        return connectTimeoutMillis;
+    }
+
+    /** 응답 데이터 사이의 최대 대기 시간 (소켓 읽기 타임아웃) */
+    public int getReadTimeoutMillis() {
+        return readTimeoutMillis;
+    }
+
+    /** 서버가 Keep-Alive 헤더를 보내지 않을 때 유휴 커넥션을 유지하는 시간 */
+    public long getKeepAliveMillis() {
+        return keepAliveMillis;
+    }
+
+    /** 응답 본문 최대 길이 (초과하면 읽기를 중단하고 실패 처리) */
+    public int getMaxResponseChars() {
+        return maxResponseChars;
+    }
+}
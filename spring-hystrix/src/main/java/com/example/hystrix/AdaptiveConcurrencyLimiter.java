@@ -0,0 +1,191 @@
+package com.example.hystrix;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntConsumer;
+
+/**
+ * 측정된 RTT(대기 + 실행 시간)를 기준으로 허용 동시 실행 수를 조절하는 Gradient 방식 Limiter
+ *
+ * - 100ms 구간마다 평균 RTT(short)를 장기 기준선(long)과 비교해 gradient = long / short 를 계산합니다.
+ * - 지연이 기준선 수준이면 sqrt(limit) 만큼 여유를 더해 limit을 늘리고, 지연이 늘어나면 비율만큼 줄입니다.
+ * - 타임아웃/취소로 끝난 호출이 있으면 AIMD 방식으로 limit을 즉시 줄입니다.
+ * - limit을 넘는 요청은 tryAcquire()에서 거절되어 Hystrix Fallback으로 처리됩니다.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private static final long UPDATE_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    // 장기 RTT 기준선은 약 2초(20개 구간)에 걸쳐 따라가도록 EWMA 적용
+    private static final double LONG_RTT_WINDOW = 20;
+    private static final double MIN_GRADIENT = 0.5;
+
+    private final String name;
+    private final AdaptiveLimitProperties properties;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger peakInFlight = new AtomicInteger();
+    private final AtomicLong nextUpdateNanos = new AtomicLong();
+
+    private final LongAdder rttSumNanos = new LongAdder();
+    private final LongAdder rttCount = new LongAdder();
+    private final LongAdder dropCount = new LongAdder();
+    private final LongAdder rejectedCount = new LongAdder();
+
+    // 갱신은 구간마다 한 스레드만 수행하므로 volatile 로 충분
+    private volatile double estimatedLimit;
+    private volatile int limit;
+    private volatile double longRttNanos;
+    private volatile double shortRttNanos;
+
+    private volatile IntConsumer limitListener = newLimit -> { };
+
+    public AdaptiveConcurrencyLimiter(String name, int initialLimit, AdaptiveLimitProperties properties) {
+        this.name = name;
+        this.properties = properties;
+        this.estimatedLimit = clamp(initialLimit);
+        this.limit = (int) estimatedLimit;
+        this.nextUpdateNanos.set(System.nanoTime() + UPDATE_INTERVAL_NANOS);
+    }
+
+    /**
+     * 현재 limit 안에서 실행 슬롯을 확보합니다. 초과 시 false를 반환하고 거절 건수를 기록합니다.
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit) {
+                rejectedCount.increment();
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                recordPeak(current + 1);
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 실행을 마친 슬롯을 반환하고 RTT 샘플을 기록합니다.
+     *
+     * @param rttNanos 제출부터 완료까지 걸린 시간 (큐 대기 포함)
+     * @param dropped  타임아웃/취소로 끝난 호출 여부
+     */
+    public void release(long rttNanos, boolean dropped) {
+        inFlight.decrementAndGet();
+        if (dropped) {
+            dropCount.increment();
+        } else {
+            rttSumNanos.add(rttNanos);
+            rttCount.increment();
+        }
+        maybeUpdate(System.nanoTime());
+    }
+
+    /**
+     * 실행되지 못한 슬롯을 샘플 없이 반환합니다. (Executor 자체 거절 등)
+     */
+    public void releaseWithoutSample() {
+        inFlight.decrementAndGet();
+    }
+
+    public void setLimitListener(IntConsumer limitListener) {
+        this.limitListener = limitListener;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public Map<String, Object> snapshot() {
+        Map<String, Object> info = new LinkedHashMap<>();
+        info.put("limit", limit);
+        info.put("inFlight", inFlight.get());
+        info.put("minLimit", properties.minLimit());
+        info.put("maxLimit", properties.maxLimit());
+        info.put("shortRttMs", toMillis(shortRttNanos));
+        info.put("longRttMs", toMillis(longRttNanos));
+        info.put("rejected", rejectedCount.sum());
+        return info;
+    }
+
+    private void maybeUpdate(long now) {
+        long next = nextUpdateNanos.get();
+        if (now - next < 0 || !nextUpdateNanos.compareAndSet(next, now + UPDATE_INTERVAL_NANOS)) {
+            return;
+        }
+        updateLimit();
+    }
+
+    private void updateLimit() {
+        long count = rttCount.sumThenReset();
+        long sum = rttSumNanos.sumThenReset();
+        long drops = dropCount.sumThenReset();
+        int peak = peakInFlight.getAndSet(inFlight.get());
+        double current = estimatedLimit;
+        double next;
+
+        if (drops > 0) {
+            // 타임아웃/취소 발생: 곱셈 감소
+            next = current * properties.backoffRatio();
+        } else if (count == 0) {
+            return;
+        } else {
+            double shortRtt = (double) sum / count;
+            shortRttNanos = shortRtt;
+            double longRtt = longRttNanos == 0 ? shortRtt : longRttNanos + (shortRtt - longRttNanos) / LONG_RTT_WINDOW;
+            // 지연이 크게 회복되면 기준선도 빠르게 내려오도록 감쇠
+            if (longRtt / shortRtt > 2) {
+                longRtt *= 0.95;
+            }
+            longRttNanos = longRtt;
+
+            // 요청이 limit의 절반도 차지 못한 구간은 부하 정보가 없으므로 유지
+            if (peak < current / 2) {
+                return;
+            }
+
+            double gradient = Math.max(MIN_GRADIENT, Math.min(1.0, properties.rttTolerance() * longRtt / shortRtt));
+            double queueAllowance = Math.sqrt(current);
+            double target = current * gradient + queueAllowance;
+            double smoothing = properties.smoothing();
+            next = current * (1 - smoothing) + target * smoothing;
+        }
+
+        estimatedLimit = clamp(next);
+        int newLimit = (int) estimatedLimit;
+        if (newLimit != limit) {
+            limit = newLimit;
+            limitListener.accept(newLimit);
+        }
+    }
+
+    private void recordPeak(int value) {
+        int peak;
+        while (value > (peak = peakInFlight.get())) {
+            if (peakInFlight.compareAndSet(peak, value)) {
+                return;
+            }
+        }
+    }
+
+    private double clamp(double value) {
+        return Math.max(properties.minLimit(), Math.min(properties.maxLimit(), value));
+    }
+
+    private static double toMillis(double nanos) {
+        return Math.round(nanos / 10_000.0) / 100.0;
+    }
+
+    @Override
+    public String toString() {
+        return "AdaptiveConcurrencyLimiter[" + name + ", limit=" + limit + "]";
+    }
+}
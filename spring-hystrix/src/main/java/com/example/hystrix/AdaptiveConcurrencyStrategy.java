@@ -0,0 +1,62 @@
+package com.example.hystrix;
+
+import com.netflix.hystrix.HystrixThreadPoolKey;
+import com.netflix.hystrix.HystrixThreadPoolProperties;
+import com.netflix.hystrix.strategy.concurrency.HystrixConcurrencyStrategy;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 그룹(스레드풀)별로 AdaptiveThreadPoolExecutor 를 만들어주는 Hystrix ConcurrencyStrategy
+ *
+ * adaptiveLimit.enabled=false 인 스레드풀은 Hystrix 기본 고정 크기 스레드풀을 그대로 사용합니다.
+ * 초기 limit 은 coreSize 값을 사용합니다.
+ */
+public class AdaptiveConcurrencyStrategy extends HystrixConcurrencyStrategy {
+
+    private final Map<String, AdaptiveConcurrencyLimiter> limiters = new ConcurrentHashMap<>();
+
+    @Override
+    public ThreadPoolExecutor getThreadPool(HystrixThreadPoolKey threadPoolKey, HystrixThreadPoolProperties threadPoolProperties) {
+        String poolKey = threadPoolKey.name();
+        AdaptiveLimitProperties properties = new AdaptiveLimitProperties(poolKey);
+        if (!properties.enabled()) {
+            return super.getThreadPool(threadPoolKey, threadPoolProperties);
+        }
+
+        AdaptiveConcurrencyLimiter limiter =
+                new AdaptiveConcurrencyLimiter(poolKey, threadPoolProperties.coreSize().get(), properties);
+        limiters.put(poolKey, limiter);
+
+        return new AdaptiveThreadPoolExecutor(
+                limiter,
+                threadPoolProperties.keepAliveTimeMinutes().get(),
+                getBlockingQueue(threadPoolProperties.maxQueueSize().get()),
+                threadFactory(poolKey));
+    }
+
+    /**
+     * 스레드풀 이름별 현재 limit 상태 (Hystrix 가 스레드풀을 만든 그룹만 포함)
+     */
+    public Map<String, Map<String, Object>> getLimitSnapshots() {
+        Map<String, Map<String, Object>> snapshots = new TreeMap<>();
+        limiters.forEach((poolKey, limiter) -> snapshots.put(poolKey, limiter.snapshot()));
+        return Collections.unmodifiableMap(snapshots);
+    }
+
+    private static ThreadFactory threadFactory(String poolKey) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        return runnable -> {
+            // Hystrix 기본 스레드 이름 규칙(hystrix-{poolKey}-{n})을 따름
+            Thread thread = new Thread(runnable, "hystrix-" + poolKey + "-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.hystrix;
+
+import com.netflix.config.DynamicBooleanProperty;
+import com.netflix.config.DynamicDoubleProperty;
+import com.netflix.config.DynamicIntProperty;
+import com.netflix.config.DynamicPropertyFactory;
+import com.netflix.config.DynamicStringProperty;
+
+/**
+ * 스레드풀별 Adaptive Limit 설정
+ *
+ * hystrix.threadpool.{poolKey}.adaptiveLimit.* 값이 있으면 사용하고,
+ * 없으면 hystrix.threadpool.default.adaptiveLimit.* 값을 사용합니다. (Archaius 동적 프로퍼티)
+ */
+public class AdaptiveLimitProperties {
+
+    private static final String PREFIX = "hystrix.threadpool.";
+    private static final int UNSET_INT = Integer.MIN_VALUE;
+
+    private final DynamicBooleanProperty defaultEnabled;
+    private final DynamicStringProperty enabled;
+    private final DynamicIntProperty defaultMinLimit;
+    private final DynamicIntProperty minLimit;
+    private final DynamicIntProperty defaultMaxLimit;
+    private final DynamicIntProperty maxLimit;
+    private final DynamicDoubleProperty defaultSmoothing;
+    private final DynamicDoubleProperty smoothing;
+    private final DynamicDoubleProperty defaultRttTolerance;
+    private final DynamicDoubleProperty rttTolerance;
+    private final DynamicDoubleProperty defaultBackoffRatio;
+    private final DynamicDoubleProperty backoffRatio;
+
+    public AdaptiveLimitProperties(String poolKey) {
+        DynamicPropertyFactory factory = DynamicPropertyFactory.getInstance();
+        String specific = PREFIX + poolKey + ".adaptiveLimit.";
+        String defaults = PREFIX + "default.adaptiveLimit.";
+
+        this.defaultEnabled = factory.getBooleanProperty(defaults + "enabled", false);
+        this.enabled = factory.getStringProperty(specific + "enabled", null);
+        this.defaultMinLimit = factory.getIntProperty(defaults + "minLimit", 1);
+        this.minLimit = factory.getIntProperty(specific + "minLimit", UNSET_INT);
+        this.defaultMaxLimit = factory.getIntProperty(defaults + "maxLimit", 200);
+        this.maxLimit = factory.getIntProperty(specific + "maxLimit", UNSET_INT);
+        this.defaultSmoothing = factory.getDoubleProperty(defaults + "smoothing", 0.2);
+        this.smoothing = factory.getDoubleProperty(specific + "smoothing", Double.NaN);
+        this.defaultRttTolerance = factory.getDoubleProperty(defaults + "rttTolerance", 1.5);
+        this.rttTolerance = factory.getDoubleProperty(specific + "rttTolerance", Double.NaN);
+        this.defaultBackoffRatio = factory.getDoubleProperty(defaults + "backoffRatio", 0.9);
+        this.backoffRatio = factory.getDoubleProperty(specific + "backoffRatio", Double.NaN);
+    }
+
+    /**
+     * 스레드풀 생성 시점에만 참조합니다. (실행 중 켜고 끄려면 재시작 필요)
+     */
+    public boolean enabled() {
+        String specificValue = enabled.get();
+        return specificValue != null ? Boolean.parseBoolean(specificValue.trim()) : defaultEnabled.get();
+    }
+
+    public int minLimit() {
+        return Math.max(1, valueOf(minLimit, defaultMinLimit));
+    }
+
+    public int maxLimit() {
+        return Math.max(minLimit(), valueOf(maxLimit, defaultMaxLimit));
+    }
+
+    public double smoothing() {
+        return valueOf(smoothing, defaultSmoothing);
+    }
+
+    public double rttTolerance() {
+        return valueOf(rttTolerance, defaultRttTolerance);
+    }
+
+    public double backoffRatio() {
+        return valueOf(backoffRatio, defaultBackoffRatio);
+    }
+
+    private static int valueOf(DynamicIntProperty specific, DynamicIntProperty fallback) {
+        int value = specific.get();
+        return value != UNSET_INT ? value : fallback.get();
+    }
+
+    private static double valueOf(DynamicDoubleProperty specific, DynamicDoubleProperty fallback) {
+        double value = specific.get();
+        return !Double.isNaN(value) ? value : fallback.get();
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.hystrix;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AdaptiveConcurrencyLimiter 가 허용한 만큼만 실행하는 Hystrix 스레드풀
+ *
+ * - limit 초과 시 RejectedExecutionException 을 던져 Hystrix 가 THREAD_POOL_REJECTED 로 처리하고 Fallback 을 실행합니다.
+ * - 스레드 수(core/max)는 Limiter 의 limit 변경에 맞춰 조절합니다.
+ * - Hystrix 는 실행마다 coreSize/maximumSize 설정을 다시 적용(touchConfig)하므로, 외부에서의 크기 변경은 무시합니다.
+ */
+public class AdaptiveThreadPoolExecutor extends ThreadPoolExecutor {
+
+    private final AdaptiveConcurrencyLimiter limiter;
+
+    public AdaptiveThreadPoolExecutor(AdaptiveConcurrencyLimiter limiter, long keepAliveMinutes,
+                                      BlockingQueue<Runnable> workQueue, ThreadFactory threadFactory) {
+        super(limiter.getLimit(), limiter.getLimit(), keepAliveMinutes, TimeUnit.MINUTES, workQueue, threadFactory);
+        this.limiter = limiter;
+        limiter.setLimitListener(this::resize);
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        if (!limiter.tryAcquire()) {
+            throw new RejectedExecutionException("Adaptive concurrency limit reached: " + limiter);
+        }
+        try {
+            super.execute(new MeasuredTask(command, System.nanoTime()));
+        } catch (RejectedExecutionException e) {
+            limiter.releaseWithoutSample();
+            throw e;
+        }
+    }
+
+    /**
+     * Hystrix touchConfig() 에서 호출되는 크기 변경은 무시합니다.
+     */
+    @Override
+    public void setCorePoolSize(int corePoolSize) {
+    }
+
+    @Override
+    public void setMaximumPoolSize(int maximumPoolSize) {
+    }
+
+    public AdaptiveConcurrencyLimiter getLimiter() {
+        return limiter;
+    }
+
+    private synchronized void resize(int limit) {
+        // core <= max 조건을 지키도록 늘릴 때는 max 먼저, 줄일 때는 core 먼저 변경
+        if (limit > getMaximumPoolSize()) {
+            super.setMaximumPoolSize(limit);
+            super.setCorePoolSize(limit);
+        } else {
+            super.setCorePoolSize(limit);
+            super.setMaximumPoolSize(limit);
+        }
+    }
+
+    private final class MeasuredTask implements Runnable {
+        private final Runnable delegate;
+        private final long submittedAt;
+
+        private MeasuredTask(Runnable delegate, long submittedAt) {
+            this.delegate = delegate;
+            this.submittedAt = submittedAt;
+        }
+
+        @Override
+        public void run() {
+            try {
+                delegate.run();
+            } finally {
+                // 타임아웃 시 Hystrix 가 실행 스레드를 interrupt 하므로 이를 drop 으로 간주
+                // (Hystrix 는 정상 완료 후에도 Future 를 cancel 하므로 isCancelled 는 사용할 수 없음)
+                boolean dropped = Thread.currentThread().isInterrupted();
+                limiter.release(System.nanoTime() - submittedAt, dropped);
+            }
+        }
+    }
+}
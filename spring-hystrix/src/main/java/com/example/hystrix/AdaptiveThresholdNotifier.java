@@ -0,0 +1,138 @@
+package com.example.hystrix;
+
+import com.example.circuit.AdaptiveBaseline;
+import com.netflix.hystrix.HystrixCommandKey;
+import com.netflix.hystrix.HystrixCommandMetrics;
+import com.netflix.hystrix.HystrixCommandProperties;
+import com.netflix.hystrix.HystrixEventType;
+import com.netflix.hystrix.strategy.eventnotifier.HystrixEventNotifier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 적응형 임계치 (hystrix.command.{commandKey}.adaptiveThreshold.enabled=true 인 Command 만)
+ *
+ * Command 실행이 끝날 때마다 결과와 실행 시간을 AdaptiveBaseline 에 기록하고,
+ * 서킷이 닫혀 있는데 윈도우(HealthCounts)의 오류율이나 최근 호출의 느린 비율이 기준선에서 크게 벗어나면 서킷을 엽니다.
+ * 고정 임계치(errorThresholdPercentage)는 그대로 동작하므로, 적응형 판단은 그보다 먼저 여는 역할만 합니다.
+ *
+ * - 성공(SUCCESS)과 실패(FAILURE, TIMEOUT)만 기록합니다. 거절 / short-circuit / BAD_REQUEST 는 의존 서비스의 상태가 아니므로 제외
+ * - Hystrix 는 markCommandExecution 을 성공한 실행에만, 이벤트 목록에 SUCCESS 를 넣기 전에 호출합니다.
+ *   그래서 성공은 markCommandExecution(실행 시간 포함), 실패는 markEvent 로 기록합니다.
+ *   실패의 실행 시간은 알 수 없으므로 TIMEOUT 은 timeout 값, FAILURE 는 지연 시간 윈도우에 넣지 않습니다.
+ * - 열린 서킷은 sleepWindow 후 평소처럼 시험 요청으로 닫힙니다. (CircuitBreakerAccess)
+ * - 기준선은 1초마다 별도 스레드에서 다시 계산합니다. (Command 실행 스레드에서는 잠그지 않음)
+ */
+public class AdaptiveThresholdNotifier extends HystrixEventNotifier {
+
+    private static final Logger log = LoggerFactory.getLogger(AdaptiveThresholdNotifier.class);
+
+    private static final long RECOMPUTE_INTERVAL_MILLIS = 1000;
+
+    private final ConcurrentMap<String, CommandBaseline> baselines = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "adaptive-baseline");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public AdaptiveThresholdNotifier() {
+        scheduler.scheduleWithFixedDelay(this::recompute, RECOMPUTE_INTERVAL_MILLIS, RECOMPUTE_INTERVAL_MILLIS,
+                TimeUnit.MILLISECONDS);
+    }
+
+    public void close() {
+        scheduler.shutdownNow();
+    }
+
+    @Override
+    public void markCommandExecution(HystrixCommandKey key, HystrixCommandProperties.ExecutionIsolationStrategy isolationStrategy,
+                                     int duration, List<HystrixEventType> eventsDuringExecution) {
+        if (eventsDuringExecution.contains(HystrixEventType.FAILURE) || eventsDuringExecution.contains(HystrixEventType.TIMEOUT)) {
+            return;
+        }
+        record(key, false, duration);
+    }
+
+    @Override
+    public void markEvent(HystrixEventType eventType, HystrixCommandKey key) {
+        if (eventType == HystrixEventType.FAILURE) {
+            record(key, true, AdaptiveBaseline.UNKNOWN_LATENCY);
+        } else if (eventType == HystrixEventType.TIMEOUT) {
+            HystrixCommandMetrics metrics = HystrixCommandMetrics.getInstance(key);
+            if (metrics != null) {
+                record(key, true, metrics.getProperties().executionTimeoutInMilliseconds().get());
+            }
+        }
+    }
+
+    private void record(HystrixCommandKey key, boolean failure, long latencyMillis) {
+        CommandBaseline command = baselines.get(key.name());
+        if (command == null) {
+            command = baselines.computeIfAbsent(key.name(), CommandBaseline::new);
+        }
+        if (!command.properties.enabled()) {
+            return;
+        }
+        HystrixCommandMetrics metrics = HystrixCommandMetrics.getInstance(key);
+        if (metrics == null || !"CLOSED".equals(CircuitBreakerAccess.state(metrics))) {
+            return;
+        }
+
+        HystrixCommandMetrics.HealthCounts health = metrics.getHealthCounts();
+        String deviation = command.baseline.record(failure, latencyMillis, health.getErrorPercentage(),
+                health.getTotalRequests(), command.properties.limits(metrics.getProperties()));
+        if (deviation != null && CircuitBreakerAccess.open(key)) {
+            command.baseline.tripped(deviation);
+            log.warn("Circuit {} opened - {}", key.name(), deviation);
+        }
+    }
+
+    private void recompute() {
+        for (CommandBaseline command : baselines.values()) {
+            try {
+                HystrixCommandMetrics metrics = HystrixCommandMetrics.getInstance(HystrixCommandKey.Factory.asKey(command.commandKey));
+                if (metrics != null && command.properties.enabled()) {
+                    command.baseline.recompute(command.properties.limits(metrics.getProperties()));
+                }
+            } catch (RuntimeException e) {
+                log.warn("Failed to recompute adaptive baseline of {}", command.commandKey, e);
+            }
+        }
+    }
+
+    /**
+     * 적응형 임계치가 켜진 Command 의 기준선과 현재 임계치 (Command 이름 순)
+     */
+    public Map<String, Map<String, Object>> getBaselineSnapshots() {
+        Map<String, Map<String, Object>> snapshots = new TreeMap<>();
+        for (CommandBaseline command : baselines.values()) {
+            HystrixCommandMetrics metrics = HystrixCommandMetrics.getInstance(HystrixCommandKey.Factory.asKey(command.commandKey));
+            if (metrics != null && command.properties.enabled()) {
+                snapshots.put(command.commandKey, command.baseline.snapshot(command.properties.limits(metrics.getProperties())));
+            }
+        }
+        return snapshots;
+    }
+
+    private static final class CommandBaseline {
+        final String commandKey;
+        final AdaptiveThresholdProperties properties;
+        final AdaptiveBaseline baseline;
+
+        CommandBaseline(String commandKey) {
+            this.commandKey = commandKey;
+            this.properties = new AdaptiveThresholdProperties(commandKey);
+            this.baseline = new AdaptiveBaseline(properties.latencyWindow());
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.hystrix;
+
+import com.example.circuit.AdaptiveBaseline;
+import com.netflix.config.DynamicBooleanProperty;
+import com.netflix.config.DynamicDoubleProperty;
+import com.netflix.config.DynamicIntProperty;
+import com.netflix.config.DynamicLongProperty;
+import com.netflix.config.DynamicPropertyFactory;
+import com.netflix.config.DynamicStringProperty;
+import com.netflix.hystrix.HystrixCommandProperties;
+
+/**
+ * Command 별 적응형 임계치 설정
+ *
+ * hystrix.command.{commandKey}.adaptiveThreshold.* 값이 있으면 사용하고,
+ * 없으면 hystrix.command.default.adaptiveThreshold.* 값을 사용합니다. (Archaius 동적 프로퍼티, 다음 호출부터 반영)
+ * 상한은 기존 설정을 사용합니다. (오류율: circuitBreaker.errorThresholdPercentage, 느린 호출: execution timeout)
+ */
+public class AdaptiveThresholdProperties {
+
+    private static final String PREFIX = "hystrix.command.";
+    private static final int UNSET_INT = Integer.MIN_VALUE;
+    private static final long UNSET_LONG = Long.MIN_VALUE;
+
+    private final DynamicBooleanProperty defaultEnabled;
+    private final DynamicStringProperty enabled;
+    private final DynamicDoubleProperty defaultMinErrorPercentage;
+    private final DynamicDoubleProperty minErrorPercentage;
+    private final DynamicLongProperty defaultMinSlowCallMillis;
+    private final DynamicLongProperty minSlowCallMillis;
+    private final DynamicDoubleProperty defaultSlowCallPercentage;
+    private final DynamicDoubleProperty slowCallPercentage;
+    private final DynamicDoubleProperty defaultSensitivity;
+    private final DynamicDoubleProperty sensitivity;
+    private final DynamicIntProperty defaultBaselineCalls;
+    private final DynamicIntProperty baselineCalls;
+    private final DynamicIntProperty defaultWarmupCalls;
+    private final DynamicIntProperty warmupCalls;
+    private final DynamicIntProperty defaultMinimumRequests;
+    private final DynamicIntProperty minimumRequests;
+    private final DynamicIntProperty defaultLatencyWindow;
+    private final DynamicIntProperty latencyWindow;
+
+    public AdaptiveThresholdProperties(String commandKey) {
+        DynamicPropertyFactory factory = DynamicPropertyFactory.getInstance();
+        String specific = PREFIX + commandKey + ".adaptiveThreshold.";
+        String defaults = PREFIX + "default.adaptiveThreshold.";
+
+        this.defaultEnabled = factory.getBooleanProperty(defaults + "enabled", false);
+        this.enabled = factory.getStringProperty(specific + "enabled", null);
+        this.defaultMinErrorPercentage = factory.getDoubleProperty(defaults + "minErrorPercentage", 10);
+        this.minErrorPercentage = factory.getDoubleProperty(specific + "minErrorPercentage", Double.NaN);
+        this.defaultMinSlowCallMillis = factory.getLongProperty(defaults + "minSlowCallMillis", 100);
+        this.minSlowCallMillis = factory.getLongProperty(specific + "minSlowCallMillis", UNSET_LONG);
+        this.defaultSlowCallPercentage = factory.getDoubleProperty(defaults + "slowCallPercentage", 50);
+        this.slowCallPercentage = factory.getDoubleProperty(specific + "slowCallPercentage", Double.NaN);
+        this.defaultSensitivity = factory.getDoubleProperty(defaults + "sensitivity", 3);
+        this.sensitivity = factory.getDoubleProperty(specific + "sensitivity", Double.NaN);
+        this.defaultBaselineCalls = factory.getIntProperty(defaults + "baselineCalls", 500);
+        this.baselineCalls = factory.getIntProperty(specific + "baselineCalls", UNSET_INT);
+        this.defaultWarmupCalls = factory.getIntProperty(defaults + "warmupCalls", 100);
+        this.warmupCalls = factory.getIntProperty(specific + "warmupCalls", UNSET_INT);
+        this.defaultMinimumRequests = factory.getIntProperty(defaults + "minimumRequests", 10);
+        this.minimumRequests = factory.getIntProperty(specific + "minimumRequests", UNSET_INT);
+        this.defaultLatencyWindow = factory.getIntProperty(defaults + "latencyWindow", 20);
+        this.latencyWindow = factory.getIntProperty(specific + "latencyWindow", UNSET_INT);
+    }
+
+    public boolean enabled() {
+        String specificValue = enabled.get();
+        return specificValue != null ? Boolean.parseBoolean(specificValue.trim()) : defaultEnabled.get();
+    }
+
+    /**
+     * 지연 시간 윈도우 크기 (기준선을 만들 때만 참조, 바꾸려면 재시작 필요)
+     */
+    public int latencyWindow() {
+        return valueOf(latencyWindow, defaultLatencyWindow);
+    }
+
+    public AdaptiveBaseline.Limits limits(HystrixCommandProperties commandProperties) {
+        long timeout = commandProperties.executionTimeoutEnabled().get()
+                ? commandProperties.executionTimeoutInMilliseconds().get()
+                : Long.MAX_VALUE;
+        return new AdaptiveBaseline.Limits(
+                valueOf(minErrorPercentage, defaultMinErrorPercentage),
+                commandProperties.circuitBreakerErrorThresholdPercentage().get(),
+                valueOf(minSlowCallMillis, defaultMinSlowCallMillis),
+                timeout,
+                valueOf(slowCallPercentage, defaultSlowCallPercentage),
+                valueOf(sensitivity, defaultSensitivity),
+                valueOf(baselineCalls, defaultBaselineCalls),
+                valueOf(warmupCalls, defaultWarmupCalls),
+                valueOf(minimumRequests, defaultMinimumRequests));
+    }
+
+    private static int valueOf(DynamicIntProperty specific, DynamicIntProperty fallback) {
+        int value = specific.get();
+        return value != UNSET_INT ? value : fallback.get();
+    }
+
+    private static long valueOf(DynamicLongProperty specific, DynamicLongProperty fallback) {
+        long value = specific.get();
+        return value != UNSET_LONG ? value : fallback.get();
+    }
+
+    private static double valueOf(DynamicDoubleProperty specific, DynamicDoubleProperty fallback) {
+        double value = specific.get();
+        return !Double.isNaN(value) ? value : fallback.get();
+    }
+}
@@ -0,0 +1,154 @@
+package com.example.hystrix;
+
+import com.netflix.hystrix.HystrixCircuitBreaker;
+import com.netflix.hystrix.HystrixCommandKey;
+import com.netflix.hystrix.HystrixCommandMetrics;
+import com.netflix.hystrix.HystrixCommandProperties;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * HystrixCircuitBreakerImpl 의 내부 상태(circuitOpen, circuitOpenedOrLastTestedTime) 조회 / 변경
+ *
+ * - allowRequest() 는 sleepWindow 가 지난 OPEN 서킷에서 시험 요청(half-open)을 시작하고,
+ *   isOpen() 도 오류율이 임계치를 넘으면 서킷을 여는 부수 효과가 있어 조회 용도로 사용하지 않습니다.
+ * - 서킷을 여는 공개 API 가 없으므로, isOpen() 이 임계치를 넘었을 때와 같은 방식으로 내부 필드를 바꿉니다.
+ * - 닫을 때는 시험 요청 성공과 같은 markSuccess() 를 사용합니다. (오류 통계도 초기화)
+ */
+public final class CircuitBreakerAccess {
+
+    /**
+     * openedOrLastTestedAt(): 서킷이 닫혀 있음
+     */
+    public static final long CLOSED = -1;
+    /**
+     * openedOrLastTestedAt(): 서킷이 아직 만들어지지 않았거나 내부 상태를 읽을 수 없음
+     */
+    public static final long UNAVAILABLE = -2;
+
+    private static final Field CIRCUIT_OPEN = findField("circuitOpen");
+    private static final Field OPENED_OR_LAST_TESTED = findField("circuitOpenedOrLastTestedTime");
+
+    private CircuitBreakerAccess() {
+    }
+
+    /**
+     * CLOSED / OPEN / HALF_OPEN(sleepWindow 가 지나 다음 요청이 시험 요청이 됨) / FORCED_OPEN / FORCED_CLOSED / NOT_INITIALIZED
+     */
+    public static String state(HystrixCommandMetrics metrics) {
+        HystrixCommandProperties properties = metrics.getProperties();
+        if (properties.circuitBreakerForceOpen().get()) {
+            return "FORCED_OPEN";
+        }
+        if (properties.circuitBreakerForceClosed().get()) {
+            return "FORCED_CLOSED";
+        }
+        HystrixCircuitBreaker breaker = breaker(metrics.getCommandKey());
+        if (breaker == null) {
+            return "NOT_INITIALIZED";
+        }
+        try {
+            if (!((AtomicBoolean) CIRCUIT_OPEN.get(breaker)).get()) {
+                return "CLOSED";
+            }
+            long openedOrLastTested = ((AtomicLong) OPENED_OR_LAST_TESTED.get(breaker)).get();
+            long sleepWindow = properties.circuitBreakerSleepWindowInMilliseconds().get();
+            return System.currentTimeMillis() > openedOrLastTested + sleepWindow ? "HALF_OPEN" : "OPEN";
+        } catch (IllegalAccessException e) {
+            return "NOT_INITIALIZED";
+        }
+    }
+
+    /**
+     * 열린 서킷이 열리거나 마지막으로 시험 요청을 보낸 시각(epoch ms)을 부수 효과 없이 읽습니다.
+     * 시험 요청이 시작될 때마다 값이 바뀌므로, 열린 동안 값이 바뀌었으면 그 사이에 시험 요청이 있었던 것입니다.
+     *
+     * @return 열린 서킷의 시각, 닫혀 있으면 CLOSED, 읽을 수 없으면 UNAVAILABLE
+     */
+    public static long openedOrLastTestedAt(HystrixCommandKey commandKey) {
+        HystrixCircuitBreaker breaker = breaker(commandKey);
+        if (breaker == null) {
+            return UNAVAILABLE;
+        }
+        try {
+            if (!((AtomicBoolean) CIRCUIT_OPEN.get(breaker)).get()) {
+                return CLOSED;
+            }
+            return ((AtomicLong) OPENED_OR_LAST_TESTED.get(breaker)).get();
+        } catch (IllegalAccessException e) {
+            return UNAVAILABLE;
+        }
+    }
+
+    /**
+     * 닫힌 서킷을 엽니다. sleepWindow 가 지나면 평소처럼 시험 요청을 보냅니다.
+     *
+     * @return 이 호출로 서킷이 열렸으면 true
+     */
+    public static boolean open(HystrixCommandKey commandKey) {
+        HystrixCircuitBreaker breaker = breaker(commandKey);
+        if (breaker == null) {
+            return false;
+        }
+        try {
+            if (((AtomicBoolean) CIRCUIT_OPEN.get(breaker)).compareAndSet(false, true)) {
+                ((AtomicLong) OPENED_OR_LAST_TESTED.get(breaker)).set(System.currentTimeMillis());
+                return true;
+            }
+            return false;
+        } catch (IllegalAccessException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 열린 서킷의 sleepWindow 를 지금부터 다시 시작해 시험 요청을 미룹니다.
+     */
+    public static void restartSleepWindow(HystrixCommandKey commandKey) {
+        HystrixCircuitBreaker breaker = breaker(commandKey);
+        if (breaker == null) {
+            return;
+        }
+        try {
+            if (((AtomicBoolean) CIRCUIT_OPEN.get(breaker)).get()) {
+                ((AtomicLong) OPENED_OR_LAST_TESTED.get(breaker)).set(System.currentTimeMillis());
+            }
+        } catch (IllegalAccessException e) {
+            // 조회할 수 없는 서킷은 그대로 둠
+        }
+    }
+
+    /**
+     * 열린 서킷을 닫고 오류 통계를 초기화합니다. (시험 요청 성공과 같은 처리)
+     */
+    public static void close(HystrixCommandKey commandKey) {
+        HystrixCircuitBreaker breaker = HystrixCircuitBreaker.Factory.getInstance(commandKey);
+        if (breaker != null) {
+            breaker.markSuccess();
+        }
+    }
+
+    private static HystrixCircuitBreaker breaker(HystrixCommandKey commandKey) {
+        HystrixCircuitBreaker breaker = HystrixCircuitBreaker.Factory.getInstance(commandKey);
+        if (breaker == null || CIRCUIT_OPEN == null || OPENED_OR_LAST_TESTED == null
+                || !CIRCUIT_OPEN.getDeclaringClass().isInstance(breaker)) {
+            return null;
+        }
+        return breaker;
+    }
+
+    private static Field findField(String name) {
+        try {
+            Field field = HystrixCircuitBreaker.HystrixCircuitBreakerImpl.class.getDeclaredField(name);
+            field.setAccessible(true);
+            return field;
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            LoggerFactory.getLogger(CircuitBreakerAccess.class)
+                    .warn("HystrixCircuitBreakerImpl.{} is not accessible - circuit state is unavailable", name, e);
+            return null;
+        }
+    }
+}
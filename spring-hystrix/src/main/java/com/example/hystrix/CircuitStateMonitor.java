@@ -0,0 +1,159 @@
+package com.example.hystrix;
+
+import com.netflix.hystrix.HystrixCommandMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 등록된 모든 HystrixCircuitBreaker 의 상태를 부수 효과 없이 조회하고, 바뀐 상태만 SSE 로 전달
+ *
+ * - allowRequest() / isOpen() 의 부수 효과를 피하기 위해 CircuitBreakerAccess 로 내부 상태를 읽기만 합니다.
+ * - 구독자가 있을 때만 메모리 상태를 주기적으로 비교하며, 구독자가 없으면 아무 작업도 하지 않습니다.
+ */
+public class CircuitStateMonitor {
+
+    private static final Logger log = LoggerFactory.getLogger(CircuitStateMonitor.class);
+
+    // 연결이 끊긴 구독자를 정리하기 위한 heartbeat 주기
+    private static final long HEARTBEAT_MILLIS = 15_000;
+
+    private final long checkIntervalMillis;
+    private final long emitterTimeoutMillis;
+    private final CopyOnWriteArrayList<SseEmitter> subscribers = new CopyOnWriteArrayList<>();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "circuit-state-monitor");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private ScheduledFuture<?> task;
+    private Map<String, String> lastStates = Collections.emptyMap();
+    private long lastSentAt;
+
+    public CircuitStateMonitor(long checkIntervalMillis, long emitterTimeoutMillis) {
+        this.checkIntervalMillis = checkIntervalMillis;
+        this.emitterTimeoutMillis = emitterTimeoutMillis;
+    }
+
+    /**
+     * 한 번 이상 실행된 모든 Command 의 서킷 상태 (commandKey 순)
+     */
+    public Map<String, Map<String, Object>> states() {
+        Map<String, Map<String, Object>> states = new TreeMap<>();
+        for (HystrixCommandMetrics metrics : HystrixCommandMetrics.getInstances()) {
+            states.put(metrics.getCommandKey().name(), describe(metrics));
+        }
+        return states;
+    }
+
+    /**
+     * SSE 구독을 등록합니다. 처음에 전체 상태(snapshot)를 보내고 이후에는 바뀐 서킷만(state) 보냅니다.
+     */
+    public SseEmitter subscribe() {
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMillis);
+        emitter.onCompletion(() -> unsubscribe(emitter));
+        emitter.onTimeout(() -> unsubscribe(emitter));
+
+        synchronized (this) {
+            try {
+                emitter.send(SseEmitter.event().name("snapshot").data(states()));
+            } catch (IOException e) {
+                emitter.completeWithError(e);
+                return emitter;
+            }
+            subscribers.add(emitter);
+            if (task == null) {
+                lastStates = currentStates();
+                lastSentAt = System.currentTimeMillis();
+                task = scheduler.scheduleWithFixedDelay(this::check, checkIntervalMillis, checkIntervalMillis, TimeUnit.MILLISECONDS);
+            }
+        }
+        return emitter;
+    }
+
+    public void shutdown() {
+        scheduler.shutdownNow();
+        for (SseEmitter emitter : subscribers) {
+            emitter.complete();
+        }
+        subscribers.clear();
+    }
+
+    private synchronized void unsubscribe(SseEmitter emitter) {
+        subscribers.remove(emitter);
+        if (subscribers.isEmpty() && task != null) {
+            task.cancel(false);
+            task = null;
+        }
+    }
+
+    private synchronized void check() {
+        try {
+            Map<String, String> current = new HashMap<>();
+            Map<String, Map<String, Object>> changed = new TreeMap<>();
+            for (HystrixCommandMetrics metrics : HystrixCommandMetrics.getInstances()) {
+                String name = metrics.getCommandKey().name();
+                String state = CircuitBreakerAccess.state(metrics);
+                current.put(name, state);
+                if (!state.equals(lastStates.get(name))) {
+                    changed.put(name, describe(metrics));
+                }
+            }
+            lastStates = current;
+
+            long now = System.currentTimeMillis();
+            if (!changed.isEmpty()) {
+                broadcast(SseEmitter.event().name("state").data(changed));
+                lastSentAt = now;
+            } else if (now - lastSentAt >= HEARTBEAT_MILLIS) {
+                broadcast(SseEmitter.event().comment("heartbeat"));
+                lastSentAt = now;
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to check circuit states", e);
+        }
+    }
+
+    private void broadcast(SseEmitter.SseEventBuilder event) {
+        for (SseEmitter emitter : subscribers) {
+            try {
+                emitter.send(event);
+            } catch (IOException | IllegalStateException e) {
+                // 연결이 끊긴 구독자
+                emitter.completeWithError(e);
+                unsubscribe(emitter);
+            }
+        }
+    }
+
+    private static Map<String, String> currentStates() {
+        Map<String, String> states = new HashMap<>();
+        for (HystrixCommandMetrics metrics : HystrixCommandMetrics.getInstances()) {
+            states.put(metrics.getCommandKey().name(), CircuitBreakerAccess.state(metrics));
+        }
+        return states;
+    }
+
+    private static Map<String, Object> describe(HystrixCommandMetrics metrics) {
+        HystrixCommandMetrics.HealthCounts health = metrics.getHealthCounts();
+        Map<String, Object> info = new LinkedHashMap<>();
+        info.put("state", CircuitBreakerAccess.state(metrics));
+        info.put("errorPercentage", health.getErrorPercentage());
+        info.put("totalRequests", health.getTotalRequests());
+        info.put("errorCount", health.getErrorCount());
+        return info;
+    }
+}
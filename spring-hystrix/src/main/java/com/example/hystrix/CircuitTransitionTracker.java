@@ -0,0 +1,80 @@
+package com.example.hystrix;
+
+import com.netflix.hystrix.HystrixCommandKey;
+import com.netflix.hystrix.HystrixEventType;
+
+/**
+ * Command 하나의 서킷 상태 전이(OPEN / HALF_OPEN / CLOSED)를 Listener 에 전달
+ *
+ * Hystrix 는 상태 전이 이벤트가 없으므로 Command 이벤트를 계기로 CircuitBreakerAccess 에서 서킷 상태를 직접 읽어 비교합니다.
+ * - 닫혀 있다고 본 동안에는 SHORT_CIRCUITED 와 실패 이벤트에서만 읽습니다. (성공 호출은 volatile 읽기 1회)
+ * - 열려 있다고 본 동안에는 모든 이벤트에서 읽습니다.
+ * - 닫힘 -> 열림: OPEN
+ * - 열린 동안 circuitOpenedOrLastTestedTime 이 바뀌고 실행된 호출의 결과가 오면: HALF_OPEN (시험 요청),
+ *   그 결과가 실패이면 이어서 OPEN
+ * - 열림 -> 닫힘: CLOSED. 1.5.x 는 SUCCESS 이벤트 뒤에 markSuccess() 로 서킷을 닫으므로 다음 이벤트에서 기록됩니다.
+ * - FORCED_OPEN / FORCED_CLOSED 는 내부 상태를 바꾸지 않으므로 전이로 보지 않습니다.
+ */
+public final class CircuitTransitionTracker {
+
+    public interface Listener {
+        void transition(String state);
+    }
+
+    private final HystrixCommandKey commandKey;
+    private final Listener listener;
+
+    private volatile boolean open;
+    // 마지막으로 본 circuitOpenedOrLastTestedTime (열린 동안에만 의미 있음)
+    private long testedAt;
+
+    public CircuitTransitionTracker(HystrixCommandKey commandKey, Listener listener) {
+        this.commandKey = commandKey;
+        this.listener = listener;
+    }
+
+    public void mark(HystrixEventType type) {
+        boolean failure = isFailure(type);
+        if (!open && !failure && type != HystrixEventType.SHORT_CIRCUITED) {
+            return;
+        }
+        if (!open && CircuitBreakerAccess.openedOrLastTestedAt(commandKey) < 0) {
+            return;
+        }
+        // 읽은 순서대로 비교하도록 잠금 안에서 다시 읽음
+        synchronized (this) {
+            long stamp = CircuitBreakerAccess.openedOrLastTestedAt(commandKey);
+            if (stamp == CircuitBreakerAccess.UNAVAILABLE) {
+                return;
+            }
+            if (stamp == CircuitBreakerAccess.CLOSED) {
+                if (open) {
+                    open = false;
+                    listener.transition("CLOSED");
+                }
+            } else if (!open) {
+                open = true;
+                testedAt = stamp;
+                listener.transition("OPEN");
+            } else if (stamp != testedAt && (failure || type == HystrixEventType.SUCCESS)) {
+                testedAt = stamp;
+                listener.transition("HALF_OPEN");
+                if (failure) {
+                    listener.transition("OPEN");
+                }
+            }
+        }
+    }
+
+    private static boolean isFailure(HystrixEventType type) {
+        switch (type) {
+            case FAILURE:
+            case TIMEOUT:
+            case THREAD_POOL_REJECTED:
+            case SEMAPHORE_REJECTED:
+                return true;
+            default:
+                return false;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.hystrix;
+
+import com.example.guard.GuardedMethod;
+import com.example.guard.GuardedMethods;
+import com.netflix.hystrix.HystrixCommand;
+import com.netflix.hystrix.HystrixCommandGroupKey;
+import com.netflix.hystrix.HystrixCommandKey;
+import com.netflix.hystrix.HystrixThreadPoolKey;
+import com.netflix.hystrix.exception.HystrixBadRequestException;
+import com.netflix.hystrix.exception.HystrixRuntimeException;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.aop.support.StaticMethodMatcherPointcutAdvisor;
+import org.springframework.core.Ordered;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * GuardProcessor 가 컴파일 시점에 생성한 코드로 @HystrixCommand 메소드를 실행합니다. (HystrixCommandAspect 대체)
+ *
+ * - 생성된 코드가 있는 메소드에만 적용되고, 대상 객체의 메소드를 직접 호출하므로 HystrixCommandAspect 까지 내려가지 않습니다.
+ *   생성되지 않은 메소드(commandProperties 등 지원하지 않는 속성 사용)와 @HystrixCollapser 는 그대로 javanica 가 처리합니다.
+ * - 메소드별 Setter(commandKey, groupKey, threadPoolKey)는 첫 호출에 한 번 만들고, fallback / 캐시 키 메소드는 컴파일 시점에 검사됩니다.
+ * - @Aspect 는 호출마다 JoinPoint 를 만들기 때문에 MethodInterceptor 로 등록합니다.
+ * - 예외는 javanica 와 같이 HystrixRuntimeException / HystrixBadRequestException 의 원인을 던집니다.
+ */
+public class CompiledCommandAdvisor extends StaticMethodMatcherPointcutAdvisor implements MethodInterceptor {
+
+    private final GuardedMethods guardedMethods;
+    private final ConcurrentMap<Method, CompiledCommand> commands = new ConcurrentHashMap<Method, CompiledCommand>();
+
+    public CompiledCommandAdvisor(GuardedMethods guardedMethods) {
+        this.guardedMethods = guardedMethods;
+        setAdvice(this);
+        setOrder(Ordered.HIGHEST_PRECEDENCE + 3);
+    }
+
+    @Override
+    public boolean matches(Method method, Class<?> targetClass) {
+        return guardedMethods.find(AopUtils.getMostSpecificMethod(method, targetClass),
+                GuardedMethod.Kind.HYSTRIX_COMMAND) != null;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        CompiledCommand command = commands.get(invocation.getMethod());
+        if (command == null) {
+            command = compile(invocation);
+        }
+        try {
+            return new GuardedHystrixCommand(command.setter, command.guardedMethod,
+                    invocation.getThis(), invocation.getArguments()).execute();
+        } catch (HystrixBadRequestException e) {
+            throw e.getCause() != null ? e.getCause() : e;
+        } catch (HystrixRuntimeException e) {
+            throw e.getCause() != null ? e.getCause() : e;
+        }
+    }
+
+    private CompiledCommand compile(MethodInvocation invocation) {
+        Method method = AopUtils.getMostSpecificMethod(invocation.getMethod(), invocation.getThis().getClass());
+        CompiledCommand command = new CompiledCommand(guardedMethods.find(method, GuardedMethod.Kind.HYSTRIX_COMMAND));
+        CompiledCommand previous = commands.putIfAbsent(invocation.getMethod(), command);
+        return previous != null ? previous : command;
+    }
+
+    /**
+     * 생성된 호출 코드 + 메소드별 Hystrix Setter
+     */
+    private static final class CompiledCommand {
+        final GuardedMethod guardedMethod;
+        final HystrixCommand.Setter setter;
+
+        CompiledCommand(GuardedMethod guardedMethod) {
+            this.guardedMethod = guardedMethod;
+            HystrixCommand.Setter setter = HystrixCommand.Setter
+                    .withGroupKey(HystrixCommandGroupKey.Factory.asKey(guardedMethod.getGroup()))
+                    .andCommandKey(HystrixCommandKey.Factory.asKey(guardedMethod.getName()));
+            if (guardedMethod.getIsolation() != null) {
+                setter.andThreadPoolKey(HystrixThreadPoolKey.Factory.asKey(guardedMethod.getIsolation()));
+            }
+            this.setter = setter;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.hystrix;
+
+import com.netflix.hystrix.HystrixCommandKey;
+import com.netflix.hystrix.HystrixCommandProperties;
+import com.netflix.hystrix.HystrixEventType;
+import com.netflix.hystrix.strategy.eventnotifier.HystrixEventNotifier;
+
+import java.util.List;
+
+/**
+ * HystrixPlugins 에는 EventNotifier 를 하나만 등록할 수 있으므로 여러 EventNotifier 에 차례로 전달합니다.
+ */
+public class CompositeEventNotifier extends HystrixEventNotifier {
+
+    private final HystrixEventNotifier[] notifiers;
+
+    public CompositeEventNotifier(HystrixEventNotifier... notifiers) {
+        this.notifiers = notifiers;
+    }
+
+    @Override
+    public void markEvent(HystrixEventType eventType, HystrixCommandKey key) {
+        for (HystrixEventNotifier notifier : notifiers) {
+            notifier.markEvent(eventType, key);
+        }
+    }
+
+    @Override
+    public void markCommandExecution(HystrixCommandKey key, HystrixCommandProperties.ExecutionIsolationStrategy isolationStrategy,
+                                     int duration, List<HystrixEventType> eventsDuringExecution) {
+        for (HystrixEventNotifier notifier : notifiers) {
+            notifier.markCommandExecution(key, isolationStrategy, duration, eventsDuringExecution);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.hystrix;
+
+import com.example.guard.GuardedMethod;
+import com.netflix.hystrix.HystrixCommand;
+import com.netflix.hystrix.contrib.javanica.exception.FallbackInvocationException;
+
+import java.lang.reflect.UndeclaredThrowableException;
+
+/**
+ * 생성된 코드로 @HystrixCommand 메소드를 실행하는 Command (javanica GenericCommand 대체)
+ *
+ * - run / fallback / 캐시 키는 GuardedMethod 의 생성된 호출 코드로 대상 객체의 메소드를 직접 호출합니다.
+ * - Setter 는 메소드별로 한 번 만들어 재사용하므로 호출마다 어노테이션과 메소드 메타데이터를 읽지 않습니다.
+ * - fallback 에서 발생한 예외는 javanica 와 같이 FallbackInvocationException 으로 감쌉니다.
+ */
+public class GuardedHystrixCommand extends HystrixCommand<Object> {
+
+    private final GuardedMethod guardedMethod;
+    private final Object target;
+    private final Object[] arguments;
+
+    public GuardedHystrixCommand(Setter setter, GuardedMethod guardedMethod, Object target, Object[] arguments) {
+        super(setter);
+        this.guardedMethod = guardedMethod;
+        this.target = target;
+        this.arguments = arguments;
+    }
+
+    @Override
+    protected Object run() throws Exception {
+        try {
+            return guardedMethod.getInvoker().invoke(target, arguments);
+        } catch (Exception e) {
+            throw e;
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new UndeclaredThrowableException(t);
+        }
+    }
+
+    @Override
+    protected Object getFallback() {
+        GuardedMethod.Fallback fallback = guardedMethod.getFallback();
+        if (fallback == null) {
+            return super.getFallback();
+        }
+        try {
+            return fallback.apply(target, arguments, getExecutionException());
+        } catch (Throwable t) {
+            throw new FallbackInvocationException(t);
+        }
+    }
+
+    @Override
+    protected String getCacheKey() {
+        GuardedMethod.Invoker cacheKey = guardedMethod.getCacheKey();
+        if (cacheKey == null) {
+            return null;
+        }
+        try {
+            return (String) cacheKey.invoke(target, arguments);
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new IllegalStateException("Failed to generate cache key for " + guardedMethod, t);
+        }
+    }
+}
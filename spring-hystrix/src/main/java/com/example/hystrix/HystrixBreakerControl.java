@@ -0,0 +1,47 @@
+package com.example.hystrix;
+
+import com.example.gossip.BreakerControl;
+import com.netflix.hystrix.HystrixCommandKey;
+import com.netflix.hystrix.HystrixCommandMetrics;
+import com.netflix.hystrix.HystrixCommandProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * BreakerGossip 용 Hystrix 서킷 조회 / 조작 (서킷 이름 = commandKey)
+ *
+ * - 윈도우 호출 / 실패 수는 HealthCounts(metrics.rollingStats 윈도우)를 사용합니다.
+ * - 열기와 대기 시간 재시작은 CircuitBreakerAccess 로 내부 상태를 바꾸고, 닫기는 markSuccess() 를 사용합니다.
+ */
+public class HystrixBreakerControl implements BreakerControl {
+
+    @Override
+    public List<Breaker> breakers() {
+        List<Breaker> breakers = new ArrayList<>();
+        for (HystrixCommandMetrics metrics : HystrixCommandMetrics.getInstances()) {
+            HystrixCommandMetrics.HealthCounts health = metrics.getHealthCounts();
+            HystrixCommandProperties properties = metrics.getProperties();
+            breakers.add(new Breaker(metrics.getCommandKey().name(), CircuitBreakerAccess.state(metrics),
+                    health.getTotalRequests(), health.getErrorCount(),
+                    properties.circuitBreakerErrorThresholdPercentage().get(),
+                    properties.circuitBreakerRequestVolumeThreshold().get()));
+        }
+        return breakers;
+    }
+
+    @Override
+    public boolean open(String name) {
+        return CircuitBreakerAccess.open(HystrixCommandKey.Factory.asKey(name));
+    }
+
+    @Override
+    public void holdOpen(String name) {
+        CircuitBreakerAccess.restartSleepWindow(HystrixCommandKey.Factory.asKey(name));
+    }
+
+    @Override
+    public void close(String name) {
+        CircuitBreakerAccess.close(HystrixCommandKey.Factory.asKey(name));
+    }
+}
@@ -0,0 +1,342 @@
+package com.example.hystrix;
+
+import com.example.hystrix.HystrixPropertyDefinitions.Definition;
+import com.netflix.config.ConfigurationManager;
+import com.netflix.hystrix.HystrixCommandKey;
+import com.netflix.hystrix.HystrixCommandMetrics;
+import com.netflix.hystrix.HystrixCommandProperties;
+import com.netflix.hystrix.HystrixThreadPoolKey;
+import com.netflix.hystrix.HystrixThreadPoolMetrics;
+import com.netflix.hystrix.HystrixThreadPoolProperties;
+import com.netflix.hystrix.strategy.properties.HystrixPropertiesFactory;
+import org.apache.commons.configuration.AbstractConfiguration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 전체 Command / ThreadPool 설정의 버전 스냅샷 조회와 일괄 변경
+ *
+ * - 설정이 바뀔 때마다(파일, Push, API) 버전이 올라가며, 스냅샷은 버전이 같으면 캐시된 값을 그대로 반환합니다.
+ * - 일괄 변경은 전체를 먼저 검증한 뒤 쓰기 락 안에서 WatchedUpdateResult 하나로 적용합니다.
+ *   (/config/push 와 같은 경로이므로 파일 값보다 우선하며, push 로 null 을 보내면 파일 값으로 돌아감)
+ * - 스냅샷 조회는 읽기 락을 사용하므로 일부만 적용된 상태는 조회되지 않습니다.
+ * - Archaius 는 WatchedUpdateResult 안의 키도 하나씩 반영하므로, 실행 중인 Command 는 한 번의 변경에 속한 키들이
+ *   잠깐 사이를 두고 바뀌는 것을 볼 수 있습니다. (Command 실행에 대해서는 원자적이지 않음)
+ */
+public class HystrixConfigStore {
+
+    private static final Logger log = LoggerFactory.getLogger(HystrixConfigStore.class);
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final AtomicLong version = new AtomicLong(1);
+    private final AtomicReference<Snapshot> cached = new AtomicReference<>();
+    private final WatchedPropertiesConfigurationSource source;
+
+    public HystrixConfigStore(WatchedPropertiesConfigurationSource source) {
+        this.source = source;
+    }
+
+    /**
+     * Archaius 설정 변경 이벤트를 구독해 버전을 올립니다.
+     * ConfigurationManager 에 설정이 설치된 뒤 호출해야 합니다.
+     */
+    public void trackConfigurationChanges() {
+        AbstractConfiguration config = ConfigurationManager.getConfigInstance();
+        config.addConfigurationListener(event -> {
+            if (!event.isBeforeUpdate()) {
+                version.incrementAndGet();
+            }
+        });
+    }
+
+    /**
+     * 한 번 이상 실행된(메트릭이 등록된) 모든 Command 와 ThreadPool 의 현재 설정
+     *
+     * 읽기 락은 일괄 변경이 적용되는 중에 스냅샷을 만들지 않기 위한 것이며, 버전과 캐시는 CAS 로만 갱신합니다.
+     * (여러 요청이 동시에 만들어도 버전은 한 번만 올라가고, 더 새 버전의 스냅샷이 남음)
+     */
+    public Snapshot snapshot() {
+        lock.readLock().lock();
+        try {
+            int commandCount = HystrixCommandMetrics.getInstances().size();
+            int threadPoolCount = HystrixThreadPoolMetrics.getInstances().size();
+            long current = version.get();
+            Snapshot snapshot = cached.get();
+            if (snapshot != null && snapshot.version == current) {
+                if (snapshot.commandCount == commandCount && snapshot.threadPoolCount == threadPoolCount) {
+                    return snapshot;
+                }
+                // 새로 실행된 Command 가 생기면 스냅샷 내용이 달라지므로 버전을 올림 (다른 요청이 먼저 올렸으면 그 버전 사용)
+                version.compareAndSet(current, current + 1);
+                current = version.get();
+            }
+            Snapshot built = buildSnapshot(current);
+            Snapshot previous;
+            do {
+                previous = cached.get();
+            } while ((previous == null || previous.version < built.version) && !cached.compareAndSet(previous, built));
+            return built;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public String currentETag() {
+        return toETag(version.get());
+    }
+
+    /**
+     * 단일 Command 의 현재 설정 (section -> name -> value)
+     */
+    public Map<String, Object> commandConfig(String commandKey) {
+        HystrixCommandProperties properties = HystrixPropertiesFactory.getCommandProperties(
+                HystrixCommandKey.Factory.asKey(commandKey), HystrixCommandProperties.Setter());
+        Map<String, Object> config = new LinkedHashMap<>();
+        for (Definition<HystrixCommandProperties> definition : HystrixPropertyDefinitions.COMMAND) {
+            @SuppressWarnings("unchecked")
+            Map<String, Object> section = (Map<String, Object>) config.computeIfAbsent(
+                    definition.getSection(), s -> new LinkedHashMap<String, Object>());
+            section.put(definition.getName(), definition.read(properties));
+        }
+        return config;
+    }
+
+    public Map<String, Object> threadPoolConfig(String threadPoolKey) {
+        HystrixThreadPoolProperties properties = HystrixPropertiesFactory.getThreadPoolProperties(
+                HystrixThreadPoolKey.Factory.asKey(threadPoolKey), HystrixThreadPoolProperties.Setter());
+        Map<String, Object> config = new LinkedHashMap<>();
+        for (Definition<HystrixThreadPoolProperties> definition : HystrixPropertyDefinitions.THREAD_POOL) {
+            config.put(definition.getName(), definition.read(properties));
+        }
+        return config;
+    }
+
+    /**
+     * 여러 Command / ThreadPool 설정을 한 번에 변경합니다.
+     *
+     * @param changeSet {"commands": {commandKey: {section: {name: value}}}, "threadPools": {poolKey: {name: value}}}
+     * @param ifMatch   스냅샷 조회 시 받은 ETag (null 또는 "*" 이면 버전을 확인하지 않음)
+     */
+    public BulkUpdateResult apply(Map<String, Object> changeSet, String ifMatch) {
+        return apply(changeSet, ifMatch, false);
+    }
+
+    /**
+     * @param ignoreUnknown true 이면 알 수 없는 속성은 오류 대신 건너뜀 (단일 Command PUT 의 기존 동작)
+     */
+    public BulkUpdateResult apply(Map<String, Object> changeSet, String ifMatch, boolean ignoreUnknown) {
+        List<String> errors = new ArrayList<>();
+        Map<String, String> properties = validate(changeSet, errors, ignoreUnknown);
+        if (!errors.isEmpty()) {
+            return BulkUpdateResult.invalid(errors);
+        }
+
+        lock.writeLock().lock();
+        try {
+            if (ifMatch != null && !"*".equals(ifMatch.trim()) && !currentETag().equals(stripWeak(ifMatch))) {
+                return BulkUpdateResult.versionMismatch(currentETag());
+            }
+            if (properties.isEmpty()) {
+                return BulkUpdateResult.applied(properties, currentETag());
+            }
+
+            // 변경 전체를 WatchedUpdateResult 하나로 Archaius 에 전달 (/config/push 와 같은 경로)
+            source.push(new LinkedHashMap<String, Object>(properties));
+            version.incrementAndGet();
+            log.info("Applied bulk Hystrix configuration: {}", properties);
+            return BulkUpdateResult.applied(properties, currentETag());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, String> validate(Map<String, Object> changeSet, List<String> errors, boolean ignoreUnknown) {
+        Map<String, String> properties = new LinkedHashMap<>();
+        for (Map.Entry<String, Object> group : changeSet.entrySet()) {
+            if (!(group.getValue() instanceof Map)) {
+                errors.add(group.getKey() + ": must be an object");
+                continue;
+            }
+            Map<String, Object> targets = (Map<String, Object>) group.getValue();
+            if ("commands".equals(group.getKey())) {
+                for (Map.Entry<String, Object> command : targets.entrySet()) {
+                    validateCommand(command.getKey(), command.getValue(), properties, errors, ignoreUnknown);
+                }
+            } else if ("threadPools".equals(group.getKey())) {
+                for (Map.Entry<String, Object> threadPool : targets.entrySet()) {
+                    validateThreadPool(threadPool.getKey(), threadPool.getValue(), properties, errors, ignoreUnknown);
+                }
+            } else {
+                errors.add(group.getKey() + ": unknown group (commands, threadPools)");
+            }
+        }
+        if (properties.isEmpty() && errors.isEmpty() && !ignoreUnknown) {
+            errors.add("no properties to update");
+        }
+        return properties;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void validateCommand(String commandKey, Object sections, Map<String, String> properties, List<String> errors,
+                                        boolean ignoreUnknown) {
+        String path = "commands." + commandKey;
+        if (!(sections instanceof Map)) {
+            errors.add(path + ": must be an object");
+            return;
+        }
+        for (Map.Entry<String, Object> section : ((Map<String, Object>) sections).entrySet()) {
+            if (!(section.getValue() instanceof Map)) {
+                errors.add(path + "." + section.getKey() + ": must be an object");
+                continue;
+            }
+            for (Map.Entry<String, Object> value : ((Map<String, Object>) section.getValue()).entrySet()) {
+                String valuePath = path + "." + section.getKey() + "." + value.getKey();
+                Definition<HystrixCommandProperties> definition =
+                        HystrixPropertyDefinitions.findCommand(section.getKey(), value.getKey());
+                if (definition == null) {
+                    if (!ignoreUnknown) {
+                        errors.add(valuePath + ": unknown property");
+                    }
+                    continue;
+                }
+                try {
+                    properties.put(definition.propertyName(HystrixPropertyDefinitions.COMMAND_PREFIX, commandKey),
+                            definition.normalize(value.getValue()));
+                } catch (IllegalArgumentException e) {
+                    errors.add(valuePath + ": " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void validateThreadPool(String threadPoolKey, Object values, Map<String, String> properties, List<String> errors,
+                                           boolean ignoreUnknown) {
+        String path = "threadPools." + threadPoolKey;
+        if (!(values instanceof Map)) {
+            errors.add(path + ": must be an object");
+            return;
+        }
+        for (Map.Entry<String, Object> value : ((Map<String, Object>) values).entrySet()) {
+            String valuePath = path + "." + value.getKey();
+            Definition<HystrixThreadPoolProperties> definition = HystrixPropertyDefinitions.findThreadPool(value.getKey());
+            if (definition == null) {
+                if (!ignoreUnknown) {
+                    errors.add(valuePath + ": unknown property");
+                }
+                continue;
+            }
+            try {
+                properties.put(definition.propertyName(HystrixPropertyDefinitions.THREAD_POOL_PREFIX, threadPoolKey),
+                        definition.normalize(value.getValue()));
+            } catch (IllegalArgumentException e) {
+                errors.add(valuePath + ": " + e.getMessage());
+            }
+        }
+    }
+
+    private Snapshot buildSnapshot(long snapshotVersion) {
+        Map<String, Object> commands = new TreeMap<>();
+        for (HystrixCommandMetrics metrics : HystrixCommandMetrics.getInstances()) {
+            commands.put(metrics.getCommandKey().name(), commandConfig(metrics.getCommandKey().name()));
+        }
+        Map<String, Object> threadPools = new TreeMap<>();
+        for (HystrixThreadPoolMetrics metrics : HystrixThreadPoolMetrics.getInstances()) {
+            threadPools.put(metrics.getThreadPoolKey().name(), threadPoolConfig(metrics.getThreadPoolKey().name()));
+        }
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("version", snapshotVersion);
+        body.put("commands", commands);
+        body.put("threadPools", threadPools);
+        return new Snapshot(snapshotVersion, commands.size(), threadPools.size(), Collections.unmodifiableMap(body));
+    }
+
+    private static String toETag(long version) {
+        return "\"" + version + "\"";
+    }
+
+    private static String stripWeak(String eTag) {
+        String value = eTag.trim();
+        return value.startsWith("W/") ? value.substring(2) : value;
+    }
+
+    public static final class Snapshot {
+        private final long version;
+        private final int commandCount;
+        private final int threadPoolCount;
+        private final Map<String, Object> body;
+
+        private Snapshot(long version, int commandCount, int threadPoolCount, Map<String, Object> body) {
+            this.version = version;
+            this.commandCount = commandCount;
+            this.threadPoolCount = threadPoolCount;
+            this.body = body;
+        }
+
+        public String getETag() {
+            return toETag(version);
+        }
+
+        public Map<String, Object> getBody() {
+            return body;
+        }
+    }
+
+    public static final class BulkUpdateResult {
+
+        public enum Status { APPLIED, INVALID, VERSION_MISMATCH }
+
+        private final Status status;
+        private final Map<String, String> updatedProperties;
+        private final List<String> errors;
+        private final String eTag;
+
+        private BulkUpdateResult(Status status, Map<String, String> updatedProperties, List<String> errors, String eTag) {
+            this.status = status;
+            this.updatedProperties = updatedProperties;
+            this.errors = errors;
+            this.eTag = eTag;
+        }
+
+        static BulkUpdateResult applied(Map<String, String> updatedProperties, String eTag) {
+            return new BulkUpdateResult(Status.APPLIED, updatedProperties, Collections.<String>emptyList(), eTag);
+        }
+
+        static BulkUpdateResult invalid(List<String> errors) {
+            return new BulkUpdateResult(Status.INVALID, Collections.<String, String>emptyMap(), errors, null);
+        }
+
+        static BulkUpdateResult versionMismatch(String currentETag) {
+            return new BulkUpdateResult(Status.VERSION_MISMATCH, Collections.<String, String>emptyMap(),
+                    Collections.singletonList("configuration has changed (current ETag " + currentETag + ")"), currentETag);
+        }
+
+        public Status getStatus() {
+            return status;
+        }
+
+        public Map<String, String> getUpdatedProperties() {
+            return updatedProperties;
+        }
+
+        public List<String> getErrors() {
+            return errors;
+        }
+
+        public String getETag() {
+            return eTag;
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.example.hystrix;
+
+import com.netflix.hystrix.HystrixCommandProperties;
+import com.netflix.hystrix.HystrixThreadPoolProperties;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * API 에서 사용하는 설정 이름과 Hystrix 설정 키의 매핑 테이블
+ *
+ * - Command: {section}.{name} -> hystrix.command.{commandKey}.{suffix}
+ * - ThreadPool: {name} -> hystrix.threadpool.{poolKey}.{suffix}
+ * - 조회, 단건 변경, 일괄 변경이 모두 이 테이블을 사용합니다. type 이 null 이면 조회만 가능합니다.
+ */
+public final class HystrixPropertyDefinitions {
+
+    public static final String COMMAND_PREFIX = "hystrix.command.";
+    public static final String THREAD_POOL_PREFIX = "hystrix.threadpool.";
+
+    public static final List<Definition<HystrixCommandProperties>> COMMAND;
+    public static final List<Definition<HystrixThreadPoolProperties>> THREAD_POOL;
+
+    static {
+        List<Definition<HystrixCommandProperties>> command = new ArrayList<>();
+        // Circuit Breaker 설정
+        command.add(new Definition<>("circuitBreaker", "enabled", "circuitBreaker.enabled", ValueType.BOOLEAN, p -> p.circuitBreakerEnabled().get()));
+        command.add(new Definition<>("circuitBreaker", "requestVolumeThreshold", "circuitBreaker.requestVolumeThreshold", ValueType.NON_NEGATIVE_INT, p -> p.circuitBreakerRequestVolumeThreshold().get()));
+        command.add(new Definition<>("circuitBreaker", "sleepWindowInMilliseconds", "circuitBreaker.sleepWindowInMilliseconds", ValueType.NON_NEGATIVE_INT, p -> p.circuitBreakerSleepWindowInMilliseconds().get()));
+        command.add(new Definition<>("circuitBreaker", "errorThresholdPercentage", "circuitBreaker.errorThresholdPercentage", ValueType.PERCENT, p -> p.circuitBreakerErrorThresholdPercentage().get()));
+        command.add(new Definition<>("circuitBreaker", "forceOpen", "circuitBreaker.forceOpen", ValueType.BOOLEAN, p -> p.circuitBreakerForceOpen().get()));
+        command.add(new Definition<>("circuitBreaker", "forceClosed", "circuitBreaker.forceClosed", ValueType.BOOLEAN, p -> p.circuitBreakerForceClosed().get()));
+        // Execution 설정
+        command.add(new Definition<>("execution", "isolationStrategy", "execution.isolation.strategy", null, p -> p.executionIsolationStrategy().get().name()));
+        command.add(new Definition<>("execution", "timeoutEnabled", "execution.timeout.enabled", ValueType.BOOLEAN, p -> p.executionTimeoutEnabled().get()));
+        command.add(new Definition<>("execution", "timeoutInMilliseconds", "execution.isolation.thread.timeoutInMilliseconds", ValueType.POSITIVE_INT, p -> p.executionTimeoutInMilliseconds().get()));
+        command.add(new Definition<>("execution", "interruptOnTimeout", "execution.isolation.thread.interruptOnTimeout", ValueType.BOOLEAN, p -> p.executionIsolationThreadInterruptOnTimeout().get()));
+        command.add(new Definition<>("execution", "interruptOnCancel", "execution.isolation.thread.interruptOnFutureCancel", ValueType.BOOLEAN, p -> p.executionIsolationThreadInterruptOnFutureCancel().get()));
+        // Fallback 설정
+        command.add(new Definition<>("fallback", "enabled", "fallback.enabled", ValueType.BOOLEAN, p -> p.fallbackEnabled().get()));
+        command.add(new Definition<>("fallback", "maxConcurrentRequests", "fallback.isolation.semaphore.maxConcurrentRequests", ValueType.POSITIVE_INT, p -> p.fallbackIsolationSemaphoreMaxConcurrentRequests().get()));
+        // Metrics 설정
+        command.add(new Definition<>("metrics", "rollingStatsTimeInMilliseconds", "metrics.rollingStats.timeInMilliseconds", ValueType.POSITIVE_INT, p -> p.metricsRollingStatisticalWindowInMilliseconds().get()));
+        command.add(new Definition<>("metrics", "rollingStatsNumBuckets", "metrics.rollingStats.numBuckets", null, p -> p.metricsRollingStatisticalWindowBuckets().get()));
+        command.add(new Definition<>("metrics", "rollingPercentileEnabled", "metrics.rollingPercentile.enabled", null, p -> p.metricsRollingPercentileEnabled().get()));
+        command.add(new Definition<>("metrics", "healthSnapshotIntervalInMilliseconds", "metrics.healthSnapshot.intervalInMilliseconds", ValueType.POSITIVE_INT, p -> p.metricsHealthSnapshotIntervalInMilliseconds().get()));
+        // Request Context 설정
+        command.add(new Definition<>("request", "cacheEnabled", "requestCache.enabled", null, p -> p.requestCacheEnabled().get()));
+        command.add(new Definition<>("request", "logEnabled", "requestLog.enabled", null, p -> p.requestLogEnabled().get()));
+        COMMAND = Collections.unmodifiableList(command);
+
+        List<Definition<HystrixThreadPoolProperties>> threadPool = new ArrayList<>();
+        threadPool.add(new Definition<>(null, "coreSize", "coreSize", ValueType.POSITIVE_INT, p -> p.coreSize().get()));
+        threadPool.add(new Definition<>(null, "maximumSize", "maximumSize", ValueType.POSITIVE_INT, p -> p.maximumSize().get()));
+        threadPool.add(new Definition<>(null, "allowMaximumSizeToDivergeFromCoreSize", "allowMaximumSizeToDivergeFromCoreSize", ValueType.BOOLEAN, p -> p.getAllowMaximumSizeToDivergeFromCoreSize().get()));
+        threadPool.add(new Definition<>(null, "keepAliveTimeMinutes", "keepAliveTimeMinutes", ValueType.NON_NEGATIVE_INT, p -> p.keepAliveTimeMinutes().get()));
+        threadPool.add(new Definition<>(null, "maxQueueSize", "maxQueueSize", null, p -> p.maxQueueSize().get()));
+        threadPool.add(new Definition<>(null, "queueSizeRejectionThreshold", "queueSizeRejectionThreshold", ValueType.NON_NEGATIVE_INT, p -> p.queueSizeRejectionThreshold().get()));
+        THREAD_POOL = Collections.unmodifiableList(threadPool);
+    }
+
+    private HystrixPropertyDefinitions() {
+    }
+
+    public static Definition<HystrixCommandProperties> findCommand(String section, String name) {
+        for (Definition<HystrixCommandProperties> definition : COMMAND) {
+            if (definition.section.equals(section) && definition.name.equals(name)) {
+                return definition;
+            }
+        }
+        return null;
+    }
+
+    public static Definition<HystrixThreadPoolProperties> findThreadPool(String name) {
+        for (Definition<HystrixThreadPoolProperties> definition : THREAD_POOL) {
+            if (definition.name.equals(name)) {
+                return definition;
+            }
+        }
+        return null;
+    }
+
+    public static final class Definition<P> {
+        private final String section;
+        private final String name;
+        private final String suffix;
+        private final ValueType type;
+        private final Function<P, Object> reader;
+
+        private Definition(String section, String name, String suffix, ValueType type, Function<P, Object> reader) {
+            this.section = section;
+            this.name = name;
+            this.suffix = suffix;
+            this.type = type;
+            this.reader = reader;
+        }
+
+        public String getSection() {
+            return section;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public boolean isWritable() {
+            return type != null;
+        }
+
+        public String propertyName(String prefix, String key) {
+            return prefix + key + "." + suffix;
+        }
+
+        public Object read(P properties) {
+            return reader.apply(properties);
+        }
+
+        /**
+         * 값을 검증하고 Archaius 에 저장할 문자열로 변환합니다.
+         *
+         * @throws IllegalArgumentException 조회 전용 설정이거나 값이 올바르지 않은 경우
+         */
+        public String normalize(Object value) {
+            if (type == null) {
+                throw new IllegalArgumentException("read-only property");
+            }
+            return type.normalize(value);
+        }
+    }
+
+    public enum ValueType {
+        BOOLEAN, NON_NEGATIVE_INT, POSITIVE_INT, PERCENT;
+
+        String normalize(Object value) {
+            String text = value == null ? "" : String.valueOf(value).trim();
+            if (this == BOOLEAN) {
+                if (!"true".equalsIgnoreCase(text) && !"false".equalsIgnoreCase(text)) {
+                    throw new IllegalArgumentException("must be true or false: " + text);
+                }
+                return text.toLowerCase();
+            }
+            int number;
+            try {
+                number = Integer.parseInt(text);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("must be an integer: " + text);
+            }
+            if (this == NON_NEGATIVE_INT && number < 0) {
+                throw new IllegalArgumentException("must be >= 0: " + number);
+            }
+            if (this == POSITIVE_INT && number < 1) {
+                throw new IllegalArgumentException("must be >= 1: " + number);
+            }
+            if (this == PERCENT && (number < 0 || number > 100)) {
+                throw new IllegalArgumentException("must be between 0 and 100: " + number);
+            }
+            return String.valueOf(number);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.hystrix;
+
+import com.netflix.hystrix.strategy.concurrency.HystrixRequestContext;
+
+import javax.servlet.Filter;
+import javax.servlet.FilterChain;
+import javax.servlet.FilterConfig;
+import javax.servlet.ServletException;
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
+import java.io.IOException;
+
+/**
+ * HTTP 요청마다 HystrixRequestContext 를 열고 응답 후 닫습니다. (web.xml 에서 dispatcher 서블릿에만 등록)
+ *
+ * - requestCache: 같은 요청 안에서 @CacheResult Command 를 같은 인자로 다시 호출하면 외부 호출 없이 첫 결과를 사용합니다.
+ * - requestLog: 요청 안에서 실행된 Command 와 이벤트를 HystrixRequestLog 에 모읍니다.
+ */
+public class HystrixRequestContextFilter implements Filter {
+
+    @Override
+    public void init(FilterConfig filterConfig) {
+    }
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+            throws IOException, ServletException {
+        if (HystrixRequestContext.isCurrentThreadInitialized()) {
+            // 같은 스레드의 forward / include 디스패치는 바깥 요청의 컨텍스트를 그대로 사용
+            chain.doFilter(request, response);
+            return;
+        }
+        HystrixRequestContext context = HystrixRequestContext.initializeContext();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            context.shutdown();
+            HystrixRequestContext.setContextOnCurrentThread(null);
+        }
+    }
+
+    @Override
+    public void destroy() {
+    }
+}
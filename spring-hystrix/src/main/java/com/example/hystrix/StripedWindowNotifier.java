@@ -0,0 +1,134 @@
+package com.example.hystrix;
+
+import com.example.circuit.StripedTimeWindow;
+import com.netflix.hystrix.HystrixCommandKey;
+import com.netflix.hystrix.HystrixCommandMetrics;
+import com.netflix.hystrix.HystrixCommandProperties;
+import com.netflix.hystrix.HystrixEventType;
+import com.netflix.hystrix.strategy.eventnotifier.HystrixEventNotifier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 잠금 없는 stripe 윈도우로 서킷을 여는 판단 (hystrix.command.{commandKey}.stripedWindow.enabled=true 인 Command 만)
+ *
+ * Hystrix 의 HealthCounts 는 healthSnapshotIntervalInMilliseconds(기본 500ms) 마다 Command 별 스트림에서 다시 계산되므로,
+ * 호출이 매우 잦은 Command 는 오류가 급증해도 다음 스냅샷까지 서킷이 열리지 않습니다.
+ * 서킷이 닫혀 있는 동안 실행 결과 이벤트(markEvent)를 StripedTimeWindow 에 기록하고, 오류가 기록될 때 모든 stripe 를 합산해
+ * HealthCounts 와 같은 기준(requestVolumeThreshold 이상에서 오류율이 errorThresholdPercentage 이상)으로 판단해 서킷을 엽니다.
+ * evaluationIntervalInMilliseconds 를 주면 그 간격에 한 번씩만 합산합니다. (간격 안의 오류로는 판단하지 않고 다음 오류 때 판단)
+ *
+ * - 오류는 HealthCounts 와 같이 FAILURE, TIMEOUT, THREAD_POOL_REJECTED, SEMAPHORE_REJECTED 입니다. (SHORT_CIRCUITED, BAD_REQUEST 제외)
+ * - Hystrix 자체의 기록과 HealthCounts 판단은 javanica 에서 바꿀 수 없어 그대로 동작합니다. (어느 쪽이든 먼저 넘는 쪽이 엶)
+ * - 서킷이 열린 것을 본 뒤 다시 닫히면 윈도우를 비웁니다. (Hystrix 가 닫힐 때 통계를 초기화하는 것과 같음)
+ */
+public class StripedWindowNotifier extends HystrixEventNotifier {
+
+    private static final Logger log = LoggerFactory.getLogger(StripedWindowNotifier.class);
+
+    private final ConcurrentMap<String, CommandWindow> windows = new ConcurrentHashMap<>();
+
+    @Override
+    public void markEvent(HystrixEventType eventType, HystrixCommandKey key) {
+        Boolean failure = outcome(eventType);
+        if (failure == null) {
+            return;
+        }
+        CommandWindow command = windows.get(key.name());
+        if (command == null) {
+            command = windows.computeIfAbsent(key.name(), CommandWindow::new);
+        }
+        if (!command.properties.enabled()) {
+            return;
+        }
+        HystrixCommandMetrics metrics = HystrixCommandMetrics.getInstance(key);
+        if (metrics == null) {
+            return;
+        }
+        if (!"CLOSED".equals(CircuitBreakerAccess.state(metrics))) {
+            command.wasOpen = true;
+            return;
+        }
+        if (command.wasOpen) {
+            command.wasOpen = false;
+            command.window.reset();
+        }
+
+        command.window.record(failure, false);
+        if (failure && command.window.tryStartEvaluation(command.properties.evaluationIntervalInMilliseconds())) {
+            evaluate(key, command, metrics.getProperties());
+        }
+    }
+
+    private static void evaluate(HystrixCommandKey key, CommandWindow command, HystrixCommandProperties properties) {
+        StripedTimeWindow.Snapshot snapshot = command.window.snapshot();
+        if (snapshot.getCalls() < properties.circuitBreakerRequestVolumeThreshold().get()
+                || snapshot.failureRate() < properties.circuitBreakerErrorThresholdPercentage().get()) {
+            return;
+        }
+        if (CircuitBreakerAccess.open(key)) {
+            command.trips++;
+            command.wasOpen = true;
+            log.warn("Circuit {} opened by striped window - error rate {}% ({} calls)", key.name(),
+                    snapshot.failureRate(), snapshot.getCalls());
+        }
+    }
+
+    /**
+     * @return 오류면 true, 성공이면 false, 기록하지 않을 이벤트면 null
+     */
+    private static Boolean outcome(HystrixEventType eventType) {
+        switch (eventType) {
+            case SUCCESS:
+                return false;
+            case FAILURE:
+            case TIMEOUT:
+            case THREAD_POOL_REJECTED:
+            case SEMAPHORE_REJECTED:
+                return true;
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * stripe 윈도우가 켜진 Command 의 윈도우 합산 값과 이 윈도우로 연 횟수 (Command 이름 순)
+     */
+    public Map<String, Map<String, Object>> getWindowSnapshots() {
+        Map<String, Map<String, Object>> snapshots = new TreeMap<>();
+        for (CommandWindow command : windows.values()) {
+            if (!command.properties.enabled()) {
+                continue;
+            }
+            StripedTimeWindow.Snapshot snapshot = command.window.snapshot();
+            Map<String, Object> values = new LinkedHashMap<>();
+            values.put("stripes", command.window.getStripes());
+            values.put("calls", snapshot.getCalls());
+            values.put("errors", snapshot.getFailures());
+            values.put("errorPercentage", snapshot.failureRate());
+            values.put("trips", command.trips);
+            snapshots.put(command.commandKey, values);
+        }
+        return snapshots;
+    }
+
+    private static final class CommandWindow {
+        final String commandKey;
+        final StripedWindowProperties properties;
+        final StripedTimeWindow window;
+        volatile boolean wasOpen;
+        volatile long trips;
+
+        CommandWindow(String commandKey) {
+            this.commandKey = commandKey;
+            this.properties = new StripedWindowProperties(commandKey);
+            this.window = properties.newWindow();
+        }
+    }
+}
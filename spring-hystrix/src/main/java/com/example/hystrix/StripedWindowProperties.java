@@ -0,0 +1,71 @@
+package com.example.hystrix;
+
+import com.example.circuit.StripedTimeWindow;
+import com.netflix.config.DynamicBooleanProperty;
+import com.netflix.config.DynamicIntProperty;
+import com.netflix.config.DynamicPropertyFactory;
+import com.netflix.config.DynamicStringProperty;
+
+/**
+ * Command 별 stripe 윈도우 설정
+ *
+ * hystrix.command.{commandKey}.stripedWindow.* 값이 있으면 사용하고,
+ * 없으면 hystrix.command.default.stripedWindow.* 값을 사용합니다. (Archaius 동적 프로퍼티)
+ * enabled / evaluationIntervalInMilliseconds 는 다음 호출부터, 윈도우 크기(windowInMilliseconds / buckets / stripes)는 재시작 후 반영됩니다.
+ * 판단 기준은 기존 설정을 사용합니다. (circuitBreaker.requestVolumeThreshold, circuitBreaker.errorThresholdPercentage)
+ */
+public class StripedWindowProperties {
+
+    private static final String PREFIX = "hystrix.command.";
+    private static final int UNSET_INT = Integer.MIN_VALUE;
+
+    private final DynamicBooleanProperty defaultEnabled;
+    private final DynamicStringProperty enabled;
+    private final DynamicIntProperty defaultWindowInMilliseconds;
+    private final DynamicIntProperty windowInMilliseconds;
+    private final DynamicIntProperty defaultBuckets;
+    private final DynamicIntProperty buckets;
+    private final DynamicIntProperty defaultStripes;
+    private final DynamicIntProperty stripes;
+    private final DynamicIntProperty defaultEvaluationIntervalInMilliseconds;
+    private final DynamicIntProperty evaluationIntervalInMilliseconds;
+
+    public StripedWindowProperties(String commandKey) {
+        DynamicPropertyFactory factory = DynamicPropertyFactory.getInstance();
+        String specific = PREFIX + commandKey + ".stripedWindow.";
+        String defaults = PREFIX + "default.stripedWindow.";
+
+        this.defaultEnabled = factory.getBooleanProperty(defaults + "enabled", false);
+        this.enabled = factory.getStringProperty(specific + "enabled", null);
+        this.defaultWindowInMilliseconds = factory.getIntProperty(defaults + "windowInMilliseconds", 10000);
+        this.windowInMilliseconds = factory.getIntProperty(specific + "windowInMilliseconds", UNSET_INT);
+        this.defaultBuckets = factory.getIntProperty(defaults + "buckets", 10);
+        this.buckets = factory.getIntProperty(specific + "buckets", UNSET_INT);
+        this.defaultStripes = factory.getIntProperty(defaults + "stripes", 0);
+        this.stripes = factory.getIntProperty(specific + "stripes", UNSET_INT);
+        this.defaultEvaluationIntervalInMilliseconds = factory.getIntProperty(defaults + "evaluationIntervalInMilliseconds", 0);
+        this.evaluationIntervalInMilliseconds = factory.getIntProperty(specific + "evaluationIntervalInMilliseconds", UNSET_INT);
+    }
+
+    public boolean enabled() {
+        String specificValue = enabled.get();
+        return specificValue != null ? Boolean.parseBoolean(specificValue.trim()) : defaultEnabled.get();
+    }
+
+    /**
+     * 윈도우를 만들 때만 참조 (바꾸려면 재시작 필요)
+     */
+    public StripedTimeWindow newWindow() {
+        return new StripedTimeWindow(valueOf(windowInMilliseconds, defaultWindowInMilliseconds),
+                valueOf(buckets, defaultBuckets), valueOf(stripes, defaultStripes));
+    }
+
+    public int evaluationIntervalInMilliseconds() {
+        return valueOf(evaluationIntervalInMilliseconds, defaultEvaluationIntervalInMilliseconds);
+    }
+
+    private static int valueOf(DynamicIntProperty specific, DynamicIntProperty fallback) {
+        int value = specific.get();
+        return value != UNSET_INT ? value : fallback.get();
+    }
+}
@@ -0,0 +1,253 @@
+package com.example.hystrix;
+
+import com.netflix.config.WatchedConfigurationSource;
+import com.netflix.config.WatchedUpdateListener;
+import com.netflix.config.WatchedUpdateResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 파일 변경 감지(WatchService)와 Push 로 갱신되는 Archaius 설정 소스
+ *
+ * - 파일이 바뀌면 OS 알림을 받아 즉시 다시 읽고, 이전 값과 비교해 바뀐 키만 전달합니다. (변경이 없으면 아무 작업도 하지 않음)
+ * - push() 로 받은 값은 파일 값보다 우선하며, null 값을 보내면 push 값이 제거되어 파일 값으로 돌아갑니다.
+ * - DynamicWatchedConfiguration 에 연결하면 전달된 키만 Archaius 에 반영됩니다.
+ */
+public class WatchedPropertiesConfigurationSource implements WatchedConfigurationSource {
+
+    private static final Logger log = LoggerFactory.getLogger(WatchedPropertiesConfigurationSource.class);
+
+    // 편집기가 저장 시 여러 이벤트를 연달아 발생시키므로 짧게 모아서 한 번만 다시 읽음
+    private static final long COALESCE_MILLIS = 20;
+
+    private final URL url;
+    // 파일 시스템 경로 (jar 내부 리소스처럼 감시할 수 없는 경우 null)
+    private final Path file;
+    private final CopyOnWriteArrayList<WatchedUpdateListener> listeners = new CopyOnWriteArrayList<>();
+
+    private Map<String, Object> fileProperties;
+    private final Map<String, Object> pushedProperties = new HashMap<>();
+    private Map<String, Object> effective;
+
+    private WatchService watchService;
+    private Thread watcher;
+
+    public WatchedPropertiesConfigurationSource(URL url) throws IOException {
+        this.url = url;
+        this.file = toPath(url);
+        this.fileProperties = load(url);
+        this.effective = merge();
+    }
+
+    /**
+     * 클래스패스 리소스(예: hystrix.properties)를 설정 소스로 사용합니다.
+     */
+    public static WatchedPropertiesConfigurationSource fromClasspath(String resource) throws IOException {
+        URL url = Thread.currentThread().getContextClassLoader().getResource(resource);
+        if (url == null) {
+            throw new FileNotFoundException("Classpath resource not found: " + resource);
+        }
+        return new WatchedPropertiesConfigurationSource(url);
+    }
+
+    /**
+     * 파일 변경 감지를 시작합니다. (daemon 스레드 1개가 OS 알림을 기다림)
+     */
+    public synchronized void start() throws IOException {
+        if (watcher != null) {
+            return;
+        }
+        if (file == null) {
+            log.warn("{} is not a file - file watching disabled, only pushed updates are applied", url);
+            return;
+        }
+        watchService = file.getFileSystem().newWatchService();
+        file.getParent().register(watchService,
+                StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_CREATE);
+        watcher = new Thread(this::watchLoop, "hystrix-config-watcher");
+        watcher.setDaemon(true);
+        watcher.start();
+        log.info("Watching {} for Hystrix configuration changes", file);
+    }
+
+    public synchronized void stop() throws IOException {
+        if (watchService != null) {
+            watchService.close();
+        }
+        watcher = null;
+    }
+
+    /**
+     * 외부(Config Server, 운영 도구 등)에서 받은 설정을 반영합니다.
+     *
+     * @param properties 변경할 키/값 (값이 null 이면 push 값을 제거하고 파일 값 사용)
+     * @return 실제로 반영된 변경 내역
+     */
+    public synchronized Map<String, Map<String, Object>> push(Map<String, Object> properties) {
+        properties.forEach((key, value) -> {
+            if (value == null) {
+                pushedProperties.remove(key);
+            } else {
+                pushedProperties.put(key, String.valueOf(value));
+            }
+        });
+        return publish("push");
+    }
+
+    @Override
+    public void addUpdateListener(WatchedUpdateListener listener) {
+        listeners.add(listener);
+    }
+
+    @Override
+    public void removeUpdateListener(WatchedUpdateListener listener) {
+        listeners.remove(listener);
+    }
+
+    @Override
+    public synchronized Map<String, Object> getCurrentData() {
+        return new HashMap<>(effective);
+    }
+
+    public URL getUrl() {
+        return url;
+    }
+
+    private void watchLoop() {
+        String fileName = file.getFileName().toString();
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                WatchKey key = watchService.take();
+                boolean changed = containsFile(key, fileName);
+                key.reset();
+                // 연달아 오는 이벤트를 모음
+                WatchKey next;
+                while ((next = watchService.poll(COALESCE_MILLIS, TimeUnit.MILLISECONDS)) != null) {
+                    changed |= containsFile(next, fileName);
+                    next.reset();
+                }
+                if (changed) {
+                    reloadFile();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException e) {
+            // stop() 호출
+        }
+    }
+
+    private static boolean containsFile(WatchKey key, String fileName) {
+        for (WatchEvent<?> event : key.pollEvents()) {
+            Object context = event.context();
+            if (context != null && fileName.equals(context.toString())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private synchronized void reloadFile() {
+        try {
+            fileProperties = load(url);
+            publish("file");
+        } catch (IOException e) {
+            log.warn("Failed to reload {} - keeping previous configuration", url, e);
+        }
+    }
+
+    private Map<String, Map<String, Object>> publish(String origin) {
+        Map<String, Object> next = merge();
+        Map<String, Object> added = new HashMap<>();
+        Map<String, Object> changed = new HashMap<>();
+        Map<String, Object> deleted = new HashMap<>();
+        next.forEach((key, value) -> {
+            Object previous = effective.get(key);
+            if (previous == null) {
+                added.put(key, value);
+            } else if (!Objects.equals(previous, value)) {
+                changed.put(key, value);
+            }
+        });
+        effective.forEach((key, value) -> {
+            if (!next.containsKey(key)) {
+                deleted.put(key, value);
+            }
+        });
+        effective = next;
+
+        Map<String, Map<String, Object>> diff = new TreeMap<>();
+        diff.put("added", new TreeMap<>(added));
+        diff.put("changed", new TreeMap<>(changed));
+        diff.put("deleted", new TreeMap<>(deleted));
+        if (added.isEmpty() && changed.isEmpty() && deleted.isEmpty()) {
+            return diff;
+        }
+
+        log.info("Hystrix configuration updated by {}: added={}, changed={}, deleted={}",
+                origin, diff.get("added"), diff.get("changed"), diff.get("deleted").keySet());
+        WatchedUpdateResult result = WatchedUpdateResult.createIncremental(added, changed, deleted);
+        for (WatchedUpdateListener listener : listeners) {
+            try {
+                listener.updateConfiguration(result);
+            } catch (RuntimeException e) {
+                log.warn("Failed to apply configuration update to {}", listener, e);
+            }
+        }
+        return diff;
+    }
+
+    private Map<String, Object> merge() {
+        Map<String, Object> merged = new HashMap<>(fileProperties);
+        merged.putAll(pushedProperties);
+        return merged;
+    }
+
+    private static Path toPath(URL url) {
+        if (!"file".equals(url.getProtocol())) {
+            return null;
+        }
+        try {
+            return Paths.get(url.toURI()).toAbsolutePath();
+        } catch (URISyntaxException e) {
+            return null;
+        }
+    }
+
+    private static Map<String, Object> load(URL url) throws IOException {
+        Properties properties = new Properties();
+        URLConnection connection = url.openConnection();
+        // jar 리소스를 다시 읽을 때 캐시된 내용이 반환되지 않도록 함
+        connection.setUseCaches(false);
+        try (InputStream in = connection.getInputStream()) {
+            properties.load(in);
+        }
+        Map<String, Object> values = new HashMap<>();
+        for (String name : properties.stringPropertyNames()) {
+            values.put(name, properties.getProperty(name).trim());
+        }
+        return Collections.unmodifiableMap(values);
+    }
+}
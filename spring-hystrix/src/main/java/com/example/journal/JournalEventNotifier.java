@@ -0,0 +1,74 @@
+package com.example.journal;
+
+import com.example.hystrix.CircuitTransitionTracker;
+import com.netflix.hystrix.HystrixCommandKey;
+import com.netflix.hystrix.HystrixCommandProperties;
+import com.netflix.hystrix.HystrixEventType;
+import com.netflix.hystrix.strategy.eventnotifier.HystrixEventNotifier;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hystrix Command 이벤트를 EventJournal 에 기록합니다.
+ *
+ * - SHORT_CIRCUITED / THREAD_POOL_REJECTED / SEMAPHORE_REJECTED: 거절 (CIRCUIT_OPEN / THREAD_POOL / SEMAPHORE)
+ * - TIMEOUT: 타임아웃, FAILURE: 실패 (실행 시간과 예외는 알 수 없음)
+ * - 성공: markCommandExecution 이 성공한 실행에만 실행 시간과 함께 호출되므로 여기서 기록합니다. (AdaptiveThresholdNotifier 와 같음)
+ * - 상태 전이: Hystrix 는 전이 이벤트가 없으므로 HystrixLatencyMetrics 와 같이 CircuitTransitionTracker 로
+ *   이벤트마다 필요할 때 서킷 상태를 직접 읽어 OPEN / HALF_OPEN / CLOSED 를 기록합니다.
+ */
+public class JournalEventNotifier extends HystrixEventNotifier {
+
+    private final EventJournal journal;
+    private final ConcurrentMap<String, CircuitTransitionTracker> circuits = new ConcurrentHashMap<>();
+
+    public JournalEventNotifier(EventJournal journal) {
+        this.journal = journal;
+    }
+
+    @Override
+    public void markEvent(HystrixEventType eventType, HystrixCommandKey key) {
+        String name = key.name();
+        switch (eventType) {
+            case SHORT_CIRCUITED:
+                journal.rejected(name, EventJournal.CIRCUIT_OPEN);
+                break;
+            case THREAD_POOL_REJECTED:
+                journal.rejected(name, EventJournal.THREAD_POOL);
+                break;
+            case SEMAPHORE_REJECTED:
+                journal.rejected(name, EventJournal.SEMAPHORE);
+                break;
+            case TIMEOUT:
+                journal.timeout(name, EventJournal.UNKNOWN_DURATION);
+                break;
+            case FAILURE:
+                journal.failure(name, null, EventJournal.UNKNOWN_DURATION);
+                break;
+            default:
+                break;
+        }
+        circuitOf(key, name).mark(eventType);
+    }
+
+    @Override
+    public void markCommandExecution(HystrixCommandKey key, HystrixCommandProperties.ExecutionIsolationStrategy isolationStrategy,
+                                     int duration, List<HystrixEventType> eventsDuringExecution) {
+        if (eventsDuringExecution.contains(HystrixEventType.FAILURE) || eventsDuringExecution.contains(HystrixEventType.TIMEOUT)) {
+            return;
+        }
+        journal.success(key.name(), TimeUnit.MILLISECONDS.toMicros(duration));
+    }
+
+    private CircuitTransitionTracker circuitOf(HystrixCommandKey key, String name) {
+        CircuitTransitionTracker circuit = circuits.get(name);
+        if (circuit == null) {
+            circuit = circuits.computeIfAbsent(name,
+                    ignored -> new CircuitTransitionTracker(key, state -> journal.transition(name, state)));
+        }
+        return circuit;
+    }
+}
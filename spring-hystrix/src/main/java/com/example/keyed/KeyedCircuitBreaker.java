@@ -0,0 +1,29 @@
+package com.example.keyed;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 메소드 인자 등 호출마다 달라지는 키별로 서킷을 나눕니다. (테넌트, 사용자, 호스트 등)
+ * 같은 name 의 키들은 설정과 CompactBreakerTable 하나를 공유하며, 키마다 Hystrix Command(commandKey) 를 만들지 않습니다.
+ * HystrixCommand 어노테이션과 함께 쓰지 않습니다. (Hystrix fallback 이 실패를 가려 키의 서킷에 기록되지 않음)
+ *
+ * 사용 예: @KeyedCircuitBreaker(name = "tenantApi", key = "#tenant", fallbackMethod = "fallbackTenant")
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface KeyedCircuitBreaker {
+
+    /** 설정 / 테이블 이름 */
+    String name();
+
+    /** 키 SpEL (메소드 인자는 #이름 또는 #p0, #a0) */
+    String key() default "#p0";
+
+    /** 원래 인자 + Throwable 을 받는 같은 클래스의 메소드 (비어 있으면 예외를 그대로 던짐) */
+    String fallbackMethod() default "";
+}
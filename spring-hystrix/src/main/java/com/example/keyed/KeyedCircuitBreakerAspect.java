@@ -0,0 +1,118 @@
+package com.example.keyed;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.context.expression.MethodBasedEvaluationContext;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.Ordered;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.expression.Expression;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * @KeyedCircuitBreaker 메소드를 키별 서킷으로 보호합니다.
+ *
+ * - 키: 어노테이션의 SpEL 을 호출 인자로 평가한 문자열 (메소드별로 파싱 결과 캐시)
+ * - OPEN 인 키는 호출하지 않고 KeyedCallNotPermittedException 으로 fallback 을 호출합니다.
+ * - 예외는 실패, 느린 호출 기준을 넘은 호출은 느린 호출로 기록합니다.
+ * - AdmissionAspect 안쪽에서 실행되므로 입장이 거절된 호출은 키의 실패로 집계되지 않습니다.
+ */
+@Aspect
+public class KeyedCircuitBreakerAspect implements Ordered {
+
+    private static final SpelExpressionParser PARSER = new SpelExpressionParser();
+    private static final ParameterNameDiscoverer PARAMETER_NAMES = new DefaultParameterNameDiscoverer();
+
+    private final KeyedBreakerRegistry registry;
+    private final ConcurrentMap<Method, Expression> keyExpressions = new ConcurrentHashMap<Method, Expression>();
+    private final ConcurrentMap<Method, Method> fallbacks = new ConcurrentHashMap<Method, Method>();
+
+    public KeyedCircuitBreakerAspect(KeyedBreakerRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Around("@annotation(annotation)")
+    public Object protect(ProceedingJoinPoint joinPoint, KeyedCircuitBreaker annotation) throws Throwable {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        String key = key(annotation, method, joinPoint.getArgs());
+        CompactBreakerTable table = registry.table(annotation.name());
+        if (!table.tryAcquire(key)) {
+            return fallback(annotation, method, joinPoint, new KeyedCallNotPermittedException(annotation.name(), key));
+        }
+        long start = System.nanoTime();
+        Object result;
+        try {
+            result = joinPoint.proceed();
+        } catch (Throwable ex) {
+            table.onResult(key, true, (System.nanoTime() - start) / 1000000);
+            return fallback(annotation, method, joinPoint, ex);
+        }
+        table.onResult(key, false, (System.nanoTime() - start) / 1000000);
+        return result;
+    }
+
+    private String key(KeyedCircuitBreaker annotation, Method method, Object[] arguments) {
+        Expression expression = keyExpressions.get(method);
+        if (expression == null) {
+            expression = PARSER.parseExpression(annotation.key());
+            keyExpressions.putIfAbsent(method, expression);
+        }
+        Object key = expression.getValue(new MethodBasedEvaluationContext(null, method, arguments, PARAMETER_NAMES));
+        return String.valueOf(key);
+    }
+
+    private Object fallback(KeyedCircuitBreaker annotation, Method method, ProceedingJoinPoint joinPoint,
+                            Throwable ex) throws Throwable {
+        if (annotation.fallbackMethod().isEmpty()) {
+            throw ex;
+        }
+        Method fallback = fallbacks.get(method);
+        if (fallback == null) {
+            fallback = findFallback(annotation, method);
+            fallbacks.putIfAbsent(method, fallback);
+        }
+        if (!fallback.getParameterTypes()[fallback.getParameterTypes().length - 1].isInstance(ex)) {
+            throw ex;
+        }
+        Object[] arguments = Arrays.copyOf(joinPoint.getArgs(), joinPoint.getArgs().length + 1);
+        arguments[arguments.length - 1] = ex;
+        try {
+            return fallback.invoke(joinPoint.getTarget(), arguments);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static Method findFallback(KeyedCircuitBreaker annotation, Method method) {
+        Class<?>[] parameterTypes = method.getParameterTypes();
+        for (Method candidate : method.getDeclaringClass().getDeclaredMethods()) {
+            Class<?>[] candidateTypes = candidate.getParameterTypes();
+            if (candidate.getName().equals(annotation.fallbackMethod())
+                    && candidateTypes.length == parameterTypes.length + 1
+                    && Arrays.equals(Arrays.copyOf(candidateTypes, parameterTypes.length), parameterTypes)
+                    && Throwable.class.isAssignableFrom(candidateTypes[parameterTypes.length])
+                    && method.getReturnType().isAssignableFrom(candidate.getReturnType())) {
+                candidate.setAccessible(true);
+                return candidate;
+            }
+        }
+        throw new IllegalStateException("Fallback method " + annotation.fallbackMethod() + "("
+                + Arrays.toString(parameterTypes) + ", Throwable) not found for " + method);
+    }
+
+    /**
+     * AdmissionAspect 안쪽에서 실행
+     */
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE + 1;
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.metrics;
+
+import com.example.hystrix.CircuitTransitionTracker;
+import com.netflix.hystrix.HystrixCommandKey;
+import com.netflix.hystrix.HystrixEventType;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Command 별 지연 시간 히스토그램, 결과(이벤트) 카운터, 서킷 상태 전이 카운터
+ *
+ * - 값은 MetricsExecutionHook(지연 시간)과 MetricsEventNotifier(이벤트, 상태 전이)가 기록합니다.
+ * - 기록 경로는 LongAdder / HdrHistogram AtomicHistogram 만 사용하므로 락과 할당이 없습니다.
+ * - GET /metrics 에서 Prometheus 텍스트 포맷으로 내보냅니다.
+ */
+public class HystrixLatencyMetrics {
+
+    private static final double[] QUANTILES = {0.5, 0.9, 0.99, 0.999};
+
+    private final ConcurrentMap<String, CommandMetrics> commands = new ConcurrentHashMap<>();
+
+    public CommandMetrics forCommand(HystrixCommandKey commandKey) {
+        String name = commandKey.name();
+        CommandMetrics metrics = commands.get(name);
+        if (metrics == null) {
+            metrics = commands.computeIfAbsent(name, key -> new CommandMetrics(commandKey));
+        }
+        return metrics;
+    }
+
+    public String scrape() {
+        Map<String, CommandMetrics> sorted = new TreeMap<>(commands);
+        PrometheusTextWriter writer = new PrometheusTextWriter();
+
+        writer.header("hystrix_command_latency_seconds", "summary",
+                "Command latency by phase (execution: run() including the pool queue, fallback: getFallback())");
+        for (Map.Entry<String, CommandMetrics> entry : sorted.entrySet()) {
+            String command = PrometheusTextWriter.label("command", entry.getKey());
+            CommandMetrics metrics = entry.getValue();
+            writer.summary("hystrix_command_latency_seconds", command + ",phase=\"execution\"", metrics.execution.summarize(QUANTILES));
+            writer.summary("hystrix_command_latency_seconds", command + ",phase=\"fallback\"", metrics.fallback.summarize(QUANTILES));
+        }
+
+        writer.header("hystrix_command_events_total", "counter", "Command events (outcome) reported by Hystrix");
+        for (Map.Entry<String, CommandMetrics> entry : sorted.entrySet()) {
+            String command = PrometheusTextWriter.label("command", entry.getKey());
+            LongAdder[] events = entry.getValue().events;
+            for (HystrixEventType type : HystrixEventType.values()) {
+                long count = events[type.ordinal()].sum();
+                if (count > 0) {
+                    writer.sample("hystrix_command_events_total", command + ",event=\"" + type.name() + "\"", count);
+                }
+            }
+        }
+
+        writer.header("hystrix_circuit_transitions_total", "counter", "Circuit breaker state transitions (to state)");
+        for (Map.Entry<String, CommandMetrics> entry : sorted.entrySet()) {
+            String command = PrometheusTextWriter.label("command", entry.getKey());
+            CommandMetrics metrics = entry.getValue();
+            writer.sample("hystrix_circuit_transitions_total", command + ",state=\"OPEN\"", metrics.opened.sum());
+            writer.sample("hystrix_circuit_transitions_total", command + ",state=\"HALF_OPEN\"", metrics.halfOpened.sum());
+            writer.sample("hystrix_circuit_transitions_total", command + ",state=\"CLOSED\"", metrics.closed.sum());
+        }
+        return writer.toString();
+    }
+
+    public static final class CommandMetrics {
+        final LatencyHistogram execution = new LatencyHistogram();
+        final LatencyHistogram fallback = new LatencyHistogram();
+        final LongAdder[] events = new LongAdder[HystrixEventType.values().length];
+        final LongAdder opened = new LongAdder();
+        final LongAdder halfOpened = new LongAdder();
+        final LongAdder closed = new LongAdder();
+        final CircuitTransitionTracker circuit;
+
+        private CommandMetrics(HystrixCommandKey commandKey) {
+            for (int i = 0; i < events.length; i++) {
+                events[i] = new LongAdder();
+            }
+            circuit = new CircuitTransitionTracker(commandKey, this::transition);
+        }
+
+        void recordExecution(long nanos) {
+            execution.recordNanos(nanos);
+        }
+
+        void recordFallback(long nanos) {
+            fallback.recordNanos(nanos);
+        }
+
+        /**
+         * 이벤트를 집계하고 서킷 상태 전이를 기록합니다. (전이는 CircuitTransitionTracker 가 서킷 상태를 직접 읽어 판단)
+         */
+        void mark(HystrixEventType type) {
+            events[type.ordinal()].increment();
+            circuit.mark(type);
+        }
+
+        private void transition(String state) {
+            switch (state) {
+                case "OPEN":
+                    opened.increment();
+                    break;
+                case "HALF_OPEN":
+                    halfOpened.increment();
+                    break;
+                default:
+                    closed.increment();
+                    break;
+            }
+        }
+    }
+}
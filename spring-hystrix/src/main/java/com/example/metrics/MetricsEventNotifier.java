@@ -0,0 +1,22 @@
+package com.example.metrics;
+
+import com.netflix.hystrix.HystrixCommandKey;
+import com.netflix.hystrix.HystrixEventType;
+import com.netflix.hystrix.strategy.eventnotifier.HystrixEventNotifier;
+
+/**
+ * Command 이벤트(SUCCESS, FAILURE, TIMEOUT, SHORT_CIRCUITED, FALLBACK_SUCCESS ...) 집계 및 서킷 상태 전이 추적
+ */
+public class MetricsEventNotifier extends HystrixEventNotifier {
+
+    private final HystrixLatencyMetrics metrics;
+
+    public MetricsEventNotifier(HystrixLatencyMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    @Override
+    public void markEvent(HystrixEventType eventType, HystrixCommandKey key) {
+        metrics.forCommand(key).mark(eventType);
+    }
+}
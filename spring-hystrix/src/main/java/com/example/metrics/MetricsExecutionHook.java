@@ -0,0 +1,102 @@
+package com.example.metrics;
+
+import com.netflix.hystrix.HystrixCommandKey;
+import com.netflix.hystrix.HystrixInvokable;
+import com.netflix.hystrix.HystrixInvokableInfo;
+import com.netflix.hystrix.strategy.executionhook.HystrixCommandExecutionHook;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Command 실행 단계별 지연 시간 기록 (execution / fallback)
+ *
+ * - 호출당 비용의 대부분은 시계 읽기이므로 단계가 끝날 때 한 번만 읽습니다.
+ *   시작 시각은 Hystrix 가 실행 전에 기록한 시각(getCommandRunStartTimeInNanos, System.currentTimeMillis() 기반)을
+ *   재사용하므로 같은 시계를 사용하고, 해상도는 1ms 입니다.
+ * - execution 은 Hystrix 가 시작 시각을 기록한 뒤(서킷 / 세마포어 확인 후)부터 run() 이 끝날 때까지입니다.
+ *   THREAD 격리에서는 스레드풀 대기 시간이 포함됩니다. (대기 시간을 따로 재려면 시계를 더 읽어야 하므로 측정하지 않음)
+ * - fallback 은 같은 스레드에서 방금 끝난 execution 의 종료 시각부터 getFallback() 이 끝날 때까지입니다.
+ *   실행하지 않은 호출(SHORT_CIRCUITED, 거절)이나 다른 스레드의 fallback(타임아웃)은 시작할 때 시계를 한 번 더 읽습니다.
+ * - 성공 호출은 시계 1회, fallback 을 실행한 호출은 2회 읽습니다. (LatencyRecordingBenchmark)
+ */
+public class MetricsExecutionHook extends HystrixCommandExecutionHook {
+
+    private static final ThreadLocal<Timing> TIMING = ThreadLocal.withInitial(Timing::new);
+
+    private final HystrixLatencyMetrics metrics;
+
+    public MetricsExecutionHook(HystrixLatencyMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    @Override
+    public <T> void onExecutionSuccess(HystrixInvokable<T> commandInstance) {
+        recordExecution(commandInstance);
+    }
+
+    @Override
+    public <T> Exception onExecutionError(HystrixInvokable<T> commandInstance, Exception e) {
+        recordExecution(commandInstance);
+        return e;
+    }
+
+    @Override
+    public <T> void onFallbackStart(HystrixInvokable<T> commandInstance) {
+        Timing timing = TIMING.get();
+        timing.fallbackStartedAt = timing.executed == commandInstance ? timing.executionEndedAt : System.currentTimeMillis();
+        timing.executed = null;
+    }
+
+    @Override
+    public <T> void onFallbackSuccess(HystrixInvokable<T> commandInstance) {
+        recordFallback(commandInstance);
+    }
+
+    @Override
+    public <T> Exception onFallbackError(HystrixInvokable<T> commandInstance, Exception e) {
+        recordFallback(commandInstance);
+        return e;
+    }
+
+    private void recordExecution(HystrixInvokable<?> commandInstance) {
+        long startedAtNanos = ((HystrixInvokableInfo<?>) commandInstance).getCommandRunStartTimeInNanos();
+        if (startedAtNanos < 0) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        Timing timing = TIMING.get();
+        timing.metricsOf(metrics, commandInstance).recordExecution(Math.max(0, TimeUnit.MILLISECONDS.toNanos(now) - startedAtNanos));
+        // 이어서 같은 스레드에서 fallback 이 시작되면 종료 시각을 재사용 (다음 호출에서 덮어씀)
+        timing.executed = commandInstance;
+        timing.executionEndedAt = now;
+    }
+
+    private void recordFallback(HystrixInvokable<?> commandInstance) {
+        Timing timing = TIMING.get();
+        if (timing.fallbackStartedAt != 0) {
+            long elapsedMillis = System.currentTimeMillis() - timing.fallbackStartedAt;
+            timing.metricsOf(metrics, commandInstance).recordFallback(TimeUnit.MILLISECONDS.toNanos(Math.max(0, elapsedMillis)));
+            timing.fallbackStartedAt = 0;
+        }
+    }
+
+    private static final class Timing {
+        HystrixInvokable<?> executed;
+        long executionEndedAt;
+        long fallbackStartedAt;
+        // 직전에 기록한 Command (HystrixCommandKey 는 이름별로 하나의 인스턴스만 만들어짐)
+        HystrixLatencyMetrics lastOwner;
+        HystrixCommandKey lastKey;
+        HystrixLatencyMetrics.CommandMetrics lastMetrics;
+
+        HystrixLatencyMetrics.CommandMetrics metricsOf(HystrixLatencyMetrics metrics, HystrixInvokable<?> commandInstance) {
+            HystrixCommandKey key = ((HystrixInvokableInfo<?>) commandInstance).getCommandKey();
+            if (key != lastKey || metrics != lastOwner) {
+                lastOwner = metrics;
+                lastMetrics = metrics.forCommand(key);
+                lastKey = key;
+            }
+            return lastMetrics;
+        }
+    }
+}
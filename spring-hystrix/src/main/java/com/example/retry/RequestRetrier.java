@@ -0,0 +1,186 @@
+package com.example.retry;
+
+import com.example.hystrix.CircuitBreakerAccess;
+import com.example.metrics.PrometheusTextWriter;
+import com.netflix.hystrix.HystrixCommandKey;
+import com.netflix.hystrix.HystrixCommandMetrics;
+import com.netflix.hystrix.exception.HystrixBadRequestException;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 재시도 예산이 있는 재시도 실행기
+ *
+ * 실패하면 decorrelated jitter(다음 대기 = min(maxBackoff, random(baseBackoff, 이전 대기 x 3))) 만큼 기다린 뒤 다시 시도합니다.
+ *
+ * - @HystrixCommand 메소드 안에서 호출하므로 서킷 브레이커에는 재시도를 포함해 1회 호출로 집계되고,
+ *   Command 타임아웃(interrupt)이 재시도 대기도 함께 끝냅니다.
+ * - 재시도는 RetryBudget 으로 성공한 호출의 budgetPercent% 이내로 제한합니다. 의존 서비스가 계속 실패하면 성공이 없어
+ *   예산이 곧 바닥나므로, 서킷이 열리기 직전의 실패 구간에 부하를 maxAttempts 배로 늘리지 않습니다.
+ * - Command 의 서킷이 CLOSED 가 아니면(OPEN / 시험 요청 중) 재시도하지 않습니다. 대기 후에도 다시 확인합니다.
+ * - HystrixBadRequestException 은 재시도하지 않습니다.
+ */
+public class RequestRetrier {
+
+    private static final int MAX_BURST_RETRIES = 10;
+
+    private final Map<String, CommandRetry> commands = new ConcurrentHashMap<>();
+
+    public <T> T execute(String commandKey, Supplier<T> call) {
+        CommandRetry retry = commands.computeIfAbsent(commandKey, CommandRetry::new);
+        if (!retry.properties.enabled()) {
+            return call.get();
+        }
+        retry.calls.increment();
+        long baseMillis = retry.properties.baseBackoffInMilliseconds();
+        long backoffMillis = baseMillis;
+        for (int attempt = 1; ; attempt++) {
+            retry.attempts.increment();
+            try {
+                T result = call.get();
+                retry.budget.deposit(retry.properties.budgetPercent());
+                if (attempt > 1) {
+                    retry.retrySucceeded.increment();
+                }
+                return result;
+            } catch (HystrixBadRequestException e) {
+                throw e;
+            } catch (RuntimeException e) {
+                if (attempt >= retry.properties.maxAttempts()) {
+                    if (attempt > 1) {
+                        retry.attemptsExhausted.increment();
+                    }
+                    throw e;
+                }
+                if (!retry.isClosed()) {
+                    retry.breakerNotClosed.increment();
+                    throw e;
+                }
+                if (!retry.budget.tryAcquire()) {
+                    retry.budgetExhausted.increment();
+                    throw e;
+                }
+                backoffMillis = Math.min(retry.properties.maxBackoffInMilliseconds(),
+                        ThreadLocalRandom.current().nextLong(baseMillis, Math.max(baseMillis, backoffMillis * 3) + 1));
+                if (!sleep(backoffMillis)) {
+                    throw e;
+                }
+                if (!retry.isClosed()) {
+                    retry.breakerNotClosed.increment();
+                    throw e;
+                }
+                retry.retried.increment();
+            }
+        }
+    }
+
+    private static boolean sleep(long millis) {
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            // Hystrix 타임아웃 등으로 Command 스레드가 interrupt 된 경우
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Command 별 재시도 현황
+     */
+    public Map<String, Map<String, Object>> stats() {
+        Map<String, Map<String, Object>> stats = new TreeMap<>();
+        commands.forEach((commandKey, retry) -> stats.put(commandKey, retry.snapshot()));
+        return stats;
+    }
+
+    /**
+     * GET /metrics 용 Prometheus 텍스트 포맷
+     */
+    public String scrape() {
+        Map<String, CommandRetry> sorted = new TreeMap<>(commands);
+        PrometheusTextWriter writer = new PrometheusTextWriter();
+
+        writer.header("hystrix_retry_calls_total", "counter",
+                "Retried command calls by result (total, retried, retry_succeeded, budget_exhausted, breaker_not_closed, attempts_exhausted)");
+        for (Map.Entry<String, CommandRetry> entry : sorted.entrySet()) {
+            String command = PrometheusTextWriter.label("command", entry.getKey());
+            CommandRetry retry = entry.getValue();
+            writer.sample("hystrix_retry_calls_total", command + ",result=\"total\"", retry.calls.sum());
+            writer.sample("hystrix_retry_calls_total", command + ",result=\"retried\"", retry.retried.sum());
+            writer.sample("hystrix_retry_calls_total", command + ",result=\"retry_succeeded\"", retry.retrySucceeded.sum());
+            writer.sample("hystrix_retry_calls_total", command + ",result=\"budget_exhausted\"", retry.budgetExhausted.sum());
+            writer.sample("hystrix_retry_calls_total", command + ",result=\"breaker_not_closed\"", retry.breakerNotClosed.sum());
+            writer.sample("hystrix_retry_calls_total", command + ",result=\"attempts_exhausted\"", retry.attemptsExhausted.sum());
+        }
+
+        writer.header("hystrix_retry_attempts_total", "counter", "Attempts made by retried command calls (first attempts included)");
+        for (Map.Entry<String, CommandRetry> entry : sorted.entrySet()) {
+            writer.sample("hystrix_retry_attempts_total", PrometheusTextWriter.label("command", entry.getKey()),
+                    entry.getValue().attempts.sum());
+        }
+
+        writer.header("hystrix_retry_amplification", "gauge", "Attempts per call (1 = no retries)");
+        for (Map.Entry<String, CommandRetry> entry : sorted.entrySet()) {
+            writer.sample("hystrix_retry_amplification", PrometheusTextWriter.label("command", entry.getKey()),
+                    entry.getValue().amplification());
+        }
+
+        writer.header("hystrix_retry_budget_tokens", "gauge", "Retries currently allowed by the retry budget");
+        for (Map.Entry<String, CommandRetry> entry : sorted.entrySet()) {
+            writer.sample("hystrix_retry_budget_tokens", PrometheusTextWriter.label("command", entry.getKey()),
+                    entry.getValue().budget.availableTokens());
+        }
+        return writer.toString();
+    }
+
+    private static final class CommandRetry {
+        private final HystrixCommandKey commandKey;
+        private final RetryProperties properties;
+        private final RetryBudget budget = new RetryBudget(MAX_BURST_RETRIES);
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder attempts = new LongAdder();
+        private final LongAdder retried = new LongAdder();
+        private final LongAdder retrySucceeded = new LongAdder();
+        private final LongAdder budgetExhausted = new LongAdder();
+        private final LongAdder breakerNotClosed = new LongAdder();
+        private final LongAdder attemptsExhausted = new LongAdder();
+
+        private CommandRetry(String commandKey) {
+            this.commandKey = HystrixCommandKey.Factory.asKey(commandKey);
+            this.properties = new RetryProperties(commandKey);
+        }
+
+        private boolean isClosed() {
+            HystrixCommandMetrics metrics = HystrixCommandMetrics.getInstance(commandKey);
+            return metrics == null || "CLOSED".equals(CircuitBreakerAccess.state(metrics));
+        }
+
+        private double amplification() {
+            long callCount = calls.sum();
+            return callCount == 0 ? 1 : (double) attempts.sum() / callCount;
+        }
+
+        private Map<String, Object> snapshot() {
+            Map<String, Object> info = new LinkedHashMap<>();
+            info.put("enabled", properties.enabled());
+            info.put("calls", calls.sum());
+            info.put("attempts", attempts.sum());
+            info.put("retried", retried.sum());
+            info.put("retrySucceeded", retrySucceeded.sum());
+            info.put("budgetExhausted", budgetExhausted.sum());
+            info.put("breakerNotClosed", breakerNotClosed.sum());
+            info.put("attemptsExhausted", attemptsExhausted.sum());
+            info.put("amplification", Math.round(amplification() * 1000) / 1000.0);
+            info.put("budgetTokens", budget.availableTokens());
+            return info;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.retry;
+
+import com.netflix.config.DynamicBooleanProperty;
+import com.netflix.config.DynamicIntProperty;
+import com.netflix.config.DynamicPropertyFactory;
+import com.netflix.config.DynamicStringProperty;
+
+/**
+ * Command 별 재시도 설정
+ *
+ * hystrix.command.{commandKey}.retry.* 값이 있으면 사용하고,
+ * 없으면 hystrix.command.default.retry.* 값을 사용합니다. (Archaius 동적 프로퍼티)
+ */
+public class RetryProperties {
+
+    private static final String PREFIX = "hystrix.command.";
+    private static final int UNSET_INT = Integer.MIN_VALUE;
+
+    private final DynamicBooleanProperty defaultEnabled;
+    private final DynamicStringProperty enabled;
+    private final DynamicIntProperty defaultMaxAttempts;
+    private final DynamicIntProperty maxAttempts;
+    private final DynamicIntProperty defaultBaseBackoff;
+    private final DynamicIntProperty baseBackoff;
+    private final DynamicIntProperty defaultMaxBackoff;
+    private final DynamicIntProperty maxBackoff;
+    private final DynamicIntProperty defaultBudgetPercent;
+    private final DynamicIntProperty budgetPercent;
+
+    public RetryProperties(String commandKey) {
+        DynamicPropertyFactory factory = DynamicPropertyFactory.getInstance();
+        String specific = PREFIX + commandKey + ".retry.";
+        String defaults = PREFIX + "default.retry.";
+
+        this.defaultEnabled = factory.getBooleanProperty(defaults + "enabled", false);
+        this.enabled = factory.getStringProperty(specific + "enabled", null);
+        this.defaultMaxAttempts = factory.getIntProperty(defaults + "maxAttempts", 3);
+        this.maxAttempts = factory.getIntProperty(specific + "maxAttempts", UNSET_INT);
+        this.defaultBaseBackoff = factory.getIntProperty(defaults + "baseBackoffInMilliseconds", 50);
+        this.baseBackoff = factory.getIntProperty(specific + "baseBackoffInMilliseconds", UNSET_INT);
+        this.defaultMaxBackoff = factory.getIntProperty(defaults + "maxBackoffInMilliseconds", 500);
+        this.maxBackoff = factory.getIntProperty(specific + "maxBackoffInMilliseconds", UNSET_INT);
+        this.defaultBudgetPercent = factory.getIntProperty(defaults + "budgetPercent", 10);
+        this.budgetPercent = factory.getIntProperty(specific + "budgetPercent", UNSET_INT);
+    }
+
+    public boolean enabled() {
+        String specificValue = enabled.get();
+        return specificValue != null ? Boolean.parseBoolean(specificValue.trim()) : defaultEnabled.get();
+    }
+
+    /** 첫 시도를 포함한 최대 시도 수 */
+    public int maxAttempts() {
+        return valueOf(maxAttempts, defaultMaxAttempts);
+    }
+
+    /** 재시도 대기 시간 하한 (decorrelated jitter 의 시작 값) */
+    public int baseBackoffInMilliseconds() {
+        return valueOf(baseBackoff, defaultBaseBackoff);
+    }
+
+    /** 재시도 대기 시간 상한 */
+    public int maxBackoffInMilliseconds() {
+        return valueOf(maxBackoff, defaultMaxBackoff);
+    }
+
+    /** 성공한 호출 대비 허용하는 재시도 비율 (%) */
+    public int budgetPercent() {
+        return valueOf(budgetPercent, defaultBudgetPercent);
+    }
+
+    private static int valueOf(DynamicIntProperty specific, DynamicIntProperty fallback) {
+        int value = specific.get();
+        return value != UNSET_INT ? value : fallback.get();
+    }
+}
@@ -1,11 +1,17 @@
 package com.example.service;
 
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * 외부 API 호출을 시뮬레이션하며 Hystrix 데모 시나리오를 제공
+ * http 프로필에서는 실제 HTTP 호출을 하는 HttpExternalService 로 대체됩니다.
  */
 @Component
+@Profile("!http")
 public class ExternalService {
 
     /**
@@ -32,6 +38,19 @@ public class ExternalService {
         throw new RuntimeException("External Service Failure: 503 Service Unavailable");
     }
 
+    /**
+     * 4. 정상 외부 API 배치 호출 (요청 건수와 관계없이 1회 왕복)
+     * 요청 순서대로 응답 목록을 반환
+     */
+    public List<String> callNormalExternalApiBatch(List<String> requestIds) {
+        simulateDelay(100);
+        List<String> responses = new ArrayList<>(requestIds.size());
+        for (String requestId : requestIds) {
+            responses.add("External API Response: Success [" + requestId + "]");
+        }
+        return responses;
+    }
+
     private void simulateDelay(long millis) {
         try {
             Thread.sleep(millis);
@@ -0,0 +1,89 @@
+package com.example.service;
+
+import com.example.http.ExternalHttpClients;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.entity.ContentType;
+import org.apache.http.entity.StringEntity;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * app.external.service.url 로 실제 HTTP 호출을 하는 ExternalService (http 프로필)
+ *
+ * 호출은 MyService 에서 해당 메소드를 실행하는 Command 그룹과 같은 커넥션 풀을 사용합니다.
+ *  - GET  {url}/normal, {url}/failing, {url}/slow
+ *  - POST {url}/normal/batch (요청 ID 를 한 줄에 하나씩 보내고, 같은 순서로 한 줄에 하나씩 응답)
+ */
+public class HttpExternalService extends ExternalService {
+
+    // MyService 의 @HystrixCommand groupKey
+    private static final String NORMAL_GROUP = "NormalService";
+    private static final String FAILING_GROUP = "FailingService";
+    private static final String SLOW_GROUP = "SlowService";
+
+    private final String baseUrl;
+    private final ExternalHttpClients clients;
+
+    public HttpExternalService(String baseUrl, ExternalHttpClients clients) {
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        this.clients = clients;
+    }
+
+    @Override
+    public String callNormalExternalApi() {
+        return clients.execute(NORMAL_GROUP, new HttpGet(baseUrl + "/normal"), HttpExternalService::readText);
+    }
+
+    @Override
+    public String callSlowExternalApi() {
+        return clients.execute(SLOW_GROUP, new HttpGet(baseUrl + "/slow"), HttpExternalService::readText);
+    }
+
+    @Override
+    public String callFailingExternalApi() {
+        return clients.execute(FAILING_GROUP, new HttpGet(baseUrl + "/failing"), HttpExternalService::readText);
+    }
+
+    @Override
+    public List<String> callNormalExternalApiBatch(List<String> requestIds) {
+        HttpPost request = new HttpPost(baseUrl + "/normal/batch");
+        request.setEntity(new StringEntity(String.join("\n", requestIds), ContentType.create("text/plain", "UTF-8")));
+        List<String> responses = clients.execute(NORMAL_GROUP, request, HttpExternalService::readLines);
+        if (responses.size() != requestIds.size()) {
+            throw new RuntimeException("External Service Failure: batch response size mismatch ("
+                    + responses.size() + " / " + requestIds.size() + ")");
+        }
+        return responses;
+    }
+
+    private static String readText(BufferedReader body, int maxChars) throws IOException {
+        StringBuilder text = new StringBuilder();
+        char[] buffer = new char[1024];
+        int read;
+        while ((read = body.read(buffer)) != -1) {
+            if (text.length() + read > maxChars) {
+                throw new IOException("response exceeds " + maxChars + " chars");
+            }
+            text.append(buffer, 0, read);
+        }
+        return text.toString();
+    }
+
+    private static List<String> readLines(BufferedReader body, int maxChars) throws IOException {
+        List<String> lines = new ArrayList<>();
+        int total = 0;
+        String line;
+        while ((line = body.readLine()) != null) {
+            total += line.length();
+            if (total > maxChars) {
+                throw new IOException("response exceeds " + maxChars + " chars");
+            }
+            lines.add(line);
+        }
+        return lines;
+    }
+}
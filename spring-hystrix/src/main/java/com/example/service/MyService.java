@@ -1,32 +1,116 @@
 package com.example.service;
 
+import com.example.admission.Priority;
+import com.example.admission.RequestPriority;
+import com.example.cache.LastKnownGoodCache;
+import com.example.hedge.RequestHedger;
+import com.example.keyed.KeyedCircuitBreaker;
+import com.example.retry.RequestRetrier;
+import com.netflix.hystrix.HystrixCollapser.Scope;
+import com.netflix.hystrix.contrib.javanica.annotation.HystrixCollapser;
 import com.netflix.hystrix.contrib.javanica.annotation.HystrixCommand;
+import com.netflix.hystrix.contrib.javanica.cache.annotation.CacheResult;
+import com.netflix.hystrix.strategy.concurrency.HystrixRequestContext;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @Service
 public class MyService {
     @Autowired
     private ExternalService externalService;
 
+    // 성공 응답을 저장했다가 Fallback 에서 제공
+    @Autowired
+    private LastKnownGoodCache lastKnownGoodCache;
+
+    // 느린 응답이 일부 요청에만 나타나는 경우 두 번째 시도로 꼬리 지연을 줄임
+    @Autowired
+    private RequestHedger requestHedger;
+
+    // 실패한 외부 호출을 재시도 예산 안에서 다시 시도
+    @Autowired
+    private RequestRetrier requestRetrier;
+
     /**
      * 1. 정상적인 API 호출 (항상 성공)
+     * retry 설정(hystrix.command.callNormalApi.retry.*)이 켜져 있으면 실패 시 재시도 예산 안에서 다시 시도합니다.
+     * 같은 HTTP 요청 안에서 다시 호출하면 요청 캐시(@CacheResult)의 첫 결과를, 다른 요청과 동시에 호출하면
+     * single-flight(hystrix.command.callNormalApi.singleFlight.enabled)로 실행 중인 호출의 결과를 함께 받습니다.
      */
+    @RequestPriority(Priority.CRITICAL)
+    @CacheResult(cacheKeyMethod = "normalCacheKey")
     @HystrixCommand(
             commandKey = "callNormalApi",
             groupKey = "NormalService",
             fallbackMethod = "fallbackNormal"
     )
     public String callNormalApi() {
-        return externalService.callNormalExternalApi();
+        String response = requestRetrier.execute("callNormalApi", externalService::callNormalExternalApi);
+        lastKnownGoodCache.put("callNormalApi", response);
+        return response;
+    }
+
+    /**
+     * 인자가 없는 메소드는 javanica 가 캐시 키를 만들지 않으므로(null) 고정 키를 사용
+     * HystrixRequestContext 가 없는 스레드(HTTP 요청 밖)에서는 null 을 반환해 요청 캐시를 건너뜁니다.
+     * (캐시 키가 null 이면 Hystrix 는 요청 캐시를 조회하지 않으므로 IllegalStateException 이 발생하지 않음)
+     */
+    public String normalCacheKey() {
+        return HystrixRequestContext.isCurrentThreadInitialized() ? "callNormalApi" : null;
     }
 
     public String fallbackNormal() {
-        return "Fallback: Cached data";
+        return cachedOr("callNormalApi", "Fallback: Cached data");
+    }
+
+    /**
+     * 1-1. 정상 API 호출 (Request Collapsing)
+     * 설정된 시간(timerDelayInMilliseconds) 동안 모인 호출을 하나의 배치 호출로 묶어 실행합니다.
+     * 배치 설정: hystrix.collapser.callNormalApiCollapser.*
+     */
+    @RequestPriority(Priority.CRITICAL)
+    @HystrixCollapser(
+            collapserKey = "callNormalApiCollapser",
+            batchMethod = "callNormalApiBatch",
+            scope = Scope.GLOBAL
+    )
+    public String callNormalApiCollapsed(String requestId) {
+        // 본문은 실행되지 않음 (Collapser가 batchMethod를 대신 호출)
+        return null;
+    }
+
+    /**
+     * 배치 호출도 callNormalApi 서킷 브레이커를 공유하며, 배치 1건이 1회 호출로 집계됩니다.
+     */
+    @HystrixCommand(
+            commandKey = "callNormalApi",
+            groupKey = "NormalService",
+            fallbackMethod = "fallbackNormalBatch"
+    )
+    public List<String> callNormalApiBatch(List<String> requestIds) {
+        List<String> responses = externalService.callNormalExternalApiBatch(requestIds);
+        for (int i = 0; i < requestIds.size(); i++) {
+            lastKnownGoodCache.put("callNormalApi:" + requestIds.get(i), responses.get(i));
+        }
+        return responses;
+    }
+
+    public List<String> fallbackNormalBatch(List<String> requestIds) {
+        List<String> responses = new ArrayList<>(requestIds.size());
+        for (String requestId : requestIds) {
+            // 요청별 응답이 없으면 단건 호출의 마지막 성공 응답 사용
+            LastKnownGoodCache.CachedValue cached = lastKnownGoodCache.get("callNormalApi:" + requestId);
+            responses.add(cached != null ? withCached("Fallback: Cached data", cached) : fallbackNormal());
+        }
+        return responses;
     }
 
     /**
      * 2. 항상 실패하는 API
+     * retry 설정(hystrix.command.callFailingApi.retry.*)이 켜져 있어도 성공한 호출이 없으면 재시도 예산이 쌓이지 않아 재시도하지 않습니다.
      */
     @HystrixCommand(
             commandKey = "callFailingApi",
@@ -34,26 +118,60 @@ public class MyService {
             fallbackMethod = "fallbackFailing"
     )
     public String callFailingApi() {
-        return externalService.callFailingExternalApi();
+        String response = requestRetrier.execute("callFailingApi", externalService::callFailingExternalApi);
+        lastKnownGoodCache.put("callFailingApi", response);
+        return response;
     }
 
     public String fallbackFailing() {
-        return "Fallback: Service is under maintenance";
+        return cachedOr("callFailingApi", "Fallback: Service is under maintenance");
     }
 
     /**
      * 3. 느린 API (타임아웃 테스트용)
+     * hedge 설정(hystrix.command.callSlowApi.hedge.*)이 켜져 있으면 첫 시도가 p95 를 넘을 때 두 번째 시도를 보냅니다.
      */
+    @RequestPriority(Priority.SHEDDABLE)
     @HystrixCommand(
             commandKey = "callSlowApi",
             groupKey = "SlowService",
             fallbackMethod = "fallbackSlow"
     )
     public String callSlowApi() {
-        return externalService.callSlowExternalApi();
+        String response = requestHedger.execute("callSlowApi", externalService::callSlowExternalApi);
+        lastKnownGoodCache.put("callSlowApi", response);
+        return response;
     }
 
     public String fallbackSlow() {
-        return "Fallback: Quick response instead of slow service";
+        return cachedOr("callSlowApi", "Fallback: Quick response instead of slow service");
+    }
+
+    /**
+     * 4. 테넌트별 API 호출 (테넌트마다 별도 서킷)
+     * 한 테넌트의 장애로 다른 테넌트의 호출까지 막히지 않도록 테넌트 ID 를 키로 서킷을 나눕니다.
+     * 예제용으로 "failing" 으로 시작하는 테넌트는 실패 API, 나머지는 정상 API 로 호출합니다.
+     */
+    @KeyedCircuitBreaker(name = "tenantApi", key = "#tenantId", fallbackMethod = "fallbackTenant")
+    public String callTenantApi(String tenantId) {
+        return tenantId.startsWith("failing")
+                ? externalService.callFailingExternalApi()
+                : externalService.callNormalExternalApi();
+    }
+
+    public String fallbackTenant(String tenantId, Throwable ex) {
+        return "Fallback: Tenant " + tenantId + " is temporarily unavailable (" + ex.getClass().getSimpleName() + ")";
+    }
+
+    /**
+     * 마지막 성공 응답이 있으면 경과 시간과 함께 반환하고, 없으면 기본 Fallback 메시지를 반환
+     */
+    private String cachedOr(String key, String fallbackMessage) {
+        LastKnownGoodCache.CachedValue cached = lastKnownGoodCache.get(key);
+        return cached != null ? withCached(fallbackMessage, cached) : fallbackMessage;
+    }
+
+    private static String withCached(String fallbackMessage, LastKnownGoodCache.CachedValue cached) {
+        return fallbackMessage + " (last known good, " + cached.getAgeMillis() + "ms old) " + cached.getValue();
     }
 }
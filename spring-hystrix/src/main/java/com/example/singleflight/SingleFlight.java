@@ -0,0 +1,149 @@
+package com.example.singleflight;
+
+import com.example.metrics.PrometheusTextWriter;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 같은 인자로 동시에 실행 중인 호출을 하나로 합칩니다. (single-flight)
+ *
+ * - 이름 + 인자가 같은 호출이 실행 중이면 새로 실행하지 않고, 실행 중인 호출(leader)의 결과나 예외를 그대로 받습니다.
+ * - leader 가 끝나면 바로 목록에서 빠지므로, 그 뒤에 온 호출은 다시 실행합니다. (결과를 캐시하지 않음)
+ * - 기다리는 호출은 leader 의 실행 시간만큼 기다립니다. leader 는 Command 타임아웃으로 끝나므로 따로 대기 시간을 두지 않습니다.
+ * - 인자는 equals / hashCode 로 비교합니다.
+ */
+public class SingleFlight {
+
+    /**
+     * 합칠 수 있는 호출 (검사 예외를 포함해 그대로 전달)
+     */
+    public interface Call {
+        Object call() throws Throwable;
+    }
+
+    private final ConcurrentMap<FlightKey, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final Map<String, FlightStats> stats = new ConcurrentHashMap<>();
+
+    public Object execute(String name, Object[] arguments, Call call) throws Throwable {
+        FlightStats flightStats = stats.computeIfAbsent(name, key -> new FlightStats());
+        FlightKey key = new FlightKey(name, arguments);
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> leader = inFlight.putIfAbsent(key, flight);
+        if (leader != null) {
+            flightStats.shared.increment();
+            try {
+                return leader.join();
+            } catch (CompletionException e) {
+                throw e.getCause();
+            }
+        }
+
+        flightStats.executed.increment();
+        Object result;
+        try {
+            result = call.call();
+        } catch (Throwable ex) {
+            flightStats.failed.increment();
+            // 완료 전에 빼야 이후 호출이 끝난 결과를 받지 않고 새로 실행
+            inFlight.remove(key, flight);
+            flight.completeExceptionally(ex);
+            throw ex;
+        }
+        inFlight.remove(key, flight);
+        flight.complete(result);
+        return result;
+    }
+
+    /**
+     * 이름별 현황 (dedupRatio = 합쳐진 호출 / 전체 호출)
+     */
+    public Map<String, Map<String, Object>> stats() {
+        Map<String, Map<String, Object>> snapshot = new TreeMap<>();
+        stats.forEach((name, flightStats) -> snapshot.put(name, flightStats.snapshot()));
+        return snapshot;
+    }
+
+    /**
+     * GET /metrics 용 Prometheus 텍스트 포맷
+     */
+    public String scrape() {
+        Map<String, FlightStats> sorted = new TreeMap<>(stats);
+        PrometheusTextWriter writer = new PrometheusTextWriter();
+
+        writer.header("hystrix_singleflight_calls_total", "counter",
+                "Single-flight calls by result (executed, shared, failed)");
+        for (Map.Entry<String, FlightStats> entry : sorted.entrySet()) {
+            String command = PrometheusTextWriter.label("command", entry.getKey());
+            FlightStats flightStats = entry.getValue();
+            writer.sample("hystrix_singleflight_calls_total", command + ",result=\"executed\"", flightStats.executed.sum());
+            writer.sample("hystrix_singleflight_calls_total", command + ",result=\"shared\"", flightStats.shared.sum());
+            writer.sample("hystrix_singleflight_calls_total", command + ",result=\"failed\"", flightStats.failed.sum());
+        }
+
+        writer.header("hystrix_singleflight_dedup_ratio", "gauge", "Calls answered by an in-flight call / all calls");
+        for (Map.Entry<String, FlightStats> entry : sorted.entrySet()) {
+            writer.sample("hystrix_singleflight_dedup_ratio", PrometheusTextWriter.label("command", entry.getKey()),
+                    entry.getValue().dedupRatio());
+        }
+        return writer.toString();
+    }
+
+    private static final class FlightKey {
+        private final String name;
+        private final List<Object> arguments;
+        private final int hash;
+
+        FlightKey(String name, Object[] arguments) {
+            this.name = name;
+            this.arguments = Arrays.asList(arguments.clone());
+            this.hash = 31 * name.hashCode() + this.arguments.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof FlightKey)) {
+                return false;
+            }
+            FlightKey other = (FlightKey) o;
+            return hash == other.hash && name.equals(other.name) && arguments.equals(other.arguments);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    private static final class FlightStats {
+        private final LongAdder executed = new LongAdder();
+        private final LongAdder shared = new LongAdder();
+        private final LongAdder failed = new LongAdder();
+
+        double dedupRatio() {
+            long sharedCalls = shared.sum();
+            long calls = executed.sum() + sharedCalls;
+            return calls == 0 ? 0 : (double) sharedCalls / calls;
+        }
+
+        Map<String, Object> snapshot() {
+            Map<String, Object> snapshot = new LinkedHashMap<>();
+            snapshot.put("executed", executed.sum());
+            snapshot.put("shared", shared.sum());
+            snapshot.put("failed", failed.sum());
+            snapshot.put("dedupRatio", Math.round(dedupRatio() * 1000) / 1000.0);
+            return snapshot;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.singleflight;
+
+import com.netflix.hystrix.contrib.javanica.annotation.HystrixCommand;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * singleFlight 가 켜진 @HystrixCommand 메소드의 동시 호출 중 같은 인자의 호출을 하나로 합칩니다.
+ *
+ * - 설정: hystrix.command.{default|commandKey}.singleFlight.enabled (호출마다 확인)
+ * - AdmissionAspect 안쪽, HystrixCommandAspect 바깥에서 실행되므로 합쳐진 호출은 Hystrix 스레드풀과 서킷 메트릭에 닿지 않고,
+ *   leader 의 결과(Fallback 응답 포함)나 예외를 함께 받습니다.
+ * - 같은 HTTP 요청 안의 반복 호출은 이 단계를 지나 Hystrix 요청 캐시(@CacheResult)가 처리합니다.
+ */
+@Aspect
+public class SingleFlightAspect implements Ordered {
+
+    private final SingleFlight singleFlight;
+    private final ConcurrentMap<String, SingleFlightProperties> properties = new ConcurrentHashMap<>();
+
+    public SingleFlightAspect(SingleFlight singleFlight) {
+        this.singleFlight = singleFlight;
+    }
+
+    @Around("@annotation(command)")
+    public Object coalesce(ProceedingJoinPoint joinPoint, HystrixCommand command) throws Throwable {
+        String commandKey = command.commandKey().isEmpty()
+                ? ((MethodSignature) joinPoint.getSignature()).getMethod().getName()
+                : command.commandKey();
+        if (!properties.computeIfAbsent(commandKey, SingleFlightProperties::new).enabled()) {
+            return joinPoint.proceed();
+        }
+        return singleFlight.execute(commandKey, joinPoint.getArgs(), joinPoint::proceed);
+    }
+
+    /**
+     * AdmissionAspect, KeyedCircuitBreakerAspect 안쪽에서 실행
+     */
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE + 2;
+    }
+}
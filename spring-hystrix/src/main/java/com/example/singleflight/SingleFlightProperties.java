@@ -0,0 +1,30 @@
+package com.example.singleflight;
+
+import com.netflix.config.DynamicBooleanProperty;
+import com.netflix.config.DynamicPropertyFactory;
+import com.netflix.config.DynamicStringProperty;
+
+/**
+ * Command 별 single-flight 설정
+ *
+ * hystrix.command.{commandKey}.singleFlight.enabled 값이 있으면 사용하고,
+ * 없으면 hystrix.command.default.singleFlight.enabled 값을 사용합니다. (Archaius 동적 프로퍼티)
+ */
+public class SingleFlightProperties {
+
+    private static final String PREFIX = "hystrix.command.";
+
+    private final DynamicBooleanProperty defaultEnabled;
+    private final DynamicStringProperty enabled;
+
+    public SingleFlightProperties(String commandKey) {
+        DynamicPropertyFactory factory = DynamicPropertyFactory.getInstance();
+        this.defaultEnabled = factory.getBooleanProperty(PREFIX + "default.singleFlight.enabled", false);
+        this.enabled = factory.getStringProperty(PREFIX + commandKey + ".singleFlight.enabled", null);
+    }
+
+    public boolean enabled() {
+        String specificValue = enabled.get();
+        return specificValue != null ? Boolean.parseBoolean(specificValue.trim()) : defaultEnabled.get();
+    }
+}
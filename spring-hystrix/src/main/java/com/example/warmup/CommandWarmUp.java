@@ -0,0 +1,324 @@
+package com.example.warmup;
+
+import com.netflix.hystrix.HystrixCommand;
+import com.netflix.hystrix.HystrixCommandGroupKey;
+import com.netflix.hystrix.HystrixCommandKey;
+import com.netflix.hystrix.HystrixCommandProperties;
+import com.netflix.hystrix.HystrixThreadPoolKey;
+import com.netflix.hystrix.HystrixThreadPoolProperties;
+import com.netflix.hystrix.contrib.javanica.annotation.DefaultProperties;
+import com.netflix.hystrix.contrib.javanica.annotation.HystrixProperty;
+import com.netflix.hystrix.contrib.javanica.conf.HystrixPropertiesManager;
+import com.netflix.hystrix.strategy.properties.HystrixPropertiesFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.BeansException;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationContextAware;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 애플리케이션 시작 시 @HystrixCommand 를 미리 초기화하고 stub 호출로 실행 경로를 데워 둡니다. (/api/ready)
+ *
+ * 첫 요청이 Command 별 서킷 / 메트릭 / 롤링 통계, 그룹별 스레드풀 생성과 JIT 컴파일 비용을 치르면서
+ * 타임아웃(callSlowApi 1초)이 나고 서킷이 잘못 열리는 것을 막습니다.
+ *
+ * 1. 초기화: Bean 의 @HystrixCommand 메소드마다 javanica 와 같은 키(commandKey = 메소드 이름,
+ *    groupKey = 클래스 이름, threadPoolKey = groupKey)와 어노테이션의 commandProperties / threadPoolProperties 로
+ *    Command 를 생성만 합니다. (실행하지 않으므로 메트릭에 기록되지 않음)
+ *    Hystrix 는 키별 설정을 처음 만든 값으로 캐시하므로 어노테이션 설정을 그대로 넘겨야 javanica 의 설정이 유지됩니다.
+ * 2. 실행: 스레드풀마다 warmUp-{poolKey} Command 로 stub 을 스레드풀 크기만큼 동시에 실행합니다.
+ *    실제 서비스 메소드는 외부 의존성을 호출하므로 실행하지 않고, 실패 / fallback 경로도 일정 비율로 함께 실행합니다.
+ *    배치 평균 지연 시간이 직전 배치와 tolerance 안에서 stableBatches 번 연속 같으면 안정된 것으로 봅니다.
+ *
+ * Root Context 가 refresh 될 때 같은 스레드에서 실행하므로 끝날 때까지 배포가 완료되지 않아 요청을 받지 않습니다.
+ * 실패해도 애플리케이션 시작은 막지 않습니다. (워밍업은 최적화일 뿐)
+ */
+public class CommandWarmUp implements ApplicationListener<ContextRefreshedEvent>, ApplicationContextAware {
+
+    private static final Logger log = LoggerFactory.getLogger(CommandWarmUp.class);
+
+    private static final String KEY_PREFIX = "warmUp-";
+
+    public enum State { DISABLED, PENDING, RUNNING, DONE, FAILED }
+
+    private final boolean enabled;
+    private final int batchSize;
+    private final double tolerance;
+    private final int stableBatches;
+    private final int maxBatches;
+    private final long maxDurationMillis;
+    private final int failureEvery;
+
+    private final AtomicBoolean started = new AtomicBoolean();
+    private ApplicationContext applicationContext;
+
+    private volatile State state;
+    private volatile long elapsedMillis;
+    private volatile String error;
+    private volatile List<String> commands = Collections.emptyList();
+    private volatile Map<String, Map<String, Object>> pools = Collections.emptyMap();
+
+    /**
+     * @param batchSize         배치당 stub 호출 수
+     * @param tolerance         직전 배치 대비 평균 지연 시간 변화 허용 비율 (0.1 = 10%)
+     * @param stableBatches     안정된 것으로 보는 연속 배치 수
+     * @param maxBatches        스레드풀당 최대 배치 수
+     * @param maxDurationMillis 스레드풀당 최대 실행 시간
+     * @param failureEvery      N 번째 호출마다 실패 (0 이면 성공만)
+     */
+    public CommandWarmUp(boolean enabled, int batchSize, double tolerance, int stableBatches, int maxBatches,
+                         long maxDurationMillis, int failureEvery) {
+        if (batchSize <= 0 || stableBatches <= 0 || maxBatches <= 0) {
+            throw new IllegalArgumentException("batchSize, stableBatches and maxBatches must be positive");
+        }
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.tolerance = tolerance;
+        this.stableBatches = stableBatches;
+        this.maxBatches = maxBatches;
+        this.maxDurationMillis = maxDurationMillis;
+        this.failureEvery = failureEvery;
+        this.state = enabled ? State.PENDING : State.DISABLED;
+    }
+
+    @Override
+    public void setApplicationContext(ApplicationContext applicationContext) throws BeansException {
+        this.applicationContext = applicationContext;
+    }
+
+    /**
+     * DispatcherServlet Context 의 refresh 이벤트도 부모(Root Context)로 전달되므로 자기 Context 의 이벤트만 처리합니다.
+     */
+    @Override
+    public void onApplicationEvent(ContextRefreshedEvent event) {
+        if (!enabled || event.getApplicationContext() != applicationContext || !started.compareAndSet(false, true)) {
+            return;
+        }
+        state = State.RUNNING;
+        long start = System.nanoTime();
+        try {
+            run();
+            state = State.DONE;
+        } catch (RuntimeException e) {
+            error = e.toString();
+            state = State.FAILED;
+            log.warn("Hystrix warm-up failed, continuing startup", e);
+        } finally {
+            elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        }
+        log.info("Hystrix warm-up {} in {} ms - commands {}, pools {}", state, elapsedMillis, commands, pools);
+    }
+
+    private void run() {
+        Map<String, CommandDefinition> definitions = discover();
+        Map<String, HystrixCommand.Setter> poolSetters = new LinkedHashMap<>();
+        for (CommandDefinition definition : definitions.values()) {
+            WarmUpCommand command = new WarmUpCommand(definition.setter(), false);
+            String poolKey = command.getThreadPoolKey().name();
+            if (!poolSetters.containsKey(poolKey)) {
+                poolSetters.put(poolKey, definition.exerciseSetter(KEY_PREFIX + poolKey));
+            }
+        }
+        commands = Collections.unmodifiableList(new ArrayList<>(definitions.keySet()));
+
+        Map<String, Map<String, Object>> results = new LinkedHashMap<>();
+        for (Map.Entry<String, HystrixCommand.Setter> entry : poolSetters.entrySet()) {
+            results.put(entry.getKey(), exercise(entry.getKey(), entry.getValue()));
+        }
+        pools = Collections.unmodifiableMap(results);
+    }
+
+    /**
+     * Bean 의 @HystrixCommand 메소드 (commandKey 별로 처음 찾은 것)
+     */
+    private Map<String, CommandDefinition> discover() {
+        Map<String, CommandDefinition> definitions = new LinkedHashMap<>();
+        for (String beanName : applicationContext.getBeanDefinitionNames()) {
+            Class<?> type = applicationContext.getType(beanName);
+            if (type == null) {
+                continue;
+            }
+            Class<?> userClass = ClassUtils.getUserClass(type);
+            DefaultProperties defaults = AnnotationUtils.findAnnotation(userClass, DefaultProperties.class);
+            for (Method method : ReflectionUtils.getUniqueDeclaredMethods(userClass)) {
+                com.netflix.hystrix.contrib.javanica.annotation.HystrixCommand annotation =
+                        AnnotationUtils.findAnnotation(method, com.netflix.hystrix.contrib.javanica.annotation.HystrixCommand.class);
+                if (annotation == null) {
+                    continue;
+                }
+                CommandDefinition definition = new CommandDefinition(userClass, method, annotation, defaults);
+                if (!definitions.containsKey(definition.commandKey)) {
+                    definitions.put(definition.commandKey, definition);
+                }
+            }
+        }
+        return definitions;
+    }
+
+    /**
+     * 안정될 때까지 스레드풀 크기만큼 동시에 stub 을 실행합니다.
+     */
+    private Map<String, Object> exercise(String poolKey, HystrixCommand.Setter setter) {
+        int concurrency = Math.max(1, HystrixPropertiesFactory.getThreadPoolProperties(
+                HystrixThreadPoolKey.Factory.asKey(poolKey), null).coreSize().get());
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(maxDurationMillis);
+        long start = System.nanoTime();
+        double firstMicros = -1;
+        double previousMicros = -1;
+        int stable = 0;
+        int batches = 0;
+        long errors = 0;
+        while (batches < maxBatches && System.nanoTime() < deadline && stable < stableBatches) {
+            long batchStart = System.nanoTime();
+            errors += runBatch(setter, concurrency);
+            double micros = (System.nanoTime() - batchStart) / 1000.0 / batchSize;
+            if (firstMicros < 0) {
+                firstMicros = micros;
+            }
+            stable = previousMicros > 0 && Math.abs(micros - previousMicros) <= previousMicros * tolerance ? stable + 1 : 0;
+            previousMicros = micros;
+            batches++;
+        }
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("concurrency", concurrency);
+        result.put("batches", batches);
+        result.put("calls", (long) batches * batchSize);
+        result.put("errors", errors);
+        result.put("steady", stable >= stableBatches);
+        result.put("firstBatchMeanMicros", Math.round(firstMicros));
+        result.put("lastBatchMeanMicros", Math.round(previousMicros));
+        result.put("elapsedMillis", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        return result;
+    }
+
+    /**
+     * @return 응답을 받지 못한 호출 수 (거절 + fallback 실패)
+     */
+    private long runBatch(HystrixCommand.Setter setter, int concurrency) {
+        long errors = 0;
+        List<Future<String>> futures = new ArrayList<>(concurrency);
+        for (int issued = 0; issued < batchSize; ) {
+            futures.clear();
+            for (int i = 0; i < concurrency && issued < batchSize; i++, issued++) {
+                boolean failing = failureEvery > 0 && issued % failureEvery == failureEvery - 1;
+                futures.add(new WarmUpCommand(setter, failing).queue());
+            }
+            for (Future<String> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    errors++;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Warm-up interrupted", e);
+                }
+            }
+        }
+        return errors;
+    }
+
+    public boolean isReady() {
+        State current = state;
+        return current == State.DONE || current == State.FAILED || current == State.DISABLED;
+    }
+
+    /**
+     * 상태, 소요 시간, 초기화한 Command, 스레드풀별 실행 결과 (첫 / 마지막 배치의 호출당 평균 지연 시간)
+     */
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("state", state.name());
+        stats.put("ready", isReady());
+        stats.put("elapsedMillis", elapsedMillis);
+        if (error != null) {
+            stats.put("error", error);
+        }
+        stats.put("commands", commands);
+        stats.put("pools", pools);
+        return stats;
+    }
+
+    /**
+     * javanica 와 같은 방식으로 정한 @HystrixCommand 의 키와 설정
+     */
+    private static final class CommandDefinition {
+        final String commandKey;
+        final String groupKey;
+        final String threadPoolKey;
+        final List<HystrixProperty> commandProperties;
+        final List<HystrixProperty> threadPoolProperties;
+
+        CommandDefinition(Class<?> type, Method method, com.netflix.hystrix.contrib.javanica.annotation.HystrixCommand annotation,
+                          DefaultProperties defaults) {
+            this.commandKey = !annotation.commandKey().isEmpty() ? annotation.commandKey() : method.getName();
+            this.groupKey = !annotation.groupKey().isEmpty() ? annotation.groupKey()
+                    : defaults != null && !defaults.groupKey().isEmpty() ? defaults.groupKey() : type.getSimpleName();
+            this.threadPoolKey = !annotation.threadPoolKey().isEmpty() ? annotation.threadPoolKey()
+                    : defaults != null && !defaults.threadPoolKey().isEmpty() ? defaults.threadPoolKey() : null;
+            this.commandProperties = merge(defaults != null ? defaults.commandProperties() : null, annotation.commandProperties());
+            this.threadPoolProperties = merge(defaults != null ? defaults.threadPoolProperties() : null,
+                    annotation.threadPoolProperties());
+        }
+
+        private static List<HystrixProperty> merge(HystrixProperty[] defaults, HystrixProperty[] specific) {
+            List<HystrixProperty> merged = new ArrayList<>();
+            if (defaults != null && specific.length == 0) {
+                merged.addAll(Arrays.asList(defaults));
+            }
+            merged.addAll(Arrays.asList(specific));
+            return merged;
+        }
+
+        /**
+         * 실제 Command 와 같은 키와 설정 (생성만 해서 서킷 / 메트릭 / 스레드풀을 만듦)
+         */
+        HystrixCommand.Setter setter() {
+            return keys(HystrixCommandKey.Factory.asKey(commandKey))
+                    .andCommandPropertiesDefaults(HystrixPropertiesManager.initializeCommandProperties(commandProperties));
+        }
+
+        /**
+         * 같은 스레드풀에서 실행하는 워밍업 전용 Command
+         * 서킷을 끄고 타임아웃을 넉넉히 주어 콜드 스타트 지연이 실패로 세어지지 않게 합니다.
+         */
+        HystrixCommand.Setter exerciseSetter(String exerciseKey) {
+            return keys(HystrixCommandKey.Factory.asKey(exerciseKey))
+                    .andCommandPropertiesDefaults(HystrixCommandProperties.Setter()
+                            .withCircuitBreakerEnabled(false)
+                            .withExecutionTimeoutInMilliseconds(10000)
+                            .withRequestCacheEnabled(false)
+                            .withRequestLogEnabled(false));
+        }
+
+        private HystrixCommand.Setter keys(HystrixCommandKey key) {
+            HystrixCommand.Setter setter = HystrixCommand.Setter
+                    .withGroupKey(HystrixCommandGroupKey.Factory.asKey(groupKey))
+                    .andCommandKey(key)
+                    .andThreadPoolPropertiesDefaults(threadPoolProperties.isEmpty()
+                            ? HystrixThreadPoolProperties.Setter()
+                            : HystrixPropertiesManager.initializeThreadPoolProperties(threadPoolProperties));
+            if (threadPoolKey != null) {
+                setter.andThreadPoolKey(HystrixThreadPoolKey.Factory.asKey(threadPoolKey));
+            }
+            return setter;
+        }
+    }
+}
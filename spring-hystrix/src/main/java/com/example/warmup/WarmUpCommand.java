@@ -0,0 +1,36 @@
+package com.example.warmup;
+
+import com.netflix.hystrix.HystrixCommand;
+
+/**
+ * 워밍업용 stub Command
+ *
+ * - 실제 서비스 메소드 대신 바로 응답하는 stub 을 실행하므로 외부 의존성을 호출하지 않습니다.
+ * - failing 이면 예외를 던져 실패 / fallback 경로도 함께 실행합니다.
+ * - 실행하지 않고 생성만 해도 Command 의 서킷 / 스레드풀 / 메트릭이 만들어집니다. (CommandWarmUp 의 eager 초기화)
+ */
+class WarmUpCommand extends HystrixCommand<String> {
+
+    static final String RESPONSE = "warm";
+    static final String FALLBACK = "warm-fallback";
+
+    private final boolean failing;
+
+    WarmUpCommand(Setter setter, boolean failing) {
+        super(setter);
+        this.failing = failing;
+    }
+
+    @Override
+    protected String run() {
+        if (failing) {
+            throw new IllegalStateException("Warm-up failure");
+        }
+        return RESPONSE;
+    }
+
+    @Override
+    protected String getFallback() {
+        return FALLBACK;
+    }
+}
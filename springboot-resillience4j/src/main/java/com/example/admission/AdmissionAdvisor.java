@@ -0,0 +1,108 @@
+package com.example.admission;
+
+import com.example.keyed.KeyedCircuitBreaker;
+import jakarta.servlet.http.HttpServletRequest;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.aop.support.StaticMethodMatcherPointcutAdvisor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * @CircuitBreaker / @KeyedCircuitBreaker 메소드 호출 전에 AdmissionController 에서 실행 자리를 얻습니다.
+ *
+ * - 우선순위: 메소드의 @RequestPriority > 클래스의 @RequestPriority > DEFAULT
+ *   요청 헤더(app.admission.header)로는 이보다 낮출 수만 있습니다. (클라이언트가 스스로 CRITICAL 로 올려 거절을 피하지 못하도록)
+ * - HTTP 요청 스레드의 호출만 제어합니다. (Request Collapser 배치, hedge 추가 시도 등 내부 호출은 이미 입장한 요청의 일부)
+ * - CompletableFuture 를 반환하는 메소드는 Future 가 완료될 때 자리를 반환합니다.
+ * - CallLatencyAdvisor 안쪽에서 실행되므로 거절된 호출도 지연 시간 메트릭에 ERROR 로 집계됩니다.
+ */
+public class AdmissionAdvisor extends StaticMethodMatcherPointcutAdvisor
+        implements MethodInterceptor, SmartInitializingSingleton {
+
+    private static final ThreadLocal<Boolean> ADMITTED = new ThreadLocal<>();
+
+    private final ObjectProvider<AdmissionController> admissionController;
+    private final ObjectProvider<AdmissionProperties> properties;
+    private final Map<Method, Priority> priorities = new ConcurrentHashMap<>();
+    private AdmissionController controller;
+    private String header;
+
+    public AdmissionAdvisor(ObjectProvider<AdmissionController> admissionController,
+                            ObjectProvider<AdmissionProperties> properties) {
+        this.admissionController = admissionController;
+        this.properties = properties;
+        setAdvice(this);
+        setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+    }
+
+    @Override
+    public boolean matches(Method method, Class<?> targetClass) {
+        Method specific = AopUtils.getMostSpecificMethod(method, targetClass);
+        return AnnotatedElementUtils.hasAnnotation(specific, io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker.class)
+                || AnnotatedElementUtils.hasAnnotation(specific.getDeclaringClass(),
+                io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker.class)
+                || AnnotatedElementUtils.hasAnnotation(specific, KeyedCircuitBreaker.class);
+    }
+
+    /**
+     * Advisor 는 다른 Bean 보다 먼저 만들어지므로 설정이 바인딩된 뒤에 가져옵니다.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        this.controller = admissionController.getObject();
+        this.header = properties.getObject().getHeader();
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (controller == null || ADMITTED.get() != null || !(attributes instanceof ServletRequestAttributes)) {
+            return invocation.proceed();
+        }
+        controller.acquire(priorityOf(((ServletRequestAttributes) attributes).getRequest(), invocation.getMethod()));
+        boolean releaseOnReturn = true;
+        ADMITTED.set(Boolean.TRUE);
+        try {
+            Object result = invocation.proceed();
+            if (result instanceof CompletionStage<?> stage) {
+                releaseOnReturn = false;
+                stage.whenComplete((value, ex) -> controller.release());
+            }
+            return result;
+        } finally {
+            ADMITTED.remove();
+            if (releaseOnReturn) {
+                controller.release();
+            }
+        }
+    }
+
+    private Priority priorityOf(HttpServletRequest request, Method method) {
+        Priority priority = priorities.get(method);
+        if (priority == null) {
+            priority = priorities.computeIfAbsent(method, AdmissionAdvisor::annotatedPriority);
+        }
+        Priority requested = Priority.parse(request.getHeader(header));
+        return requested != null ? Priority.lower(priority, requested) : priority;
+    }
+
+    private static Priority annotatedPriority(Method method) {
+        RequestPriority annotation = AnnotatedElementUtils.findMergedAnnotation(method, RequestPriority.class);
+        if (annotation == null) {
+            annotation = AnnotatedElementUtils.findMergedAnnotation(method.getDeclaringClass(), RequestPriority.class);
+        }
+        return annotation != null ? annotation.value() : Priority.DEFAULT;
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.admission;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+
+import java.util.Map;
+
+/**
+ * GET /actuator/admission
+ * 현재 실행 / 대기 수, 최근 대기 시간, 우선순위별 허용 / 거절 건수와 거절률(전체, 최근)
+ */
+@WebEndpoint(id = "admission")
+@RequiredArgsConstructor
+public class AdmissionEndpoint {
+
+    private final AdmissionController admissionController;
+
+    @ReadOperation
+    public Map<String, Object> admission() {
+        return admissionController.snapshot();
+    }
+}
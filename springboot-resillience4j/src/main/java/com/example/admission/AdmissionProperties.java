@@ -0,0 +1,32 @@
+package com.example.admission;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 우선순위 기반 입장 제어 설정 (app.admission.*)
+ * 시작할 때 한 번 적용되며, 값을 바꾸면 재시작해야 반영됩니다.
+ */
+@Data
+@ConfigurationProperties(prefix = "app.admission")
+public class AdmissionProperties {
+
+    private boolean enabled = true;
+    /** 모든 엔드포인트가 공유하는 최대 동시 실행 수 (Tomcat 최대 스레드 수보다 작게) */
+    private int maxConcurrent = 100;
+    /** 대기열 길이 기준 (같거나 높은 우선순위의 대기 수 / max-queue 가 부하) */
+    private int maxQueue = 50;
+    /** 자리가 날 때까지 기다리는 최대 시간이자 대기 시간 부하의 기준 */
+    private Duration targetQueueDelay = Duration.ofMillis(50);
+    /** 요청 우선순위 헤더 (값: critical / default / sheddable, 어노테이션의 우선순위보다 낮출 때만 적용) */
+    private String header = "X-Request-Priority";
+    /** 우선순위별 최대 동시 실행 비율이자 거절을 시작하는 부하 */
+    private Map<Priority, Double> shares = new EnumMap<>(Map.of(
+            Priority.CRITICAL, 1.0,
+            Priority.DEFAULT, 0.8,
+            Priority.SHEDDABLE, 0.5));
+}
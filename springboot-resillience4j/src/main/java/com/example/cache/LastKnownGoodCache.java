@@ -0,0 +1,61 @@
+package com.example.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 마지막으로 성공한 응답(Last-Known-Good)을 보관하는 캐시
+ *
+ * - 보호된 호출이 성공할 때마다 저장하고, 서킷 OPEN/타임아웃 시 Fallback 에서 조회합니다.
+ * - Caffeine(W-TinyLFU)을 사용하므로 한 번만 쓰이는 키가 몰려도 자주 쓰이는 항목이 밀려나지 않습니다.
+ * - 조회(getIfPresent)는 락 없이 동작하므로 서킷이 열려 모든 요청이 Fallback 으로 몰려도 경합이 없습니다.
+ *
+ * 메트릭: cache.gets{result=hit|miss}, cache.evictions 등 (cache=lastKnownGood), lkg.cache.staleness
+ */
+public class LastKnownGoodCache {
+
+    public static final String CACHE_NAME = "lastKnownGood";
+
+    private final Cache<String, Entry> cache;
+    // Fallback 에서 제공한 응답의 경과 시간(staleness)
+    private final Timer staleness;
+
+    public LastKnownGoodCache(LastKnownGoodCacheProperties properties, MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getTtl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        this.staleness = Timer.builder("lkg.cache.staleness")
+                .description("Age of last-known-good responses served by fallbacks")
+                .tag("cache", CACHE_NAME)
+                .register(meterRegistry);
+    }
+
+    public void put(String key, String value) {
+        cache.put(key, new Entry(value, System.currentTimeMillis()));
+    }
+
+    public Optional<CachedValue> get(String key) {
+        Entry entry = cache.getIfPresent(key);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        Duration age = Duration.ofMillis(Math.max(0, System.currentTimeMillis() - entry.storedAt()));
+        staleness.record(age);
+        return Optional.of(new CachedValue(entry.value(), age));
+    }
+
+    private record Entry(String value, long storedAt) {
+    }
+
+    public record CachedValue(String value, Duration age) {
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.cache;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Last-Known-Good 캐시 설정 (app.cache.last-known-good.*)
+ * 캐시 크기/TTL 은 애플리케이션 시작 시 한 번 적용됩니다.
+ */
+@Data
+@ConfigurationProperties(prefix = "app.cache.last-known-good")
+public class LastKnownGoodCacheProperties {
+
+    /** 최대 보관 항목 수 (초과 시 W-TinyLFU 정책으로 제거) */
+    private long maximumSize = 1000;
+    /** 저장 후 만료 시간 */
+    private Duration ttl = Duration.ofMinutes(10);
+}
@@ -0,0 +1,23 @@
+package com.example.circuit;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+
+import java.util.Map;
+
+/**
+ * GET /actuator/adaptive
+ * 서킷별로 학습한 오류율 / 지연 시간 기준선, 현재 임계치와 상한 / 하한, 윈도우 값, 적응형 판단으로 연 횟수
+ */
+@WebEndpoint(id = "adaptive")
+@RequiredArgsConstructor
+public class AdaptiveThresholdEndpoint {
+
+    private final AdaptiveThresholdMonitor adaptiveThresholdMonitor;
+
+    @ReadOperation
+    public Map<String, Map<String, Object>> baselines() {
+        return adaptiveThresholdMonitor.baselines();
+    }
+}
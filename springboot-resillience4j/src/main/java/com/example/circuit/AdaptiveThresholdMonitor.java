@@ -0,0 +1,124 @@
+package com.example.circuit;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.circuitbreaker.IllegalStateTransitionException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 적응형 임계치 (app.adaptive.instances.{name}.enabled=true 인 서킷만)
+ *
+ * 서킷의 성공 / 실패 이벤트마다 결과와 실행 시간을 AdaptiveBaseline 에 기록하고,
+ * 서킷이 닫혀 있는데 슬라이딩 윈도우의 실패율이나 최근 호출의 느린 비율이 기준선에서 크게 벗어나면 서킷을 엽니다.
+ * 기준선은 1초마다 별도 스레드에서 다시 계산합니다. (이벤트 스레드에서는 잠그지 않음)
+ * 고정 임계치(failure-rate-threshold, slow-call-rate-threshold)는 그대로 동작하므로, 적응형 판단은 그보다 먼저 여는 역할만 합니다.
+ *
+ * - ignore-exceptions 로 무시된 호출은 기록하지 않습니다.
+ * - 기준선은 서킷 이름별로 유지하므로 설정 변경으로 서킷이 교체되어도 이어집니다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class AdaptiveThresholdMonitor {
+
+    private static final long RECOMPUTE_INTERVAL_MILLIS = 1000;
+
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+    private final AdaptiveThresholdProperties properties;
+    private final ConcurrentMap<String, AdaptiveBaseline> baselines = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "adaptive-baseline");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public void subscribeRegistry() {
+        circuitBreakerRegistry.getAllCircuitBreakers().forEach(this::listen);
+        circuitBreakerRegistry.getEventPublisher()
+                .onEntryAdded(event -> listen(event.getAddedEntry()))
+                .onEntryReplaced(event -> listen(event.getNewEntry()));
+        scheduler.scheduleWithFixedDelay(this::recompute, RECOMPUTE_INTERVAL_MILLIS, RECOMPUTE_INTERVAL_MILLIS,
+                TimeUnit.MILLISECONDS);
+    }
+
+    public void close() {
+        scheduler.shutdownNow();
+    }
+
+    private void recompute() {
+        baselines.forEach((name, baseline) -> {
+            try {
+                circuitBreakerRegistry.find(name).ifPresent(circuitBreaker -> baseline.recompute(
+                        limits(circuitBreaker.getCircuitBreakerConfig(), properties.get(name))));
+            } catch (RuntimeException e) {
+                log.warn("Failed to recompute adaptive baseline of {}", name, e);
+            }
+        });
+    }
+
+    private void listen(CircuitBreaker circuitBreaker) {
+        circuitBreaker.getEventPublisher()
+                .onSuccess(event -> record(circuitBreaker, false, event.getElapsedDuration()))
+                .onError(event -> record(circuitBreaker, true, event.getElapsedDuration()));
+    }
+
+    private void record(CircuitBreaker circuitBreaker, boolean failure, Duration elapsed) {
+        AdaptiveThresholdProperties.Settings settings = properties.get(circuitBreaker.getName());
+        if (!settings.isEnabled() || circuitBreaker.getState() != CircuitBreaker.State.CLOSED) {
+            return;
+        }
+        AdaptiveBaseline baseline = baselines.computeIfAbsent(circuitBreaker.getName(),
+                name -> new AdaptiveBaseline(settings.getLatencyWindow()));
+        CircuitBreaker.Metrics metrics = circuitBreaker.getMetrics();
+        String deviation = baseline.record(failure, elapsed.toMillis(), metrics.getFailureRate(),
+                metrics.getNumberOfBufferedCalls(), limits(circuitBreaker.getCircuitBreakerConfig(), settings));
+        if (deviation == null) {
+            return;
+        }
+        try {
+            circuitBreaker.transitionToOpenState();
+            baseline.tripped(deviation);
+            log.warn("Circuit {} opened - {}", circuitBreaker.getName(), deviation);
+        } catch (IllegalStateTransitionException e) {
+            // 그 사이 다른 호출이나 고정 임계치로 이미 열림
+        }
+    }
+
+    private static AdaptiveBaseline.Limits limits(CircuitBreakerConfig config, AdaptiveThresholdProperties.Settings settings) {
+        return new AdaptiveBaseline.Limits(
+                settings.getMinFailureRate(),
+                config.getFailureRateThreshold(),
+                settings.getMinSlowCallDuration().toMillis(),
+                config.getSlowCallDurationThreshold().toMillis(),
+                config.getSlowCallRateThreshold(),
+                settings.getSensitivity(),
+                settings.getBaselineCalls(),
+                settings.getWarmupCalls(),
+                config.getMinimumNumberOfCalls());
+    }
+
+    /**
+     * 적응형 임계치가 켜진 서킷의 기준선과 현재 임계치 (이름 순)
+     */
+    public Map<String, Map<String, Object>> baselines() {
+        Map<String, Map<String, Object>> snapshots = new TreeMap<>();
+        baselines.forEach((name, baseline) -> {
+            AdaptiveThresholdProperties.Settings settings = properties.get(name);
+            circuitBreakerRegistry.find(name)
+                    .filter(circuitBreaker -> settings.isEnabled())
+                    .ifPresent(circuitBreaker -> snapshots.put(name,
+                            baseline.snapshot(limits(circuitBreaker.getCircuitBreakerConfig(), settings))));
+        });
+        return snapshots;
+    }
+}
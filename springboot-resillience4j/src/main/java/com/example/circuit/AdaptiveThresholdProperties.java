@@ -0,0 +1,42 @@
+package com.example.circuit;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 적응형 임계치 설정 (app.adaptive.instances.{name}.*)
+ * 상한과 최소 호출 수는 서킷 설정을 사용합니다. (failure-rate-threshold, slow-call-duration-threshold,
+ * slow-call-rate-threshold, minimum-number-of-calls)
+ * Config Server 설정 변경 후 refresh 되면 다음 호출부터 반영됩니다. (latency-window 는 재시작 필요)
+ */
+@Data
+@ConfigurationProperties(prefix = "app.adaptive")
+public class AdaptiveThresholdProperties {
+
+    private Map<String, Settings> instances = new HashMap<>();
+
+    public Settings get(String name) {
+        return instances.getOrDefault(name, new Settings());
+    }
+
+    @Data
+    public static class Settings {
+        private boolean enabled = false;
+        /** 오류율 임계치 하한 (%) */
+        private float minFailureRate = 10;
+        /** 느린 호출 기준 하한 */
+        private Duration minSlowCallDuration = Duration.ofMillis(100);
+        /** 기준선에서 몇 표준편차만큼 벗어나면 열지 */
+        private double sensitivity = 3;
+        /** 기준선(EWMA)이 반영하는 대략의 호출 수 */
+        private int baselineCalls = 500;
+        /** 판단을 시작하기 전에 학습할 호출 수 */
+        private int warmupCalls = 100;
+        /** 느린 호출 비율을 계산할 최근 호출 수 */
+        private int latencyWindow = 20;
+    }
+}
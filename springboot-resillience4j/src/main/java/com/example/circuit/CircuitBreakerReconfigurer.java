@@ -0,0 +1,276 @@
+package com.example.circuit;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.common.CompositeCustomizer;
+import io.github.resilience4j.common.circuitbreaker.configuration.CircuitBreakerConfigCustomizer;
+import io.github.resilience4j.common.circuitbreaker.configuration.CommonCircuitBreakerConfigurationProperties.InstanceProperties;
+import io.github.resilience4j.springboot3.circuitbreaker.autoconfigure.CircuitBreakerProperties;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.cloud.context.environment.EnvironmentChangeEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * /actuator/refresh (또는 Config Server 변경 알림) 로 resilience4j.circuitbreaker.* 값이 바뀌면
+ * 설정이 바뀐 서킷만 새 설정의 서킷으로 교체하면서 현재 상태와 슬라이딩 윈도우의 호출 결과를 옮겨 줍니다.
+ *
+ * Resilience4j 의 CircuitBreakerConfig 는 서킷 생성 후 바꿀 수 없어서, 그대로 두면 refresh 후에도 이전 설정으로 동작합니다.
+ * 서킷을 새로 만들기만 하면 빈 윈도우의 CLOSED 로 시작하므로 OPEN 이던 서킷이 닫혀 장애 중인 서비스로 호출이 몰립니다.
+ *
+ * - 바뀐 키가 instances.{name}.* 이면 그 서킷, configs.{name}.* 이면 그 설정을 (base-config 로) 사용하는 서킷만 교체합니다.
+ * - CLOSED / METRICS_ONLY: 윈도우의 호출 결과(성공, 실패, 느린 호출)를 새 서킷에 다시 기록합니다.
+ *   새 COUNT_BASED 윈도우가 더 작으면 비율을 유지한 채 크기에 맞춰 줄이고, 결과가 고르게 섞이도록 번갈아 기록합니다.
+ *   새 임계값으로 다시 계산되므로 옮기는 도중에 서킷이 열릴 수 있습니다.
+ * - OPEN: 원래 열린 시각부터 새 wait-duration-in-open-state 만큼 열린 상태를 유지합니다.
+ * - HALF_OPEN: 새 서킷도 HALF_OPEN 으로 시작합니다. (시험 호출 수는 새로 셈)
+ * - DISABLED / FORCED_OPEN 은 그대로 유지합니다.
+ *
+ * 한계
+ * - 윈도우에는 호출별 지연 시간이 없으므로, 느린 호출은 새 slow-call-duration-threshold 보다 1ns 더 걸린 것으로,
+ *   나머지는 0 으로 기록합니다. (Resilience4j 는 기준을 초과한 호출만 느린 호출로 셈)
+ * - 실패는 RuntimeException 으로 기록하므로, 새 설정의 record-exceptions 에 RuntimeException 이 없으면 성공으로 집계됩니다.
+ * - 교체 시점에 이전 서킷으로 진행 중이던 호출의 결과는 새 서킷에 반영되지 않습니다.
+ * - 아직 생성되지 않은 서킷은 시작 시의 설정으로 생성됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CircuitBreakerReconfigurer {
+
+    private static final String PREFIX = "resilience4j.circuitbreaker";
+    private static final String DEFAULT_CONFIG = "default";
+
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+    private final CompositeCustomizer<CircuitBreakerConfigCustomizer> compositeCircuitBreakerCustomizer;
+    private final Environment environment;
+    private final StripedWindowProperties stripedWindowProperties;
+
+    /** 서킷별로 마지막으로 OPEN 이 된 시각 (교체 후에도 남은 대기 시간을 이어가기 위함) */
+    private final Map<String, Instant> openedAt = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void subscribeRegistry() {
+        circuitBreakerRegistry.getAllCircuitBreakers().forEach(this::listen);
+        circuitBreakerRegistry.getEventPublisher()
+                .onEntryAdded(event -> listen(event.getAddedEntry()))
+                .onEntryReplaced(event -> listen(event.getNewEntry()));
+    }
+
+    private void listen(CircuitBreaker circuitBreaker) {
+        circuitBreaker.getEventPublisher().onStateTransition(event -> {
+            CircuitBreaker.State state = event.getStateTransition().getToState();
+            if (state == CircuitBreaker.State.OPEN || state == CircuitBreaker.State.FORCED_OPEN) {
+                openedAt.put(event.getCircuitBreakerName(), event.getCreationTime().toInstant());
+            }
+        });
+    }
+
+    @EventListener
+    public void onEnvironmentChange(EnvironmentChangeEvent event) {
+        Set<String> changedInstances = new HashSet<>();
+        Set<String> changedConfigs = new HashSet<>();
+        for (String key : event.getKeys()) {
+            if (!key.startsWith(PREFIX + ".")) {
+                continue;
+            }
+            // instances.{name}.xxx / backends.{name}.xxx / configs.{name}.xxx
+            String[] parts = key.substring(PREFIX.length() + 1).split("\\.", 3);
+            if (parts.length < 2) {
+                continue;
+            }
+            String name = parts[1].replaceAll("\\[.*$", "");
+            if ("configs".equals(parts[0])) {
+                changedConfigs.add(name);
+            } else if ("instances".equals(parts[0]) || "backends".equals(parts[0])) {
+                changedInstances.add(name);
+            }
+        }
+        if (changedInstances.isEmpty() && changedConfigs.isEmpty()) {
+            return;
+        }
+
+        // 이미 바인딩된 CircuitBreakerProperties 는 삭제된 키가 남아 있을 수 있으므로 새로 바인딩
+        CircuitBreakerProperties properties = Binder.get(environment)
+                .bind(PREFIX, CircuitBreakerProperties.class)
+                .orElseGet(CircuitBreakerProperties::new);
+        for (CircuitBreaker circuitBreaker : circuitBreakerRegistry.getAllCircuitBreakers()) {
+            String name = circuitBreaker.getName();
+            InstanceProperties instance = properties.findCircuitBreakerProperties(name)
+                    .orElseGet(InstanceProperties::new);
+            if (!changedInstances.contains(name) && !usesChangedConfig(instance, properties, changedConfigs)) {
+                continue;
+            }
+            try {
+                if (instance.getBaseConfig() == null && properties.getConfigs().containsKey(DEFAULT_CONFIG)) {
+                    instance.setBaseConfig(DEFAULT_CONFIG);
+                }
+                CircuitBreakerConfig config = properties.createCircuitBreakerConfig(name, instance,
+                        compositeCircuitBreakerCustomizer);
+                reconfigure(circuitBreaker, config);
+            } catch (RuntimeException e) {
+                log.warn("Circuit {} keeps its previous config - new config is invalid: {}", name, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 인스턴스가 base-config 로 (중첩 포함) 바뀐 설정을 사용하는지 확인합니다. base-config 가 없으면 default 를 사용합니다.
+     */
+    private static boolean usesChangedConfig(InstanceProperties instance, CircuitBreakerProperties properties,
+                                             Set<String> changedConfigs) {
+        Set<String> visited = new HashSet<>();
+        String baseConfig = instance.getBaseConfig() != null ? instance.getBaseConfig() : DEFAULT_CONFIG;
+        while (baseConfig != null && visited.add(baseConfig)) {
+            if (changedConfigs.contains(baseConfig)) {
+                return true;
+            }
+            InstanceProperties config = properties.getConfigs().get(baseConfig);
+            baseConfig = config != null ? config.getBaseConfig() : null;
+        }
+        return false;
+    }
+
+    private void reconfigure(CircuitBreaker previous, CircuitBreakerConfig config) {
+        String name = previous.getName();
+        CircuitBreaker.State state = previous.getState();
+        // app.striped-window 로 선택된 서킷은 교체 후에도 stripe 윈도우 사용
+        CircuitBreaker replacement = StripedCircuitBreaker.of(name, config, previous.getTags(), stripedWindowProperties);
+
+        // Registry 에 등록하기 전에 옮겨야 다시 기록한 호출이 이벤트 / 메트릭에 중복으로 나타나지 않음
+        switch (state) {
+            case CLOSED -> migrateWindow(previous, replacement);
+            case METRICS_ONLY -> {
+                replacement.transitionToMetricsOnlyState();
+                migrateWindow(previous, replacement);
+            }
+            case OPEN -> {
+                long waitMillis = config.getWaitIntervalFunctionInOpenState().apply(1);
+                Instant opened = openedAt.getOrDefault(name, Instant.now());
+                replacement.transitionToOpenStateUntil(opened.plusMillis(waitMillis));
+            }
+            case HALF_OPEN -> {
+                replacement.transitionToOpenState();
+                replacement.transitionToHalfOpenState();
+            }
+            case FORCED_OPEN -> replacement.transitionToForcedOpenState();
+            case DISABLED -> replacement.transitionToDisabledState();
+        }
+        if (replacement.getState() == CircuitBreaker.State.OPEN && state != CircuitBreaker.State.OPEN) {
+            openedAt.put(name, Instant.now());
+        }
+
+        circuitBreakerRegistry.replace(name, replacement);
+        CircuitBreaker.Metrics metrics = replacement.getMetrics();
+        log.info("Circuit {} reconfigured - {} -> {}, window {} calls ({} failed, {} slow)", name, state,
+                replacement.getState(), metrics.getNumberOfBufferedCalls(), metrics.getNumberOfFailedCalls(),
+                metrics.getNumberOfSlowCalls());
+    }
+
+    /**
+     * 이전 서킷의 윈도우에 있는 호출 결과를 새 서킷에 다시 기록합니다.
+     * 결과 종류(느린 실패, 실패, 느린 성공, 성공)별 개수를 새 윈도우 크기에 맞춰 줄이고, 비율이 고르게 유지되도록 번갈아 기록합니다.
+     */
+    static void migrateWindow(CircuitBreaker previous, CircuitBreaker replacement) {
+        CircuitBreaker.State state = replacement.getState();
+        CircuitBreaker.Metrics metrics = previous.getMetrics();
+        int slowFailed = metrics.getNumberOfSlowFailedCalls();
+        int slowSucceeded = metrics.getNumberOfSlowSuccessfulCalls();
+        int[] counts = {
+                slowFailed,
+                metrics.getNumberOfFailedCalls() - slowFailed,
+                slowSucceeded,
+                metrics.getNumberOfSuccessfulCalls() - slowSucceeded
+        };
+        int buffered = counts[0] + counts[1] + counts[2] + counts[3];
+        if (buffered == 0) {
+            return;
+        }
+        CircuitBreakerConfig config = replacement.getCircuitBreakerConfig();
+        int capacity = config.getSlidingWindowType() == CircuitBreakerConfig.SlidingWindowType.COUNT_BASED
+                ? config.getSlidingWindowSize()
+                : buffered;
+        int total = Math.min(buffered, capacity);
+        int[] scaled = scale(counts, buffered, total);
+
+        long slowNanos = config.getSlowCallDurationThreshold().toNanos() + 1;
+        int[] recorded = new int[scaled.length];
+        for (int i = 1; i <= total; i++) {
+            // 지금까지 기록해야 했을 개수(scaled * i / total)보다 가장 많이 모자란 종류를 기록
+            int next = 0;
+            double maxDeficit = Double.NEGATIVE_INFINITY;
+            for (int k = 0; k < scaled.length; k++) {
+                double deficit = (double) scaled[k] * i / total - recorded[k];
+                if (recorded[k] < scaled[k] && deficit > maxDeficit) {
+                    maxDeficit = deficit;
+                    next = k;
+                }
+            }
+            recorded[next]++;
+            switch (next) {
+                case 0 -> replacement.onError(slowNanos, TimeUnit.NANOSECONDS, MigratedCallFailure.INSTANCE);
+                case 1 -> replacement.onError(0, TimeUnit.NANOSECONDS, MigratedCallFailure.INSTANCE);
+                case 2 -> replacement.onSuccess(slowNanos, TimeUnit.NANOSECONDS);
+                default -> replacement.onSuccess(0, TimeUnit.NANOSECONDS);
+            }
+            // 옮기는 도중 새 임계값으로 서킷이 열리면 나머지는 기록하지 않음
+            if (replacement.getState() != state) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * counts 의 합(sum)을 target 으로 줄입니다. (최대 나머지 방식, 합이 정확히 target)
+     */
+    private static int[] scale(int[] counts, int sum, int target) {
+        int[] scaled = new int[counts.length];
+        if (target == sum) {
+            System.arraycopy(counts, 0, scaled, 0, counts.length);
+            return scaled;
+        }
+        double[] remainders = new double[counts.length];
+        int assigned = 0;
+        for (int k = 0; k < counts.length; k++) {
+            double exact = (double) counts[k] * target / sum;
+            scaled[k] = (int) exact;
+            remainders[k] = exact - scaled[k];
+            assigned += scaled[k];
+        }
+        for (; assigned < target; assigned++) {
+            int largest = 0;
+            for (int k = 1; k < counts.length; k++) {
+                if (remainders[k] > remainders[largest]) {
+                    largest = k;
+                }
+            }
+            scaled[largest]++;
+            remainders[largest] = -1;
+        }
+        return scaled;
+    }
+
+    /**
+     * 이전 윈도우의 실패를 새 서킷에 다시 기록할 때 사용하는 예외 (스택 트레이스 없음)
+     */
+    static final class MigratedCallFailure extends RuntimeException {
+
+        static final MigratedCallFailure INSTANCE = new MigratedCallFailure();
+
+        private MigratedCallFailure() {
+            super("migrated failure", null, false, false);
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.example.circuit;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.circuitbreaker.event.CircuitBreakerOnStateTransitionEvent;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CircuitBreakerRegistry 의 모든 서킷 상태 조회 및 상태 전이 SSE 스트림
+ *
+ * - 상태 조회는 getState()/getMetrics() 만 사용하므로 서킷 동작에 영향을 주지 않습니다.
+ * - 폴링 없이 서킷의 상태 전이 이벤트를 받아 바뀐 서킷만 전송합니다. 새로 생성된 서킷도 Registry 이벤트로 구독합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CircuitStateStream {
+
+    // SSE 연결 유지 시간 (만료되면 클라이언트(EventSource)가 자동 재연결)
+    private static final Duration EMITTER_TIMEOUT = Duration.ofMinutes(30);
+    // 연결이 끊긴 구독자를 정리하기 위한 heartbeat 주기
+    private static final Duration HEARTBEAT_INTERVAL = Duration.ofSeconds(15);
+
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+
+    private final CopyOnWriteArrayList<SseEmitter> subscribers = new CopyOnWriteArrayList<>();
+    private final ScheduledExecutorService heartbeatScheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "circuit-state-heartbeat");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private ScheduledFuture<?> heartbeat;
+
+    @PostConstruct
+    void subscribeRegistry() {
+        circuitBreakerRegistry.getAllCircuitBreakers().forEach(this::listen);
+        circuitBreakerRegistry.getEventPublisher()
+                .onEntryAdded(event -> listen(event.getAddedEntry()))
+                .onEntryReplaced(event -> listen(event.getNewEntry()));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        heartbeatScheduler.shutdownNow();
+        subscribers.forEach(SseEmitter::complete);
+        subscribers.clear();
+    }
+
+    /**
+     * Registry 에 등록된 모든 서킷의 현재 상태 (이름 순)
+     */
+    public Map<String, Map<String, Object>> states() {
+        Map<String, Map<String, Object>> states = new TreeMap<>();
+        circuitBreakerRegistry.getAllCircuitBreakers()
+                .forEach(circuitBreaker -> states.put(circuitBreaker.getName(), describe(circuitBreaker)));
+        return states;
+    }
+
+    /**
+     * SSE 구독을 등록합니다. 처음에 전체 상태(snapshot)를 보내고 이후에는 상태가 바뀐 서킷만(state) 보냅니다.
+     */
+    public SseEmitter subscribe() {
+        SseEmitter emitter = new SseEmitter(EMITTER_TIMEOUT.toMillis());
+        emitter.onCompletion(() -> unsubscribe(emitter));
+        emitter.onTimeout(() -> unsubscribe(emitter));
+        emitter.onError(e -> unsubscribe(emitter));
+
+        try {
+            emitter.send(SseEmitter.event().name("snapshot").data(states()));
+        } catch (IOException e) {
+            emitter.completeWithError(e);
+            return emitter;
+        }
+
+        synchronized (this) {
+            subscribers.add(emitter);
+            if (heartbeat == null) {
+                long interval = HEARTBEAT_INTERVAL.toMillis();
+                heartbeat = heartbeatScheduler.scheduleWithFixedDelay(
+                        () -> broadcast(SseEmitter.event().comment("heartbeat")), interval, interval, TimeUnit.MILLISECONDS);
+            }
+        }
+        return emitter;
+    }
+
+    private synchronized void unsubscribe(SseEmitter emitter) {
+        subscribers.remove(emitter);
+        if (subscribers.isEmpty() && heartbeat != null) {
+            heartbeat.cancel(false);
+            heartbeat = null;
+        }
+    }
+
+    private void listen(CircuitBreaker circuitBreaker) {
+        circuitBreaker.getEventPublisher().onStateTransition(this::onStateTransition);
+    }
+
+    private void onStateTransition(CircuitBreakerOnStateTransitionEvent event) {
+        log.info("[서킷 상태 변경] {} - {}", event.getCircuitBreakerName(), event.getStateTransition());
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        Map<String, Object> info = new LinkedHashMap<>();
+        info.put("from", event.getStateTransition().getFromState().name());
+        circuitBreakerRegistry.find(event.getCircuitBreakerName())
+                .ifPresent(circuitBreaker -> info.putAll(describe(circuitBreaker)));
+        info.put("state", event.getStateTransition().getToState().name());
+        broadcast(SseEmitter.event().name("state").data(Map.of(event.getCircuitBreakerName(), info)));
+    }
+
+    private void broadcast(SseEmitter.SseEventBuilder event) {
+        for (SseEmitter emitter : subscribers) {
+            try {
+                emitter.send(event);
+            } catch (IOException | IllegalStateException e) {
+                // 연결이 끊긴 구독자
+                emitter.completeWithError(e);
+                unsubscribe(emitter);
+            }
+        }
+    }
+
+    private static Map<String, Object> describe(CircuitBreaker circuitBreaker) {
+        CircuitBreaker.Metrics metrics = circuitBreaker.getMetrics();
+        Map<String, Object> info = new LinkedHashMap<>();
+        info.put("state", circuitBreaker.getState().name());
+        info.put("failureRate", metrics.getFailureRate());
+        info.put("slowCallRate", metrics.getSlowCallRate());
+        info.put("bufferedCalls", metrics.getNumberOfBufferedCalls());
+        info.put("failedCalls", metrics.getNumberOfFailedCalls());
+        info.put("notPermittedCalls", metrics.getNumberOfNotPermittedCalls());
+        return info;
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.circuit;
+
+import com.example.guard.GuardedMethod;
+import com.example.guard.GuardedMethods;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.aop.support.StaticMethodMatcherPointcutAdvisor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.core.Ordered;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * GuardProcessor 가 컴파일 시점에 생성한 코드로 @CircuitBreaker(+ @Bulkhead) 메소드를 실행합니다. (Resilience4j Aspect 대체)
+ *
+ * - 생성된 코드가 있는 메소드에만 적용되고, CircuitBreaker( Bulkhead( 메소드 ) ) 순서로 대상 객체의 메소드를 직접 호출하므로
+ *   Resilience4j Aspect(SpEL 이름 해석, 리플렉션 fallback 탐색, 호출마다 만드는 decorator)까지 내려가지 않습니다.
+ * - Bulkhead 거절과 서킷 거절을 포함한 모든 실패는 생성된 fallback 코드로 처리하고, 예외 타입이 맞는 fallback 이 없으면 그대로 던집니다.
+ * - 생성되지 않은 메소드(비동기 반환, @TimeLimiter / @Retry 함께 사용 등)는 그대로 Resilience4j Aspect 가 처리합니다.
+ * - 서킷 브레이커는 호출마다 Registry 에서 찾으므로 CircuitBreakerReconfigurer 가 교체한 인스턴스를 바로 사용합니다.
+ * - AdmissionAdvisor, KeyedCircuitBreakerAdvisor, SingleFlightAdvisor 안쪽에서 실행됩니다.
+ */
+public class CompiledCircuitBreakerAdvisor extends StaticMethodMatcherPointcutAdvisor
+        implements MethodInterceptor, SmartInitializingSingleton {
+
+    private final GuardedMethods guardedMethods;
+    private final ObjectProvider<CircuitBreakerRegistry> circuitBreakerRegistryProvider;
+    private final ObjectProvider<BulkheadRegistry> bulkheadRegistryProvider;
+    private final Map<Method, GuardedMethod> methods = new ConcurrentHashMap<>();
+    private CircuitBreakerRegistry circuitBreakerRegistry;
+    private BulkheadRegistry bulkheadRegistry;
+
+    public CompiledCircuitBreakerAdvisor(GuardedMethods guardedMethods,
+                                         ObjectProvider<CircuitBreakerRegistry> circuitBreakerRegistry,
+                                         ObjectProvider<BulkheadRegistry> bulkheadRegistry) {
+        this.guardedMethods = guardedMethods;
+        this.circuitBreakerRegistryProvider = circuitBreakerRegistry;
+        this.bulkheadRegistryProvider = bulkheadRegistry;
+        setAdvice(this);
+        setOrder(Ordered.HIGHEST_PRECEDENCE + 4);
+    }
+
+    @Override
+    public boolean matches(Method method, Class<?> targetClass) {
+        return guardedMethods.find(AopUtils.getMostSpecificMethod(method, targetClass),
+                GuardedMethod.Kind.CIRCUIT_BREAKER) != null;
+    }
+
+    /**
+     * Advisor 는 다른 Bean 보다 먼저 만들어지므로 Registry 는 모든 싱글톤이 생성된 뒤에 가져옵니다.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        this.bulkheadRegistry = bulkheadRegistryProvider.getObject();
+        this.circuitBreakerRegistry = circuitBreakerRegistryProvider.getObject();
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        if (circuitBreakerRegistry == null) {
+            // 시작 중의 호출은 Resilience4j Aspect 로 처리
+            return invocation.proceed();
+        }
+        GuardedMethod guardedMethod = methods.get(invocation.getMethod());
+        if (guardedMethod == null) {
+            guardedMethod = methods.computeIfAbsent(invocation.getMethod(), method -> guardedMethods.find(
+                    AopUtils.getMostSpecificMethod(method, invocation.getThis().getClass()),
+                    GuardedMethod.Kind.CIRCUIT_BREAKER));
+        }
+        Object target = invocation.getThis();
+        Object[] arguments = invocation.getArguments();
+        try {
+            return execute(circuitBreakerRegistry.circuitBreaker(guardedMethod.getName()), guardedMethod, target, arguments);
+        } catch (Throwable failure) {
+            if (guardedMethod.getFallback() == null) {
+                throw failure;
+            }
+            return guardedMethod.getFallback().apply(target, arguments, failure);
+        }
+    }
+
+    /**
+     * CircuitBreaker.decorateCheckedSupplier / Bulkhead.decorateCheckedSupplier 와 같은 순서로 허가, 기록, 반납
+     */
+    private Object execute(CircuitBreaker circuitBreaker, GuardedMethod guardedMethod, Object target,
+                           Object[] arguments) throws Throwable {
+        circuitBreaker.acquirePermission();
+        long start = circuitBreaker.getCurrentTimestamp();
+        try {
+            Object result = guardedMethod.getIsolation() == null
+                    ? guardedMethod.getInvoker().invoke(target, arguments)
+                    : bulkheaded(bulkheadRegistry.bulkhead(guardedMethod.getIsolation()), guardedMethod, target, arguments);
+            circuitBreaker.onResult(circuitBreaker.getCurrentTimestamp() - start, circuitBreaker.getTimestampUnit(), result);
+            return result;
+        } catch (Throwable t) {
+            circuitBreaker.onError(circuitBreaker.getCurrentTimestamp() - start, circuitBreaker.getTimestampUnit(), t);
+            throw t;
+        }
+    }
+
+    private static Object bulkheaded(Bulkhead bulkhead, GuardedMethod guardedMethod, Object target,
+                                     Object[] arguments) throws Throwable {
+        bulkhead.acquirePermission();
+        try {
+            return guardedMethod.getInvoker().invoke(target, arguments);
+        } finally {
+            bulkhead.onComplete();
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.circuit;
+
+import com.example.gossip.BreakerControl;
+import com.example.gossip.BreakerGossip;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.circuitbreaker.IllegalStateTransitionException;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * BreakerGossip 용 Resilience4j 서킷 조회 / 조작 (서킷 이름 = 인스턴스 이름)
+ *
+ * - 윈도우 호출 / 실패 수는 슬라이딩 윈도우의 buffered / failed 호출 수를 사용합니다. (느린 호출 비율은 공유하지 않음)
+ * - 대기 시간 재시작은 HALF_OPEN 으로 바뀐 서킷을 다시 OPEN 으로 되돌려 처리합니다.
+ *   자동 전환(automatic-transition-from-open-to-half-open-enabled) 직후 상태 전이 이벤트로 바로 되돌리지만,
+ *   그 사이에 들어온 호출은 시험 요청으로 실행될 수 있습니다.
+ */
+@RequiredArgsConstructor
+public class Resilience4jBreakerControl implements BreakerControl {
+
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+
+    /**
+     * 서킷의 상태가 바뀌면 다음 주기를 기다리지 않고 gossip 이 판단하고 전송하도록 연결합니다.
+     */
+    public void notifyTransitions(BreakerGossip gossip) {
+        circuitBreakerRegistry.getAllCircuitBreakers().forEach(circuitBreaker -> listen(circuitBreaker, gossip));
+        circuitBreakerRegistry.getEventPublisher()
+                .onEntryAdded(event -> listen(event.getAddedEntry(), gossip))
+                .onEntryReplaced(event -> listen(event.getNewEntry(), gossip));
+    }
+
+    private static void listen(CircuitBreaker circuitBreaker, BreakerGossip gossip) {
+        circuitBreaker.getEventPublisher().onStateTransition(event -> gossip.localStateChanged());
+    }
+
+    @Override
+    public List<Breaker> breakers() {
+        return circuitBreakerRegistry.getAllCircuitBreakers().stream()
+                .map(circuitBreaker -> {
+                    CircuitBreaker.Metrics metrics = circuitBreaker.getMetrics();
+                    CircuitBreakerConfig config = circuitBreaker.getCircuitBreakerConfig();
+                    return new Breaker(circuitBreaker.getName(), circuitBreaker.getState().name(),
+                            metrics.getNumberOfBufferedCalls(), metrics.getNumberOfFailedCalls(),
+                            config.getFailureRateThreshold(), config.getMinimumNumberOfCalls());
+                })
+                .toList();
+    }
+
+    @Override
+    public boolean open(String name) {
+        return find(name)
+                .filter(circuitBreaker -> circuitBreaker.getState() == CircuitBreaker.State.CLOSED)
+                .map(circuitBreaker -> transition(circuitBreaker::transitionToOpenState))
+                .orElse(false);
+    }
+
+    @Override
+    public void holdOpen(String name) {
+        find(name)
+                .filter(circuitBreaker -> circuitBreaker.getState() == CircuitBreaker.State.HALF_OPEN)
+                .ifPresent(circuitBreaker -> transition(circuitBreaker::transitionToOpenState));
+    }
+
+    @Override
+    public void close(String name) {
+        find(name)
+                .filter(circuitBreaker -> circuitBreaker.getState() == CircuitBreaker.State.OPEN
+                        || circuitBreaker.getState() == CircuitBreaker.State.HALF_OPEN)
+                .ifPresent(circuitBreaker -> transition(circuitBreaker::transitionToClosedState));
+    }
+
+    private Optional<CircuitBreaker> find(String name) {
+        return circuitBreakerRegistry.find(name);
+    }
+
+    /**
+     * 조회와 전이 사이에 호출 결과로 상태가 바뀌었으면 전이하지 않습니다.
+     */
+    private static boolean transition(Runnable transition) {
+        try {
+            transition.run();
+            return true;
+        } catch (IllegalStateTransitionException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,302 @@
+package com.example.circuit;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.IllegalStateTransitionException;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CLOSED 상태의 호출 결과를 기본 윈도우 대신 StripedTimeWindow 에 기록하는 서킷 (나머지는 원래 서킷에 위임)
+ *
+ * 원래 서킷(CircuitBreakerStateMachine)은 호출마다 슬라이딩 윈도우를 잠그고 갱신합니다.
+ * 호출이 매우 잦은 서킷에서 CLOSED 상태의 기록만 잠금 없는 stripe 윈도우로 옮기고, 상태 / 허용 여부 / 전이 / 이벤트는 원래 서킷을 그대로 사용합니다.
+ *
+ * - 판단 기준은 원래 설정과 같습니다. (minimum-number-of-calls, failure-rate-threshold, slow-call-rate-threshold,
+ *   slow-call-duration-threshold, record-exceptions / ignore-exceptions, record-result-predicate)
+ *   단 윈도우는 호출 수가 아닌 시간(window-duration)으로 자릅니다. (stripe 사이에는 호출 순서가 없음)
+ * - 판단은 실패나 느린 호출이 기록될 때만 모든 stripe 를 합산해서 합니다. (성공 호출은 기록만 함)
+ *   evaluation-interval 을 주면 그 간격에 한 번씩 한 스레드만 합산하므로, 간격 안에 기록된 실패로는 판단하지 않고
+ *   다음 실패(느린 호출)가 기록될 때 판단합니다. (합산 비용은 줄지만 서킷이 늦게 열릴 수 있음)
+ * - OPEN / HALF_OPEN 등 CLOSED 가 아닌 상태의 호출은 원래 서킷이 기록합니다. 다시 CLOSED 가 되면 stripe 윈도우를 비웁니다.
+ * - CLOSED 상태의 성공 / 실패 이벤트는 발행되지 않습니다. (적응형 임계치, 이벤트 기반 호출 메트릭은 이 서킷에 동작하지 않음)
+ *   getMetrics() 는 CLOSED 상태에서 stripe 윈도우의 합산 값을 반환합니다.
+ */
+@Slf4j
+public class StripedCircuitBreaker implements CircuitBreaker {
+
+    private final CircuitBreaker delegate;
+    private final CircuitBreakerConfig config;
+    private final StripedTimeWindow window;
+    private final long slowCallNanos;
+    private final long evaluationIntervalMillis;
+
+    /**
+     * 원래 서킷(상태 / 이벤트 담당)은 이 서킷만 사용하도록 새로 만듭니다.
+     * 기존 서킷을 감싸면 기존 서킷에 등록된 이벤트 구독과 교체 시 새로 등록되는 구독이 같은 이벤트를 두 번 받습니다.
+     */
+    public StripedCircuitBreaker(String name, CircuitBreakerConfig config, Map<String, String> tags,
+                                 StripedWindowProperties.Settings settings) {
+        this.delegate = CircuitBreaker.of(name, config, tags);
+        this.config = config;
+        this.window = new StripedTimeWindow(settings.getWindowDuration().toMillis(), settings.getBuckets(),
+                settings.getStripes());
+        this.slowCallNanos = config.getSlowCallDurationThreshold().toNanos();
+        this.evaluationIntervalMillis = settings.getEvaluationInterval().toMillis();
+        delegate.getEventPublisher().onStateTransition(event -> {
+            if (event.getStateTransition().getToState() == State.CLOSED) {
+                window.reset();
+            }
+        });
+    }
+
+    /**
+     * app.striped-window.instances.{name}.enabled 이면 StripedCircuitBreaker, 아니면 기본 서킷
+     */
+    public static CircuitBreaker of(String name, CircuitBreakerConfig config, Map<String, String> tags,
+                                    StripedWindowProperties properties) {
+        StripedWindowProperties.Settings settings = properties.get(name);
+        return settings.isEnabled()
+                ? new StripedCircuitBreaker(name, config, tags, settings)
+                : CircuitBreaker.of(name, config, tags);
+    }
+
+    /**
+     * 다른 서킷의 윈도우에 있는 호출 결과를 stripe 윈도우의 현재 버킷에 더합니다.
+     */
+    public void addWindow(Metrics metrics) {
+        window.add(metrics.getNumberOfBufferedCalls(), metrics.getNumberOfFailedCalls(),
+                metrics.getNumberOfSlowCalls(), metrics.getNumberOfSlowFailedCalls());
+    }
+
+    public int getStripes() {
+        return window.getStripes();
+    }
+
+    @Override
+    public void onSuccess(long duration, TimeUnit durationUnit) {
+        if (delegate.getState() != State.CLOSED) {
+            delegate.onSuccess(duration, durationUnit);
+            return;
+        }
+        record(false, duration, durationUnit);
+    }
+
+    @Override
+    public void onError(long duration, TimeUnit durationUnit, Throwable throwable) {
+        if (delegate.getState() != State.CLOSED) {
+            delegate.onError(duration, durationUnit, throwable);
+            return;
+        }
+        Throwable cause = throwable instanceof CompletionException || throwable instanceof ExecutionException
+                ? throwable.getCause() : throwable;
+        if (config.getIgnoreExceptionPredicate().test(cause)) {
+            return;
+        }
+        record(config.getRecordExceptionPredicate().test(cause), duration, durationUnit);
+    }
+
+    @Override
+    public void onResult(long duration, TimeUnit durationUnit, Object result) {
+        if (delegate.getState() != State.CLOSED) {
+            delegate.onResult(duration, durationUnit, result);
+            return;
+        }
+        record(result != null && config.getRecordResultPredicate().test(result), duration, durationUnit);
+    }
+
+    private void record(boolean failure, long duration, TimeUnit durationUnit) {
+        boolean slow = durationUnit.toNanos(duration) > slowCallNanos;
+        window.record(failure, slow);
+        if ((failure || slow) && window.tryStartEvaluation(evaluationIntervalMillis)) {
+            evaluate();
+        }
+    }
+
+    /**
+     * 원래 서킷과 같은 기준으로 열지 판단합니다. (minimum-number-of-calls 이상에서 실패율 또는 느린 호출 비율이 임계치 이상)
+     */
+    private void evaluate() {
+        StripedTimeWindow.Snapshot snapshot = window.snapshot();
+        if (snapshot.getCalls() < config.getMinimumNumberOfCalls()) {
+            return;
+        }
+        float failureRate = snapshot.failureRate();
+        float slowCallRate = snapshot.slowCallRate();
+        if (failureRate < config.getFailureRateThreshold() && slowCallRate < config.getSlowCallRateThreshold()) {
+            return;
+        }
+        try {
+            delegate.transitionToOpenState();
+            log.warn("Circuit {} opened by striped window - failure rate {}%, slow call rate {}% ({} calls)",
+                    getName(), failureRate, slowCallRate, snapshot.getCalls());
+        } catch (IllegalStateTransitionException e) {
+            // 그 사이 다른 스레드나 외부 조작으로 상태가 바뀜
+        }
+    }
+
+    @Override
+    public Metrics getMetrics() {
+        if (delegate.getState() != State.CLOSED) {
+            return delegate.getMetrics();
+        }
+        return new StripedMetrics(window.snapshot(), config.getMinimumNumberOfCalls(),
+                delegate.getMetrics().getNumberOfNotPermittedCalls());
+    }
+
+    // 나머지는 원래 서킷에 위임
+
+    @Override
+    public boolean tryAcquirePermission() {
+        return delegate.tryAcquirePermission();
+    }
+
+    @Override
+    public void releasePermission() {
+        delegate.releasePermission();
+    }
+
+    @Override
+    public void acquirePermission() {
+        delegate.acquirePermission();
+    }
+
+    @Override
+    public void reset() {
+        delegate.reset();
+        window.reset();
+    }
+
+    @Override
+    public void transitionToClosedState() {
+        delegate.transitionToClosedState();
+    }
+
+    @Override
+    public void transitionToOpenState() {
+        delegate.transitionToOpenState();
+    }
+
+    @Override
+    public void transitionToOpenStateFor(Duration waitDuration) {
+        delegate.transitionToOpenStateFor(waitDuration);
+    }
+
+    @Override
+    public void transitionToOpenStateUntil(Instant waitUntil) {
+        delegate.transitionToOpenStateUntil(waitUntil);
+    }
+
+    @Override
+    public void transitionToHalfOpenState() {
+        delegate.transitionToHalfOpenState();
+    }
+
+    @Override
+    public void transitionToDisabledState() {
+        delegate.transitionToDisabledState();
+    }
+
+    @Override
+    public void transitionToMetricsOnlyState() {
+        delegate.transitionToMetricsOnlyState();
+    }
+
+    @Override
+    public void transitionToForcedOpenState() {
+        delegate.transitionToForcedOpenState();
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public State getState() {
+        return delegate.getState();
+    }
+
+    @Override
+    public CircuitBreakerConfig getCircuitBreakerConfig() {
+        return config;
+    }
+
+    @Override
+    public Map<String, String> getTags() {
+        return delegate.getTags();
+    }
+
+    @Override
+    public EventPublisher getEventPublisher() {
+        return delegate.getEventPublisher();
+    }
+
+    @Override
+    public long getCurrentTimestamp() {
+        return delegate.getCurrentTimestamp();
+    }
+
+    @Override
+    public TimeUnit getTimestampUnit() {
+        return delegate.getTimestampUnit();
+    }
+
+    /**
+     * stripe 윈도우 합산 값 (minimum-number-of-calls 미만이면 원래 서킷처럼 비율은 -1)
+     */
+    private record StripedMetrics(StripedTimeWindow.Snapshot snapshot, int minimumCalls,
+                                  long notPermittedCalls) implements Metrics {
+
+        @Override
+        public float getFailureRate() {
+            return snapshot.getCalls() < minimumCalls ? -1 : snapshot.failureRate();
+        }
+
+        @Override
+        public float getSlowCallRate() {
+            return snapshot.getCalls() < minimumCalls ? -1 : snapshot.slowCallRate();
+        }
+
+        @Override
+        public int getNumberOfSlowCalls() {
+            return (int) snapshot.getSlow();
+        }
+
+        @Override
+        public int getNumberOfSlowSuccessfulCalls() {
+            return (int) (snapshot.getSlow() - snapshot.getSlowFailures());
+        }
+
+        @Override
+        public int getNumberOfSlowFailedCalls() {
+            return (int) snapshot.getSlowFailures();
+        }
+
+        @Override
+        public int getNumberOfBufferedCalls() {
+            return (int) snapshot.getCalls();
+        }
+
+        @Override
+        public int getNumberOfFailedCalls() {
+            return (int) snapshot.getFailures();
+        }
+
+        @Override
+        public long getNumberOfNotPermittedCalls() {
+            return notPermittedCalls;
+        }
+
+        @Override
+        public int getNumberOfSuccessfulCalls() {
+            return (int) (snapshot.getCalls() - snapshot.getFailures());
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.circuit;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 시작할 때 app.striped-window.instances.{name}.enabled=true 인 서킷을 StripedCircuitBreaker 로 교체합니다.
+ * 설정 변경으로 서킷이 교체될 때는 CircuitBreakerReconfigurer 가 StripedCircuitBreaker.of 로 만듭니다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class StripedWindowInstaller {
+
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+    private final StripedWindowProperties properties;
+
+    public void install() {
+        properties.getInstances().forEach((name, settings) -> {
+            if (!settings.isEnabled()) {
+                return;
+            }
+            CircuitBreaker previous = circuitBreakerRegistry.circuitBreaker(name);
+            if (previous instanceof StripedCircuitBreaker) {
+                return;
+            }
+            StripedCircuitBreaker replacement = new StripedCircuitBreaker(name, previous.getCircuitBreakerConfig(),
+                    previous.getTags(), settings);
+            if (previous.getState() == CircuitBreaker.State.CLOSED) {
+                replacement.addWindow(previous.getMetrics());
+            }
+            circuitBreakerRegistry.replace(name, replacement);
+            log.info("Circuit {} uses striped window - {} stripes, {} / {} buckets", name, replacement.getStripes(),
+                    settings.getWindowDuration(), settings.getBuckets());
+        });
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.circuit;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * stripe 윈도우 설정 (app.striped-window.instances.{name}.*)
+ * 시작할 때 한 번 적용되며, 값을 바꾸면 재시작해야 반영됩니다. (resilience4j 설정 변경으로 서킷이 교체될 때는 새 서킷에도 적용)
+ */
+@Data
+@ConfigurationProperties(prefix = "app.striped-window")
+public class StripedWindowProperties {
+
+    private Map<String, Settings> instances = new HashMap<>();
+
+    public Settings get(String name) {
+        return instances.getOrDefault(name, new Settings());
+    }
+
+    @Data
+    public static class Settings {
+        private boolean enabled = false;
+        /** 윈도우 길이 (호출 수 대신 시간으로 자름) */
+        private Duration windowDuration = Duration.ofSeconds(10);
+        /** 윈도우를 나누는 버킷 수 (버킷 길이만큼씩 오래된 호출이 빠짐) */
+        private int buckets = 10;
+        /** stripe 수 (2의 거듭제곱으로 올림, 0 이면 코어 수 x 2) */
+        private int stripes = 0;
+        /** 실패 / 느린 호출이 기록될 때 합산해서 판단하는 최소 간격 (0 이면 기록될 때마다) */
+        private Duration evaluationInterval = Duration.ZERO;
+    }
+}
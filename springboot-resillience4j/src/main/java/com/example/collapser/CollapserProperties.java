@@ -0,0 +1,31 @@
+package com.example.collapser;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Request Collapser 설정 (app.collapser.instances.{name}.*)
+ * Config Server 설정 변경 후 /actuator/refresh 호출 시 다음 배치부터 반영됩니다.
+ */
+@Data
+@ConfigurationProperties(prefix = "app.collapser")
+public class CollapserProperties {
+
+    private Map<String, Settings> instances = new HashMap<>();
+
+    public Settings get(String name) {
+        return instances.getOrDefault(name, new Settings());
+    }
+
+    @Data
+    public static class Settings {
+        /** 배치를 모으는 시간 */
+        private Duration window = Duration.ofMillis(5);
+        /** 배치 1건에 담을 최대 요청 수 */
+        private int maxBatchSize = 50;
+    }
+}
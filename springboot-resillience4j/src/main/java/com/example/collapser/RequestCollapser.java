@@ -0,0 +1,116 @@
+package com.example.collapser;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 동시에 들어온 단건 요청을 묶어 한 번의 배치 호출로 실행하고 결과를 각 요청에 나눠주는 Collapser
+ *
+ * - 배치의 첫 요청이 leader 가 되어 window 동안(또는 maxBatchSize 가 찰 때까지) 기다린 뒤 배치를 직접 실행합니다.
+ *   별도 타이머 스레드 없이 호출 스레드만 사용하므로 가상 스레드 모드에서도 그대로 동작합니다.
+ * - 배치 함수는 요청 순서와 같은 순서로 같은 개수의 결과를 반환해야 합니다.
+ */
+@Slf4j
+public class RequestCollapser<K, V> {
+
+    private final String name;
+    private final Function<List<K>, List<V>> batchFunction;
+    private final Supplier<CollapserProperties.Settings> settings;
+    // 임계 영역이 짧고 가상 스레드 pinning 을 피하기 위해 synchronized 대신 ReentrantLock 사용
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private Batch<K, V> current;
+
+    public RequestCollapser(String name, Function<List<K>, List<V>> batchFunction,
+                            Supplier<CollapserProperties.Settings> settings) {
+        this.name = name;
+        this.batchFunction = batchFunction;
+        this.settings = settings;
+    }
+
+    public V execute(K request) {
+        CollapserProperties.Settings config = settings.get();
+        CompletableFuture<V> result = new CompletableFuture<>();
+        Batch<K, V> batch;
+        boolean leader = false;
+
+        lock.lock();
+        try {
+            if (current == null) {
+                current = new Batch<>();
+                leader = true;
+            }
+            batch = current;
+            batch.add(request, result);
+            if (batch.size() >= config.getMaxBatchSize()) {
+                // 가득 찬 배치는 닫고 leader 를 깨움
+                current = null;
+                batch.full.countDown();
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        if (leader) {
+            awaitWindow(batch, config);
+            run(batch);
+        }
+        return result.join();
+    }
+
+    private void awaitWindow(Batch<K, V> batch, CollapserProperties.Settings config) {
+        try {
+            batch.full.await(config.getWindow().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        lock.lock();
+        try {
+            if (current == batch) {
+                current = null;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void run(Batch<K, V> batch) {
+        try {
+            List<V> responses = batchFunction.apply(batch.requests);
+            if (responses == null || responses.size() != batch.requests.size()) {
+                throw new IllegalStateException("Collapser '" + name + "' batch returned "
+                        + (responses == null ? "null" : responses.size() + " results")
+                        + " for " + batch.requests.size() + " requests");
+            }
+            for (int i = 0; i < responses.size(); i++) {
+                batch.results.get(i).complete(responses.get(i));
+            }
+            log.debug("[Collapser] {} - 배치 {}건 실행", name, responses.size());
+        } catch (RuntimeException e) {
+            batch.results.forEach(future -> future.completeExceptionally(e));
+        }
+    }
+
+    private static final class Batch<K, V> {
+        private final List<K> requests = new ArrayList<>();
+        private final List<CompletableFuture<V>> results = new ArrayList<>();
+        private final CountDownLatch full = new CountDownLatch(1);
+
+        private void add(K request, CompletableFuture<V> result) {
+            requests.add(request);
+            results.add(result);
+        }
+
+        private int size() {
+            return requests.size();
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.config;
+
+import com.example.circuit.AdaptiveThresholdEndpoint;
+import com.example.circuit.AdaptiveThresholdMonitor;
+import com.example.circuit.AdaptiveThresholdProperties;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 적응형 임계치 등록 (서킷별 사용 여부는 app.adaptive.instances.{name}.enabled)
+ */
+@Configuration
+@EnableConfigurationProperties(AdaptiveThresholdProperties.class)
+public class AdaptiveThresholdConfig {
+
+    @Bean(initMethod = "subscribeRegistry", destroyMethod = "close")
+    public AdaptiveThresholdMonitor adaptiveThresholdMonitor(CircuitBreakerRegistry circuitBreakerRegistry,
+                                                             AdaptiveThresholdProperties properties) {
+        return new AdaptiveThresholdMonitor(circuitBreakerRegistry, properties);
+    }
+
+    @Bean
+    public AdaptiveThresholdEndpoint adaptiveThresholdEndpoint(AdaptiveThresholdMonitor adaptiveThresholdMonitor) {
+        return new AdaptiveThresholdEndpoint(adaptiveThresholdMonitor);
+    }
+}
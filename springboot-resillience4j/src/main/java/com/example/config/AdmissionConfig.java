@@ -0,0 +1,41 @@
+package com.example.config;
+
+import com.example.admission.AdmissionAdvisor;
+import com.example.admission.AdmissionController;
+import com.example.admission.AdmissionEndpoint;
+import com.example.admission.AdmissionProperties;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+
+/**
+ * 우선순위 기반 입장 제어 등록 (app.admission.enabled=false 이면 등록하지 않음)
+ * Advisor 는 BeanPostProcessor 단계에서 만들어지므로 static / 인프라 Bean 으로 등록하고, 나머지는 시작 후에 가져옵니다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.admission", name = "enabled", havingValue = "true", matchIfMissing = true)
+@EnableConfigurationProperties(AdmissionProperties.class)
+public class AdmissionConfig {
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static AdmissionAdvisor admissionAdvisor(ObjectProvider<AdmissionController> admissionController,
+                                                    ObjectProvider<AdmissionProperties> properties) {
+        return new AdmissionAdvisor(admissionController, properties);
+    }
+
+    @Bean
+    public AdmissionController admissionController(AdmissionProperties properties) {
+        return new AdmissionController(properties.getMaxConcurrent(), properties.getMaxQueue(),
+                properties.getTargetQueueDelay().toMillis(), properties.getShares());
+    }
+
+    @Bean
+    public AdmissionEndpoint admissionEndpoint(AdmissionController admissionController) {
+        return new AdmissionEndpoint(admissionController);
+    }
+}
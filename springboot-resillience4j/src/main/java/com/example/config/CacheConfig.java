@@ -0,0 +1,21 @@
+package com.example.config;
+
+import com.example.cache.LastKnownGoodCache;
+import com.example.cache.LastKnownGoodCacheProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Fallback 용 Last-Known-Good 캐시 등록
+ */
+@Configuration
+@EnableConfigurationProperties(LastKnownGoodCacheProperties.class)
+public class CacheConfig {
+
+    @Bean
+    public LastKnownGoodCache lastKnownGoodCache(LastKnownGoodCacheProperties properties, MeterRegistry meterRegistry) {
+        return new LastKnownGoodCache(properties, meterRegistry);
+    }
+}
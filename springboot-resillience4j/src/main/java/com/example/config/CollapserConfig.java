@@ -0,0 +1,22 @@
+package com.example.config;
+
+import com.example.collapser.CollapserProperties;
+import com.example.collapser.RequestCollapser;
+import com.example.service.MyService;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Request Collapser 등록
+ * 배치 함수는 서킷 브레이커가 적용된 MyService 프록시를 호출하므로 배치 1건이 1회 호출로 집계됩니다.
+ */
+@Configuration
+@EnableConfigurationProperties(CollapserProperties.class)
+public class CollapserConfig {
+
+    @Bean
+    public RequestCollapser<String, String> normalApiCollapser(MyService myService, CollapserProperties properties) {
+        return new RequestCollapser<>("normalApi", myService::callNormalApiBatch, () -> properties.get("normalApi"));
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.config;
+
+import com.example.circuit.CompiledCircuitBreakerAdvisor;
+import com.example.guard.GuardedMethods;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+
+/**
+ * 컴파일 시점에 생성된 코드로 @CircuitBreaker 실행 (guard-processor)
+ * app.compiled-guards.enabled=false 이면 Advisor 를 등록하지 않으므로 모든 메소드를 Resilience4j Aspect 가 처리합니다.
+ * Advisor 는 BeanPostProcessor 단계에서 만들어지므로 static / 인프라 Bean 으로 등록합니다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.compiled-guards", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class CompiledGuardConfig {
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static CompiledCircuitBreakerAdvisor compiledCircuitBreakerAdvisor(
+            ObjectProvider<CircuitBreakerRegistry> circuitBreakerRegistry,
+            ObjectProvider<BulkheadRegistry> bulkheadRegistry) {
+        return new CompiledCircuitBreakerAdvisor(GuardedMethods.load(CompiledGuardConfig.class.getClassLoader()),
+                circuitBreakerRegistry, bulkheadRegistry);
+    }
+}
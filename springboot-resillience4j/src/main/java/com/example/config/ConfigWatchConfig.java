@@ -0,0 +1,27 @@
+package com.example.config;
+
+import com.example.refresh.ConfigChangeWatcher;
+import com.example.refresh.ConfigWatchProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cloud.context.refresh.ContextRefresher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.ConfigurableEnvironment;
+
+/**
+ * Config Server 변경 알림 구독 (app.config-watch.enabled=true 일 때만 등록)
+ * 설정 파일이 바뀌면 /actuator/refresh 를 호출하지 않아도 바로 반영됩니다.
+ */
+@Configuration
+@EnableConfigurationProperties(ConfigWatchProperties.class)
+@ConditionalOnProperty(prefix = "app.config-watch", name = "enabled", havingValue = "true")
+public class ConfigWatchConfig {
+
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    public ConfigChangeWatcher configChangeWatcher(ConfigWatchProperties properties, ContextRefresher contextRefresher,
+                                                   ObjectMapper objectMapper, ConfigurableEnvironment environment) {
+        return new ConfigChangeWatcher(properties, contextRefresher, objectMapper, environment);
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.config;
+
+import com.example.http.ExternalHttpClients;
+import com.example.http.ExternalHttpProperties;
+import com.example.service.AsyncExternalService;
+import com.example.service.ExternalService;
+import com.example.service.HttpAsyncExternalService;
+import com.example.service.HttpExternalService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * 시뮬레이션 대신 실제 HTTP 호출을 하는 ExternalService / AsyncExternalService 등록 (http 프로필)
+ * 실행: ./gradlew bootRun --args='--spring.profiles.active=http'
+ * 설정: application-http.yml
+ */
+@Configuration
+@Profile("http")
+@EnableConfigurationProperties(ExternalHttpProperties.class)
+public class ExternalHttpConfig {
+
+    @Bean
+    public ExternalHttpClients externalHttpClients(ExternalHttpProperties properties, MeterRegistry meterRegistry) {
+        return new ExternalHttpClients(properties, meterRegistry);
+    }
+
+    @Bean
+    public ExternalService httpExternalService(@Value("${app.external.service.url}") String url,
+                                               ExternalHttpClients externalHttpClients) {
+        return new HttpExternalService(url, externalHttpClients);
+    }
+
+    @Bean
+    public AsyncExternalService httpAsyncExternalService(@Value("${app.external.service.url}") String url,
+                                                         ExternalHttpClients externalHttpClients) {
+        return new HttpAsyncExternalService(url, externalHttpClients);
+    }
+}
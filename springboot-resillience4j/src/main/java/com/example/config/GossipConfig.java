@@ -0,0 +1,53 @@
+package com.example.config;
+
+import com.example.circuit.Resilience4jBreakerControl;
+import com.example.gossip.BreakerGossip;
+import com.example.gossip.GossipEndpoint;
+import com.example.gossip.GossipProperties;
+import com.example.gossip.GossipTransport;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.net.InetAddress;
+import java.net.SocketException;
+import java.net.UnknownHostException;
+
+/**
+ * 노드 간 서킷 상태 공유 (app.gossip.enabled=true 일 때만 등록)
+ * 노드마다 app.gossip.port 와 app.gossip.peers 를 지정합니다.
+ */
+@Configuration
+@EnableConfigurationProperties(GossipProperties.class)
+@ConditionalOnProperty(prefix = "app.gossip", name = "enabled", havingValue = "true")
+public class GossipConfig {
+
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    public BreakerGossip breakerGossip(GossipProperties properties, CircuitBreakerRegistry circuitBreakerRegistry)
+            throws SocketException {
+        String nodeId = properties.getNodeId().isEmpty()
+                ? hostName() + ":" + properties.getPort()
+                : properties.getNodeId();
+        Resilience4jBreakerControl control = new Resilience4jBreakerControl(circuitBreakerRegistry);
+        BreakerGossip gossip = new BreakerGossip(nodeId, control,
+                new GossipTransport(properties.getPort(), properties.getPeers()),
+                properties.getInterval().toMillis(), properties.getPeerTimeout().toMillis(), properties.getProbers());
+        control.notifyTransitions(gossip);
+        return gossip;
+    }
+
+    @Bean
+    public GossipEndpoint gossipEndpoint(BreakerGossip breakerGossip) {
+        return new GossipEndpoint(breakerGossip);
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "localhost";
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.config;
+
+import com.example.hedge.HedgeProperties;
+import com.example.hedge.RequestHedger;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Hedged Request 실행기 등록
+ * 시도는 크기가 max-concurrent-attempts 로 제한된 스레드 풀에서 실행하고, 대기 큐 없이 풀이 가득 차면 거절합니다.
+ * (가상 스레드 모드에서도 같은 풀을 사용하므로 느린 외부 호출에 hedge 스레드가 무한히 늘어나지 않음)
+ */
+@Configuration
+@EnableConfigurationProperties(HedgeProperties.class)
+public class HedgeConfig {
+
+    @Bean
+    public ThreadPoolTaskExecutor hedgeTaskExecutor(HedgeProperties properties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("hedge-");
+        executor.setCorePoolSize(properties.getMaxConcurrentAttempts());
+        executor.setMaxPoolSize(properties.getMaxConcurrentAttempts());
+        executor.setQueueCapacity(0);
+        executor.setAllowCoreThreadTimeOut(true);
+        executor.setDaemon(true);
+        return executor;
+    }
+
+    @Bean
+    public RequestHedger requestHedger(ThreadPoolTaskExecutor hedgeTaskExecutor, HedgeProperties properties,
+                                       MeterRegistry meterRegistry) {
+        return new RequestHedger(hedgeTaskExecutor, properties, meterRegistry);
+    }
+}
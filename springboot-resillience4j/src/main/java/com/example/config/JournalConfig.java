@@ -0,0 +1,49 @@
+package com.example.config;
+
+import com.example.journal.EventJournal;
+import com.example.journal.JournalEndpoint;
+import com.example.journal.JournalEventListener;
+import com.example.journal.JournalFile;
+import com.example.journal.JournalProperties;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+
+/**
+ * 서킷 상태 전이 / 거절 / 타임아웃 / 호출 결과 이벤트 저널 등록 (/actuator/journal)
+ * app.journal.enabled=true 일 때만 등록합니다.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(prefix = "app.journal", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(JournalProperties.class)
+public class JournalConfig {
+
+    @Bean(destroyMethod = "close")
+    public EventJournal eventJournal(JournalProperties properties) throws IOException {
+        JournalFile file = JournalFile.open(Paths.get(properties.getPath()), properties.getCapacity(),
+                properties.getMaxNames());
+        log.info("Event journal {} opened - {} events recovered", file.getPath().toAbsolutePath(), file.getRecovered());
+        return new EventJournal(file, properties.getStagingCapacity(), properties.getSuccessSampleRate(),
+                properties.getFailureSampleRate(), properties.getForceInterval().toMillis());
+    }
+
+    @Bean
+    public JournalEventListener journalEventListener(EventJournal eventJournal,
+                                                     CircuitBreakerRegistry circuitBreakerRegistry,
+                                                     BulkheadRegistry bulkheadRegistry) {
+        return new JournalEventListener(eventJournal, circuitBreakerRegistry, bulkheadRegistry);
+    }
+
+    @Bean
+    public JournalEndpoint journalEndpoint(EventJournal eventJournal) {
+        return new JournalEndpoint(eventJournal);
+    }
+}
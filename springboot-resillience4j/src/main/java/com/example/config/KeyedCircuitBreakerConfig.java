@@ -0,0 +1,38 @@
+package com.example.config;
+
+import com.example.keyed.KeyedBreakerEndpoint;
+import com.example.keyed.KeyedBreakerProperties;
+import com.example.keyed.KeyedBreakerRegistry;
+import com.example.keyed.KeyedCircuitBreakerAdvisor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+
+/**
+ * 키별 서킷 브레이커(@KeyedCircuitBreaker) 등록
+ * Advisor 는 BeanPostProcessor 단계에서 만들어지므로 static / 인프라 Bean 으로 등록하고, Registry 는 시작 후에 가져옵니다.
+ */
+@Configuration
+@EnableConfigurationProperties(KeyedBreakerProperties.class)
+public class KeyedCircuitBreakerConfig {
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static KeyedCircuitBreakerAdvisor keyedCircuitBreakerAdvisor(
+            ObjectProvider<KeyedBreakerRegistry> keyedBreakerRegistry) {
+        return new KeyedCircuitBreakerAdvisor(keyedBreakerRegistry);
+    }
+
+    @Bean
+    public KeyedBreakerRegistry keyedBreakerRegistry(KeyedBreakerProperties properties) {
+        return new KeyedBreakerRegistry(properties::config);
+    }
+
+    @Bean
+    public KeyedBreakerEndpoint keyedBreakerEndpoint(KeyedBreakerRegistry keyedBreakerRegistry) {
+        return new KeyedBreakerEndpoint(keyedBreakerRegistry);
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.config;
+
+import com.example.metrics.CallLatencyAdvisor;
+import com.example.metrics.CallLatencyMetrics;
+import com.example.metrics.LatencyEndpoint;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+
+/**
+ * 지연 시간 메트릭(HdrHistogram) 등록
+ * app.metrics.latency.enabled=false 이면 Advisor 와 /actuator/latency 를 등록하지 않습니다.
+ * Advisor 는 BeanPostProcessor 단계에서 만들어지므로 Advisor 와 Advisor 가 사용하는 Bean 은 static / 인프라 Bean 으로 등록합니다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.metrics.latency", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class LatencyMetricsConfig {
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static CallLatencyMetrics callLatencyMetrics() {
+        return new CallLatencyMetrics();
+    }
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static CallLatencyAdvisor callLatencyAdvisor(CallLatencyMetrics callLatencyMetrics,
+                                                        ObjectProvider<CircuitBreakerRegistry> circuitBreakerRegistry,
+                                                        ObjectProvider<BulkheadRegistry> bulkheadRegistry) {
+        return new CallLatencyAdvisor(callLatencyMetrics, circuitBreakerRegistry, bulkheadRegistry);
+    }
+
+    @Bean
+    public LatencyEndpoint latencyEndpoint(CallLatencyMetrics callLatencyMetrics) {
+        return new LatencyEndpoint(callLatencyMetrics);
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.config;
+
+import com.example.retry.RequestRetrier;
+import com.example.retry.RetryProperties;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 재시도 예산이 있는 재시도 실행기 등록 (인스턴스별 사용 여부는 app.retry.instances.{name}.enabled)
+ */
+@Configuration
+@EnableConfigurationProperties(RetryProperties.class)
+public class RetryConfig {
+
+    @Bean
+    public RequestRetrier requestRetrier(RetryProperties properties, CircuitBreakerRegistry circuitBreakerRegistry,
+                                         MeterRegistry meterRegistry) {
+        return new RequestRetrier(properties, circuitBreakerRegistry, meterRegistry);
+    }
+}
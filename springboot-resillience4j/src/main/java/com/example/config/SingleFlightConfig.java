@@ -0,0 +1,39 @@
+package com.example.config;
+
+import com.example.singleflight.SingleFlight;
+import com.example.singleflight.SingleFlightAdvisor;
+import com.example.singleflight.SingleFlightEndpoint;
+import com.example.singleflight.SingleFlightProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+
+/**
+ * @CircuitBreaker 호출 합치기 등록 (인스턴스별 사용 여부는 app.single-flight.instances.{name}.*)
+ * Advisor 는 BeanPostProcessor 단계에서 만들어지므로 static / 인프라 Bean 으로 등록하고, 나머지는 시작 후에 가져옵니다.
+ */
+@Configuration
+@EnableConfigurationProperties(SingleFlightProperties.class)
+public class SingleFlightConfig {
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static SingleFlightAdvisor singleFlightAdvisor(ObjectProvider<SingleFlight> singleFlight,
+                                                          ObjectProvider<SingleFlightProperties> properties) {
+        return new SingleFlightAdvisor(singleFlight, properties);
+    }
+
+    @Bean
+    public SingleFlight singleFlight(MeterRegistry meterRegistry) {
+        return new SingleFlight(meterRegistry);
+    }
+
+    @Bean
+    public SingleFlightEndpoint singleFlightEndpoint(SingleFlight singleFlight) {
+        return new SingleFlightEndpoint(singleFlight);
+    }
+}
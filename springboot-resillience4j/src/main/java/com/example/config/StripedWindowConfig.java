@@ -0,0 +1,22 @@
+package com.example.config;
+
+import com.example.circuit.StripedWindowInstaller;
+import com.example.circuit.StripedWindowProperties;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 잠금 없는 stripe 윈도우 등록 (서킷별 사용 여부는 app.striped-window.instances.{name}.enabled)
+ */
+@Configuration
+@EnableConfigurationProperties(StripedWindowProperties.class)
+public class StripedWindowConfig {
+
+    @Bean(initMethod = "install")
+    public StripedWindowInstaller stripedWindowInstaller(CircuitBreakerRegistry circuitBreakerRegistry,
+                                                         StripedWindowProperties properties) {
+        return new StripedWindowInstaller(circuitBreakerRegistry, properties);
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.config;
+
+import com.example.warmup.GuardWarmUp;
+import com.example.warmup.WarmUpEndpoint;
+import com.example.warmup.WarmUpProperties;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.bulkhead.ThreadPoolBulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 시작 워밍업 등록 (/actuator/warmup, 끝날 때까지 /actuator/health/readiness 가 OUT_OF_SERVICE)
+ * app.warm-up.enabled=false 이면 등록하지 않고, 첫 요청이 초기화 비용을 치릅니다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.warm-up", name = "enabled", havingValue = "true", matchIfMissing = true)
+@EnableConfigurationProperties(WarmUpProperties.class)
+public class WarmUpConfig {
+
+    @Bean
+    public GuardWarmUp guardWarmUp(WarmUpProperties properties, ApplicationContext applicationContext,
+                                   CircuitBreakerRegistry circuitBreakerRegistry, BulkheadRegistry bulkheadRegistry,
+                                   ThreadPoolBulkheadRegistry threadPoolBulkheadRegistry,
+                                   TimeLimiterRegistry timeLimiterRegistry) {
+        return new GuardWarmUp(properties, applicationContext, circuitBreakerRegistry, bulkheadRegistry,
+                threadPoolBulkheadRegistry, timeLimiterRegistry);
+    }
+
+    @Bean
+    public WarmUpEndpoint warmUpEndpoint(GuardWarmUp guardWarmUp) {
+        return new WarmUpEndpoint(guardWarmUp);
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.controller;
+
+import com.example.admission.AdmissionRejectedException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+/**
+ * 과부하로 거절된 요청은 외부 호출 / fallback 없이 바로 503 으로 응답
+ */
+@Slf4j
+@RestControllerAdvice
+public class AdmissionExceptionHandler {
+
+    @ExceptionHandler(AdmissionRejectedException.class)
+    public ResponseEntity<String> rejected(AdmissionRejectedException ex) {
+        log.debug("[입장 거절] priority: {}, {}", ex.getPriority(), ex.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body("[Shed] Server is overloaded (" + ex.getPriority() + ")");
+    }
+}
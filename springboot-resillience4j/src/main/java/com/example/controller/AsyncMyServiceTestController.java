@@ -0,0 +1,52 @@
+package com.example.controller;
+
+import com.example.service.AsyncMyService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Circuit Breaker 테스트 컨트롤러 (비동기)
+ * CompletableFuture 를 반환하므로 Servlet 비동기 처리로 동작하며, 외부 호출을 기다리는 동안 Tomcat 스레드를 반환합니다.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/async")
+@RequiredArgsConstructor
+public class AsyncMyServiceTestController {
+
+    private final AsyncMyService asyncMyService;
+
+    /**
+     * 1. 정상 API 호출 (항상 성공)
+     */
+    @GetMapping("/normal")
+    public CompletableFuture<ResponseEntity<String>> callNormalApi() {
+        return asyncMyService.callNormalApi().thenApply(ResponseEntity::ok);
+    }
+
+    /**
+     * 2. 실패 API 호출 (항상 실패)
+     */
+    @GetMapping("/failing")
+    public CompletableFuture<ResponseEntity<String>> callFailingApi() {
+        return asyncMyService.callFailingApi().thenApply(ResponseEntity::ok);
+    }
+
+    /**
+     * 3. 느린 API 호출 (3초 지연, TimeLimiter 타임아웃 후 fallback)
+     */
+    @GetMapping("/slow")
+    public CompletableFuture<ResponseEntity<String>> callSlowApi() {
+        long startTime = System.currentTimeMillis();
+        return asyncMyService.callSlowApi()
+                .whenComplete((response, ex) -> log.info("[테스트 완료] Async Slow API - 응답: {}, 소요 시간: {}ms",
+                        response, System.currentTimeMillis() - startTime))
+                .thenApply(ResponseEntity::ok);
+    }
+}
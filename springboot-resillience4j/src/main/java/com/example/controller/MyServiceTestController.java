@@ -1,10 +1,19 @@
 package com.example.controller;
 
+import com.example.circuit.CircuitStateStream;
+import com.example.collapser.RequestCollapser;
 import com.example.service.MyService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.IntStream;
 
 /**
  * Circuit Breaker 테스트 컨트롤러
@@ -16,6 +25,8 @@ import org.springframework.web.bind.annotation.*;
 public class MyServiceTestController {
 
     private final MyService myService;
+    private final RequestCollapser<String, String> normalApiCollapser;
+    private final CircuitStateStream circuitStateStream;
 
     /**
      * 1. 정상 API 호출 (항상 성공)
@@ -31,6 +42,34 @@ public class MyServiceTestController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 1-1. 정상 API 호출 (Request Collapsing)
+     * 동시에 들어온 요청을 묶어 한 번의 외부 호출로 처리
+     */
+    @GetMapping("/normal/collapsed")
+    public ResponseEntity<String> callNormalApiCollapsed(@RequestParam(required = false) String requestId) {
+        String id = requestId != null ? requestId : UUID.randomUUID().toString();
+        log.debug("[테스트] Normal API 배치 호출 - requestId: {}", id);
+
+        String response = normalApiCollapser.execute(id);
+
+        log.debug("[테스트 완료] Normal API 배치 호출 - 응답: {}", response);
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 1-2. 같은 요청 안에서 정상 API 를 times 번 호출 (요청 캐시)
+     * app.single-flight.instances.normalApi.request-cache 가 켜져 있으면 첫 호출만 실행됩니다. (/actuator/singleflight)
+     */
+    @GetMapping("/normal/repeated")
+    public ResponseEntity<List<String>> callNormalApiRepeated(@RequestParam(defaultValue = "3") int times) {
+        List<String> responses = IntStream.range(0, Math.max(1, Math.min(times, 20)))
+                .mapToObj(i -> myService.callNormalApi())
+                .toList();
+        return ResponseEntity.ok(responses);
+    }
+
     /**
      * 2. 실패 API 호출 (항상 실패)
      */
@@ -60,4 +99,36 @@ public class MyServiceTestController {
 
         return ResponseEntity.ok(response);
     }
+
+    /**
+     * 4. 테넌트별 API 호출 (테넌트마다 별도 서킷, failing 으로 시작하는 테넌트는 항상 실패)
+     */
+    @GetMapping("/tenants/{tenantId}")
+    public ResponseEntity<String> callTenantApi(@PathVariable String tenantId) {
+        log.debug("[테스트] Tenant API 호출 - tenant: {}", tenantId);
+
+        String response = myService.callTenantApi(tenantId);
+
+        log.debug("[테스트 완료] Tenant API - 응답: {}", response);
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Circuit Breaker 상태 확인
+     * Registry 에 등록된 모든 서킷의 상태를 조회하며, 서킷 상태를 바꾸지 않음
+     */
+    @GetMapping("/status")
+    public ResponseEntity<Map<String, Map<String, Object>>> getCircuitBreakerStatus() {
+        return ResponseEntity.ok(circuitStateStream.states());
+    }
+
+    /**
+     * Circuit Breaker 상태 스트림 (Server-Sent Events)
+     * 연결 시 전체 상태(snapshot), 이후에는 상태가 바뀐 서킷만(state) 전송
+     */
+    @GetMapping(value = "/status/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamCircuitBreakerStatus() {
+        return circuitStateStream.subscribe();
+    }
 }
@@ -0,0 +1,332 @@
+package com.example.gossip;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 노드 사이에 서킷 상태와 윈도우 호출 / 실패 수를 주고받아, 장애를 먼저 알게 된 노드의 판단을 다른 노드가 함께 사용합니다.
+ *
+ * 1. 미리 열기: 닫힌 노드들의 윈도우를 합친 실패율이 임계치를 넘거나, peer 가 자기 판단으로 서킷을 열면(L)
+ *    이 노드의 서킷도 엽니다. peer 의 알림만으로 연 서킷(G)은 다시 전파하지 않습니다.
+ * 2. 시험 요청 조정: 서킷마다 살아 있는 노드 중 probers 개 노드(rendezvous hash)만 시험 요청을 보냅니다.
+ *    나머지 노드는 담당 노드의 서킷이 열려 있는 동안 대기 시간을 다시 시작하고,
+ *    담당 노드의 서킷이 OPEN / HALF_OPEN 에서 CLOSED 로 바뀌면 함께 닫습니다.
+ * 3. peer 유실: peer-timeout 동안 메시지가 없는 peer 는 판단에서 빠지므로, 모든 peer 를 잃으면 로컬 판단만 남습니다.
+ *
+ * 상태는 interval 마다 보내고, 이 노드의 서킷 상태가 바뀌면 즉시 보냅니다.
+ * interval 은 서킷의 대기 시간(sleepWindow / wait-duration-in-open-state)보다 충분히 짧아야 합니다.
+ */
+@Slf4j
+public class BreakerGossip {
+
+    private final String nodeId;
+    private final long incarnation = System.currentTimeMillis();
+    private final BreakerControl control;
+    private final GossipTransport transport;
+    private final long intervalMillis;
+    private final long peerTimeoutMillis;
+    private final int probers;
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "breaker-gossip");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // 아래 상태는 모두 this 로 동기화
+    private final Map<String, Peer> peers = new HashMap<>();
+    private final Deque<Transition> transitions = new ArrayDeque<>();
+    /** 다른 노드의 알림으로 연 서킷 (닫히면 제거) */
+    private final Set<String> induced = new HashSet<>();
+    private Map<String, String> lastSentStates = Collections.emptyMap();
+    private long nextSeq;
+
+    public BreakerGossip(String nodeId, BreakerControl control, GossipTransport transport,
+                         long intervalMillis, long peerTimeoutMillis, int probers) {
+        if (!GossipMessage.isToken(nodeId)) {
+            throw new IllegalArgumentException("Gossip node id must not be empty or contain whitespace - '" + nodeId + "'");
+        }
+        this.nodeId = nodeId;
+        this.control = control;
+        this.transport = transport;
+        this.intervalMillis = intervalMillis;
+        this.peerTimeoutMillis = peerTimeoutMillis;
+        this.probers = Math.max(1, probers);
+    }
+
+    public void start() {
+        transport.start(this::receive);
+        scheduler.scheduleWithFixedDelay(() -> tick(true), 0, intervalMillis, TimeUnit.MILLISECONDS);
+        log.info("Breaker gossip started - node {}, peers {}", nodeId, transport.getPeers());
+    }
+
+    public void stop() {
+        scheduler.shutdownNow();
+        transport.close();
+    }
+
+    /**
+     * 이 노드의 서킷 상태가 바뀌었을 때 호출하면 다음 interval 을 기다리지 않고 판단하고 전송합니다.
+     */
+    public void localStateChanged() {
+        requestTick();
+    }
+
+    /**
+     * 살아 있는 peer 와 peer 별 서킷 상태 (조회용)
+     */
+    public synchronized Map<String, Object> view() {
+        Map<String, Object> view = new LinkedHashMap<>();
+        view.put("nodeId", nodeId);
+        Map<String, Object> peerViews = new TreeMap<>();
+        long now = System.currentTimeMillis();
+        for (Map.Entry<String, Peer> entry : peers.entrySet()) {
+            Map<String, Object> peerView = new LinkedHashMap<>();
+            peerView.put("lastSeenMillisAgo", now - entry.getValue().lastSeen);
+            Map<String, String> states = new TreeMap<>();
+            for (BreakerReport report : entry.getValue().reports.values()) {
+                states.put(report.name(), report.state() + (report.local() ? "" : " (gossip)"));
+            }
+            peerView.put("breakers", states);
+            peerViews.put(entry.getKey(), peerView);
+        }
+        view.put("peers", peerViews);
+        Map<String, Boolean> probing = new TreeMap<>();
+        for (BreakerControl.Breaker breaker : control.breakers()) {
+            probing.put(breaker.name(), isProber(nodeId, breaker.name()));
+        }
+        view.put("prober", probing);
+        return view;
+    }
+
+    private void receive(GossipMessage message) {
+        if (nodeId.equals(message.nodeId())) {
+            return;
+        }
+        boolean changed;
+        synchronized (this) {
+            changed = update(message, System.currentTimeMillis());
+        }
+        if (changed) {
+            requestTick();
+        }
+    }
+
+    private void requestTick() {
+        try {
+            scheduler.execute(() -> tick(false));
+        } catch (RejectedExecutionException e) {
+            // 종료 중
+        }
+    }
+
+    private boolean update(GossipMessage message, long now) {
+        Peer peer = peers.get(message.nodeId());
+        if (peer == null || message.incarnation() > peer.incarnation) {
+            if (peer == null) {
+                log.info("Gossip peer {} joined", message.nodeId());
+            }
+            peer = new Peer(message.incarnation());
+            peers.put(message.nodeId(), peer);
+        } else if (message.incarnation() < peer.incarnation || message.seq() <= peer.seq) {
+            // 늦게 도착한 이전 메시지
+            return false;
+        }
+        peer.seq = message.seq();
+        peer.lastSeen = now;
+
+        boolean changed = false;
+        for (BreakerReport report : message.reports()) {
+            BreakerReport previous = peer.reports.put(report.name(), report);
+            String from = previous != null ? previous.state() : null;
+            if (!report.state().equals(from)) {
+                transitions.add(new Transition(message.nodeId(), from, report));
+                changed = true;
+            }
+        }
+        return changed;
+    }
+
+    private synchronized void tick(boolean heartbeat) {
+        try {
+            long now = System.currentTimeMillis();
+            expirePeers(now);
+
+            Map<String, BreakerControl.Breaker> local = new HashMap<>();
+            for (BreakerControl.Breaker breaker : control.breakers()) {
+                local.put(breaker.name(), breaker);
+            }
+            applyTransitions(local);
+            openOnClusterFailureRate(local);
+            holdWhileProberIsOpen(local);
+            send(heartbeat);
+        } catch (RuntimeException e) {
+            log.warn("Breaker gossip tick failed", e);
+        }
+    }
+
+    private void expirePeers(long now) {
+        Iterator<Map.Entry<String, Peer>> iterator = peers.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<String, Peer> entry = iterator.next();
+            if (now - entry.getValue().lastSeen > peerTimeoutMillis) {
+                iterator.remove();
+                log.warn("Gossip peer {} lost - its breaker states are no longer used", entry.getKey());
+            }
+        }
+    }
+
+    private void applyTransitions(Map<String, BreakerControl.Breaker> local) {
+        Transition transition;
+        while ((transition = transitions.poll()) != null) {
+            BreakerReport report = transition.report;
+            BreakerControl.Breaker breaker = local.get(report.name());
+            if (breaker == null || !peers.containsKey(transition.nodeId)) {
+                continue;
+            }
+            if (report.isOpen() && report.local() && !BreakerReport.isOpen(transition.from)
+                    && BreakerReport.CLOSED.equals(breaker.state())) {
+                if (control.open(breaker.name())) {
+                    induced.add(breaker.name());
+                    log.info("Circuit {} opened - peer {} opened it", breaker.name(), transition.nodeId);
+                }
+            } else if (BreakerReport.isOpen(transition.from) && BreakerReport.CLOSED.equals(report.state())
+                    && BreakerReport.isOpen(breaker.state()) && isProber(transition.nodeId, breaker.name())) {
+                control.close(breaker.name());
+                induced.remove(breaker.name());
+                log.info("Circuit {} closed - probe on peer {} succeeded", breaker.name(), transition.nodeId);
+            }
+        }
+    }
+
+    /**
+     * 각 노드의 윈도우만으로는 최소 호출 수에 못 미쳐도, 닫힌 노드들의 윈도우를 합쳐 실패율을 판단합니다.
+     */
+    private void openOnClusterFailureRate(Map<String, BreakerControl.Breaker> local) {
+        for (BreakerControl.Breaker breaker : local.values()) {
+            if (!BreakerReport.CLOSED.equals(breaker.state())) {
+                continue;
+            }
+            long calls = breaker.calls();
+            long failures = breaker.failures();
+            for (Peer peer : peers.values()) {
+                BreakerReport report = peer.reports.get(breaker.name());
+                if (report != null && BreakerReport.CLOSED.equals(report.state())) {
+                    calls += report.calls();
+                    failures += report.failures();
+                }
+            }
+            if (calls > breaker.calls() && calls >= breaker.minimumCalls() && failures > 0
+                    && failures * 100f >= breaker.failureRateThreshold() * calls) {
+                // 이 노드의 윈도우도 포함한 판단이므로 직접 연 것(L)으로 알려 다른 노드도 열게 함
+                if (control.open(breaker.name())) {
+                    log.info("Circuit {} opened - {} of {} calls failed across the cluster", breaker.name(), failures, calls);
+                }
+            }
+        }
+    }
+
+    private void holdWhileProberIsOpen(Map<String, BreakerControl.Breaker> local) {
+        for (BreakerControl.Breaker breaker : local.values()) {
+            String name = breaker.name();
+            if (!BreakerReport.isOpen(breaker.state()) || isProber(nodeId, name)) {
+                continue;
+            }
+            for (String member : probers(name)) {
+                Peer peer = peers.get(member);
+                BreakerReport report = peer != null ? peer.reports.get(name) : null;
+                if (report != null && report.isOpen()) {
+                    control.holdOpen(name);
+                    break;
+                }
+            }
+        }
+    }
+
+    private void send(boolean heartbeat) {
+        List<BreakerReport> reports = new ArrayList<>();
+        Map<String, String> states = new HashMap<>();
+        for (BreakerControl.Breaker breaker : control.breakers()) {
+            String name = breaker.name();
+            if (BreakerReport.CLOSED.equals(breaker.state())) {
+                induced.remove(name);
+            }
+            states.put(name, breaker.state());
+            reports.add(new BreakerReport(name, breaker.state(), !induced.contains(name),
+                    breaker.calls(), breaker.failures()));
+        }
+        if (!heartbeat && states.equals(lastSentStates)) {
+            return;
+        }
+        lastSentStates = states;
+        List<byte[]> datagrams = GossipMessage.encode(nodeId, incarnation, nextSeq, reports);
+        nextSeq += datagrams.size();
+        for (byte[] datagram : datagrams) {
+            transport.send(datagram);
+        }
+    }
+
+    private boolean isProber(String member, String name) {
+        return probers(name).contains(member);
+    }
+
+    /**
+     * 살아 있는 노드(자신 포함) 중 서킷별 점수가 가장 높은 probers 개 노드 (모든 노드가 같은 결과를 계산)
+     */
+    private List<String> probers(String name) {
+        List<String> members = new ArrayList<>(peers.keySet());
+        members.add(nodeId);
+        members.sort((a, b) -> {
+            int compare = Long.compare(score(b, name), score(a, name));
+            return compare != 0 ? compare : a.compareTo(b);
+        });
+        return members.subList(0, Math.min(probers, members.size()));
+    }
+
+    private static long score(String member, String name) {
+        // splitmix64 finalizer
+        long z = ((long) member.hashCode() << 32) ^ (name.hashCode() & 0xffffffffL);
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    private static final class Peer {
+        final long incarnation;
+        final Map<String, BreakerReport> reports = new HashMap<>();
+        long seq = -1;
+        long lastSeen;
+
+        Peer(long incarnation) {
+            this.incarnation = incarnation;
+        }
+    }
+
+    private static final class Transition {
+        final String nodeId;
+        final String from;
+        final BreakerReport report;
+
+        Transition(String nodeId, String from, BreakerReport report) {
+            this.nodeId = nodeId;
+            this.from = from;
+            this.report = report;
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.gossip;
+
+/**
+ * 다른 노드에 알리는 서킷 하나의 상태와 현재 윈도우의 호출 / 실패 수
+ *
+ * @param local 이 노드의 판단으로 열렸는지 (false: 다른 노드의 알림으로 열림)
+ */
+public record BreakerReport(String name, String state, boolean local, long calls, long failures) {
+
+    public static final String CLOSED = "CLOSED";
+    public static final String OPEN = "OPEN";
+    public static final String HALF_OPEN = "HALF_OPEN";
+
+    public boolean isOpen() {
+        return isOpen(state);
+    }
+
+    /** OPEN 또는 HALF_OPEN (시험 요청 중) */
+    public static boolean isOpen(String state) {
+        return OPEN.equals(state) || HALF_OPEN.equals(state);
+    }
+}
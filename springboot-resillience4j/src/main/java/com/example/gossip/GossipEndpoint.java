@@ -0,0 +1,23 @@
+package com.example.gossip;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+
+import java.util.Map;
+
+/**
+ * GET /actuator/gossip
+ * 살아 있는 peer 와 peer 별 서킷 상태, 서킷별 시험 요청 담당 여부
+ */
+@WebEndpoint(id = "gossip")
+@RequiredArgsConstructor
+public class GossipEndpoint {
+
+    private final BreakerGossip breakerGossip;
+
+    @ReadOperation
+    public Map<String, Object> view() {
+        return breakerGossip.view();
+    }
+}
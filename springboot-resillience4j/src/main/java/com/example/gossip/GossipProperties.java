@@ -0,0 +1,31 @@
+package com.example.gossip;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 노드 간 서킷 상태 공유 설정 (app.gossip.*)
+ * 시작할 때 한 번 적용되며, 값을 바꾸면 재시작해야 반영됩니다.
+ */
+@Data
+@ConfigurationProperties(prefix = "app.gossip")
+public class GossipProperties {
+
+    private boolean enabled = false;
+    /** 노드 ID (비어 있으면 호스트명:포트) */
+    private String nodeId = "";
+    /** UDP 포트 */
+    private int port = 7800;
+    /** 다른 노드 목록 (host:port, 자기 자신이 포함되어도 됨) */
+    private List<String> peers = new ArrayList<>();
+    /** 상태 전송 주기 (wait-duration-in-open-state 보다 충분히 짧게) */
+    private Duration interval = Duration.ofMillis(500);
+    /** 이 시간 동안 메시지가 없는 peer 는 판단에서 제외 (로컬 판단으로 복귀) */
+    private Duration peerTimeout = Duration.ofSeconds(2);
+    /** 서킷마다 시험 요청(half-open)을 보내는 노드 수 */
+    private int probers = 1;
+}
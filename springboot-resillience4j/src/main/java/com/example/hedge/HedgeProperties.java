@@ -0,0 +1,37 @@
+package com.example.hedge;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Hedged Request 설정 (app.hedge.instances.{name}.*)
+ * Config Server 설정 변경 후 /actuator/refresh 호출 시 다음 호출부터 반영됩니다.
+ */
+@Data
+@ConfigurationProperties(prefix = "app.hedge")
+public class HedgeProperties {
+
+    private Map<String, Settings> instances = new HashMap<>();
+
+    /** 첫 시도와 추가 시도를 실행하는 스레드 풀 크기 (모든 인스턴스 공용, 재시작해야 반영) */
+    private int maxConcurrentAttempts = 50;
+
+    public Settings get(String name) {
+        return instances.getOrDefault(name, new Settings());
+    }
+
+    @Data
+    public static class Settings {
+        private boolean enabled = false;
+        /** hedge 시점을 정하는 지연 시간 백분위 (예: 95 = p95) */
+        private int percentile = 95;
+        /** 측정값이 없거나 너무 작을 때 사용하는 최소 대기 시간 */
+        private Duration minDelay = Duration.ofMillis(50);
+        /** 전체 호출 대비 허용하는 추가 호출 비율 (%) */
+        private int budgetPercent = 10;
+    }
+}
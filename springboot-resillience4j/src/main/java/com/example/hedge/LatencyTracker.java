@@ -0,0 +1,59 @@
+package com.example.hedge;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 최근 N개 호출의 지연 시간으로 백분위를 계산하는 링 버퍼
+ *
+ * 기록은 락 없이 슬롯 하나를 덮어쓰고, 백분위는 최대 100ms 에 한 번만 정렬해 다시 계산합니다.
+ */
+public class LatencyTracker {
+
+    private static final long REFRESH_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private final AtomicLongArray samples;
+    private final AtomicLong index = new AtomicLong();
+    private final AtomicLong nextRefreshNanos = new AtomicLong();
+
+    private volatile int cachedPercentile = -1;
+    private volatile long cachedValueMillis;
+
+    public LatencyTracker(int size) {
+        this.samples = new AtomicLongArray(size);
+    }
+
+    public void record(long latencyMillis) {
+        int slot = (int) (index.getAndIncrement() % samples.length());
+        samples.set(slot, latencyMillis);
+    }
+
+    /**
+     * 최근 샘플의 백분위 값(ms). 샘플이 없으면 0
+     */
+    public long percentileMillis(int percentile) {
+        long now = System.nanoTime();
+        long next = nextRefreshNanos.get();
+        if (percentile != cachedPercentile || (now - next >= 0 && nextRefreshNanos.compareAndSet(next, now + REFRESH_INTERVAL_NANOS))) {
+            cachedValueMillis = compute(percentile);
+            cachedPercentile = percentile;
+        }
+        return cachedValueMillis;
+    }
+
+    private long compute(int percentile) {
+        int count = (int) Math.min(index.get(), samples.length());
+        if (count == 0) {
+            return 0;
+        }
+        long[] copy = new long[count];
+        for (int i = 0; i < count; i++) {
+            copy[i] = samples.get(i);
+        }
+        Arrays.sort(copy);
+        int rank = (int) Math.ceil(percentile / 100.0 * count) - 1;
+        return copy[Math.max(0, Math.min(count - 1, rank))];
+    }
+}
@@ -0,0 +1,165 @@
+package com.example.hedge;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.core.task.AsyncTaskExecutor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Hedged Request 실행기
+ *
+ * 첫 시도가 최근 호출 지연 시간의 백분위(기본 p95)보다 오래 걸리면 두 번째 시도를 보내고,
+ * 먼저 성공한 응답을 사용한 뒤 나머지 시도는 취소(interrupt)합니다.
+ *
+ * - @CircuitBreaker 메소드 안에서 호출하므로 서킷 브레이커에는 hedge 를 포함해 1회 호출로 집계됩니다.
+ * - 추가 시도는 HedgeBudget 으로 전체 호출의 budget-percent% 이내로 제한합니다.
+ * - 첫 시도가 대기 시간 전에 실패하면 hedge 하지 않고 그대로 실패를 반환합니다. (서킷 브레이커 판단에 사용)
+ * - hedge 대기 시간은 첫 시도 자체의 지연 시간 분포로 정합니다. (hedge 대기와 추가 시도 시간은 포함하지 않음)
+ * - 실행 풀이 가득 차면 첫 시도는 hedge 없이 호출 스레드에서 실행하고, 추가 시도는 보내지 않되 예산 토큰은 사용한 것으로 둡니다.
+ *   (풀이 포화된 동안 쌓인 토큰으로 회복 직후 hedge 가 몰리지 않도록)
+ *
+ * 메트릭: hedge.calls{name, result=total|hedged|hedge_won|budget_exhausted|rejected}
+ */
+public class RequestHedger {
+
+    private static final int MAX_BURST_HEDGES = 10;
+    private static final int LATENCY_SAMPLES = 1024;
+
+    private final AsyncTaskExecutor executor;
+    private final HedgeProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, InstanceHedge> instances = new ConcurrentHashMap<>();
+
+    public RequestHedger(AsyncTaskExecutor executor, HedgeProperties properties, MeterRegistry meterRegistry) {
+        this.executor = executor;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public <T> T execute(String name, Supplier<T> call) {
+        HedgeProperties.Settings settings = properties.get(name);
+        if (!settings.isEnabled()) {
+            return call.get();
+        }
+        InstanceHedge hedge = instances.computeIfAbsent(name, InstanceHedge::new);
+        hedge.total.increment();
+        hedge.budget.deposit(settings.getBudgetPercent());
+
+        CompletionService<T> completionService = new ExecutorCompletionService<>(executor);
+        List<Future<T>> attempts = new ArrayList<>(2);
+        try {
+            try {
+                attempts.add(completionService.submit(() -> hedge.timed(call)));
+            } catch (RejectedExecutionException e) {
+                hedge.rejected.increment();
+                return hedge.timed(call);
+            }
+            Future<T> completed = completionService.poll(hedge.delayMillis(settings), TimeUnit.MILLISECONDS);
+            if (completed == null) {
+                if (hedge.budget.tryAcquire()) {
+                    try {
+                        attempts.add(completionService.submit(call::get));
+                        hedge.hedged.increment();
+                    } catch (RejectedExecutionException e) {
+                        hedge.rejected.increment();
+                    }
+                } else {
+                    hedge.budgetExhausted.increment();
+                }
+                completed = completionService.take();
+            }
+            T result;
+            try {
+                result = completed.get();
+            } catch (ExecutionException e) {
+                if (attempts.size() < 2) {
+                    throw unwrap(e);
+                }
+                // 한쪽이 실패하면 남은 시도의 결과를 사용
+                completed = completionService.take();
+                result = getOrThrow(completed);
+            }
+            if (completed != attempts.get(0)) {
+                hedge.hedgeWon.increment();
+            }
+            return result;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Hedged call interrupted", e);
+        } finally {
+            attempts.forEach(attempt -> attempt.cancel(true));
+        }
+    }
+
+    private static <T> T getOrThrow(Future<T> future) throws InterruptedException {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        }
+    }
+
+    private static RuntimeException unwrap(ExecutionException e) {
+        Throwable cause = e.getCause();
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return new IllegalStateException(cause);
+    }
+
+    private final class InstanceHedge {
+        private final HedgeBudget budget = new HedgeBudget(MAX_BURST_HEDGES);
+        private final LatencyTracker latency = new LatencyTracker(LATENCY_SAMPLES);
+        private final Counter total;
+        private final Counter hedged;
+        private final Counter hedgeWon;
+        private final Counter budgetExhausted;
+        private final Counter rejected;
+
+        private InstanceHedge(String name) {
+            this.total = counter(name, "total");
+            this.hedged = counter(name, "hedged");
+            this.hedgeWon = counter(name, "hedge_won");
+            this.budgetExhausted = counter(name, "budget_exhausted");
+            this.rejected = counter(name, "rejected");
+        }
+
+        /**
+         * 첫 시도를 실행하고 그 지연 시간을 기록합니다.
+         * hedge 가 먼저 성공해 취소(interrupt)되면 취소될 때까지의 시간을 기록해, 느린 호출이 분포에서 빠지지 않도록 합니다.
+         */
+        private <T> T timed(Supplier<T> call) {
+            long startNanos = System.nanoTime();
+            try {
+                return call.get();
+            } finally {
+                latency.record(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+            }
+        }
+
+        private long delayMillis(HedgeProperties.Settings settings) {
+            return Math.max(settings.getMinDelay().toMillis(), latency.percentileMillis(settings.getPercentile()));
+        }
+
+        private Counter counter(String name, String result) {
+            return Counter.builder("hedge.calls")
+                    .tag("name", name)
+                    .tag("result", result)
+                    .register(meterRegistry);
+        }
+    }
+}
@@ -0,0 +1,226 @@
+package com.example.http;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.hc.client5.http.ConnectTimeoutException;
+import org.apache.hc.client5.http.HttpResponseException;
+import org.apache.hc.client5.http.async.methods.SimpleHttpRequest;
+import org.apache.hc.client5.http.async.methods.SimpleRequestProducer;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManager;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManagerBuilder;
+import org.apache.hc.core5.concurrent.DefaultThreadFactory;
+import org.apache.hc.core5.concurrent.FutureCallback;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.pool.PoolStats;
+import org.apache.hc.core5.reactor.IOReactorConfig;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.SocketTimeoutException;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeoutException;
+import java.util.function.ToIntFunction;
+
+/**
+ * 서킷 브레이커 인스턴스별 비동기 HTTP 클라이언트 (Apache HttpClient 5, 인스턴스마다 별도 커넥션 풀과 I/O 리액터)
+ *
+ * - 응답을 기다리는 동안 스레드를 점유하지 않으므로, AsyncMyService 의 TimeLimiter / Bulkhead 와 그대로 맞물립니다.
+ * - 반환된 CompletableFuture 가 응답 전에 완료되면(취소, orTimeout 타임아웃 등) 클라이언트의 요청 Future 를 취소해
+ *   진행 중인 요청을 중단하고 커넥션을 돌려받습니다.
+ * - 풀 대기(pool-acquire-timeout), 연결, 응답 타임아웃은 원인별로 external.http.failures 에 기록됩니다.
+ * - 자동 재시도는 끕니다. (재시도는 실패를 서킷 브레이커에서 감추고 장애 중인 서비스의 부하를 늘림)
+ *
+ * 메트릭: external.http.requests{instance}, external.http.failures{instance, reason},
+ *        external.http.pool.connections{instance, state=leased|available|pending|max}
+ */
+public class ExternalHttpClients implements DisposableBean {
+
+    public enum Failure {
+        /** 풀에서 커넥션을 얻지 못함 (pool-acquire-timeout 초과) */
+        POOL_EXHAUSTED,
+        CONNECT_TIMEOUT,
+        READ_TIMEOUT,
+        /** 연결 거부, 연결 끊김, 응답 크기 초과 등 */
+        IO_ERROR,
+        /** 2xx 가 아닌 응답 */
+        HTTP_ERROR;
+
+        String tag() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    private final ExternalHttpProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentMap<String, InstanceClient> clients = new ConcurrentHashMap<>();
+
+    public ExternalHttpClients(ExternalHttpProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 요청을 보내고 응답 본문을 줄 단위로 반환합니다.
+     * 실패 시 future 는 RuntimeException(2xx 가 아닌 응답) 또는 UncheckedIOException(타임아웃, 연결 오류)으로 완료됩니다.
+     * 응답 전에 future 를 취소하거나 다른 값/예외로 완료하면 요청도 취소됩니다.
+     *
+     * @param instance 서킷 브레이커 인스턴스 (커넥션 풀 단위)
+     */
+    public CompletableFuture<List<String>> execute(String instance, SimpleHttpRequest request) {
+        InstanceClient client = clients.computeIfAbsent(instance, this::create);
+        client.requests.increment();
+
+        CompletableFuture<List<String>> result = new CompletableFuture<>();
+        Future<List<String>> exchange = client.httpClient.execute(
+                SimpleRequestProducer.create(request),
+                new LineResponseConsumer(client.settings.getMaxResponseChars()),
+                new FutureCallback<>() {
+                    @Override
+                    public void completed(List<String> lines) {
+                        result.complete(lines);
+                    }
+
+                    @Override
+                    public void failed(Exception ex) {
+                        result.completeExceptionally(failure(client, ex));
+                    }
+
+                    @Override
+                    public void cancelled() {
+                        result.cancel(false);
+                    }
+                });
+        // 콜백으로 완료된 경우 exchange 는 이미 끝나 있으므로, 호출자가 먼저 완료한 경우에만 요청을 취소
+        result.whenComplete((lines, ex) -> {
+            if (!exchange.isDone()) {
+                exchange.cancel(true);
+            }
+        });
+        return result;
+    }
+
+    private RuntimeException failure(InstanceClient client, Exception ex) {
+        Failure failure = classify(ex);
+        client.failure(failure).increment();
+        if (ex instanceof HttpResponseException response) {
+            return new RuntimeException("External Service Failure: " + response.getStatusCode() + " " + response.getReasonPhrase());
+        }
+        String message = "External Service Failure: " + failure.tag() + " [" + client.instance + "]";
+        return ex instanceof IOException io ? new UncheckedIOException(message, io) : new RuntimeException(message, ex);
+    }
+
+    static Failure classify(Exception ex) {
+        // ConnectTimeoutException 은 SocketTimeoutException 의 하위 클래스이므로 먼저 확인
+        if (ex instanceof ConnectTimeoutException) {
+            return Failure.CONNECT_TIMEOUT;
+        }
+        if (ex instanceof SocketTimeoutException) {
+            return Failure.READ_TIMEOUT;
+        }
+        // 풀 대기 시간 초과는 DeadlineTimeoutException (TimeoutException 의 하위 클래스)
+        if (ex instanceof TimeoutException) {
+            return Failure.POOL_EXHAUSTED;
+        }
+        if (ex instanceof HttpResponseException) {
+            return Failure.HTTP_ERROR;
+        }
+        return Failure.IO_ERROR;
+    }
+
+    private InstanceClient create(String instance) {
+        ExternalHttpProperties.Settings settings = properties.get(instance);
+
+        PoolingAsyncClientConnectionManager connectionManager = PoolingAsyncClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(settings.getMaxConnections())
+                .setMaxConnPerRoute(settings.getMaxConnections())
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.of(settings.getConnectTimeout()))
+                        // 오래 쉬었던 커넥션은 재사용 전에 끊겼는지 확인
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(1))
+                        .build())
+                .build();
+
+        TimeValue keepAlive = TimeValue.of(settings.getKeepAlive());
+        CloseableHttpAsyncClient httpClient = HttpAsyncClients.custom()
+                .setConnectionManager(connectionManager)
+                .setIOReactorConfig(IOReactorConfig.custom()
+                        .setIoThreadCount(settings.getIoThreads())
+                        .build())
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.of(settings.getPoolAcquireTimeout()))
+                        .setResponseTimeout(Timeout.of(settings.getResponseTimeout()))
+                        // 서버가 Keep-Alive 헤더를 보내지 않을 때 사용
+                        .setConnectionKeepAlive(keepAlive)
+                        .build())
+                .evictExpiredConnections()
+                .evictIdleConnections(keepAlive)
+                .disableAutomaticRetries()
+                .setThreadFactory(new DefaultThreadFactory("external-http-" + instance, true))
+                .build();
+        httpClient.start();
+
+        InstanceClient client = new InstanceClient(instance, settings, httpClient);
+        poolGauge(instance, "leased", connectionManager, PoolStats::getLeased);
+        poolGauge(instance, "available", connectionManager, PoolStats::getAvailable);
+        poolGauge(instance, "pending", connectionManager, PoolStats::getPending);
+        poolGauge(instance, "max", connectionManager, PoolStats::getMax);
+        return client;
+    }
+
+    private void poolGauge(String instance, String state, PoolingAsyncClientConnectionManager connectionManager,
+                           ToIntFunction<PoolStats> value) {
+        Gauge.builder("external.http.pool.connections", connectionManager, pool -> value.applyAsInt(pool.getTotalStats()))
+                .description("Connection pool state (pending: requests waiting for a connection)")
+                .tag("instance", instance)
+                .tag("state", state)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void destroy() {
+        for (InstanceClient client : clients.values()) {
+            client.httpClient.close(CloseMode.GRACEFUL);
+        }
+    }
+
+    private final class InstanceClient {
+        final String instance;
+        final ExternalHttpProperties.Settings settings;
+        final CloseableHttpAsyncClient httpClient;
+        final Counter requests;
+        final Counter[] failures = new Counter[Failure.values().length];
+
+        InstanceClient(String instance, ExternalHttpProperties.Settings settings, CloseableHttpAsyncClient httpClient) {
+            this.instance = instance;
+            this.settings = settings;
+            this.httpClient = httpClient;
+            this.requests = Counter.builder("external.http.requests")
+                    .tag("instance", instance)
+                    .register(meterRegistry);
+            for (Failure failure : Failure.values()) {
+                failures[failure.ordinal()] = Counter.builder("external.http.failures")
+                        .description("External HTTP failures by reason")
+                        .tag("instance", instance)
+                        .tag("reason", failure.tag())
+                        .register(meterRegistry);
+            }
+        }
+
+        Counter failure(Failure failure) {
+            return failures[failure.ordinal()];
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.http;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 외부 HTTP 호출 설정 (http 프로필)
+ * 서킷 브레이커 인스턴스마다 별도 커넥션 풀을 사용하며, app.external.http.instances.{name}.* 로 인스턴스별 값을 지정합니다.
+ * 풀은 인스턴스의 첫 호출 때 만들어지므로 값을 바꾸면 재시작해야 반영됩니다.
+ */
+@Data
+@ConfigurationProperties(prefix = "app.external.http")
+public class ExternalHttpProperties {
+
+    private Map<String, Settings> instances = new HashMap<>();
+
+    public Settings get(String name) {
+        return instances.getOrDefault(name, new Settings());
+    }
+
+    @Data
+    public static class Settings {
+        /** 풀의 최대 커넥션 수 (Bulkhead max-concurrent-calls 보다 작으면 풀 대기가 생김) */
+        private int maxConnections = 10;
+        /** 풀에서 커넥션을 얻기까지 기다리는 최대 시간 */
+        private Duration poolAcquireTimeout = Duration.ofMillis(100);
+        private Duration connectTimeout = Duration.ofMillis(500);
+        /** 응답 데이터 사이의 최대 대기 시간 (TimeLimiter timeout-duration 보다 길면 TimeLimiter 가 먼저 취소) */
+        private Duration responseTimeout = Duration.ofSeconds(2);
+        /** 서버가 Keep-Alive 헤더를 보내지 않을 때 유휴 커넥션을 유지하는 시간 */
+        private Duration keepAlive = Duration.ofSeconds(30);
+        /** 응답 본문 최대 길이 (초과하면 읽기를 중단하고 실패 처리) */
+        private int maxResponseChars = 64 * 1024;
+        /** I/O 리액터 스레드 수 (요청 수와 관계없이 이 스레드들이 모든 커넥션을 처리) */
+        private int ioThreads = 1;
+    }
+}
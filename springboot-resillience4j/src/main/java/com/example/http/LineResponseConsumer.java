@@ -0,0 +1,99 @@
+package com.example.http;
+
+import org.apache.hc.client5.http.HttpResponseException;
+import org.apache.hc.client5.http.async.methods.AbstractCharResponseConsumer;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.HttpResponse;
+
+import java.io.IOException;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 응답 본문을 줄 단위로 나눠 List 로 모으는 Consumer
+ * 결과는 본문 전체의 줄 목록이므로 호출자에게 스트리밍되지는 않습니다. 다만 본문을 하나의 문자열로 모은 뒤 나누지 않고
+ * 도착한 데이터만큼 바로 줄로 나누므로 본문 사본을 따로 두지 않으며, 누적 크기가 maxChars 를 넘으면 본문 끝을 기다리지 않고 즉시 실패합니다.
+ * 2xx 가 아닌 응답은 본문을 버리고 HttpResponseException 으로 완료합니다.
+ */
+class LineResponseConsumer extends AbstractCharResponseConsumer<List<String>> {
+
+    private final int maxChars;
+    private final List<String> lines = new ArrayList<>();
+    private final StringBuilder line = new StringBuilder();
+    private int status;
+    private String reasonPhrase;
+    private int totalChars;
+
+    LineResponseConsumer(int maxChars) {
+        this.maxChars = maxChars;
+    }
+
+    @Override
+    protected void start(HttpResponse response, ContentType contentType) {
+        status = response.getCode();
+        reasonPhrase = response.getReasonPhrase();
+        Charset charset = contentType != null ? contentType.getCharset() : null;
+        setCharset(charset != null ? charset : StandardCharsets.UTF_8);
+    }
+
+    @Override
+    protected int capacityIncrement() {
+        return Integer.MAX_VALUE;
+    }
+
+    @Override
+    protected void data(CharBuffer src, boolean endOfStream) throws IOException {
+        if (!isSuccess()) {
+            // 커넥션을 재사용할 수 있도록 본문은 끝까지 읽고 버림
+            src.position(src.limit());
+            return;
+        }
+        totalChars += src.remaining();
+        if (totalChars > maxChars) {
+            throw new IOException("response exceeds " + maxChars + " chars");
+        }
+        while (src.hasRemaining()) {
+            char c = src.get();
+            if (c == '\n') {
+                endLine();
+            } else {
+                line.append(c);
+            }
+        }
+        if (endOfStream && !line.isEmpty()) {
+            endLine();
+        }
+    }
+
+    private void endLine() {
+        int length = line.length();
+        if (length > 0 && line.charAt(length - 1) == '\r') {
+            line.setLength(length - 1);
+        }
+        lines.add(line.toString());
+        line.setLength(0);
+    }
+
+    @Override
+    protected List<String> buildResult() throws IOException {
+        if (!isSuccess()) {
+            throw new HttpResponseException(status, reasonPhrase);
+        }
+        if (!line.isEmpty()) {
+            endLine();
+        }
+        return lines;
+    }
+
+    private boolean isSuccess() {
+        return status >= 200 && status < 300;
+    }
+
+    @Override
+    public void releaseResources() {
+        line.setLength(0);
+    }
+}
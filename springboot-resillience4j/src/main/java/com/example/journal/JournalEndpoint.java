@@ -0,0 +1,44 @@
+package com.example.journal;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+import org.springframework.lang.Nullable;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * GET /actuator/journal?breaker=&from=&to=&type=&limit=
+ * - journal: 파일 위치와 크기, 기록 / 보관 / 버린 이벤트 수, 재시작 때 이어받은 이벤트 수
+ * - events: 조건에 맞는 이벤트 (최근 순, 재시작 전 이벤트 포함)
+ *   from / to: epoch ms, ISO-8601 시각 또는 기간(PT10M = 10분 전), type: TRANSITION / REJECTED / TIMEOUT / FAILURE / SUCCESS
+ */
+@WebEndpoint(id = "journal")
+@RequiredArgsConstructor
+public class JournalEndpoint {
+
+    private static final int DEFAULT_LIMIT = 100;
+    private static final int MAX_LIMIT = 10000;
+
+    private final EventJournal journal;
+
+    @ReadOperation
+    public Map<String, Object> journal(@Nullable String breaker, @Nullable String from, @Nullable String to,
+                                       @Nullable String type, @Nullable Integer limit) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        try {
+            result.put("journal", journal.stats());
+            result.put("events", journal.query(breaker,
+                    EventJournal.parseTime(from, 0L),
+                    EventJournal.parseTime(to, Long.MAX_VALUE),
+                    type != null ? JournalEventType.valueOf(type.trim().toUpperCase(Locale.ROOT)) : null,
+                    Math.min(limit != null ? limit : DEFAULT_LIMIT, MAX_LIMIT)));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidEndpointRequestException(e.getMessage(), e.getMessage());
+        }
+        return result;
+    }
+}
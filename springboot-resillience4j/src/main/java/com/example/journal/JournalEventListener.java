@@ -0,0 +1,65 @@
+package com.example.journal;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * CircuitBreaker / Bulkhead 이벤트를 EventJournal 에 기록합니다.
+ *
+ * - 상태 전이(detail = 바뀐 상태), 서킷 거절(CIRCUIT_OPEN), Bulkhead 거절(BULKHEAD, 이름 = Bulkhead 이름)
+ * - 실패 중 TimeoutException(TimeLimiter)은 TIMEOUT, 나머지는 FAILURE(detail = 예외 클래스 이름, 샘플링)
+ * - 성공은 샘플링 비율만큼 기록합니다.
+ * 이벤트 객체는 /actuator/circuitbreakerevents 를 위해 Resilience4j 가 이미 만들고 있으므로 기록에 추가 할당은 없습니다.
+ * 새로 생성되거나 CircuitBreakerReconfigurer 가 교체한 인스턴스도 Registry 이벤트로 구독합니다.
+ */
+@RequiredArgsConstructor
+public class JournalEventListener {
+
+    private final EventJournal journal;
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+    private final BulkheadRegistry bulkheadRegistry;
+
+    @PostConstruct
+    void subscribeRegistries() {
+        circuitBreakerRegistry.getAllCircuitBreakers().forEach(this::listen);
+        circuitBreakerRegistry.getEventPublisher()
+                .onEntryAdded(event -> listen(event.getAddedEntry()))
+                .onEntryReplaced(event -> listen(event.getNewEntry()));
+        bulkheadRegistry.getAllBulkheads().forEach(this::listen);
+        bulkheadRegistry.getEventPublisher()
+                .onEntryAdded(event -> listen(event.getAddedEntry()))
+                .onEntryReplaced(event -> listen(event.getNewEntry()));
+    }
+
+    private void listen(CircuitBreaker circuitBreaker) {
+        circuitBreaker.getEventPublisher()
+                .onStateTransition(event -> journal.transition(event.getCircuitBreakerName(),
+                        event.getStateTransition().getToState().name()))
+                .onCallNotPermitted(event -> journal.rejected(event.getCircuitBreakerName(), EventJournal.CIRCUIT_OPEN))
+                .onSuccess(event -> journal.success(event.getCircuitBreakerName(), micros(event.getElapsedDuration())))
+                .onError(event -> {
+                    if (event.getThrowable() instanceof TimeoutException) {
+                        journal.timeout(event.getCircuitBreakerName(), micros(event.getElapsedDuration()));
+                    } else {
+                        journal.failure(event.getCircuitBreakerName(), event.getThrowable().getClass().getName(),
+                                micros(event.getElapsedDuration()));
+                    }
+                });
+    }
+
+    private void listen(Bulkhead bulkhead) {
+        bulkhead.getEventPublisher()
+                .onCallRejected(event -> journal.rejected(event.getBulkheadName(), EventJournal.BULKHEAD));
+    }
+
+    private static long micros(Duration duration) {
+        return duration.toNanos() / 1000;
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.journal;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 이벤트 저널 설정 (app.journal.*)
+ * 시작할 때 한 번 적용되며, capacity / max-names 가 바뀌면 기존 파일을 새로 만듭니다.
+ */
+@Data
+@ConfigurationProperties(prefix = "app.journal")
+public class JournalProperties {
+
+    private boolean enabled = false;
+    /** 저널 파일 위치 (상위 디렉토리가 없으면 생성) */
+    private String path = "journal/springboot-resillience4j.journal";
+    /** 보관할 이벤트 수 (이벤트당 32 byte, 가장 오래된 이벤트부터 덮어씀) */
+    private int capacity = 1 << 20;
+    /** 서킷 / Bulkhead 이름과 detail(상태, 거절 사유, 예외 클래스 이름)을 합친 최대 이름 수 */
+    private int maxNames = 1024;
+    /** 호출 스레드와 writer 스레드 사이의 링 크기 (가득 차면 이벤트를 버리고 dropped 에 셈) */
+    private int stagingCapacity = 1 << 16;
+    /** 성공을 기록하는 비율 (상태 전이 / 거절 / 타임아웃은 항상 기록) */
+    private double successSampleRate = 0.01;
+    /** 실패를 기록하는 비율 */
+    private double failureSampleRate = 1.0;
+    /** 변경된 페이지를 디스크에 쓰는 주기 (0 이면 종료할 때만, 프로세스가 죽어도 OS 가 기록하므로 전원 장애 대비용) */
+    private Duration forceInterval = Duration.ZERO;
+}
@@ -0,0 +1,35 @@
+package com.example.keyed;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * GET /actuator/keyedbreakers : 이름별 키 수, OPEN / HALF_OPEN 키 수, 제거된 키 수, 힙 사용량(추정)과 키당 바이트
+ * GET /actuator/keyedbreakers/{name}/{key} : 키 하나의 상태
+ */
+@WebEndpoint(id = "keyedbreakers")
+@RequiredArgsConstructor
+public class KeyedBreakerEndpoint {
+
+    private final KeyedBreakerRegistry registry;
+
+    @ReadOperation
+    public Map<String, Map<String, Object>> keyedBreakers() {
+        return registry.stats();
+    }
+
+    @ReadOperation
+    public Map<String, Object> keyedBreaker(@Selector String name, @Selector String key) {
+        CompactBreakerTable.State state = registry.state(name, key);
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("name", name);
+        result.put("key", key);
+        result.put("state", state != null ? state.name() : "NOT_TRACKED");
+        return result;
+    }
+}
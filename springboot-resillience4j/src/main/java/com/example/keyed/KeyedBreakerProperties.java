@@ -0,0 +1,45 @@
+package com.example.keyed;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 키별 서킷 브레이커 설정 (app.keyed-breaker.instances.{name}.*)
+ * 이름별 테이블을 처음 만들 때 한 번 적용되며, 값을 바꾸면 재시작해야 반영됩니다.
+ */
+@Data
+@ConfigurationProperties(prefix = "app.keyed-breaker")
+public class KeyedBreakerProperties {
+
+    private Map<String, Settings> instances = new HashMap<>();
+
+    public Settings get(String name) {
+        return instances.getOrDefault(name, new Settings());
+    }
+
+    public KeyedBreakerConfig config(String name) {
+        Settings settings = get(name);
+        return new KeyedBreakerConfig(settings.maxKeys, settings.slidingWindowSize, settings.minimumNumberOfCalls,
+                settings.failureRateThreshold, settings.slowCallDurationThreshold.toMillis(),
+                settings.slowCallRateThreshold, settings.waitDurationInOpenState.toMillis(),
+                settings.permittedNumberOfCallsInHalfOpenState);
+    }
+
+    @Data
+    public static class Settings {
+        /** 유지할 최대 키 수 (넘으면 오래 사용하지 않은 키부터 제거, 메모리 상한) */
+        private int maxKeys = 10000;
+        /** 키별 슬라이딩 윈도우 크기 (최대 64) */
+        private int slidingWindowSize = 20;
+        private int minimumNumberOfCalls = 10;
+        private float failureRateThreshold = 50;
+        private Duration slowCallDurationThreshold = Duration.ofSeconds(2);
+        private float slowCallRateThreshold = 100;
+        private Duration waitDurationInOpenState = Duration.ofSeconds(10);
+        private int permittedNumberOfCallsInHalfOpenState = 3;
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.keyed;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * 이름별 CompactBreakerTable (처음 사용할 때 설정을 읽어 만듦)
+ */
+public class KeyedBreakerRegistry {
+
+    private final Function<String, KeyedBreakerConfig> configs;
+    private final Map<String, CompactBreakerTable> tables = new ConcurrentHashMap<>();
+
+    public KeyedBreakerRegistry(Function<String, KeyedBreakerConfig> configs) {
+        this.configs = configs;
+    }
+
+    public CompactBreakerTable table(String name) {
+        CompactBreakerTable table = tables.get(name);
+        if (table == null) {
+            table = tables.computeIfAbsent(name, n -> new CompactBreakerTable(configs.apply(n)));
+        }
+        return table;
+    }
+
+    /**
+     * 키의 현재 상태 (테이블이나 키가 없으면 null, 테이블을 만들지 않음)
+     */
+    public CompactBreakerTable.State state(String name, String key) {
+        CompactBreakerTable table = tables.get(name);
+        return table != null ? table.state(key) : null;
+    }
+
+    public Map<String, Map<String, Object>> stats() {
+        Map<String, Map<String, Object>> stats = new LinkedHashMap<>();
+        tables.forEach((name, table) -> stats.put(name, table.stats()));
+        return stats;
+    }
+}
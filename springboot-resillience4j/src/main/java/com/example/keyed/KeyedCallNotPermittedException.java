@@ -0,0 +1,12 @@
+package com.example.keyed;
+
+/**
+ * 키의 서킷이 OPEN (또는 HALF_OPEN 시험 호출 수 초과) 이라 호출하지 않은 경우
+ * 자주 발생하는 제어 흐름용 예외이므로 스택 트레이스를 만들지 않습니다.
+ */
+public class KeyedCallNotPermittedException extends RuntimeException {
+
+    public KeyedCallNotPermittedException(String name, String key) {
+        super("KeyedCircuitBreaker '" + name + "' is OPEN for key '" + key + "'", null, false, false);
+    }
+}
@@ -0,0 +1,157 @@
+package com.example.keyed;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.aop.support.StaticMethodMatcherPointcutAdvisor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.context.expression.MethodBasedEvaluationContext;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.Ordered;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.expression.Expression;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * @KeyedCircuitBreaker 메소드를 키별 서킷으로 보호합니다.
+ *
+ * - 키: 어노테이션의 SpEL 을 호출 인자로 평가한 문자열
+ * - 구현 메소드, 어노테이션, 파싱한 SpEL, fallback 메소드는 메소드별로 한 번만 찾아 캐시합니다.
+ * - OPEN 인 키는 호출하지 않고 KeyedCallNotPermittedException 으로 fallback 을 호출합니다.
+ * - 예외는 실패, 느린 호출 기준을 넘은 호출은 느린 호출로 기록합니다.
+ * - 동기 메소드만 지원합니다. (CompletableFuture 를 반환하는 메소드는 적용하지 않음)
+ * - AdmissionAdvisor 안쪽에서 실행되므로 입장이 거절된 호출은 키의 실패로 집계되지 않습니다.
+ */
+public class KeyedCircuitBreakerAdvisor extends StaticMethodMatcherPointcutAdvisor
+        implements MethodInterceptor, SmartInitializingSingleton {
+
+    private static final SpelExpressionParser PARSER = new SpelExpressionParser();
+    private static final ParameterNameDiscoverer PARAMETER_NAMES = new DefaultParameterNameDiscoverer();
+
+    private final ObjectProvider<KeyedBreakerRegistry> keyedBreakerRegistry;
+    private final Map<Method, Target> targets = new ConcurrentHashMap<>();
+    private KeyedBreakerRegistry registry;
+
+    public KeyedCircuitBreakerAdvisor(ObjectProvider<KeyedBreakerRegistry> keyedBreakerRegistry) {
+        this.keyedBreakerRegistry = keyedBreakerRegistry;
+        setAdvice(this);
+        setOrder(Ordered.HIGHEST_PRECEDENCE + 2);
+    }
+
+    @Override
+    public boolean matches(Method method, Class<?> targetClass) {
+        return !CompletionStage.class.isAssignableFrom(method.getReturnType())
+                && AnnotatedElementUtils.hasAnnotation(AopUtils.getMostSpecificMethod(method, targetClass),
+                KeyedCircuitBreaker.class);
+    }
+
+    /**
+     * Advisor 는 다른 Bean 보다 먼저 만들어지므로 설정이 바인딩된 뒤에 가져옵니다.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        this.registry = keyedBreakerRegistry.getObject();
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        if (registry == null) {
+            return invocation.proceed();
+        }
+        Target target = targets.get(invocation.getMethod());
+        if (target == null) {
+            target = targets.computeIfAbsent(invocation.getMethod(),
+                    method -> new Target(AopUtils.getMostSpecificMethod(method, invocation.getThis().getClass())));
+        }
+        if (target.annotation == null) {
+            return invocation.proceed();
+        }
+        String key = target.key(invocation.getArguments());
+        CompactBreakerTable table = registry.table(target.annotation.name());
+        if (!table.tryAcquire(key)) {
+            return fallback(target, invocation, new KeyedCallNotPermittedException(target.annotation.name(), key));
+        }
+        long start = System.nanoTime();
+        Object result;
+        try {
+            result = invocation.proceed();
+        } catch (Throwable ex) {
+            table.onResult(key, true, (System.nanoTime() - start) / 1_000_000);
+            return fallback(target, invocation, ex);
+        }
+        table.onResult(key, false, (System.nanoTime() - start) / 1_000_000);
+        return result;
+    }
+
+    private Object fallback(Target target, MethodInvocation invocation, Throwable ex) throws Throwable {
+        if (target.annotation.fallbackMethod().isEmpty()) {
+            throw ex;
+        }
+        Method fallback = target.fallback();
+        if (!fallback.getParameterTypes()[fallback.getParameterCount() - 1].isInstance(ex)) {
+            throw ex;
+        }
+        Object[] arguments = Arrays.copyOf(invocation.getArguments(), invocation.getArguments().length + 1);
+        arguments[arguments.length - 1] = ex;
+        try {
+            return fallback.invoke(invocation.getThis(), arguments);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * 메소드별로 한 번만 찾는 값 (fallback 은 처음 필요할 때 찾음)
+     */
+    private static final class Target {
+        private final Method method;
+        private final KeyedCircuitBreaker annotation;
+        private final Expression key;
+        private volatile Method fallback;
+
+        private Target(Method method) {
+            this.method = method;
+            this.annotation = AnnotatedElementUtils.findMergedAnnotation(method, KeyedCircuitBreaker.class);
+            this.key = annotation != null ? PARSER.parseExpression(annotation.key()) : null;
+        }
+
+        private String key(Object[] arguments) {
+            return String.valueOf(key.getValue(new MethodBasedEvaluationContext(null, method, arguments, PARAMETER_NAMES)));
+        }
+
+        private Method fallback() {
+            Method found = fallback;
+            if (found == null) {
+                found = findFallback(annotation, method);
+                fallback = found;
+            }
+            return found;
+        }
+    }
+
+    private static Method findFallback(KeyedCircuitBreaker annotation, Method method) {
+        Class<?>[] parameterTypes = method.getParameterTypes();
+        for (Method candidate : method.getDeclaringClass().getDeclaredMethods()) {
+            Class<?>[] candidateTypes = candidate.getParameterTypes();
+            if (candidate.getName().equals(annotation.fallbackMethod())
+                    && candidateTypes.length == parameterTypes.length + 1
+                    && Arrays.equals(Arrays.copyOf(candidateTypes, parameterTypes.length), parameterTypes)
+                    && Throwable.class.isAssignableFrom(candidateTypes[parameterTypes.length])
+                    && method.getReturnType().isAssignableFrom(candidate.getReturnType())) {
+                candidate.setAccessible(true);
+                return candidate;
+            }
+        }
+        throw new IllegalStateException("Fallback method " + annotation.fallbackMethod() + "("
+                + Arrays.toString(parameterTypes) + ", Throwable) not found for " + method);
+    }
+}
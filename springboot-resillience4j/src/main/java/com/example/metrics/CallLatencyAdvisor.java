@@ -0,0 +1,200 @@
+package com.example.metrics;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.aop.support.StaticMethodMatcherPointcutAdvisor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * @CircuitBreaker 동기 메소드의 단계별 지연 시간과 호출 결과 기록
+ *
+ * Resilience4j Aspect 보다 바깥에서 현재 호출을 스레드별 Timing 에 보관하고,
+ * 호출 스레드에서 발행되는 CircuitBreaker / Bulkhead 이벤트로 단계 경계를 구분합니다.
+ *  - queue: 호출 시작 ~ Bulkhead 허가 (max-wait-duration 이 있는 Bulkhead 만, 나머지는 대기 없이 거절되므로 기록하지 않음)
+ *  - execution: 서킷 브레이커가 측정한 호출 시간(이벤트의 elapsedDuration)에서 queue 를 뺀 시간 (메소드 본문)
+ *  - fallback: 실패 / 서킷 거절 / Bulkhead 거절 ~ 호출 종료
+ *
+ * - 이벤트는 actuator(circuitbreakerevents, bulkheadevents) 용 구독으로 이미 발행되고 있으므로 추가 할당이 없습니다.
+ * - @Aspect(@Around) 는 호출마다 JoinPoint 와 MethodInvocation 복사본을 만들기 때문에 MethodInterceptor 로 등록합니다.
+ * - 성공 호출은 시계를 읽지 않습니다. (queue 를 기록하는 Bulkhead 만 시작 시각, fallback 이 실행된 호출만 시작/종료 시각을 읽음)
+ * - CompletableFuture 를 반환하는 메소드는 다른 스레드에서 실행되므로 제외합니다.
+ */
+public class CallLatencyAdvisor extends StaticMethodMatcherPointcutAdvisor
+        implements MethodInterceptor, SmartInitializingSingleton {
+
+    private static final ThreadLocal<Timing> TIMING = ThreadLocal.withInitial(Timing::new);
+
+    private final CallLatencyMetrics metrics;
+    private final ObjectProvider<CircuitBreakerRegistry> circuitBreakerRegistry;
+    private final ObjectProvider<BulkheadRegistry> bulkheadRegistry;
+    private final Map<Method, CallLatencyMetrics.InstanceMetrics> instances = new ConcurrentHashMap<>();
+
+    public CallLatencyAdvisor(CallLatencyMetrics metrics,
+                              ObjectProvider<CircuitBreakerRegistry> circuitBreakerRegistry,
+                              ObjectProvider<BulkheadRegistry> bulkheadRegistry) {
+        this.metrics = metrics;
+        this.circuitBreakerRegistry = circuitBreakerRegistry;
+        this.bulkheadRegistry = bulkheadRegistry;
+        setAdvice(this);
+        setOrder(Ordered.HIGHEST_PRECEDENCE);
+    }
+
+    @Override
+    public boolean matches(Method method, Class<?> targetClass) {
+        return circuitBreakerOf(AopUtils.getMostSpecificMethod(method, targetClass)) != null
+                && !CompletionStage.class.isAssignableFrom(method.getReturnType());
+    }
+
+    /**
+     * Advisor 는 다른 Bean 보다 먼저 만들어지므로 Registry 구독은 모든 싱글톤이 생성된 뒤에 합니다.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        CircuitBreakerRegistry circuitBreakers = circuitBreakerRegistry.getObject();
+        circuitBreakers.getAllCircuitBreakers().forEach(this::listen);
+        circuitBreakers.getEventPublisher()
+                .onEntryAdded(event -> listen(event.getAddedEntry()))
+                .onEntryReplaced(event -> listen(event.getNewEntry()));
+        BulkheadRegistry bulkheads = bulkheadRegistry.getObject();
+        bulkheads.getAllBulkheads().forEach(this::listen);
+        bulkheads.getEventPublisher()
+                .onEntryAdded(event -> listen(event.getAddedEntry()))
+                .onEntryReplaced(event -> listen(event.getNewEntry()));
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Timing timing = TIMING.get();
+        if (timing.instance != null) {
+            // 같은 스레드에서 중첩된 호출은 바깥 호출만 기록
+            return invocation.proceed();
+        }
+        CallLatencyMetrics.InstanceMetrics instance = instanceOf(invocation.getMethod());
+        timing.start(instance, instance.queueTimed ? System.nanoTime() : 0);
+        try {
+            return invocation.proceed();
+        } catch (Throwable t) {
+            timing.outcome = CallLatencyMetrics.Outcome.ERROR;
+            throw t;
+        } finally {
+            timing.finish();
+        }
+    }
+
+    private CallLatencyMetrics.InstanceMetrics instanceOf(Method method) {
+        CallLatencyMetrics.InstanceMetrics instance = instances.get(method);
+        if (instance == null) {
+            instance = instances.computeIfAbsent(method, key -> metrics.forInstance(circuitBreakerOf(key).name()));
+        }
+        return instance;
+    }
+
+    private static io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker circuitBreakerOf(Method method) {
+        io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker annotation = AnnotatedElementUtils.findMergedAnnotation(
+                method, io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker.class);
+        if (annotation == null) {
+            annotation = AnnotatedElementUtils.findMergedAnnotation(
+                    method.getDeclaringClass(), io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker.class);
+        }
+        return annotation;
+    }
+
+    private void listen(CircuitBreaker circuitBreaker) {
+        circuitBreaker.getEventPublisher()
+                .onSuccess(event -> {
+                    Timing timing = TIMING.get();
+                    if (timing.isRecording(event.getCircuitBreakerName()) && timing.outcome == null) {
+                        timing.outcome = CallLatencyMetrics.Outcome.SUCCESS;
+                        timing.recordExecution(event.getElapsedDuration());
+                    }
+                })
+                .onError(event -> failed(event.getCircuitBreakerName(), event.getElapsedDuration(), event.getThrowable()))
+                .onIgnoredError(event -> failed(event.getCircuitBreakerName(), event.getElapsedDuration(), event.getThrowable()))
+                .onCallNotPermitted(event -> {
+                    Timing timing = TIMING.get();
+                    if (timing.isRecording(event.getCircuitBreakerName()) && timing.outcome == null) {
+                        timing.outcome = CallLatencyMetrics.Outcome.SHORT_CIRCUITED;
+                        timing.fallbackStartedAt = System.nanoTime();
+                    }
+                })
+                .onStateTransition(event -> metrics.forInstance(event.getCircuitBreakerName())
+                        .recordTransition(event.getStateTransition().getToState()));
+    }
+
+    private void listen(Bulkhead bulkhead) {
+        boolean queueTimed = !bulkhead.getBulkheadConfig().getMaxWaitDuration().isZero();
+        metrics.forInstance(bulkhead.getName()).queueTimed = queueTimed;
+        if (!queueTimed) {
+            return;
+        }
+        bulkhead.getEventPublisher().onCallPermitted(event -> {
+            Timing timing = TIMING.get();
+            if (timing.isRecording(event.getBulkheadName())) {
+                timing.queuedNanos = System.nanoTime() - timing.startedAt;
+                timing.instance.queue.recordNanos(timing.queuedNanos);
+            }
+        });
+    }
+
+    private static void failed(String name, Duration elapsed, Throwable throwable) {
+        Timing timing = TIMING.get();
+        if (!timing.isRecording(name) || timing.outcome != null) {
+            return;
+        }
+        // Bulkhead 거절(BulkheadFullException)도 서킷에는 실패로 기록됨
+        if (throwable instanceof BulkheadFullException) {
+            timing.outcome = CallLatencyMetrics.Outcome.BULKHEAD_REJECTED;
+        } else {
+            timing.outcome = CallLatencyMetrics.Outcome.FAILURE;
+            timing.recordExecution(elapsed);
+        }
+        timing.fallbackStartedAt = System.nanoTime();
+    }
+
+    private static final class Timing {
+        CallLatencyMetrics.InstanceMetrics instance;
+        CallLatencyMetrics.Outcome outcome;
+        long startedAt;
+        long queuedNanos;
+        long fallbackStartedAt;
+
+        boolean isRecording(String name) {
+            return instance != null && instance.name.equals(name);
+        }
+
+        void start(CallLatencyMetrics.InstanceMetrics instance, long now) {
+            this.instance = instance;
+            this.startedAt = now;
+        }
+
+        void recordExecution(Duration elapsed) {
+            instance.execution.recordNanos(elapsed.toNanos() - queuedNanos);
+        }
+
+        void finish() {
+            if (fallbackStartedAt != 0) {
+                instance.fallback.recordNanos(System.nanoTime() - fallbackStartedAt);
+            }
+            instance.recordOutcome(outcome != null ? outcome : CallLatencyMetrics.Outcome.SUCCESS);
+            instance = null;
+            outcome = null;
+            queuedNanos = 0;
+            fallbackStartedAt = 0;
+        }
+    }
+}
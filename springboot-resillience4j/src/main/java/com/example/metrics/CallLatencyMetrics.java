@@ -0,0 +1,110 @@
+package com.example.metrics;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 서킷 브레이커 인스턴스별 지연 시간 히스토그램, 호출 결과 카운터, 상태 전이 카운터
+ *
+ * - 값은 CallLatencyAdvisor 가 기록합니다.
+ * - 기록 경로는 LongAdder / HdrHistogram AtomicHistogram 만 사용하므로 락과 할당이 없습니다.
+ * - /actuator/latency 에서 Prometheus 텍스트 포맷으로 내보냅니다.
+ */
+public class CallLatencyMetrics {
+
+    private static final double[] QUANTILES = {0.5, 0.9, 0.99, 0.999};
+
+    /**
+     * 호출 결과
+     * - SUCCESS: 실행 성공
+     * - FAILURE: 실행 실패 후 fallback
+     * - SHORT_CIRCUITED: 서킷이 열려 실행하지 않고 fallback
+     * - BULKHEAD_REJECTED: Bulkhead 가 가득 차 실행하지 않고 fallback
+     * - ERROR: 호출자에게 예외 전달 (fallback 실패)
+     */
+    public enum Outcome {
+        SUCCESS, FAILURE, SHORT_CIRCUITED, BULKHEAD_REJECTED, ERROR
+    }
+
+    private final ConcurrentMap<String, InstanceMetrics> instances = new ConcurrentHashMap<>();
+
+    public InstanceMetrics forInstance(String name) {
+        InstanceMetrics metrics = instances.get(name);
+        if (metrics == null) {
+            metrics = instances.computeIfAbsent(name, InstanceMetrics::new);
+        }
+        return metrics;
+    }
+
+    public String scrape() {
+        Map<String, InstanceMetrics> sorted = new TreeMap<>(instances);
+        PrometheusTextWriter writer = new PrometheusTextWriter();
+
+        writer.header("resilience4j_call_latency_seconds", "summary",
+                "Call latency by phase (queue: admission by circuit breaker and bulkhead, execution: method body, fallback: fallback method)");
+        for (Map.Entry<String, InstanceMetrics> entry : sorted.entrySet()) {
+            String name = PrometheusTextWriter.label("name", entry.getKey());
+            InstanceMetrics metrics = entry.getValue();
+            writer.summary("resilience4j_call_latency_seconds", name + ",phase=\"queue\"", metrics.queue.summarize(QUANTILES));
+            writer.summary("resilience4j_call_latency_seconds", name + ",phase=\"execution\"", metrics.execution.summarize(QUANTILES));
+            writer.summary("resilience4j_call_latency_seconds", name + ",phase=\"fallback\"", metrics.fallback.summarize(QUANTILES));
+        }
+
+        writer.header("resilience4j_call_outcomes_total", "counter", "Call outcomes");
+        for (Map.Entry<String, InstanceMetrics> entry : sorted.entrySet()) {
+            String name = PrometheusTextWriter.label("name", entry.getKey());
+            LongAdder[] outcomes = entry.getValue().outcomes;
+            for (Outcome outcome : Outcome.values()) {
+                writer.sample("resilience4j_call_outcomes_total",
+                        name + ",outcome=\"" + outcome.name().toLowerCase() + "\"", outcomes[outcome.ordinal()].sum());
+            }
+        }
+
+        writer.header("resilience4j_circuit_transitions_total", "counter", "Circuit breaker state transitions (to state)");
+        for (Map.Entry<String, InstanceMetrics> entry : sorted.entrySet()) {
+            String name = PrometheusTextWriter.label("name", entry.getKey());
+            LongAdder[] transitions = entry.getValue().transitions;
+            for (CircuitBreaker.State state : CircuitBreaker.State.values()) {
+                writer.sample("resilience4j_circuit_transitions_total",
+                        name + ",state=\"" + state.name() + "\"", transitions[state.ordinal()].sum());
+            }
+        }
+        return writer.toString();
+    }
+
+    public static final class InstanceMetrics {
+        final String name;
+        final LatencyHistogram queue = new LatencyHistogram();
+        final LatencyHistogram execution = new LatencyHistogram();
+        final LatencyHistogram fallback = new LatencyHistogram();
+        final LongAdder[] outcomes = newAdders(Outcome.values().length);
+        final LongAdder[] transitions = newAdders(CircuitBreaker.State.values().length);
+        // 같은 이름의 Bulkhead 가 대기(max-wait-duration)를 허용해 queue 를 기록하는지 여부
+        volatile boolean queueTimed;
+
+        private InstanceMetrics(String name) {
+            this.name = name;
+        }
+
+        void recordOutcome(Outcome outcome) {
+            outcomes[outcome.ordinal()].increment();
+        }
+
+        void recordTransition(CircuitBreaker.State toState) {
+            transitions[toState.ordinal()].increment();
+        }
+
+        private static LongAdder[] newAdders(int size) {
+            LongAdder[] adders = new LongAdder[size];
+            for (int i = 0; i < size; i++) {
+                adders[i] = new LongAdder();
+            }
+            return adders;
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.metrics;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+
+/**
+ * GET /actuator/latency
+ * 서킷 브레이커 인스턴스별 지연 시간(queue / execution / fallback) 분위수, 호출 결과 수, 상태 전이 수 (Prometheus 텍스트 포맷)
+ */
+@WebEndpoint(id = "latency")
+@RequiredArgsConstructor
+public class LatencyEndpoint {
+
+    private final CallLatencyMetrics callLatencyMetrics;
+
+    @ReadOperation(produces = PrometheusTextWriter.CONTENT_TYPE)
+    public String scrape() {
+        return callLatencyMetrics.scrape();
+    }
+}
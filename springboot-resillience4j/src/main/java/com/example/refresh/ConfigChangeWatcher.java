@@ -0,0 +1,122 @@
+package com.example.refresh;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.context.refresh.ContextRefresher;
+import org.springframework.core.env.ConfigurableEnvironment;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * Config Server 의 /notifications 를 long-poll 로 구독해, 설정 파일이 바뀌면 바로 ContextRefresher 로 설정을 다시 불러옵니다.
+ * (/actuator/refresh 를 노드마다 호출하는 것과 같은 동작, Spring Cloud Bus 나 메시지 브로커 없이 동작)
+ *
+ * - 처음 받은 버전은 기준으로만 사용하고, 그 뒤로 버전이 바뀔 때마다 refresh 합니다.
+ *   단, 시작할 때 Config Server 에 연결하지 못해 받은 설정이 없으면 처음 응답을 받았을 때 refresh 합니다.
+ * - Config Server 가 재시작되면 버전이 바뀌므로 한 번 refresh 합니다.
+ * - Config Server 에 연결하지 못하면 retryInterval 마다 다시 시도합니다. (그동안은 마지막으로 받은 설정 유지)
+ */
+@Slf4j
+public class ConfigChangeWatcher {
+
+    private final ConfigWatchProperties properties;
+    private final ContextRefresher contextRefresher;
+    private final ObjectMapper objectMapper;
+    private final ConfigurableEnvironment environment;
+    private final HttpClient httpClient;
+    private volatile boolean running;
+    private Thread thread;
+    private long version = -1;
+
+    public ConfigChangeWatcher(ConfigWatchProperties properties, ContextRefresher contextRefresher,
+                               ObjectMapper objectMapper, ConfigurableEnvironment environment) {
+        this.properties = properties;
+        this.contextRefresher = contextRefresher;
+        this.objectMapper = objectMapper;
+        this.environment = environment;
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(2))
+                .build();
+    }
+
+    public void start() {
+        running = true;
+        thread = new Thread(this::run, "config-change-watcher");
+        thread.setDaemon(true);
+        thread.start();
+        log.info("Watching config changes on {}", properties.getUri());
+    }
+
+    public void stop() {
+        running = false;
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+
+    private void run() {
+        boolean connected = true;
+        while (running) {
+            try {
+                HttpResponse<String> response = httpClient.send(request(), HttpResponse.BodyHandlers.ofString());
+                connected = true;
+                if (response.statusCode() == 200) {
+                    changed(objectMapper.readTree(response.body()).path("version").asLong());
+                } else if (response.statusCode() != 304) {
+                    log.warn("Config change notification failed - HTTP {}", response.statusCode());
+                    Thread.sleep(properties.getRetryInterval().toMillis());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (IOException e) {
+                if (connected) {
+                    log.warn("Config server {} unreachable - retrying every {}", properties.getUri(),
+                            properties.getRetryInterval());
+                    connected = false;
+                }
+                try {
+                    Thread.sleep(properties.getRetryInterval().toMillis());
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            } catch (RuntimeException e) {
+                log.warn("Config refresh failed", e);
+            }
+        }
+    }
+
+    private HttpRequest request() {
+        long timeoutMillis = properties.getPollTimeout().toMillis();
+        return HttpRequest.newBuilder(URI.create(properties.getUri()
+                        + "/notifications?version=" + version + "&timeoutMillis=" + timeoutMillis))
+                // Config Server 가 응답하지 않는 경우를 대비해 long-poll 대기 시간보다 조금 길게
+                .timeout(Duration.ofMillis(timeoutMillis + 5_000))
+                .GET()
+                .build();
+    }
+
+    private void changed(long newVersion) {
+        long previous = version;
+        version = newVersion;
+        if (previous == -1 && loadedFromConfigServer()) {
+            return;
+        }
+        long started = System.nanoTime();
+        Set<String> keys = contextRefresher.refresh();
+        log.info("Config refreshed - version {}, {} keys changed in {} ms {}", newVersion, keys.size(),
+                (System.nanoTime() - started) / 1_000_000, keys);
+    }
+
+    private boolean loadedFromConfigServer() {
+        return environment.getPropertySources().stream()
+                .anyMatch(source -> source.getName().startsWith("configserver:"));
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.refresh;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Config Server 변경 알림 구독 설정 (app.config-watch.*)
+ * 시작할 때 한 번 적용되며, 값을 바꾸면 재시작해야 반영됩니다.
+ */
+@Data
+@ConfigurationProperties(prefix = "app.config-watch")
+public class ConfigWatchProperties {
+
+    private boolean enabled = true;
+    /** Config Server 주소 (spring.config.import 의 configserver 주소와 같게) */
+    private String uri = "http://localhost:8888";
+    /** long-poll 한 번의 최대 대기 시간 (Config Server 는 최대 60초까지 허용) */
+    private Duration pollTimeout = Duration.ofSeconds(30);
+    /** Config Server 에 연결하지 못했을 때 다시 시도하기까지의 대기 시간 */
+    private Duration retryInterval = Duration.ofSeconds(5);
+}
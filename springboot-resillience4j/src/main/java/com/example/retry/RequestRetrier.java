@@ -0,0 +1,149 @@
+package com.example.retry;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 재시도 예산이 있는 재시도 실행기
+ *
+ * 실패하면 decorrelated jitter(다음 대기 = min(max-backoff, random(base-backoff, 이전 대기 x 3))) 만큼 기다린 뒤 다시 시도합니다.
+ *
+ * - @CircuitBreaker 메소드 안에서 호출하므로 서킷 브레이커에는 재시도를 포함해 1회 호출로 집계됩니다.
+ * - 재시도는 RetryBudget 으로 성공한 호출의 budget-percent% 이내로 제한합니다. 의존 서비스가 계속 실패하면 성공이 없어
+ *   예산이 곧 바닥나므로, 서킷이 열리기 직전의 실패 구간에 부하를 max-attempts 배로 늘리지 않습니다.
+ * - 같은 이름의 서킷이 CLOSED 가 아니면(OPEN / HALF_OPEN 시험 요청 등) 재시도하지 않습니다. 대기 후에도 다시 확인합니다.
+ *
+ * 메트릭: retry.calls{name, result=total|retried|retry_succeeded|budget_exhausted|breaker_not_closed|attempts_exhausted},
+ *        retry.attempts{name}, retry.amplification{name} (시도 수 / 호출 수), retry.budget.tokens{name}
+ */
+public class RequestRetrier {
+
+    private static final int MAX_BURST_RETRIES = 10;
+
+    private final RetryProperties properties;
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, InstanceRetry> instances = new ConcurrentHashMap<>();
+
+    public RequestRetrier(RetryProperties properties, CircuitBreakerRegistry circuitBreakerRegistry,
+                          MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.circuitBreakerRegistry = circuitBreakerRegistry;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public <T> T execute(String name, Supplier<T> call) {
+        RetryProperties.Settings settings = properties.get(name);
+        if (!settings.isEnabled()) {
+            return call.get();
+        }
+        InstanceRetry retry = instances.computeIfAbsent(name, InstanceRetry::new);
+        retry.total.increment();
+        long baseMillis = settings.getBaseBackoff().toMillis();
+        long backoffMillis = baseMillis;
+        for (int attempt = 1; ; attempt++) {
+            retry.attempts.increment();
+            try {
+                T result = call.get();
+                retry.budget.deposit(settings.getBudgetPercent());
+                if (attempt > 1) {
+                    retry.retrySucceeded.increment();
+                }
+                return result;
+            } catch (RuntimeException e) {
+                if (attempt >= settings.getMaxAttempts()) {
+                    if (attempt > 1) {
+                        retry.attemptsExhausted.increment();
+                    }
+                    throw e;
+                }
+                if (!isClosed(name)) {
+                    retry.breakerNotClosed.increment();
+                    throw e;
+                }
+                if (!retry.budget.tryAcquire()) {
+                    retry.budgetExhausted.increment();
+                    throw e;
+                }
+                backoffMillis = Math.min(settings.getMaxBackoff().toMillis(),
+                        ThreadLocalRandom.current().nextLong(baseMillis, Math.max(baseMillis, backoffMillis * 3) + 1));
+                if (!sleep(backoffMillis)) {
+                    throw e;
+                }
+                if (!isClosed(name)) {
+                    retry.breakerNotClosed.increment();
+                    throw e;
+                }
+                retry.retried.increment();
+            }
+        }
+    }
+
+    private boolean isClosed(String name) {
+        return circuitBreakerRegistry.find(name)
+                .map(circuitBreaker -> circuitBreaker.getState() == CircuitBreaker.State.CLOSED)
+                .orElse(true);
+    }
+
+    private static boolean sleep(long millis) {
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private final class InstanceRetry {
+        private final RetryBudget budget = new RetryBudget(MAX_BURST_RETRIES);
+        private final LongAdder attempts = new LongAdder();
+        private final Counter total;
+        private final Counter retried;
+        private final Counter retrySucceeded;
+        private final Counter budgetExhausted;
+        private final Counter breakerNotClosed;
+        private final Counter attemptsExhausted;
+
+        private InstanceRetry(String name) {
+            this.total = counter(name, "total");
+            this.retried = counter(name, "retried");
+            this.retrySucceeded = counter(name, "retry_succeeded");
+            this.budgetExhausted = counter(name, "budget_exhausted");
+            this.breakerNotClosed = counter(name, "breaker_not_closed");
+            this.attemptsExhausted = counter(name, "attempts_exhausted");
+            FunctionCounter.builder("retry.attempts", attempts, LongAdder::sum)
+                    .tag("name", name)
+                    .register(meterRegistry);
+            Gauge.builder("retry.amplification", this, InstanceRetry::amplification)
+                    .tag("name", name)
+                    .register(meterRegistry);
+            Gauge.builder("retry.budget.tokens", budget, RetryBudget::availableTokens)
+                    .tag("name", name)
+                    .register(meterRegistry);
+        }
+
+        private double amplification() {
+            double calls = total.count();
+            return calls == 0 ? 1 : attempts.sum() / calls;
+        }
+
+        private Counter counter(String name, String result) {
+            return Counter.builder("retry.calls")
+                    .tag("name", name)
+                    .tag("result", result)
+                    .register(meterRegistry);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.retry;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 재시도 설정 (app.retry.instances.{name}.*)
+ * Config Server 설정 변경 후 refresh 되면 다음 호출부터 반영됩니다.
+ */
+@Data
+@ConfigurationProperties(prefix = "app.retry")
+public class RetryProperties {
+
+    private Map<String, Settings> instances = new HashMap<>();
+
+    public Settings get(String name) {
+        return instances.getOrDefault(name, new Settings());
+    }
+
+    @Data
+    public static class Settings {
+        private boolean enabled = false;
+        /** 첫 시도를 포함한 최대 시도 수 */
+        private int maxAttempts = 3;
+        /** 재시도 대기 시간 하한 (decorrelated jitter 의 시작 값) */
+        private Duration baseBackoff = Duration.ofMillis(50);
+        /** 재시도 대기 시간 상한 */
+        private Duration maxBackoff = Duration.ofMillis(500);
+        /** 성공한 호출 대비 허용하는 재시도 비율 (%) */
+        private int budgetPercent = 10;
+    }
+}
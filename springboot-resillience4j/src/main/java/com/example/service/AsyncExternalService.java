@@ -0,0 +1,75 @@
+package com.example.service;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 외부 서비스 API 호출 시뮬레이션 (Non-blocking)
+ * ExternalService 와 같은 시나리오를 제공하지만, 지연 동안 스레드를 점유하지 않고
+ * 스케줄러가 지정 시간 후에 CompletableFuture 를 완료합니다. (비동기 HTTP 클라이언트와 같은 동작)
+ * 반환된 future 가 응답 전에 완료되면(AsyncMyService 의 타임아웃, 취소) 예약된 응답도 취소됩니다.
+ *
+ * http 프로필에서는 실제 HTTP 호출을 하는 HttpAsyncExternalService 가 대신 등록됩니다.
+ */
+@Component
+@Profile("!http")
+public class AsyncExternalService {
+
+    private final AtomicInteger threadNumber = new AtomicInteger();
+    private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(2, runnable -> {
+        Thread thread = new Thread(runnable, "async-external-" + threadNumber.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * 1. 정상적인 외부 API 응답
+     */
+    public CompletableFuture<String> callNormalExternalApi() {
+        return respondAfter(100, () -> "External API Response: Success");
+    }
+
+    /**
+     * 2. 느린 외부 API 응답 (3초 지연)
+     */
+    public CompletableFuture<String> callSlowExternalApi() {
+        return respondAfter(3000, () -> "External API Response: Slow (3s)");
+    }
+
+    /**
+     * 3. 실패하는 외부 API
+     */
+    public CompletableFuture<String> callFailingExternalApi() {
+        return respondAfter(100, () -> {
+            throw new RuntimeException("External Service Failure: 503 Service Unavailable");
+        });
+    }
+
+    private CompletableFuture<String> respondAfter(long millis, Supplier<String> response) {
+        CompletableFuture<String> future = new CompletableFuture<>();
+        ScheduledFuture<?> scheduled = scheduler.schedule(() -> {
+            try {
+                future.complete(response.get());
+            } catch (RuntimeException e) {
+                future.completeExceptionally(e);
+            }
+        }, millis, TimeUnit.MILLISECONDS);
+        // 예약된 응답이 완료한 경우에는 아무 일도 하지 않음
+        future.whenComplete((result, ex) -> scheduled.cancel(false));
+        return future;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+}
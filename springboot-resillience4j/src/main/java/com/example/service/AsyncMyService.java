@@ -0,0 +1,103 @@
+package com.example.service;
+
+import com.example.admission.Priority;
+import com.example.admission.RequestPriority;
+import com.example.cache.LastKnownGoodCache;
+import io.github.resilience4j.bulkhead.annotation.Bulkhead;
+import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import io.github.resilience4j.timelimiter.annotation.TimeLimiter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 서킷 브레이커로 보호되는 API 호출 (비동기)
+ * MyService 와 같은 서킷 브레이커 / Bulkhead 인스턴스를 공유하고, TimeLimiter 로 응답 시간을 제한합니다.
+ *
+ * 적용 순서: CircuitBreaker( TimeLimiter( Bulkhead( AsyncExternalService ) ) )
+ * - TimeLimiter 타임아웃(TimeoutException)은 서킷 브레이커에 실패로 기록되고 즉시 fallback 을 반환합니다.
+ * - TimeLimiter 는 CompletionStage 를 취소하지 않으므로(cancel-running-future 는 Future 에만 적용),
+ *   같은 제한 시간을 외부 호출 future 에도 orTimeout 으로 걸어 타임아웃 시 진행 중인 외부 호출을 정리합니다.
+ * - 호출 중에도 스레드를 점유하지 않으므로, 느린 외부 호출이 요청 처리 스레드를 고갈시키지 않습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AsyncMyService {
+
+    private final AsyncExternalService asyncExternalService;
+    private final LastKnownGoodCache lastKnownGoodCache;
+    private final TimeLimiterRegistry timeLimiterRegistry;
+
+    /**
+     * 1. 정상적인 API 호출 (항상 성공)
+     */
+    @RequestPriority(Priority.CRITICAL)
+    @Bulkhead(name = "normalApi")
+    @TimeLimiter(name = "normalApi")
+    @CircuitBreaker(name = "normalApi", fallbackMethod = "fallbackNormal")
+    public CompletableFuture<String> callNormalApi() {
+        return withTimeout("normalApi", asyncExternalService.callNormalExternalApi())
+                .whenComplete((response, ex) -> cacheOnSuccess("normalApi", response));
+    }
+
+    public CompletableFuture<String> fallbackNormal(Throwable ex) {
+        return CompletableFuture.completedFuture(cachedOr("normalApi", "[Fallback] Cached data"));
+    }
+
+    /**
+     * 2. 항상 실패하는 API
+     */
+    @Bulkhead(name = "failingApi")
+    @TimeLimiter(name = "failingApi")
+    @CircuitBreaker(name = "failingApi", fallbackMethod = "fallbackFailing")
+    public CompletableFuture<String> callFailingApi() {
+        return withTimeout("failingApi", asyncExternalService.callFailingExternalApi())
+                .whenComplete((response, ex) -> cacheOnSuccess("failingApi", response));
+    }
+
+    public CompletableFuture<String> fallbackFailing(Throwable ex) {
+        return CompletableFuture.completedFuture(cachedOr("failingApi", "[Fallback] Service is under maintenance"));
+    }
+
+    /**
+     * 3. 느린 API (TimeLimiter 타임아웃)
+     */
+    @RequestPriority(Priority.SHEDDABLE)
+    @Bulkhead(name = "slowApi")
+    @TimeLimiter(name = "slowApi")
+    @CircuitBreaker(name = "slowApi", fallbackMethod = "fallbackSlow")
+    public CompletableFuture<String> callSlowApi() {
+        return withTimeout("slowApi", asyncExternalService.callSlowExternalApi())
+                .whenComplete((response, ex) -> cacheOnSuccess("slowApi", response));
+    }
+
+    public CompletableFuture<String> fallbackSlow(Throwable ex) {
+        log.debug("[Fallback] Slow API (async) - {}", ex.toString());
+        return CompletableFuture.completedFuture(cachedOr("slowApi", "[Fallback] Quick response instead of slow service"));
+    }
+
+    /**
+     * TimeLimiter 와 같은 제한 시간이 지나면 외부 호출 future 를 TimeoutException 으로 완료합니다. (외부 호출 쪽에서 취소)
+     */
+    private CompletableFuture<String> withTimeout(String name, CompletableFuture<String> call) {
+        long timeoutNanos = timeLimiterRegistry.timeLimiter(name).getTimeLimiterConfig().getTimeoutDuration().toNanos();
+        return call.orTimeout(timeoutNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private void cacheOnSuccess(String key, String response) {
+        if (response != null) {
+            lastKnownGoodCache.put(key, response);
+        }
+    }
+
+    private String cachedOr(String key, String fallbackMessage) {
+        return lastKnownGoodCache.get(key)
+                .map(cached -> fallbackMessage + " (last known good, " + cached.age().toMillis() + "ms old) " + cached.value())
+                .orElse(fallbackMessage);
+    }
+}
@@ -1,16 +1,22 @@
 package com.example.service;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 /**
  * 외부 서비스 API 호출 시뮬레이션
  *  1. 정상 응답 (NORMAL)
  *  2. 느린 응답 (SLOW) - 타임아웃 발생 가능
  *  3. 실패 응답 (FAILURE) - 서비스 다운 상황
+ *
+ * http 프로필에서는 실제 HTTP 호출을 하는 HttpExternalService 가 대신 등록됩니다.
  */
 @Slf4j
 @Component
+@Profile("!http")
 public class ExternalService {
 
     /**
@@ -37,6 +43,17 @@ public class ExternalService {
         throw new RuntimeException("External Service Failure: 503 Service Unavailable");
     }
 
+    /**
+     * 4. 정상 외부 API 배치 호출 (요청 건수와 관계없이 1회 왕복)
+     * 요청 순서대로 응답 목록을 반환
+     */
+    public List<String> callNormalExternalApiBatch(List<String> requestIds) {
+        simulateNetworkDelay(100);
+        return requestIds.stream()
+                .map(requestId -> "External API Response: Success [" + requestId + "]")
+                .toList();
+    }
+
     private void simulateNetworkDelay(long millis) {
         try {
             Thread.sleep(millis);
@@ -0,0 +1,52 @@
+package com.example.service;
+
+import com.example.http.ExternalHttpClients;
+import org.apache.hc.client5.http.async.methods.SimpleRequestBuilder;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * app.external.service.url 로 실제 HTTP 호출을 하는 AsyncExternalService (http 프로필)
+ *
+ * 호출은 AsyncMyService 에서 해당 메소드를 보호하는 서킷 브레이커 인스턴스와 같은 이름의 커넥션 풀을 사용합니다.
+ * 반환된 future 가 응답 전에 완료되면(AsyncMyService 의 orTimeout 타임아웃, 취소) HTTP 요청도 취소됩니다.
+ *  - GET {url}/normal, {url}/failing, {url}/slow
+ */
+public class HttpAsyncExternalService extends AsyncExternalService {
+
+    private final String baseUrl;
+    private final ExternalHttpClients clients;
+
+    public HttpAsyncExternalService(String baseUrl, ExternalHttpClients clients) {
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        this.clients = clients;
+    }
+
+    @Override
+    public CompletableFuture<String> callNormalExternalApi() {
+        return get("normalApi", "/normal");
+    }
+
+    @Override
+    public CompletableFuture<String> callSlowExternalApi() {
+        return get("slowApi", "/slow");
+    }
+
+    @Override
+    public CompletableFuture<String> callFailingExternalApi() {
+        return get("failingApi", "/failing");
+    }
+
+    private CompletableFuture<String> get(String instance, String path) {
+        CompletableFuture<List<String>> exchange = clients.execute(instance, SimpleRequestBuilder.get(baseUrl + path).build());
+        CompletableFuture<String> response = exchange.thenApply(lines -> String.join("\n", lines));
+        // thenApply 결과의 취소/타임아웃은 원래 future 로 전파되지 않으므로 직접 취소해 HTTP 요청을 중단
+        response.whenComplete((text, ex) -> {
+            if (!exchange.isDone()) {
+                exchange.cancel(false);
+            }
+        });
+        return response;
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.service;
+
+import com.example.http.ExternalHttpClients;
+import org.apache.hc.client5.http.async.methods.SimpleHttpRequest;
+import org.apache.hc.client5.http.async.methods.SimpleRequestBuilder;
+import org.apache.hc.core5.http.ContentType;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * app.external.service.url 로 실제 HTTP 호출을 하는 ExternalService (http 프로필)
+ *
+ * HttpAsyncExternalService 와 같은 커넥션 풀(서킷 브레이커 인스턴스 단위)을 사용하고, 호출 스레드는 응답까지 기다립니다.
+ * 기다리는 중에 인터럽트되면 HTTP 요청을 취소합니다.
+ *  - GET  {url}/normal, {url}/failing, {url}/slow
+ *  - POST {url}/normal/batch (요청 ID 를 한 줄에 하나씩 보내고, 같은 순서로 한 줄에 하나씩 응답)
+ */
+public class HttpExternalService extends ExternalService {
+
+    private final String baseUrl;
+    private final ExternalHttpClients clients;
+
+    public HttpExternalService(String baseUrl, ExternalHttpClients clients) {
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        this.clients = clients;
+    }
+
+    @Override
+    public String callNormalExternalApi() {
+        return String.join("\n", await(clients.execute("normalApi", SimpleRequestBuilder.get(baseUrl + "/normal").build())));
+    }
+
+    @Override
+    public String callSlowExternalApi() {
+        return String.join("\n", await(clients.execute("slowApi", SimpleRequestBuilder.get(baseUrl + "/slow").build())));
+    }
+
+    @Override
+    public String callFailingExternalApi() {
+        return String.join("\n", await(clients.execute("failingApi", SimpleRequestBuilder.get(baseUrl + "/failing").build())));
+    }
+
+    @Override
+    public List<String> callNormalExternalApiBatch(List<String> requestIds) {
+        SimpleHttpRequest request = SimpleRequestBuilder.post(baseUrl + "/normal/batch")
+                .setBody(String.join("\n", requestIds), ContentType.TEXT_PLAIN)
+                .build();
+        List<String> responses = await(clients.execute("normalApi", request));
+        if (responses.size() != requestIds.size()) {
+            throw new RuntimeException("External Service Failure: batch response size mismatch ("
+                    + responses.size() + " / " + requestIds.size() + ")");
+        }
+        return responses;
+    }
+
+    private static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(false);
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("External call interrupted", e);
+        } catch (ExecutionException e) {
+            // ExternalHttpClients 는 RuntimeException 으로만 실패를 완료함
+            throw (RuntimeException) e.getCause();
+        }
+    }
+}
@@ -1,50 +1,135 @@
 package com.example.service;
 
+import com.example.admission.Priority;
+import com.example.admission.RequestPriority;
+import com.example.cache.LastKnownGoodCache;
+import com.example.hedge.RequestHedger;
+import com.example.keyed.KeyedCircuitBreaker;
+import com.example.retry.RequestRetrier;
+import io.github.resilience4j.bulkhead.annotation.Bulkhead;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
+/**
+ * 서킷 브레이커로 보호되는 API 호출
+ * 각 서킷 브레이커 인스턴스마다 같은 이름의 세마포어 Bulkhead 가 적용되어 동시 호출 수를 제한합니다.
+ * (Bulkhead 가 가득 차서 거절된 호출도 서킷 브레이커의 fallback 으로 처리됩니다.)
+ * 성공한 응답은 LastKnownGoodCache 에 저장되어 fallback 에서 제공됩니다.
+ * 과부하 시에는 @RequestPriority 가 낮은 호출부터 AdmissionController 에서 거절됩니다. (503)
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class MyService {
 
     private final ExternalService externalSystem;
+    private final LastKnownGoodCache lastKnownGoodCache;
+    private final RequestHedger requestHedger;
+    private final RequestRetrier requestRetrier;
 
     /**
      * 1. 정상적인 API 호출 (항상 성공)
+     * retry 설정(app.retry.instances.normalApi)이 켜져 있으면 실패 시 재시도 예산 안에서 다시 시도합니다.
      */
+    @RequestPriority(Priority.CRITICAL)
+    @Bulkhead(name = "normalApi")
     @CircuitBreaker(name = "normalApi", fallbackMethod = "fallbackNormal")
     public String callNormalApi() {
-        return externalSystem.callNormalExternalApi();
+        String response = requestRetrier.execute("normalApi", externalSystem::callNormalExternalApi);
+        lastKnownGoodCache.put("normalApi", response);
+        return response;
     }
 
     public String fallbackNormal(Exception ex) {
-        return "[Fallback] Cached data";
+        return cachedOr("normalApi", "[Fallback] Cached data");
+    }
+
+    /**
+     * 1-1. 정상 API 배치 호출 (RequestCollapser 에서 사용)
+     * normalApi 서킷 브레이커를 공유하며, 배치 1건이 1회 호출로 집계됩니다.
+     */
+    @Bulkhead(name = "normalApi")
+    @CircuitBreaker(name = "normalApi", fallbackMethod = "fallbackNormalBatch")
+    public List<String> callNormalApiBatch(List<String> requestIds) {
+        List<String> responses = externalSystem.callNormalExternalApiBatch(requestIds);
+        for (int i = 0; i < requestIds.size(); i++) {
+            lastKnownGoodCache.put("normalApi:" + requestIds.get(i), responses.get(i));
+        }
+        return responses;
+    }
+
+    public List<String> fallbackNormalBatch(List<String> requestIds, Exception ex) {
+        // 요청별 응답이 없으면 단건 호출의 마지막 성공 응답 사용
+        return requestIds.stream()
+                .map(requestId -> lastKnownGoodCache.get("normalApi:" + requestId)
+                        .map(cached -> withCached("[Fallback] Cached data", cached))
+                        .orElseGet(() -> fallbackNormal(ex)))
+                .toList();
     }
 
     /**
      * 2. 항상 실패하는 API
+     * retry 설정(app.retry.instances.failingApi)이 켜져 있어도 성공한 호출이 없으면 재시도 예산이 쌓이지 않아 재시도하지 않습니다.
      */
+    @Bulkhead(name = "failingApi")
     @CircuitBreaker(name = "failingApi", fallbackMethod = "fallbackFailing")
     public String callFailingApi() {
-        return externalSystem.callFailingExternalApi();
+        String response = requestRetrier.execute("failingApi", externalSystem::callFailingExternalApi);
+        lastKnownGoodCache.put("failingApi", response);
+        return response;
     }
 
     public String fallbackFailing(Exception ex) {
-        return "[Fallback] Service is under maintenance";
+        return cachedOr("failingApi", "[Fallback] Service is under maintenance");
     }
 
     /**
      * 3. 느린 API (타임아웃 테스트용)
+     * hedge 설정(app.hedge.instances.slowApi)이 켜져 있으면 첫 시도가 p95 를 넘을 때 두 번째 시도를 보냅니다.
      */
+    @RequestPriority(Priority.SHEDDABLE)
+    @Bulkhead(name = "slowApi")
     @CircuitBreaker(name = "slowApi", fallbackMethod = "fallbackSlow")
     public String callSlowApi() {
-        return externalSystem.callSlowExternalApi();
+        String response = requestHedger.execute("slowApi", externalSystem::callSlowExternalApi);
+        lastKnownGoodCache.put("slowApi", response);
+        return response;
     }
 
     public String fallbackSlow(Exception ex) {
-        return "[Fallback] Quick response instead of slow service";
+        return cachedOr("slowApi", "[Fallback] Quick response instead of slow service");
+    }
+
+    /**
+     * 4. 테넌트별 API 호출 (테넌트마다 별도 서킷)
+     * 한 테넌트의 장애로 다른 테넌트의 호출까지 막히지 않도록 테넌트 ID 를 키로 서킷을 나눕니다.
+     * 예제용으로 "failing" 으로 시작하는 테넌트는 실패 API, 나머지는 정상 API 로 호출합니다.
+     */
+    @KeyedCircuitBreaker(name = "tenantApi", key = "#tenantId", fallbackMethod = "fallbackTenant")
+    public String callTenantApi(String tenantId) {
+        return tenantId.startsWith("failing")
+                ? externalSystem.callFailingExternalApi()
+                : externalSystem.callNormalExternalApi();
+    }
+
+    public String fallbackTenant(String tenantId, Throwable ex) {
+        return "[Fallback] Tenant " + tenantId + " is temporarily unavailable (" + ex.getClass().getSimpleName() + ")";
+    }
+
+    /**
+     * 마지막 성공 응답이 있으면 경과 시간과 함께 반환하고, 없으면 기본 fallback 메시지를 반환
+     */
+    private String cachedOr(String key, String fallbackMessage) {
+        return lastKnownGoodCache.get(key)
+                .map(cached -> withCached(fallbackMessage, cached))
+                .orElse(fallbackMessage);
+    }
+
+    private static String withCached(String fallbackMessage, LastKnownGoodCache.CachedValue cached) {
+        return fallbackMessage + " (last known good, " + cached.age().toMillis() + "ms old) " + cached.value();
     }
 }
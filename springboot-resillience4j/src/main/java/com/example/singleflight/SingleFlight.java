@@ -0,0 +1,159 @@
+package com.example.singleflight;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 같은 인자로 동시에 실행 중인 호출을 하나로 합칩니다. (single-flight)
+ *
+ * - 이름 + 인자가 같은 호출이 실행 중이면 새로 실행하지 않고, 실행 중인 호출(leader)의 결과나 예외를 그대로 받습니다.
+ * - leader 가 끝나면 바로 목록에서 빠지므로, 그 뒤에 온 호출은 다시 실행합니다. (결과를 캐시하지 않음)
+ * - 기다리는 호출은 leader 의 실행 시간만큼 기다립니다. leader 는 서킷 브레이커 / Bulkhead 와 외부 호출 타임아웃으로 끝납니다.
+ * - 인자는 equals / hashCode 로 비교합니다.
+ *
+ * 메트릭: singleflight.calls{name, result=executed|shared|request_cached|failed},
+ *        singleflight.dedup.ratio{name} (실행하지 않은 호출 / 전체 호출)
+ */
+public class SingleFlight {
+
+    /**
+     * 합칠 수 있는 호출 (검사 예외를 포함해 그대로 전달)
+     */
+    public interface Call {
+        Object call() throws Throwable;
+    }
+
+    private final MeterRegistry meterRegistry;
+    private final Map<FlightKey, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final Map<String, FlightStats> stats = new ConcurrentHashMap<>();
+
+    public SingleFlight(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public Object execute(String name, Object[] arguments, Call call) throws Throwable {
+        FlightStats flightStats = stats(name);
+        FlightKey key = new FlightKey(name, arguments);
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> leader = inFlight.putIfAbsent(key, flight);
+        if (leader != null) {
+            flightStats.shared.increment();
+            try {
+                return leader.join();
+            } catch (CompletionException e) {
+                throw e.getCause();
+            }
+        }
+
+        flightStats.executed.increment();
+        Object result;
+        try {
+            result = call.call();
+        } catch (Throwable ex) {
+            flightStats.failed.increment();
+            // 완료 전에 빼야 이후 호출이 끝난 결과를 받지 않고 새로 실행
+            inFlight.remove(key, flight);
+            flight.completeExceptionally(ex);
+            throw ex;
+        }
+        inFlight.remove(key, flight);
+        flight.complete(result);
+        return result;
+    }
+
+    /**
+     * 요청 캐시에서 응답한 호출 (SingleFlightAdvisor 가 기록)
+     */
+    void recordRequestCached(String name) {
+        stats(name).requestCached.increment();
+    }
+
+    /**
+     * 이름별 현황
+     */
+    public Map<String, Map<String, Object>> stats() {
+        Map<String, Map<String, Object>> snapshot = new TreeMap<>();
+        stats.forEach((name, flightStats) -> snapshot.put(name, flightStats.snapshot()));
+        return snapshot;
+    }
+
+    private FlightStats stats(String name) {
+        return stats.computeIfAbsent(name, FlightStats::new);
+    }
+
+    /**
+     * 이름 + 인자 (요청 캐시 키로도 사용)
+     */
+    static final class FlightKey {
+        private final String name;
+        private final List<Object> arguments;
+        private final int hash;
+
+        FlightKey(String name, Object[] arguments) {
+            this.name = name;
+            this.arguments = Arrays.asList(arguments.clone());
+            this.hash = 31 * name.hashCode() + this.arguments.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return this == o || o instanceof FlightKey other
+                    && hash == other.hash && name.equals(other.name) && arguments.equals(other.arguments);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    private final class FlightStats {
+        private final Counter executed;
+        private final Counter shared;
+        private final Counter requestCached;
+        private final Counter failed;
+
+        private FlightStats(String name) {
+            this.executed = counter(name, "executed");
+            this.shared = counter(name, "shared");
+            this.requestCached = counter(name, "request_cached");
+            this.failed = counter(name, "failed");
+            Gauge.builder("singleflight.dedup.ratio", this, FlightStats::dedupRatio)
+                    .tag("name", name)
+                    .register(meterRegistry);
+        }
+
+        private double dedupRatio() {
+            double deduplicated = shared.count() + requestCached.count();
+            double calls = executed.count() + deduplicated;
+            return calls == 0 ? 0 : deduplicated / calls;
+        }
+
+        private Map<String, Object> snapshot() {
+            Map<String, Object> snapshot = new LinkedHashMap<>();
+            snapshot.put("executed", (long) executed.count());
+            snapshot.put("shared", (long) shared.count());
+            snapshot.put("requestCached", (long) requestCached.count());
+            snapshot.put("failed", (long) failed.count());
+            snapshot.put("dedupRatio", Math.round(dedupRatio() * 1000) / 1000.0);
+            return snapshot;
+        }
+
+        private Counter counter(String name, String result) {
+            return Counter.builder("singleflight.calls")
+                    .tag("name", name)
+                    .tag("result", result)
+                    .register(meterRegistry);
+        }
+    }
+}
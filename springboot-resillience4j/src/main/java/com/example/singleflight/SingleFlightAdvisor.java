@@ -0,0 +1,111 @@
+package com.example.singleflight;
+
+import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.aop.support.StaticMethodMatcherPointcutAdvisor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * @CircuitBreaker 메소드 호출을 합칩니다. (app.single-flight.instances.{서킷 브레이커 이름})
+ *
+ * - request-cache: 같은 HTTP 요청 안에서 같은 인자로 다시 호출하면 첫 성공 결과(fallback 응답 포함)를 사용합니다.
+ *   요청 속성(RequestAttributes)에 저장하므로 요청이 끝나면 함께 사라지고, HTTP 요청 밖의 호출에는 적용하지 않습니다.
+ * - enabled: 다른 요청과 같은 인자로 동시에 호출하면 실행 중인 호출의 결과나 예외를 함께 받습니다. (SingleFlight)
+ * - AdmissionAdvisor, KeyedCircuitBreakerAdvisor 안쪽, Resilience4j Aspect 바깥에서 실행되므로 합쳐진 호출은
+ *   Bulkhead 자리를 쓰지 않고 서킷 브레이커 메트릭에도 집계되지 않습니다.
+ * - 동기 메소드만 지원합니다. (CompletableFuture 를 반환하는 메소드는 적용하지 않음)
+ */
+public class SingleFlightAdvisor extends StaticMethodMatcherPointcutAdvisor
+        implements MethodInterceptor, SmartInitializingSingleton {
+
+    private static final String REQUEST_CACHE_ATTRIBUTE = SingleFlightAdvisor.class.getName() + ".REQUEST_CACHE";
+
+    private final ObjectProvider<SingleFlight> singleFlightProvider;
+    private final ObjectProvider<SingleFlightProperties> propertiesProvider;
+    private SingleFlight singleFlight;
+    private SingleFlightProperties properties;
+
+    public SingleFlightAdvisor(ObjectProvider<SingleFlight> singleFlight,
+                               ObjectProvider<SingleFlightProperties> properties) {
+        this.singleFlightProvider = singleFlight;
+        this.propertiesProvider = properties;
+        setAdvice(this);
+        setOrder(Ordered.HIGHEST_PRECEDENCE + 3);
+    }
+
+    @Override
+    public boolean matches(Method method, Class<?> targetClass) {
+        return !CompletionStage.class.isAssignableFrom(method.getReturnType())
+                && AnnotatedElementUtils.hasAnnotation(AopUtils.getMostSpecificMethod(method, targetClass),
+                CircuitBreaker.class);
+    }
+
+    /**
+     * Advisor 는 다른 Bean 보다 먼저 만들어지므로 설정이 바인딩된 뒤에 가져옵니다.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        this.singleFlight = singleFlightProvider.getObject();
+        this.properties = propertiesProvider.getObject();
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Method method = AopUtils.getMostSpecificMethod(invocation.getMethod(), invocation.getThis().getClass());
+        CircuitBreaker annotation = AnnotatedElementUtils.findMergedAnnotation(method, CircuitBreaker.class);
+        if (singleFlight == null || annotation == null) {
+            return invocation.proceed();
+        }
+        String name = annotation.name();
+        SingleFlightProperties.Settings settings = properties.get(name);
+        if (!settings.isEnabled() && !settings.isRequestCache()) {
+            return invocation.proceed();
+        }
+
+        Map<SingleFlight.FlightKey, Object> requestCache = settings.isRequestCache() ? requestCache() : null;
+        SingleFlight.FlightKey key = new SingleFlight.FlightKey(name, invocation.getArguments());
+        if (requestCache != null) {
+            Object cached = requestCache.get(key);
+            if (cached != null) {
+                singleFlight.recordRequestCached(name);
+                return cached;
+            }
+        }
+        Object result = settings.isEnabled()
+                ? singleFlight.execute(name, invocation.getArguments(), invocation::proceed)
+                : invocation.proceed();
+        if (requestCache != null && result != null) {
+            requestCache.put(key, result);
+        }
+        return result;
+    }
+
+    /**
+     * 현재 HTTP 요청의 캐시 (요청 밖이면 null)
+     */
+    @SuppressWarnings("unchecked")
+    private static Map<SingleFlight.FlightKey, Object> requestCache() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return null;
+        }
+        Object cache = attributes.getAttribute(REQUEST_CACHE_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (cache == null) {
+            cache = new ConcurrentHashMap<SingleFlight.FlightKey, Object>();
+            attributes.setAttribute(REQUEST_CACHE_ATTRIBUTE, cache, RequestAttributes.SCOPE_REQUEST);
+        }
+        return (Map<SingleFlight.FlightKey, Object>) cache;
+    }
+}
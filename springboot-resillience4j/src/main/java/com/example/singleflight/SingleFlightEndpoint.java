@@ -0,0 +1,24 @@
+package com.example.singleflight;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+
+import java.util.Map;
+
+/**
+ * GET /actuator/singleflight
+ * 서킷 브레이커 이름별 실제 실행 / 실행 중인 호출의 결과를 함께 받은 수 / 요청 캐시에서 응답한 수,
+ * dedupRatio = 실행하지 않은 호출 / 전체 호출
+ */
+@WebEndpoint(id = "singleflight")
+@RequiredArgsConstructor
+public class SingleFlightEndpoint {
+
+    private final SingleFlight singleFlight;
+
+    @ReadOperation
+    public Map<String, Map<String, Object>> singleFlight() {
+        return singleFlight.stats();
+    }
+}
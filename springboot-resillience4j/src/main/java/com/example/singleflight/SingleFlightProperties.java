@@ -0,0 +1,30 @@
+package com.example.singleflight;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 호출 합치기 설정 (app.single-flight.instances.{서킷 브레이커 이름}.*)
+ * Config Server 설정 변경 후 refresh 되면 다음 호출부터 반영됩니다.
+ */
+@Data
+@ConfigurationProperties(prefix = "app.single-flight")
+public class SingleFlightProperties {
+
+    private Map<String, Settings> instances = new HashMap<>();
+
+    public Settings get(String name) {
+        return instances.getOrDefault(name, new Settings());
+    }
+
+    @Data
+    public static class Settings {
+        /** 같은 인자로 동시에 실행 중인 호출이 있으면 그 결과나 예외를 함께 받음 */
+        private boolean enabled = false;
+        /** 같은 HTTP 요청 안에서 같은 인자로 다시 호출하면 첫 성공 결과를 사용 */
+        private boolean requestCache = false;
+    }
+}
@@ -0,0 +1,188 @@
+package com.example.warmup;
+
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.bulkhead.ThreadPoolBulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 애플리케이션 시작 시 어노테이션에 선언된 Resilience4j 인스턴스를 미리 만들어 둡니다.
+ *
+ * Bean 의 @CircuitBreaker / @Bulkhead / @TimeLimiter 이름으로 Registry 의 인스턴스를 만듭니다.
+ * Registry 의 onEntryAdded 를 구독하는 메트릭 / 저널 / 적응형 임계치 등록도 첫 요청이 아니라 이때 실행됩니다.
+ *
+ * 호출 경로는 실행하지 않습니다. 실제 프록시(MyService)를 stub 으로 호출하면 Last-Known-Good 캐시, 재시도 예산,
+ * hedge 지연 시간, 적응형 기준선, 서킷 윈도우와 메트릭에 stub 결과가 남고, Registry 에 등록하지 않은 복사본으로는
+ * 실제 요청이 지나는 Advisor / Aspect 경로가 데워지지 않기 때문입니다. (복사본 stub 호출은 time-to-peak 를 줄이지 못함)
+ *
+ * ApplicationRunner 는 ReadinessState.ACCEPTING_TRAFFIC 이 발행되기 전에 실행되므로 끝날 때까지
+ * /actuator/health/readiness 가 OUT_OF_SERVICE 입니다. 실패해도 시작은 막지 않습니다. (워밍업은 최적화일 뿐)
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class GuardWarmUp implements ApplicationRunner {
+
+    public enum State { DISABLED, PENDING, RUNNING, DONE, FAILED }
+
+    private final WarmUpProperties properties;
+    private final ApplicationContext applicationContext;
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+    private final BulkheadRegistry bulkheadRegistry;
+    private final ThreadPoolBulkheadRegistry threadPoolBulkheadRegistry;
+    private final TimeLimiterRegistry timeLimiterRegistry;
+
+    private volatile State state = State.PENDING;
+    private volatile long elapsedMillis;
+    private volatile String error;
+    private volatile Map<String, List<String>> instances = Collections.emptyMap();
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!properties.isEnabled()) {
+            state = State.DISABLED;
+            return;
+        }
+        state = State.RUNNING;
+        long start = System.nanoTime();
+        try {
+            warmUp();
+            state = State.DONE;
+        } catch (RuntimeException e) {
+            error = e.toString();
+            state = State.FAILED;
+            log.warn("Resilience4j warm-up failed, continuing startup", e);
+        } finally {
+            elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        }
+        log.info("Resilience4j warm-up {} in {} ms - instances {}", state, elapsedMillis, instances);
+    }
+
+    private void warmUp() {
+        Map<String, List<String>> created = new TreeMap<>();
+        discover().forEach((name, guard) -> created.put(name, guard.create(name)));
+        instances = Collections.unmodifiableMap(created);
+    }
+
+    /**
+     * Bean 의 메소드 / 클래스에 선언된 이름별 @CircuitBreaker / @Bulkhead / @TimeLimiter
+     * SpEL 이름(#...)은 호출 인자로 정해지므로 제외합니다.
+     */
+    private Map<String, Guards> discover() {
+        Map<String, Guards> guards = new LinkedHashMap<>();
+        for (String beanName : applicationContext.getBeanDefinitionNames()) {
+            Class<?> type = applicationContext.getType(beanName);
+            if (type == null || type.getName().startsWith("org.springframework.")) {
+                continue;
+            }
+            Class<?> userClass = ClassUtils.getUserClass(type);
+            for (Method method : ReflectionUtils.getUniqueDeclaredMethods(userClass, ReflectionUtils.USER_DECLARED_METHODS)) {
+                io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker circuitBreaker = find(method, userClass,
+                        io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker.class);
+                if (circuitBreaker != null && isStatic(circuitBreaker.name())) {
+                    guardsOf(guards, circuitBreaker.name()).circuitBreaker = circuitBreaker.name();
+                }
+                io.github.resilience4j.bulkhead.annotation.Bulkhead bulkhead = find(method, userClass,
+                        io.github.resilience4j.bulkhead.annotation.Bulkhead.class);
+                if (bulkhead != null && isStatic(bulkhead.name())) {
+                    Guards guard = guardsOf(guards, bulkhead.name());
+                    if (bulkhead.type() == io.github.resilience4j.bulkhead.annotation.Bulkhead.Type.THREADPOOL) {
+                        guard.threadPoolBulkhead = bulkhead.name();
+                    } else {
+                        guard.bulkhead = bulkhead.name();
+                    }
+                }
+                io.github.resilience4j.timelimiter.annotation.TimeLimiter timeLimiter = find(method, userClass,
+                        io.github.resilience4j.timelimiter.annotation.TimeLimiter.class);
+                if (timeLimiter != null && isStatic(timeLimiter.name())) {
+                    guardsOf(guards, timeLimiter.name()).timeLimiter = timeLimiter.name();
+                }
+            }
+        }
+        return guards;
+    }
+
+    private static <A extends Annotation> A find(Method method, Class<?> type, Class<A> annotationType) {
+        A annotation = AnnotatedElementUtils.findMergedAnnotation(method, annotationType);
+        return annotation != null ? annotation : AnnotatedElementUtils.findMergedAnnotation(type, annotationType);
+    }
+
+    private static boolean isStatic(String name) {
+        return !name.isEmpty() && !name.startsWith("#");
+    }
+
+    private Guards guardsOf(Map<String, Guards> guards, String name) {
+        return guards.computeIfAbsent(name, key -> new Guards());
+    }
+
+    public boolean isReady() {
+        State current = state;
+        return current == State.DONE || current == State.FAILED || current == State.DISABLED;
+    }
+
+    /**
+     * 상태, 소요 시간, 미리 만든 인스턴스
+     */
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("state", state.name());
+        stats.put("ready", isReady());
+        stats.put("elapsedMillis", elapsedMillis);
+        if (error != null) {
+            stats.put("error", error);
+        }
+        stats.put("instances", instances);
+        return stats;
+    }
+
+    /**
+     * 이름 하나에 선언된 인스턴스 종류
+     */
+    private final class Guards {
+        String circuitBreaker;
+        String bulkhead;
+        String threadPoolBulkhead;
+        String timeLimiter;
+
+        /**
+         * Registry 에 인스턴스를 만듭니다. (이미 있으면 그대로)
+         */
+        List<String> create(String name) {
+            List<String> created = new ArrayList<>();
+            if (circuitBreaker != null) {
+                circuitBreakerRegistry.circuitBreaker(name);
+                created.add("circuitBreaker");
+            }
+            if (bulkhead != null) {
+                bulkheadRegistry.bulkhead(name);
+                created.add("bulkhead");
+            }
+            if (threadPoolBulkhead != null) {
+                threadPoolBulkheadRegistry.bulkhead(name);
+                created.add("threadPoolBulkhead");
+            }
+            if (timeLimiter != null) {
+                timeLimiterRegistry.timeLimiter(name);
+                created.add("timeLimiter");
+            }
+            return created;
+        }
+    }
+}
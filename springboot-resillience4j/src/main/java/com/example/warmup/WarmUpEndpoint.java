@@ -0,0 +1,24 @@
+package com.example.warmup;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+
+import java.util.Map;
+
+/**
+ * GET /actuator/warmup
+ * 워밍업 상태와 소요 시간, 미리 만든 인스턴스
+ * (Readiness 는 /actuator/health/readiness)
+ */
+@WebEndpoint(id = "warmup")
+@RequiredArgsConstructor
+public class WarmUpEndpoint {
+
+    private final GuardWarmUp guardWarmUp;
+
+    @ReadOperation
+    public Map<String, Object> warmUp() {
+        return guardWarmUp.stats();
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.warmup;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 시작 워밍업 설정 (app.warm-up.*)
+ */
+@Data
+@ConfigurationProperties(prefix = "app.warm-up")
+public class WarmUpProperties {
+
+    private boolean enabled = true;
+}
@@ -0,0 +1,92 @@
+package com.example.circuit;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CircuitBreakerReconfigurerTest {
+
+    @Test
+    void migratedWindowKeepsSlowCallsAtSameThreshold() {
+        CircuitBreaker previous = breaker(10, Duration.ofSeconds(1));
+        recordMixedWindow(previous);
+
+        CircuitBreaker replacement = breaker(10, Duration.ofSeconds(1));
+        CircuitBreakerReconfigurer.migrateWindow(previous, replacement);
+
+        assertSameCounts(previous.getMetrics(), replacement.getMetrics());
+        assertThat(replacement.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void migratedWindowKeepsSlowCallsWhenThresholdChanges() {
+        CircuitBreaker previous = breaker(10, Duration.ofSeconds(1));
+        recordMixedWindow(previous);
+
+        CircuitBreaker raised = breaker(10, Duration.ofSeconds(5));
+        CircuitBreakerReconfigurer.migrateWindow(previous, raised);
+        assertSameCounts(previous.getMetrics(), raised.getMetrics());
+
+        CircuitBreaker lowered = breaker(10, Duration.ofMillis(100));
+        CircuitBreakerReconfigurer.migrateWindow(previous, lowered);
+        assertSameCounts(previous.getMetrics(), lowered.getMetrics());
+    }
+
+    @Test
+    void smallerWindowKeepsRatios() {
+        CircuitBreaker previous = breaker(10, Duration.ofSeconds(1));
+        recordMixedWindow(previous);
+
+        CircuitBreaker replacement = breaker(5, Duration.ofSeconds(1));
+        CircuitBreakerReconfigurer.migrateWindow(previous, replacement);
+
+        CircuitBreaker.Metrics metrics = replacement.getMetrics();
+        assertThat(metrics.getNumberOfBufferedCalls()).isEqualTo(5);
+        assertThat(metrics.getNumberOfSlowCalls()).isEqualTo(3);
+        assertThat(metrics.getNumberOfFailedCalls()).isEqualTo(2);
+    }
+
+    /**
+     * 느린 실패 2, 실패 2, 느린 성공 4, 성공 2 (느린 호출 60%, 실패 40%)
+     */
+    private static void recordMixedWindow(CircuitBreaker breaker) {
+        for (int i = 0; i < 2; i++) {
+            breaker.onError(2, TimeUnit.SECONDS, new RuntimeException());
+            breaker.onError(10, TimeUnit.MILLISECONDS, new RuntimeException());
+            breaker.onSuccess(2, TimeUnit.SECONDS);
+            breaker.onSuccess(2, TimeUnit.SECONDS);
+            breaker.onSuccess(10, TimeUnit.MILLISECONDS);
+        }
+        CircuitBreaker.Metrics metrics = breaker.getMetrics();
+        assertThat(metrics.getNumberOfSlowCalls()).isEqualTo(6);
+        assertThat(metrics.getNumberOfSlowFailedCalls()).isEqualTo(2);
+        assertThat(metrics.getNumberOfFailedCalls()).isEqualTo(4);
+    }
+
+    private static void assertSameCounts(CircuitBreaker.Metrics expected, CircuitBreaker.Metrics actual) {
+        assertThat(actual.getNumberOfBufferedCalls()).isEqualTo(expected.getNumberOfBufferedCalls());
+        assertThat(actual.getNumberOfSlowCalls()).isEqualTo(expected.getNumberOfSlowCalls());
+        assertThat(actual.getNumberOfSlowFailedCalls()).isEqualTo(expected.getNumberOfSlowFailedCalls());
+        assertThat(actual.getNumberOfSlowSuccessfulCalls()).isEqualTo(expected.getNumberOfSlowSuccessfulCalls());
+        assertThat(actual.getNumberOfFailedCalls()).isEqualTo(expected.getNumberOfFailedCalls());
+    }
+
+    /**
+     * 옮기는 도중 열리지 않도록 임계값을 100% 로 둔 COUNT_BASED 서킷
+     */
+    private static CircuitBreaker breaker(int windowSize, Duration slowCallDurationThreshold) {
+        return CircuitBreaker.of("test", CircuitBreakerConfig.custom()
+                .slidingWindowType(CircuitBreakerConfig.SlidingWindowType.COUNT_BASED)
+                .slidingWindowSize(windowSize)
+                .minimumNumberOfCalls(windowSize)
+                .failureRateThreshold(100)
+                .slowCallRateThreshold(100)
+                .slowCallDurationThreshold(slowCallDurationThreshold)
+                .build());
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.collapser;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RequestCollapserTest {
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final List<List<Integer>> batches = Collections.synchronizedList(new ArrayList<>());
+
+    @AfterEach
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void concurrentRequestsWithinWindowShareOneBatch() throws Exception {
+        RequestCollapser<Integer, String> collapser = collapser(Duration.ofMillis(500), 50, this::echo);
+
+        List<Future<String>> results = submitTogether(collapser, 1, 2, 3, 4, 5);
+
+        for (int i = 0; i < results.size(); i++) {
+            assertThat(results.get(i).get(5, TimeUnit.SECONDS)).isEqualTo("value-" + (i + 1));
+        }
+        assertThat(batches).hasSize(1);
+        assertThat(batches.get(0)).containsExactlyInAnyOrder(1, 2, 3, 4, 5);
+    }
+
+    @Test
+    void fullBatchRunsWithoutWaitingForWindow() throws Exception {
+        RequestCollapser<Integer, String> collapser = collapser(Duration.ofSeconds(30), 3, this::echo);
+
+        List<Future<String>> results = submitTogether(collapser, 1, 2, 3);
+
+        for (Future<String> result : results) {
+            // window(30초)가 아니라 maxBatchSize 로 닫힘
+            assertThat(result.get(5, TimeUnit.SECONDS)).startsWith("value-");
+        }
+        assertThat(batches).hasSize(1);
+        assertThat(batches.get(0)).hasSize(3);
+    }
+
+    @Test
+    void requestsAfterWindowStartNewBatch() {
+        RequestCollapser<Integer, String> collapser = collapser(Duration.ofMillis(1), 50, this::echo);
+
+        assertThat(collapser.execute(1)).isEqualTo("value-1");
+        assertThat(collapser.execute(2)).isEqualTo("value-2");
+
+        assertThat(batches).containsExactly(List.of(1), List.of(2));
+    }
+
+    @Test
+    void batchWithWrongResultCountFailsEveryRequest() {
+        RequestCollapser<Integer, String> collapser = collapser(Duration.ofMillis(1), 50, requests -> List.of());
+
+        assertThatThrownBy(() -> collapser.execute(1))
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(IllegalStateException.class)
+                .hasRootCauseMessage("Collapser 'test' batch returned 0 results for 1 requests");
+    }
+
+    private RequestCollapser<Integer, String> collapser(Duration window, int maxBatchSize,
+                                                        Function<List<Integer>, List<String>> batchFunction) {
+        CollapserProperties.Settings settings = new CollapserProperties.Settings();
+        settings.setWindow(window);
+        settings.setMaxBatchSize(maxBatchSize);
+        return new RequestCollapser<>("test", batchFunction, () -> settings);
+    }
+
+    private List<String> echo(List<Integer> requests) {
+        batches.add(List.copyOf(requests));
+        return requests.stream().map(request -> "value-" + request).toList();
+    }
+
+    /**
+     * 모든 요청 스레드가 준비된 뒤 한꺼번에 execute 를 호출
+     */
+    private List<Future<String>> submitTogether(RequestCollapser<Integer, String> collapser, Integer... requests) {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<String>> results = new ArrayList<>();
+        for (Integer request : requests) {
+            results.add(executor.submit(() -> {
+                start.await();
+                return collapser.execute(request);
+            }));
+        }
+        start.countDown();
+        return results;
+    }
+}
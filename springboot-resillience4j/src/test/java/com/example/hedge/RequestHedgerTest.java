@@ -0,0 +1,104 @@
+package com.example.hedge;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RequestHedgerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ThreadPoolTaskExecutor executor;
+    private RequestHedger hedger;
+
+    @BeforeEach
+    void setUp() {
+        HedgeProperties properties = new HedgeProperties();
+        HedgeProperties.Settings settings = new HedgeProperties.Settings();
+        settings.setEnabled(true);
+        settings.setMinDelay(Duration.ofMillis(20));
+        // 호출 2번마다 hedge 토큰 1개
+        settings.setBudgetPercent(50);
+        properties.getInstances().put("slowApi", settings);
+
+        // 첫 시도 하나만 실행할 수 있는 풀
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(0);
+        executor.initialize();
+        hedger = new RequestHedger(executor, properties, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void rejectedHedgeUsesBudgetAndWaitsForPrimary() throws Exception {
+        // 매번 직전 호출들의 p95 보다 오래 걸려 hedge 대기 시간을 넘김
+        for (int i = 1; i <= 3; i++) {
+            long millis = i * 100L;
+            assertThat(hedger.execute("slowApi", () -> sleepThen(millis, "primary"))).isEqualTo("primary");
+            awaitIdle();
+        }
+
+        // 토큰: 0.5(부족) -> 1.0(사용, 풀 거절) -> 0.5(부족). 거절된 hedge 가 토큰을 돌려받았다면 세 번째 호출도 hedge 를 시도함
+        assertThat(count("budget_exhausted")).isEqualTo(2);
+        assertThat(count("rejected")).isEqualTo(1);
+        assertThat(count("hedged")).isZero();
+    }
+
+    @Test
+    void rejectedPrimaryRunsOnCallerThread() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        executor.execute(() -> {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        try {
+            Thread caller = Thread.currentThread();
+            String result = hedger.execute("slowApi", () -> Thread.currentThread() == caller ? "caller" : "pool");
+
+            assertThat(result).isEqualTo("caller");
+            assertThat(count("rejected")).isEqualTo(1);
+        } finally {
+            release.countDown();
+        }
+    }
+
+    /**
+     * 풀 스레드가 다음 작업을 받을 수 있을 때까지 대기 (대기 큐가 없으므로 스레드가 돌아오기 전에 제출하면 거절됨)
+     */
+    private void awaitIdle() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(1);
+        while (executor.getActiveCount() > 0 && System.nanoTime() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(5);
+        }
+        TimeUnit.MILLISECONDS.sleep(20);
+    }
+
+    private double count(String result) {
+        return meterRegistry.get("hedge.calls").tag("name", "slowApi").tag("result", result).counter().count();
+    }
+
+    private static String sleepThen(long millis, String value) {
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return value;
+    }
+}
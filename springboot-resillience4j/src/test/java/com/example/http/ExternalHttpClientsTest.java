@@ -0,0 +1,121 @@
+package com.example.http;
+
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.hc.client5.http.async.methods.SimpleRequestBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ExternalHttpClientsTest {
+
+    private final CountDownLatch received = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private HttpServer server;
+    private SimpleMeterRegistry meterRegistry;
+    private ExternalHttpClients clients;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/slow", exchange -> {
+            received.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] body = "a\r\nb\n".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            } catch (Exception e) {
+                // 클라이언트가 요청을 취소해 커넥션이 끊김
+            }
+        });
+        server.setExecutor(null);
+        server.start();
+
+        meterRegistry = new SimpleMeterRegistry();
+        clients = new ExternalHttpClients(new ExternalHttpProperties(), meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        clients.destroy();
+        server.stop(0);
+    }
+
+    @Test
+    void completesWithLines() throws Exception {
+        release.countDown();
+
+        List<String> lines = clients.execute("slowApi", SimpleRequestBuilder.get(url("/slow")).build())
+                .get(5, TimeUnit.SECONDS);
+
+        assertThat(lines).containsExactly("a", "b");
+    }
+
+    @Test
+    void timeoutOnReturnedFutureCancelsRequestAndReleasesConnection() throws Exception {
+        CompletableFuture<List<String>> future = clients.execute("slowApi", SimpleRequestBuilder.get(url("/slow")).build());
+        assertThat(received.await(5, TimeUnit.SECONDS)).isTrue();
+        future.orTimeout(100, TimeUnit.MILLISECONDS);
+
+        assertThatThrownBy(() -> future.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(TimeoutException.class);
+        // 서버는 아직 응답하지 않았으므로, 커넥션이 풀로 돌아왔다면 요청이 취소된 것
+        assertThat(awaitLeased(0)).isZero();
+    }
+
+    @Test
+    void cancelOnReturnedFutureCancelsRequestAndReleasesConnection() throws Exception {
+        CompletableFuture<List<String>> future = clients.execute("slowApi", SimpleRequestBuilder.get(url("/slow")).build());
+        assertThat(received.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(leased()).isEqualTo(1);
+
+        future.cancel(false);
+
+        assertThat(awaitLeased(0)).isZero();
+    }
+
+    /**
+     * 대여 중인 커넥션 수가 expected 가 될 때까지 최대 1초 기다린 뒤의 값
+     */
+    private double awaitLeased(double expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(1);
+        double leased = leased();
+        while (leased != expected && System.nanoTime() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(10);
+            leased = leased();
+        }
+        return leased;
+    }
+
+    private double leased() {
+        return meterRegistry.get("external.http.pool.connections")
+                .tag("instance", "slowApi")
+                .tag("state", "leased")
+                .gauge()
+                .value();
+    }
+
+    private String url(String path) {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + path;
+    }
+}